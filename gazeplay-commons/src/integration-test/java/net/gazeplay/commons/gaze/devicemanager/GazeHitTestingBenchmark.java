@@ -0,0 +1,99 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import javafx.application.Platform;
+import javafx.geometry.Dimension2D;
+import javafx.geometry.Point2D;
+import javafx.scene.Scene;
+import javafx.scene.layout.Pane;
+import javafx.scene.shape.Rectangle;
+import javafx.stage.Stage;
+import lombok.extern.slf4j.Slf4j;
+import net.gazeplay.TestingUtils;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.framework.junit5.Start;
+
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Compares the cost of hit-testing a gaze sample with the spatial index against the linear scan of all the
+ * registered nodes. The timings are only logged, as they depend on the load of the machine.
+ */
+@Slf4j
+@ExtendWith(ApplicationExtension.class)
+class GazeHitTestingBenchmark {
+
+    private static final double WIDTH = 1600;
+
+    private static final double HEIGHT = 900;
+
+    private static final int WARMUP_SAMPLES = 2_000;
+
+    private static final int MEASURED_SAMPLES = 10_000;
+
+    private Pane root;
+
+    @Start
+    void start(Stage stage) {
+        root = new Pane();
+        stage.setScene(new Scene(root, WIDTH, HEIGHT));
+        stage.show();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 100, 1000})
+    void compareSpatialIndexWithLinearScan(int nodeCount) throws InterruptedException {
+        AbstractGazeDeviceManager manager = createManager();
+        manager.gameScene = new GazeInfos(root);
+
+        Random random = new Random(42);
+        Platform.runLater(() -> {
+            root.getChildren().clear();
+            for (int i = 0; i < nodeCount; i++) {
+                Rectangle rectangle = new Rectangle(
+                    random.nextDouble() * (WIDTH - 60), random.nextDouble() * (HEIGHT - 60), 50, 50);
+                root.getChildren().add(rectangle);
+                manager.addEventFilter(rectangle);
+            }
+        });
+        TestingUtils.waitForRunLater();
+
+        manager.setSpatialIndexEnabled(false);
+        long linearNanos = measure(manager);
+
+        manager.setSpatialIndexEnabled(true);
+        long indexedNanos = measure(manager);
+
+        log.info("{} nodes : linear scan = {} ns/sample, spatial index = {} ns/sample",
+            nodeCount, linearNanos / MEASURED_SAMPLES, indexedNanos / MEASURED_SAMPLES);
+    }
+
+    private static long measure(AbstractGazeDeviceManager manager) {
+        Point2D origin = manager.gameScene.getNode().localToScreen(0, 0);
+        Random random = new Random(7);
+        for (int i = 0; i < WARMUP_SAMPLES; i++) {
+            manager.updatePosition(origin.getX() + random.nextDouble() * WIDTH, origin.getY() + random.nextDouble() * HEIGHT, "gaze", false);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_SAMPLES; i++) {
+            manager.updatePosition(origin.getX() + random.nextDouble() * WIDTH, origin.getY() + random.nextDouble() * HEIGHT, "gaze", false);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static AbstractGazeDeviceManager createManager() {
+        return new AbstractGazeDeviceManager() {
+            @Override
+            public void init(Supplier<Dimension2D> currentScreenDimensionSupplier, Supplier<Point2D> currentScreenPositionSupplier) {
+            }
+
+            @Override
+            public void destroy() {
+            }
+        };
+    }
+
+}
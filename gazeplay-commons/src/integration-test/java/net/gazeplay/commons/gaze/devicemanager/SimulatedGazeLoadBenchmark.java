@@ -0,0 +1,67 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import javafx.geometry.Dimension2D;
+import javafx.geometry.Point2D;
+import javafx.scene.Scene;
+import javafx.scene.layout.Pane;
+import javafx.stage.Stage;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.framework.junit5.Start;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Feeds the JavaFX thread with the simulated eye-tracker at several sampling rates, and reports how many samples are
+ * dispatched or dropped when only the latest sample is dispatched at each pulse, and when every sample is.
+ */
+@Slf4j
+@ExtendWith(ApplicationExtension.class)
+class SimulatedGazeLoadBenchmark {
+
+    private static final long DURATION_MILLIS = 3_000;
+
+    private Pane root;
+
+    @Start
+    void start(Stage stage) {
+        root = new Pane();
+        stage.setScene(new Scene(root, 1600, 900));
+        stage.show();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {60, 120, 300})
+    void compareLatestSampleWithEverySample(int samplingRate) throws InterruptedException {
+        SimulatedGazeDeviceManager latestSample = run(samplingRate, false);
+        SimulatedGazeDeviceManager everySample = run(samplingRate, true);
+
+        GazeSampleBuffer latestSampleBuffer = latestSample.getGazeSampleBuffer();
+        GazeSampleBuffer everySampleBuffer = everySample.getGazeSampleBuffer();
+        assertEquals(latestSampleBuffer.getOfferedSamples(),
+            latestSample.getGazeSampleDrainer().getDispatchedSamples() + latestSampleBuffer.getDroppedSamples()
+                + latestSampleBuffer.getQueueDepth());
+        assertEquals(0, everySampleBuffer.getDroppedSamples());
+        assertEquals(everySampleBuffer.getOfferedSamples(),
+            everySample.getGazeSampleDrainer().getDispatchedSamples() + everySampleBuffer.getQueueDepth());
+        assertTrue(everySample.getGazeSampleDrainer().getDispatchedSamples() >= latestSample.getGazeSampleDrainer().getDispatchedSamples());
+    }
+
+    private SimulatedGazeDeviceManager run(int samplingRate, boolean everySampleDispatched) throws InterruptedException {
+        SimulatedGazeDeviceManager manager = new SimulatedGazeDeviceManager(
+            new SyntheticGazeSampleSource(samplingRate, 42), samplingRate, everySampleDispatched);
+        manager.gameScene = new GazeInfos(root);
+        manager.init(() -> new Dimension2D(1600, 900), () -> root.localToScreen(0, 0));
+        Thread.sleep(DURATION_MILLIS);
+        manager.destroy();
+        // lets the sample being offered or dispatched at that time settle
+        Thread.sleep(100);
+        log.info(manager.getReport());
+        return manager;
+    }
+
+}
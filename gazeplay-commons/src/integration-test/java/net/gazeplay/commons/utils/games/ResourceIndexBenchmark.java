@@ -0,0 +1,48 @@
+package net.gazeplay.commons.utils.games;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Compares the time needed to list the images of resource directories with the generated resource index and with a
+ * scan of the classpath.
+ */
+@Slf4j
+class ResourceIndexBenchmark {
+
+    private static final String[] DIRECTORIES = {"data/biboule/images", "data/common/default/images", "data/whereisit", "data"};
+
+    private static final int ITERATIONS = 20;
+
+    @Test
+    void compareIndexWithClasspathScan() {
+        long loadStart = System.nanoTime();
+        ResourceIndex index = ResourceIndex.load(getClass().getClassLoader());
+        long loadNanos = System.nanoTime() - loadStart;
+        assertNotNull(index);
+        log.info("Loaded {} indexed resources in {} ms", index.size(), loadNanos / 1_000_000.0);
+
+        for (String directory : DIRECTORIES) {
+            assertEquals(ResourceFileManager.scanResourcePaths(directory), ResourceFileManager.getResourcePaths(index, directory));
+
+            long scanStart = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                ResourceFileManager.scanResourcePaths(directory);
+            }
+            long scanNanos = System.nanoTime() - scanStart;
+
+            long indexStart = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                ResourceFileManager.getResourcePaths(index, directory);
+            }
+            long indexNanos = System.nanoTime() - indexStart;
+
+            log.info("{} : classpath scan = {} ms/call, index = {} ms/call", directory,
+                scanNanos / ITERATIONS / 1_000_000.0, indexNanos / ITERATIONS / 1_000_000.0);
+        }
+    }
+
+}
@@ -0,0 +1,100 @@
+package net.gazeplay.commons.utils.stats;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the time and the heap needed to replay a session, when the whole JSON document is loaded in memory and
+ * when the samples are streamed from the JSON file or from the memory-mapped binary file.
+ */
+@Slf4j
+class ReplayDataReaderBenchmark {
+
+    @TempDir
+    Path tempDir;
+
+    @ParameterizedTest
+    @ValueSource(ints = {10_000, 100_000, 1_000_000})
+    void compareReplayDataReaders(int sampleCount) throws IOException {
+        File binaryFile = tempDir.resolve("replayData.bin").toFile();
+        File jsonFile = tempDir.resolve("replayData.json").toFile();
+        writeSession(binaryFile, jsonFile, sampleCount);
+
+        long start = System.nanoTime();
+        long usedHeap = usedHeap();
+        double checksum = 0;
+        try (Reader reader = Files.newBufferedReader(jsonFile.toPath(), Charset.defaultCharset())) {
+            JsonObject session = new JsonParser().parse(reader).getAsJsonObject();
+            long loadedHeap = usedHeap() - usedHeap;
+            JsonArray coordinates = session.getAsJsonArray(JsonReplayDataReader.COORDINATES_PROPERTY);
+            for (JsonElement element : coordinates) {
+                checksum += Double.parseDouble(element.getAsJsonObject().get("X").getAsString());
+            }
+            log.info("{} samples : JSON tree = {} ms, {} KiB retained",
+                sampleCount, (System.nanoTime() - start) / 1_000_000, loadedHeap / 1024);
+        }
+
+        start = System.nanoTime();
+        double jsonChecksum = 0;
+        try (ReplaySampleCursor samples = new JsonReplayDataReader(jsonFile)) {
+            while (samples.next()) {
+                jsonChecksum += samples.getX();
+            }
+        }
+        log.info("{} samples : JSON stream = {} ms", sampleCount, (System.nanoTime() - start) / 1_000_000);
+
+        start = System.nanoTime();
+        double binaryChecksum = 0;
+        try (ReplaySampleCursor samples = new ReplayDataReader(binaryFile)) {
+            while (samples.next()) {
+                binaryChecksum += samples.getX();
+            }
+        }
+        log.info("{} samples : memory-mapped binary = {} ms", sampleCount, (System.nanoTime() - start) / 1_000_000);
+
+        assertEquals(checksum, jsonChecksum, 1e-6 * sampleCount);
+        assertEquals(checksum, binaryChecksum, 1e-6 * sampleCount);
+    }
+
+    private static void writeSession(File binaryFile, File jsonFile, int sampleCount) throws IOException {
+        Random random = new Random(42);
+        try (ReplayDataWriter writer = new ReplayDataWriter(binaryFile)) {
+            for (int i = 0; i < sampleCount; i++) {
+                writer.write(i * 8L, random.nextFloat(), random.nextFloat(), (byte) (i % 2));
+            }
+        }
+        try (JsonWriter writer = new JsonWriter(Files.newBufferedWriter(jsonFile.toPath(), Charset.defaultCharset()));
+             ReplayDataReader reader = new ReplayDataReader(binaryFile)) {
+            writer.beginObject();
+            writer.name("gameSeed").value(1);
+            writer.name("gameName").value("Cakes");
+            writer.name(JsonReplayDataReader.COORDINATES_PROPERTY);
+            reader.writeAsJson(writer);
+            writer.endObject();
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+}
@@ -13,9 +13,6 @@ import net.gazeplay.commons.utils.games.GazePlayDirectories;
 
 import java.beans.PropertyChangeListener;
 import java.io.File;
-import java.io.IOException;
-import java.io.OutputStream;
-import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
@@ -66,6 +63,17 @@ public class Configuration {
     private static final String PROPERTY_NAME_FAVORITE_GAMES = "FAVORITE_GAMES";
     private static final String PROPERTY_NAME_HIDDEN_CATEGORIES = "HIDDEN_CATEGORIES";
     private static final String PROPERTY_NAME_ELEMENTSIZE = "ELEMENT_SIZE";
+    private static final String PROPERTY_NAME_SIMULATED_GAZE_RATE = "SIMULATED_GAZE_RATE";
+    private static final String PROPERTY_NAME_SIMULATED_GAZE_TRACE = "SIMULATED_GAZE_TRACE";
+    private static final String PROPERTY_NAME_SIMULATED_GAZE_EVERY_SAMPLE = "SIMULATED_GAZE_EVERY_SAMPLE";
+    private static final String PROPERTY_NAME_IN_PROCESS_GAME_LAUNCH = "IN_PROCESS_GAME_LAUNCH";
+    private static final String PROPERTY_NAME_IMAGE_CACHE_SIZE = "IMAGE_CACHE_SIZE";
+    private static final String PROPERTY_NAME_SECOND_SCREEN_BUFFER_ENABLED = "SECOND_SCREEN_BUFFER_ENABLED";
+    private static final String PROPERTY_NAME_FIXATION_DETECTION_ALGORITHM = "FIXATION_DETECTION_ALGORITHM";
+    private static final String PROPERTY_NAME_FIXATION_VELOCITY_THRESHOLD = "FIXATION_VELOCITY_THRESHOLD";
+    private static final String PROPERTY_NAME_FIXATION_DISPERSION_THRESHOLD = "FIXATION_DISPERSION_THRESHOLD";
+    private static final String PROPERTY_NAME_FIXATION_MINIMUM_DURATION = "FIXATION_MINIMUM_DURATION";
+    private static final String PROPERTY_NAME_FIXATION_MAXIMUM_GAP = "FIXATION_MAXIMUM_GAP";
 
     private static final KeyCode DEFAULT_VALUE_QUIT_KEY = KeyCode.Q;
     private static final String DEFAULT_VALUE_EYETRACKER = EyeTracker.mouse_control.toString();
@@ -100,6 +108,17 @@ public class Configuration {
     private static final String DEFAULT_VALUE_USER_NAME = "";
     private static final String DEFAULT_VALUE_USER_PICTURE = "";
     private static final int DEFAULT_VALUE_ELEMENT_SIZE = 50;
+    private static final int DEFAULT_VALUE_SIMULATED_GAZE_RATE = 120;
+    private static final String DEFAULT_VALUE_SIMULATED_GAZE_TRACE = "";
+    private static final boolean DEFAULT_VALUE_SIMULATED_GAZE_EVERY_SAMPLE = false;
+    private static final boolean DEFAULT_VALUE_IN_PROCESS_GAME_LAUNCH = false;
+    private static final int DEFAULT_VALUE_IMAGE_CACHE_SIZE = 256;
+    private static final boolean DEFAULT_VALUE_SECOND_SCREEN_BUFFER_ENABLED = true;
+    private static final String DEFAULT_VALUE_FIXATION_DETECTION_ALGORITHM = "DISPERSION";
+    private static final double DEFAULT_VALUE_FIXATION_VELOCITY_THRESHOLD = 1000;
+    private static final int DEFAULT_VALUE_FIXATION_DISPERSION_THRESHOLD = 50;
+    private static final int DEFAULT_VALUE_FIXATION_MINIMUM_DURATION = 100;
+    private static final int DEFAULT_VALUE_FIXATION_MAXIMUM_GAP = 100;
 
     /*
     source : "http://pre07.deviantart.net/c66f/th/pre/i/2016/195/f/8/hatsune_miku_v4x_render_by_katrinasantiago0627-da9y7yr.png";
@@ -233,15 +252,76 @@ public class Configuration {
     @Getter
     private final IntegerProperty elementSizeProperty;
 
-    private final File configFile;
+    @Getter
+    private final IntegerProperty simulatedGazeRateProperty;
+
+    /**
+     * Trace file replayed by the simulated eye-tracker, a synthetic gaze signal is generated when empty
+     */
+    @Getter
+    private final StringProperty simulatedGazeTraceProperty;
+
+    /**
+     * The simulated eye-tracker dispatches every sample, waiting for the games to keep up, instead of the latest one
+     */
+    @Getter
+    private final BooleanProperty simulatedGazeEverySampleProperty;
+
+    /**
+     * Games and replays are launched in the running JVM instead of a new process
+     */
+    @Getter
+    private final BooleanProperty inProcessGameLaunchProperty;
+
+    /**
+     * Memory budget of the decoded images cache, in megabytes
+     */
+    @Getter
+    private final IntegerProperty imageCacheSizeProperty;
+
+    /**
+     * The second screen is drawn in a single image rather than with one node per cell
+     */
+    @Getter
+    private final BooleanProperty secondScreenBufferEnabledProperty;
+
+    /**
+     * Definition of the fixations in the stats, VELOCITY (I-VT) or DISPERSION (I-DT)
+     */
+    @Getter
+    private final StringProperty fixationDetectionAlgorithmProperty;
+
+    /**
+     * Speed under which the gaze is fixating, in pixels per second
+     */
+    @Getter
+    private final DoubleProperty fixationVelocityThresholdProperty;
 
-    private final ApplicationConfig applicationConfig;
+    /**
+     * Spread of the gaze within a fixation, width plus height, in pixels
+     */
+    @Getter
+    private final IntegerProperty fixationDispersionThresholdProperty;
+
+    /**
+     * Shortest fixation, in milliseconds
+     */
+    @Getter
+    private final IntegerProperty fixationMinimumDurationProperty;
+
+    /**
+     * Longest time between two samples of a fixation, in milliseconds
+     */
+    @Getter
+    private final IntegerProperty fixationMaximumGapProperty;
+
+    private final ConfigurationWriter configurationWriter;
 
     protected Configuration(final File configFile, final ApplicationConfig applicationConfig) {
-        this.configFile = configFile;
-        this.applicationConfig = applicationConfig;
+        this.configurationWriter = new ConfigurationWriter(configFile, applicationConfig);
 
-        final PropertyChangeListener propertyChangeListener = evt -> saveConfigIgnoringExceptions();
+        // sliders change their property many times per second, the writes are coalesced in the background
+        final PropertyChangeListener propertyChangeListener = evt -> configurationWriter.requestWrite();
 
         languageProperty = new ApplicationConfigBackedStringProperty(applicationConfig, PROPERTY_NAME_LANGUAGE, Locale.getDefault().getISO3Language(), propertyChangeListener);
         countryProperty = new ApplicationConfigBackedStringProperty(applicationConfig, PROPERTY_NAME_COUNTRY, Locale.getDefault().getCountry(), propertyChangeListener);
@@ -308,14 +388,19 @@ public class Configuration {
 
         elementSizeProperty = new ApplicationConfigBackedIntegerProperty(applicationConfig, PROPERTY_NAME_ELEMENTSIZE, DEFAULT_VALUE_ELEMENT_SIZE, propertyChangeListener);
 
-    }
+        simulatedGazeRateProperty = new ApplicationConfigBackedIntegerProperty(applicationConfig, PROPERTY_NAME_SIMULATED_GAZE_RATE, DEFAULT_VALUE_SIMULATED_GAZE_RATE, propertyChangeListener);
+        simulatedGazeTraceProperty = new ApplicationConfigBackedStringProperty(applicationConfig, PROPERTY_NAME_SIMULATED_GAZE_TRACE, DEFAULT_VALUE_SIMULATED_GAZE_TRACE, propertyChangeListener);
+        simulatedGazeEverySampleProperty = new ApplicationConfigBackedBooleanProperty(applicationConfig, PROPERTY_NAME_SIMULATED_GAZE_EVERY_SAMPLE, DEFAULT_VALUE_SIMULATED_GAZE_EVERY_SAMPLE, propertyChangeListener);
+
+        inProcessGameLaunchProperty = new ApplicationConfigBackedBooleanProperty(applicationConfig, PROPERTY_NAME_IN_PROCESS_GAME_LAUNCH, DEFAULT_VALUE_IN_PROCESS_GAME_LAUNCH, propertyChangeListener);
+        imageCacheSizeProperty = new ApplicationConfigBackedIntegerProperty(applicationConfig, PROPERTY_NAME_IMAGE_CACHE_SIZE, DEFAULT_VALUE_IMAGE_CACHE_SIZE, propertyChangeListener);
+        secondScreenBufferEnabledProperty = new ApplicationConfigBackedBooleanProperty(applicationConfig, PROPERTY_NAME_SECOND_SCREEN_BUFFER_ENABLED, DEFAULT_VALUE_SECOND_SCREEN_BUFFER_ENABLED, propertyChangeListener);
+        fixationDetectionAlgorithmProperty = new ApplicationConfigBackedStringProperty(applicationConfig, PROPERTY_NAME_FIXATION_DETECTION_ALGORITHM, DEFAULT_VALUE_FIXATION_DETECTION_ALGORITHM, propertyChangeListener);
+        fixationVelocityThresholdProperty = new ApplicationConfigBackedDoubleProperty(applicationConfig, PROPERTY_NAME_FIXATION_VELOCITY_THRESHOLD, DEFAULT_VALUE_FIXATION_VELOCITY_THRESHOLD, propertyChangeListener);
+        fixationDispersionThresholdProperty = new ApplicationConfigBackedIntegerProperty(applicationConfig, PROPERTY_NAME_FIXATION_DISPERSION_THRESHOLD, DEFAULT_VALUE_FIXATION_DISPERSION_THRESHOLD, propertyChangeListener);
+        fixationMinimumDurationProperty = new ApplicationConfigBackedIntegerProperty(applicationConfig, PROPERTY_NAME_FIXATION_MINIMUM_DURATION, DEFAULT_VALUE_FIXATION_MINIMUM_DURATION, propertyChangeListener);
+        fixationMaximumGapProperty = new ApplicationConfigBackedIntegerProperty(applicationConfig, PROPERTY_NAME_FIXATION_MAXIMUM_GAP, DEFAULT_VALUE_FIXATION_MAXIMUM_GAP, propertyChangeListener);
 
-    private void saveConfig() throws IOException {
-        log.info("Saving Config {} ...", configFile);
-        try (final OutputStream fileOutputStream = Files.newOutputStream(configFile.toPath())) {
-            final String fileComment = "Automatically generated by GazePlay";
-            applicationConfig.store(fileOutputStream, fileComment);
-        }
     }
 
     /**
@@ -325,11 +410,14 @@ public class Configuration {
      */
     @Deprecated
     public void saveConfigIgnoringExceptions() {
-        try {
-            saveConfig();
-        } catch (final IOException e) {
-            log.error("Exception while writing configuration to file {}", configFile, e);
-        }
+        configurationWriter.writeNow();
+    }
+
+    /**
+     * Writes the pending changes to the configuration file now, on the calling thread
+     */
+    public void flush() {
+        configurationWriter.flush();
     }
 
     public String getEyeTracker() {
@@ -484,4 +572,48 @@ public class Configuration {
     public Integer getElementSize() {
         return elementSizeProperty.getValue();
     }
+
+    public Integer getSimulatedGazeRate() {
+        return simulatedGazeRateProperty.getValue();
+    }
+
+    public String getSimulatedGazeTrace() {
+        return simulatedGazeTraceProperty.getValue();
+    }
+
+    public Boolean isSimulatedGazeEverySample() {
+        return simulatedGazeEverySampleProperty.getValue();
+    }
+
+    public Boolean isInProcessGameLaunch() {
+        return inProcessGameLaunchProperty.getValue();
+    }
+
+    public Integer getImageCacheSize() {
+        return imageCacheSizeProperty.getValue();
+    }
+
+    public Boolean isSecondScreenBufferEnabled() {
+        return secondScreenBufferEnabledProperty.getValue();
+    }
+
+    public String getFixationDetectionAlgorithm() {
+        return fixationDetectionAlgorithmProperty.getValue();
+    }
+
+    public Double getFixationVelocityThreshold() {
+        return fixationVelocityThresholdProperty.getValue();
+    }
+
+    public Integer getFixationDispersionThreshold() {
+        return fixationDispersionThresholdProperty.getValue();
+    }
+
+    public Integer getFixationMinimumDuration() {
+        return fixationMinimumDurationProperty.getValue();
+    }
+
+    public Integer getFixationMaximumGap() {
+        return fixationMaximumGapProperty.getValue();
+    }
 }
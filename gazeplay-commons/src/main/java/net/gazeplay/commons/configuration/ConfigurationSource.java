@@ -31,6 +31,9 @@ public class ConfigurationSource {
     public static Configuration createFromPropertiesResource(final File propertiesFile) {
         Properties properties;
 
+        // the profile may have changes which are not written yet
+        ConfigurationWriter.flushAll();
+
         try {
             log.info("Loading Properties from : {}", propertiesFile);
             properties = loadProperties(propertiesFile);
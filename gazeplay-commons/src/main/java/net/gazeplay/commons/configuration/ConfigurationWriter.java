@@ -0,0 +1,174 @@
+package net.gazeplay.commons.configuration;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write-behind store of a configuration file.
+ * <p>
+ * The changes requested within {@link #DEFAULT_DELAY_MS} are coalesced into a single write, done on a background
+ * thread. The file is written to a temporary file which then replaces it, so that it is never left half written.
+ * Pending writes are flushed before a configuration file is loaded again and when the JVM shuts down.
+ */
+@Slf4j
+class ConfigurationWriter {
+
+    static final long DEFAULT_DELAY_MS = 500;
+
+    private static final String FILE_COMMENT = "Automatically generated by GazePlay";
+
+    private static final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "configuration-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final Set<ConfigurationWriter> pendingWriters = ConcurrentHashMap.newKeySet();
+
+    private static final AtomicLong totalRequestedWrites = new AtomicLong();
+
+    private static final AtomicLong totalWrites = new AtomicLong();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            flushAll();
+            log.info("Configuration changes : {} requested, {} written, {} writes saved",
+                totalRequestedWrites.get(), totalWrites.get(), totalRequestedWrites.get() - totalWrites.get());
+        }, "configuration-writer-shutdown"));
+    }
+
+    /**
+     * Writes all the pending changes now, on the calling thread
+     */
+    static void flushAll() {
+        for (ConfigurationWriter writer : new ArrayList<>(pendingWriters)) {
+            writer.flush();
+        }
+    }
+
+    private final File configFile;
+
+    private final ApplicationConfig applicationConfig;
+
+    private final long delayMs;
+
+    private final Object fileLock = new Object();
+
+    private ScheduledFuture<?> pendingWrite;
+
+    private long requestedWrites = 0;
+
+    private long writes = 0;
+
+    ConfigurationWriter(File configFile, ApplicationConfig applicationConfig) {
+        this(configFile, applicationConfig, DEFAULT_DELAY_MS);
+    }
+
+    ConfigurationWriter(File configFile, ApplicationConfig applicationConfig, long delayMs) {
+        this.configFile = configFile;
+        this.applicationConfig = applicationConfig;
+        this.delayMs = delayMs;
+    }
+
+    /**
+     * Schedules a write of the configuration, unless one is already pending
+     */
+    synchronized void requestWrite() {
+        requestedWrites++;
+        totalRequestedWrites.incrementAndGet();
+        if (pendingWrite == null) {
+            pendingWriters.add(this);
+            pendingWrite = executor.schedule(this::flush, delayMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes the pending changes now, if any
+     */
+    void flush() {
+        synchronized (this) {
+            if (pendingWrite == null) {
+                return;
+            }
+            cancelPendingWrite();
+        }
+        write();
+    }
+
+    /**
+     * Writes the configuration now, whether changes are pending or not
+     */
+    void writeNow() {
+        synchronized (this) {
+            requestedWrites++;
+            totalRequestedWrites.incrementAndGet();
+            cancelPendingWrite();
+        }
+        write();
+    }
+
+    private void cancelPendingWrite() {
+        if (pendingWrite != null) {
+            pendingWrite.cancel(false);
+            pendingWrite = null;
+            pendingWriters.remove(this);
+        }
+    }
+
+    private void write() {
+        synchronized (fileLock) {
+            log.info("Saving Config {} ...", configFile);
+            Path target = configFile.toPath();
+            Path temporary = new File(configFile.getParentFile(), configFile.getName() + ".tmp").toPath();
+            try {
+                try (OutputStream fileOutputStream = Files.newOutputStream(temporary)) {
+                    applicationConfig.store(fileOutputStream, FILE_COMMENT);
+                }
+                try {
+                    Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } catch (IOException e) {
+                log.error("Exception while writing configuration to file {}", configFile, e);
+                return;
+            }
+        }
+        synchronized (this) {
+            writes++;
+            totalWrites.incrementAndGet();
+            log.debug("Config {} : {} changes saved with {} writes", configFile, requestedWrites, writes);
+        }
+    }
+
+    synchronized long getRequestedWrites() {
+        return requestedWrites;
+    }
+
+    synchronized long getWrites() {
+        return writes;
+    }
+
+    /**
+     * @return the number of file writes avoided by coalescing the changes
+     */
+    synchronized long getSavedWrites() {
+        return Math.max(0, requestedWrites - writes);
+    }
+
+}
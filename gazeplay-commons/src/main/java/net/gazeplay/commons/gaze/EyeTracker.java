@@ -1,5 +1,5 @@
 package net.gazeplay.commons.gaze;
 
 public enum EyeTracker {
-    mouse_control, tobii, eyetribe
+    mouse_control, tobii, eyetribe, simulated
 }
@@ -0,0 +1,203 @@
+package net.gazeplay.commons.gaze;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.paint.Color;
+import net.gazeplay.commons.gaze.devicemanager.GazeEvent;
+
+/**
+ * Draws the cells of the second screen in a single image, with the same fading as {@link Lighting}.
+ * <p>
+ * The intensity of each cell is kept in a float grid, from 1 when the cell is looked at down to 0 once it has faded
+ * out to black, and is decreased once per pulse. The grid is then written in an image of one pixel per cell, which is
+ * stretched over the screen without smoothing. The pulse only runs while a cell is lit.
+ * <p>
+ * Like the {@link Lighting} nodes, the cell under the mouse or the gaze is lit when they enter or move over the buffer.
+ * <p>
+ * The buffer must only be used from the JavaFX application thread.
+ */
+public class LightingBuffer extends ImageView implements LightingGrid {
+
+    private final int columns;
+
+    private final int rows;
+
+    private final int pixelWidth;
+
+    private final long lightingLengthNanos;
+
+    private final float red;
+
+    private final float green;
+
+    private final float blue;
+
+    private final float[] intensities;
+
+    private final int[] pixels;
+
+    private final WritableImage image;
+
+    private final AnimationTimer pulse;
+
+    private boolean pulseRunning;
+
+    private long lastPulse = -1;
+
+    private int litCount;
+
+    /**
+     * The image is only written once per pulse, whatever the rate of the gaze
+     */
+    private boolean dirty;
+
+    /**
+     * @param lightingLength the time a cell takes to fade out, in seconds
+     */
+    LightingBuffer(int columns, int rows, int pixelWidth, int lightingLength, Color lightingColor) {
+        this.columns = columns;
+        this.rows = rows;
+        this.pixelWidth = pixelWidth;
+        this.lightingLengthNanos = lightingLength * 1_000_000_000L;
+        this.red = (float) lightingColor.getRed();
+        this.green = (float) lightingColor.getGreen();
+        this.blue = (float) lightingColor.getBlue();
+        this.intensities = new float[columns * rows];
+        this.pixels = new int[columns * rows];
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = toArgb(0);
+        }
+
+        image = new WritableImage(Math.max(1, columns), Math.max(1, rows));
+        writePixels();
+        setImage(image);
+        setSmooth(false);
+        setFitWidth(columns * pixelWidth);
+        setFitHeight(rows * pixelWidth);
+
+        pulse = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                advance(now);
+            }
+        };
+
+        this.addEventFilter(MouseEvent.ANY, e -> {
+            if (e.getEventType() == MouseEvent.MOUSE_ENTERED || e.getEventType() == MouseEvent.MOUSE_MOVED) {
+                lightAt(e.getX(), e.getY());
+            }
+        });
+        this.addEventHandler(GazeEvent.ANY, e -> {
+            if (e.getEventType() == GazeEvent.GAZE_ENTERED || e.getEventType() == GazeEvent.GAZE_MOVED) {
+                lightAt(e.getX(), e.getY());
+            }
+        });
+    }
+
+    /**
+     * Lights the cell at the given position, in the coordinates of the buffer
+     */
+    private void lightAt(double x, double y) {
+        final int column = (int) Math.floor(x / pixelWidth);
+        final int row = (int) Math.floor(y / pixelWidth);
+        if (column >= 0 && column < columns && row >= 0 && row < rows) {
+            light(column, row);
+        }
+    }
+
+    @Override
+    public int getColumns() {
+        return columns;
+    }
+
+    @Override
+    public int getRows() {
+        return rows;
+    }
+
+    @Override
+    public void light(int column, int row) {
+        final int index = row * columns + column;
+        if (intensities[index] == 0) {
+            litCount++;
+        }
+        intensities[index] = 1;
+        pixels[index] = toArgb(1);
+        dirty = true;
+        if (!pulseRunning) {
+            pulseRunning = true;
+            lastPulse = -1;
+            pulse.start();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        pulse.stop();
+        pulseRunning = false;
+    }
+
+    float getIntensity(int column, int row) {
+        return intensities[row * columns + column];
+    }
+
+    int getArgb(int column, int row) {
+        return pixels[row * columns + column];
+    }
+
+    boolean isPulseRunning() {
+        return pulseRunning;
+    }
+
+    /**
+     * Fades the lit cells by the time elapsed since the previous pulse, writes the image, and stops the pulse once all
+     * the cells are black.
+     *
+     * @param now the time of the pulse, in nanoseconds
+     */
+    void advance(long now) {
+        final float decay = lastPulse < 0 ? 0 : (float) (now - lastPulse) / lightingLengthNanos;
+        lastPulse = now;
+        if (decay > 0) {
+            for (int i = 0; i < intensities.length && litCount > 0; i++) {
+                final float intensity = intensities[i];
+                if (intensity > 0) {
+                    final float decayed = Math.max(0, intensity - decay);
+                    intensities[i] = decayed;
+                    pixels[i] = toArgb(decayed);
+                    if (decayed == 0) {
+                        litCount--;
+                    }
+                }
+            }
+            dirty = true;
+        }
+        if (dirty) {
+            writePixels();
+            dirty = false;
+        }
+        if (litCount == 0) {
+            dispose();
+        }
+    }
+
+    /**
+     * The color of a cell, blended from black to the lighting color as the transitions of {@link Lighting} do
+     */
+    private int toArgb(float intensity) {
+        return 0xFF000000
+            | Math.round(red * intensity * 255) << 16
+            | Math.round(green * intensity * 255) << 8
+            | Math.round(blue * intensity * 255);
+    }
+
+    private void writePixels() {
+        if (pixels.length > 0) {
+            image.getPixelWriter().setPixels(0, 0, columns, rows, PixelFormat.getIntArgbInstance(), pixels, 0, columns);
+        }
+    }
+
+}
@@ -0,0 +1,19 @@
+package net.gazeplay.commons.gaze;
+
+/**
+ * The cells of the second screen, which light up when looked at and then fade out to black.
+ */
+interface LightingGrid {
+
+    int getColumns();
+
+    int getRows();
+
+    void light(int column, int row);
+
+    /**
+     * Stops the animations of the cells, once the second screen is closed
+     */
+    void dispose();
+
+}
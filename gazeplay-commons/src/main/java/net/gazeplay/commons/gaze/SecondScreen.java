@@ -19,11 +19,15 @@ public class SecondScreen implements GazeMotionListener {
 
     private final Stage stage2;
 
-    private final Lighting[][] lightingArray;
+    private final LightingGrid lightingGrid;
 
     SecondScreen(final Stage stage2, final Lighting[][] lightingArray) {
+        this(stage2, new LightingNodes(lightingArray));
+    }
+
+    SecondScreen(final Stage stage2, final LightingGrid lightingGrid) {
         this.stage2 = stage2;
-        this.lightingArray = lightingArray;
+        this.lightingGrid = lightingGrid;
     }
 
     static Lighting[][] makeLighting(final Group root, final Rectangle2D screen2Bounds) {
@@ -49,7 +53,25 @@ public class SecondScreen implements GazeMotionListener {
         return lightingArray;
     }
 
+    static LightingBuffer makeLightingBuffer(final Group root, final Rectangle2D screen2Bounds) {
+
+        final int width = (int) screen2Bounds.getWidth();
+        final int height = (int) screen2Bounds.getHeight();
+
+        final LightingBuffer lightingBuffer = new LightingBuffer(
+            width / pixelWidth,
+            height / pixelWidth,
+            pixelWidth,
+            lightingLength,
+            lightingColor
+        );
+        root.getChildren().add(lightingBuffer);
+
+        return lightingBuffer;
+    }
+
     public void close() {
+        lightingGrid.dispose();
         stage2.close();
     }
 
@@ -57,16 +79,47 @@ public class SecondScreen implements GazeMotionListener {
         final int x = (int) (rawCoordinates.getX() / pixelWidth);
         final int y = (int) (rawCoordinates.getY() / pixelWidth);
 
-        if ((x < 0 || x >= lightingArray.length) ||
-            (y < 0 || y >= lightingArray[x].length)) {
+        if ((x < 0 || x >= lightingGrid.getColumns()) ||
+            (y < 0 || y >= lightingGrid.getRows())) {
             return;
         }
 
-        lightingArray[x][y].enter();
+        lightingGrid.light(x, y);
     }
 
     @Override
     public void gazeMoved(final Point2D position) {
         light(position);
     }
+
+    /**
+     * One {@link Lighting} node per cell
+     */
+    private static class LightingNodes implements LightingGrid {
+
+        private final Lighting[][] lightingArray;
+
+        private LightingNodes(final Lighting[][] lightingArray) {
+            this.lightingArray = lightingArray;
+        }
+
+        @Override
+        public int getColumns() {
+            return lightingArray.length;
+        }
+
+        @Override
+        public int getRows() {
+            return lightingArray.length == 0 ? 0 : lightingArray[0].length;
+        }
+
+        @Override
+        public void light(final int column, final int row) {
+            lightingArray[column][row].enter();
+        }
+
+        @Override
+        public void dispose() {
+        }
+    }
 }
@@ -8,6 +8,8 @@ import javafx.scene.paint.Color;
 import javafx.stage.Screen;
 import javafx.stage.Stage;
 import lombok.extern.slf4j.Slf4j;
+import net.gazeplay.commons.configuration.ActiveConfigurationContext;
+import net.gazeplay.commons.configuration.Configuration;
 
 @Slf4j
 public class SecondScreenFactory {
@@ -36,12 +38,18 @@ public class SecondScreenFactory {
             Color.BLACK
         );
 
-        final Lighting[][] lightingArray = SecondScreen.makeLighting(root, screen2.getBounds());
+        final Configuration config = ActiveConfigurationContext.getInstance();
+        final SecondScreen secondScreen;
+        if (config.isSecondScreenBufferEnabled()) {
+            secondScreen = new SecondScreen(stage2, SecondScreen.makeLightingBuffer(root, screen2.getBounds()));
+        } else {
+            secondScreen = new SecondScreen(stage2, SecondScreen.makeLighting(root, screen2.getBounds()));
+        }
 
         stage2.setScene(scene);
 
         stage2.show();
 
-        return new SecondScreen(stage2, lightingArray);
+        return secondScreen;
     }
 }
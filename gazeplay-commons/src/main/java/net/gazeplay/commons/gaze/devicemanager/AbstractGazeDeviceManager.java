@@ -6,6 +6,7 @@ import javafx.geometry.Point2D;
 import javafx.scene.Node;
 import javafx.scene.layout.Pane;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import net.gazeplay.commons.configuration.ActiveConfigurationContext;
 import net.gazeplay.commons.configuration.Configuration;
@@ -39,6 +40,27 @@ public abstract class AbstractGazeDeviceManager implements GazeDeviceManager {
     private final List<Node> toRemove = new LinkedList<>();
     private final List<Node> toAdd = new LinkedList<>();
 
+    private final GazeSpatialIndex spatialIndex = new GazeSpatialIndex();
+
+    /**
+     * When disabled, every registered node is tested against every sample
+     */
+    @Getter
+    @Setter
+    private boolean spatialIndexEnabled = true;
+
+    /**
+     * Gaze events produced while handling one sample, fired together once the sample is processed
+     */
+    private List<Node> pendingEventTargets = new ArrayList<>();
+    private List<GazeEvent> pendingEvents = new ArrayList<>();
+
+    /**
+     * The lists of the previous batch, swapped with the pending ones once fired, or null while it is being fired
+     */
+    private List<Node> spareEventTargets = new ArrayList<>();
+    private List<GazeEvent> spareEvents = new ArrayList<>();
+
     private final Supplier<Robot> robotSupplier = new ImmutableCachingSupplier<>(new RobotSupplier());
 
     public AbstractGazeDeviceManager() {
@@ -81,7 +103,12 @@ public abstract class AbstractGazeDeviceManager implements GazeDeviceManager {
         synchronized (shapesEventFilter) {
             List<Node> temp = new LinkedList<>(toAdd);
             for (Node node : temp) {
-                shapesEventFilter.put(new IdentityKey<>(node), new GazeInfos(node));
+                GazeInfos gazeInfos = new GazeInfos(node);
+                GazeInfos replaced = shapesEventFilter.put(new IdentityKey<>(node), gazeInfos);
+                if (replaced != null) {
+                    spatialIndex.remove(replaced);
+                }
+                spatialIndex.insert(gazeInfos);
                 toAdd.remove(node);
             }
         }
@@ -119,11 +146,9 @@ public abstract class AbstractGazeDeviceManager implements GazeDeviceManager {
                 if (removed == null) {
                     log.warn("EventFilter to remove not found");
                 } else {
+                    spatialIndex.remove(removed);
                     if (removed.isOnGaze() || removed.isOnMouse()) {
-                        Platform.runLater(
-                            () ->
-                                removed.getNode().fireEvent(new GazeEvent(GazeEvent.GAZE_EXITED, System.currentTimeMillis(), 0, 0))
-                        );
+                        dispatch(removed.getNode(), new GazeEvent(GazeEvent.GAZE_EXITED, System.currentTimeMillis(), 0, 0));
                     }
                 }
                 toRemove.remove(node);
@@ -148,6 +173,7 @@ public abstract class AbstractGazeDeviceManager implements GazeDeviceManager {
     public void clear() {
         synchronized (shapesEventFilter) {
             shapesEventFilter.clear();
+            spatialIndex.clear();
             shapesEventHandler.clear();
             gazeMotionListeners.clear();
         }
@@ -155,8 +181,10 @@ public abstract class AbstractGazeDeviceManager implements GazeDeviceManager {
 
     synchronized void onGazeUpdate(Point2D gazePositionOnScreen, String event) {
         // notifyAllGazeMotionListeners(gazePositionOnScreen);
-        final double positionX = gazePositionOnScreen.getX();
-        final double positionY = gazePositionOnScreen.getY();
+        onGazeUpdate(gazePositionOnScreen.getX(), gazePositionOnScreen.getY(), event);
+    }
+
+    synchronized void onGazeUpdate(double positionX, double positionY, String event) {
         updatePosition(positionX, positionY, event, false);
     }
 
@@ -181,7 +209,10 @@ public abstract class AbstractGazeDeviceManager implements GazeDeviceManager {
 
             synchronized (shapesEventFilter) {
                 Collection<GazeInfos> c = shapesEventFilter.values();
-                for (GazeInfos gi : c) {
+                Collection<GazeInfos> candidates = spatialIndexEnabled
+                    ? spatialIndex.candidatesAt(positionX, positionY, gameScene == null ? null : gameScene.getNode())
+                    : c;
+                for (GazeInfos gi : candidates) {
                     if (gameScene != null && gi.getNode() != gameScene.getNode()) {
                         eventFire(positionX, positionY, gi, event, c);
                     }
@@ -192,6 +223,62 @@ public abstract class AbstractGazeDeviceManager implements GazeDeviceManager {
                 }
 
             }
+
+            flushPendingEvents();
+        }
+    }
+
+    private void dispatch(Node node, GazeEvent gazeEvent) {
+        synchronized (shapesEventFilter) {
+            pendingEventTargets.add(node);
+            pendingEvents.add(gazeEvent);
+        }
+    }
+
+    /**
+     * Fires the events of the current sample in one go : directly when already on the JavaFX thread, otherwise with a
+     * single runLater for the whole batch. Handlers are called outside of the lock, so that they can (un)register
+     * nodes.
+     * <p>
+     * The pending lists are swapped with the spare ones, which are given back once fired, so that no list is allocated
+     * unless a batch is flushed while the previous one still waits for the JavaFX thread.
+     */
+    private void flushPendingEvents() {
+        final List<Node> targets;
+        final List<GazeEvent> events;
+        synchronized (shapesEventFilter) {
+            if (pendingEvents.isEmpty()) {
+                return;
+            }
+            if (spareEvents == null) {
+                spareEventTargets = new ArrayList<>();
+                spareEvents = new ArrayList<>();
+            }
+            targets = pendingEventTargets;
+            events = pendingEvents;
+            pendingEventTargets = spareEventTargets;
+            pendingEvents = spareEvents;
+            spareEventTargets = null;
+            spareEvents = null;
+        }
+        if (Platform.isFxApplicationThread()) {
+            fireAll(targets, events);
+        } else {
+            Platform.runLater(() -> fireAll(targets, events));
+        }
+    }
+
+    private void fireAll(List<Node> targets, List<GazeEvent> events) {
+        for (int i = 0; i < events.size(); i++) {
+            targets.get(i).fireEvent(events.get(i));
+        }
+        targets.clear();
+        events.clear();
+        synchronized (shapesEventFilter) {
+            if (spareEvents == null) {
+                spareEventTargets = targets;
+                spareEvents = events;
+            }
         }
     }
 
@@ -217,38 +304,24 @@ public abstract class AbstractGazeDeviceManager implements GazeDeviceManager {
             if (localPosition != null && contains(node, positionX, positionY)) {
                 if (event.equals("gaze")) {
                     if (gi.isOnGaze()) {
-                        Platform.runLater(
-                            () ->
-                                node.fireEvent(new GazeEvent(GazeEvent.GAZE_MOVED, gi.getTime(), localPosition.getX(), localPosition.getY()))
-                        );
+                        dispatch(node, new GazeEvent(GazeEvent.GAZE_MOVED, gi.getTime(), localPosition.getX(), localPosition.getY()));
                         return true;
                     } else {
 
                         gi.setOnGaze(true);
                         gi.setTime(System.currentTimeMillis());
-                        Platform.runLater(
-                            () ->
-                                node.fireEvent(new GazeEvent(GazeEvent.GAZE_ENTERED, gi.getTime(), localPosition.getX(), localPosition.getY()))
-                        );
+                        dispatch(node, new GazeEvent(GazeEvent.GAZE_ENTERED, gi.getTime(), localPosition.getX(), localPosition.getY()));
                         return true;
                     }
                 } else {
                     if (gi.isOnMouse()) {
-                        Platform.runLater(
-                            () ->
-                                node.fireEvent(new GazeEvent(GazeEvent.GAZE_MOVED, gi.getTime(), localPosition.getX(), localPosition.getY()))
-
-                        );
+                        dispatch(node, new GazeEvent(GazeEvent.GAZE_MOVED, gi.getTime(), localPosition.getX(), localPosition.getY()));
                         return true;
                     } else {
 
                         gi.setOnMouse(true);
                         gi.setTime(System.currentTimeMillis());
-                        Platform.runLater(
-                            () ->
-                                node.fireEvent(new GazeEvent(GazeEvent.GAZE_ENTERED, gi.getTime(), localPosition.getX(), localPosition.getY()))
-
-                        );
+                        dispatch(node, new GazeEvent(GazeEvent.GAZE_ENTERED, gi.getTime(), localPosition.getX(), localPosition.getY()));
                         return true;
                     }
                 }
@@ -258,10 +331,7 @@ public abstract class AbstractGazeDeviceManager implements GazeDeviceManager {
                         gi.setOnGaze(false);
                         gi.setTime(-1);
                         if (localPosition != null) {
-                            Platform.runLater(
-                                () ->
-                                    node.fireEvent(new GazeEvent(GazeEvent.GAZE_EXITED, gi.getTime(), localPosition.getX(), localPosition.getY()))
-                            );
+                            dispatch(node, new GazeEvent(GazeEvent.GAZE_EXITED, gi.getTime(), localPosition.getX(), localPosition.getY()));
                         }
                     }
                 } else {
@@ -269,11 +339,7 @@ public abstract class AbstractGazeDeviceManager implements GazeDeviceManager {
                         gi.setOnMouse(false);
                         gi.setTime(-1);
                         if (localPosition != null) {
-                            Platform.runLater(
-                                () ->
-                                    node.fireEvent(new GazeEvent(GazeEvent.GAZE_EXITED, gi.getTime(), localPosition.getX(), localPosition.getY()))
-
-                            );
+                            dispatch(node, new GazeEvent(GazeEvent.GAZE_EXITED, gi.getTime(), localPosition.getX(), localPosition.getY()));
                         }
                     }
                 }
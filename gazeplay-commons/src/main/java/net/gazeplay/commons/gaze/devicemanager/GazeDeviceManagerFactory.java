@@ -10,6 +10,8 @@ import net.gazeplay.commons.gaze.EyeTracker;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
@@ -57,6 +59,10 @@ public class GazeDeviceManagerFactory {
             case eyetribe:
                 gazeDeviceManager = new EyeTribeGazeDeviceManager();
                 break;
+            case simulated:
+                gazeDeviceManager = new SimulatedGazeDeviceManager(createSimulatedGazeSampleSource(config), config.getSimulatedGazeRate(),
+                    config.isSimulatedGazeEverySample());
+                break;
             default:
                 gazeDeviceManager = new AbstractGazeDeviceManager() {
                     @Override
@@ -75,4 +81,16 @@ public class GazeDeviceManagerFactory {
         return gazeDeviceManager;
     }
 
+    private static GazeSampleSource createSimulatedGazeSampleSource(final Configuration config) {
+        final String traceFile = config.getSimulatedGazeTrace();
+        if (traceFile != null && !traceFile.isEmpty()) {
+            try {
+                return new RecordedGazeSampleSource(new File(traceFile));
+            } catch (final IOException e) {
+                log.error("Could not load the simulated gaze trace {}, using a synthetic signal instead", traceFile, e);
+            }
+        }
+        return new SyntheticGazeSampleSource(config.getSimulatedGazeRate(), System.currentTimeMillis());
+    }
+
 }
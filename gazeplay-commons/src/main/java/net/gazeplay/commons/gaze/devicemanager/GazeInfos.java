@@ -1,5 +1,6 @@
 package net.gazeplay.commons.gaze.devicemanager;
 
+import javafx.beans.InvalidationListener;
 import javafx.scene.Node;
 import lombok.Getter;
 import lombok.Setter;
@@ -24,6 +25,50 @@ class GazeInfos {
     @Setter
     private boolean onMouse;
 
+    /*
+     * Bookkeeping of the spatial index, see GazeSpatialIndex
+     */
+
+    @Getter
+    @Setter
+    private volatile boolean boundsDirty;
+
+    @Getter
+    @Setter
+    private InvalidationListener boundsListener;
+
+    @Getter
+    @Setter
+    private boolean boundsKnown;
+
+    @Getter
+    @Setter
+    private boolean indexed;
+
+    @Getter
+    @Setter
+    private boolean alwaysTested;
+
+    @Getter
+    @Setter
+    private double minX;
+
+    @Getter
+    @Setter
+    private double minY;
+
+    @Getter
+    @Setter
+    private double maxX;
+
+    @Getter
+    @Setter
+    private double maxY;
+
+    @Getter
+    @Setter
+    private int queryStamp;
+
     GazeInfos(Node node) {
         this(node, 0, false);
     }
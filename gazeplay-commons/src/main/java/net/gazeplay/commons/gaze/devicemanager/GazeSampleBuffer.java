@@ -0,0 +1,33 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+/**
+ * Gaze samples handed over by the eye-tracker thread to the JavaFX thread, where a {@link GazeSampleDrainer} takes
+ * them.
+ */
+public interface GazeSampleBuffer {
+
+    /**
+     * Called by the consumer thread
+     *
+     * @param target receives the x and y of the next sample, so that no object is allocated per sample
+     * @return true if a sample was waiting
+     */
+    boolean take(double[] target);
+
+    /**
+     * @return the {@link System#nanoTime()} at which the last taken sample was offered
+     */
+    long getTakenSampleNanoTime();
+
+    /**
+     * @return the number of samples waiting to be delivered
+     */
+    int getQueueDepth();
+
+    long getOfferedSamples();
+
+    long getDeliveredSamples();
+
+    long getDroppedSamples();
+
+}
@@ -0,0 +1,58 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * Takes the gaze samples out of a {@link GazeSampleBuffer} once per pulse and dispatches them on the JavaFX thread :
+ * the latest sample of a {@link GazeSampleMailbox}, or all the samples waiting in a {@link GazeSampleQueue}. Also
+ * measures the end-to-end latency, from the moment a sample was offered by the tracker thread until the gaze events
+ * of the sample have been fired.
+ */
+public class GazeSampleDrainer extends AnimationTimer {
+
+    private final GazeSampleBuffer buffer;
+
+    private final AbstractGazeDeviceManager gazeDeviceManager;
+
+    private final double[] sample = new double[2];
+
+    private long dispatchedSamples = 0;
+
+    private long totalLatencyNanos = 0;
+
+    private long maxLatencyNanos = 0;
+
+    GazeSampleDrainer(GazeSampleBuffer buffer, AbstractGazeDeviceManager gazeDeviceManager) {
+        this.buffer = buffer;
+        this.gazeDeviceManager = gazeDeviceManager;
+    }
+
+    @Override
+    public void handle(long now) {
+        // only the samples waiting at the start of the pulse, so that a tracker offering faster cannot hold the pulse
+        final int waitingSamples = buffer.getQueueDepth();
+        for (int i = 0; i < waitingSamples && buffer.take(sample); i++) {
+            gazeDeviceManager.onGazeUpdate(sample[0], sample[1], "gaze");
+
+            long latency = System.nanoTime() - buffer.getTakenSampleNanoTime();
+            synchronized (this) {
+                dispatchedSamples++;
+                totalLatencyNanos += latency;
+                maxLatencyNanos = Math.max(maxLatencyNanos, latency);
+            }
+        }
+    }
+
+    public synchronized long getDispatchedSamples() {
+        return dispatchedSamples;
+    }
+
+    public synchronized double getAverageLatencyMillis() {
+        return dispatchedSamples == 0 ? 0 : totalLatencyNanos / (dispatchedSamples * 1_000_000d);
+    }
+
+    public synchronized double getMaxLatencyMillis() {
+        return maxLatencyNanos / 1_000_000d;
+    }
+
+}
@@ -0,0 +1,89 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+/**
+ * Single-slot, latest-wins mailbox between the eye-tracker polling thread and the JavaFX thread.
+ * <p>
+ * The tracker thread offers every sample it reads, the JavaFX thread takes the most recent one once per pulse. A
+ * sample which is overwritten before being taken is counted as dropped, so the FX thread never works through a
+ * backlog of outdated gaze positions.
+ */
+public class GazeSampleMailbox implements GazeSampleBuffer {
+
+    private double x;
+
+    private double y;
+
+    private long offeredNanoTime;
+
+    private long takenSampleNanoTime;
+
+    private boolean pending = false;
+
+    private long offeredSamples = 0;
+
+    private long deliveredSamples = 0;
+
+    private long droppedSamples = 0;
+
+    /**
+     * Called by the tracker thread
+     */
+    public synchronized void offer(double x, double y) {
+        if (pending) {
+            droppedSamples++;
+        }
+        this.x = x;
+        this.y = y;
+        this.offeredNanoTime = System.nanoTime();
+        this.pending = true;
+        offeredSamples++;
+    }
+
+    /**
+     * Called by the consumer thread
+     *
+     * @param target receives the x and y of the latest sample, so that no object is allocated per sample
+     * @return true if a sample was waiting
+     */
+    @Override
+    public synchronized boolean take(double[] target) {
+        if (!pending) {
+            return false;
+        }
+        target[0] = x;
+        target[1] = y;
+        takenSampleNanoTime = offeredNanoTime;
+        pending = false;
+        deliveredSamples++;
+        return true;
+    }
+
+    @Override
+    public synchronized long getTakenSampleNanoTime() {
+        return takenSampleNanoTime;
+    }
+
+    /**
+     * @return the number of samples waiting to be delivered, either 0 or 1
+     */
+    @Override
+    public synchronized int getQueueDepth() {
+        return pending ? 1 : 0;
+    }
+
+    @Override
+    public synchronized long getOfferedSamples() {
+        return offeredSamples;
+    }
+
+    @Override
+    public synchronized long getDeliveredSamples() {
+        return deliveredSamples;
+    }
+
+    @Override
+    public synchronized long getDroppedSamples() {
+        return droppedSamples;
+    }
+
+}
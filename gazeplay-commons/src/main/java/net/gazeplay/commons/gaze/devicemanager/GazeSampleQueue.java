@@ -0,0 +1,123 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+/**
+ * Bounded FIFO queue between the eye-tracker thread and the JavaFX thread, which delivers every sample.
+ * <p>
+ * When the queue is full, the tracker thread waits for the JavaFX thread to take samples instead of dropping them.
+ * This back-pressure slows the tracker down to the rate the games can handle, and the time it waited is measured.
+ * The samples are stored in primitive arrays used as a ring buffer, so that no object is allocated per sample.
+ */
+public class GazeSampleQueue implements GazeSampleBuffer {
+
+    private final double[] xs;
+
+    private final double[] ys;
+
+    private final long[] offeredNanoTimes;
+
+    private int head = 0;
+
+    private int size = 0;
+
+    private long takenSampleNanoTime;
+
+    private long offeredSamples = 0;
+
+    private long deliveredSamples = 0;
+
+    private long waitedNanos = 0;
+
+    public GazeSampleQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Invalid capacity : " + capacity);
+        }
+        xs = new double[capacity];
+        ys = new double[capacity];
+        offeredNanoTimes = new long[capacity];
+    }
+
+    /**
+     * Called by the tracker thread, waits while the queue is full
+     *
+     * @throws InterruptedException if the tracker thread is interrupted while waiting, the sample is then not queued
+     */
+    public synchronized void put(double x, double y) throws InterruptedException {
+        if (size == xs.length) {
+            final long waitStart = System.nanoTime();
+            try {
+                while (size == xs.length) {
+                    wait();
+                }
+            } finally {
+                waitedNanos += System.nanoTime() - waitStart;
+            }
+        }
+        final int tail = (head + size) % xs.length;
+        xs[tail] = x;
+        ys[tail] = y;
+        offeredNanoTimes[tail] = System.nanoTime();
+        size++;
+        offeredSamples++;
+    }
+
+    /**
+     * Called by the consumer thread
+     *
+     * @param target receives the x and y of the oldest sample, so that no object is allocated per sample
+     * @return true if a sample was waiting
+     */
+    @Override
+    public synchronized boolean take(double[] target) {
+        if (size == 0) {
+            return false;
+        }
+        target[0] = xs[head];
+        target[1] = ys[head];
+        takenSampleNanoTime = offeredNanoTimes[head];
+        head = (head + 1) % xs.length;
+        size--;
+        deliveredSamples++;
+        notifyAll();
+        return true;
+    }
+
+    @Override
+    public synchronized long getTakenSampleNanoTime() {
+        return takenSampleNanoTime;
+    }
+
+    @Override
+    public synchronized int getQueueDepth() {
+        return size;
+    }
+
+    public int getCapacity() {
+        return xs.length;
+    }
+
+    @Override
+    public synchronized long getOfferedSamples() {
+        return offeredSamples;
+    }
+
+    @Override
+    public synchronized long getDeliveredSamples() {
+        return deliveredSamples;
+    }
+
+    /**
+     * @return always 0, the tracker thread waits instead of dropping samples
+     */
+    @Override
+    public long getDroppedSamples() {
+        return 0;
+    }
+
+    /**
+     * @return the total time the tracker thread waited for the queue to have room, in milliseconds
+     */
+    public synchronized double getWaitedMillis() {
+        return waitedNanos / 1_000_000d;
+    }
+
+}
@@ -0,0 +1,17 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+/**
+ * Source of gaze samples for the {@link SimulatedGazeDeviceManager}.
+ */
+public interface GazeSampleSource {
+
+    /**
+     * Writes the next sample into the given array, as ratios of the screen width and height (like the Tobii tracker
+     * does), so that no object is allocated per sample.
+     *
+     * @param target receives the x ratio at index 0 and the y ratio at index 1
+     * @return false when the source has no more samples
+     */
+    boolean next(double[] target);
+
+}
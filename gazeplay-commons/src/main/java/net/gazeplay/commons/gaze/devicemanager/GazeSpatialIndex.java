@@ -0,0 +1,278 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import javafx.beans.InvalidationListener;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.stage.Window;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Uniform grid of the screen-space bounds of the nodes registered in the gaze device manager.
+ * <p>
+ * A gaze sample only needs to be tested against the nodes whose bounds overlap the grid cell under the gaze point,
+ * plus the nodes that currently hold the gaze or the mouse (they need to receive their exit event).
+ * <p>
+ * Bounds are refreshed lazily : an entry is queued as dirty when the {@code boundsInParent} of its node changes, or its
+ * {@code localToSceneTransform} because one of its ancestors moved, and only the queued entries are refreshed before
+ * the next query. All of them are refreshed when the window of the game scene moves. Nodes which are not displayed
+ * yet, or which cover a large part of the screen, are always tested.
+ * <p>
+ * This class is not thread-safe, callers synchronize on the map of registered nodes. Only the dirty queue is filled
+ * from the JavaFX thread without that lock.
+ */
+class GazeSpatialIndex {
+
+    static final double DEFAULT_CELL_SIZE = 128;
+
+    /**
+     * Nodes covering more cells than this are not worth indexing, they are always tested
+     */
+    private static final int MAX_CELLS_PER_ENTRY = 64;
+
+    private final double cellSize;
+
+    private final Map<Long, List<GazeInfos>> cells = new HashMap<>();
+
+    private final List<GazeInfos> alwaysTested = new ArrayList<>();
+
+    private final List<GazeInfos> entries = new ArrayList<>();
+
+    private final Queue<GazeInfos> dirtyEntries = new ConcurrentLinkedQueue<>();
+
+    private List<GazeInfos> candidates = new ArrayList<>();
+
+    private List<GazeInfos> previousCandidates = new ArrayList<>();
+
+    private int queryStamp = 0;
+
+    private double lastWindowX = Double.NaN;
+
+    private double lastWindowY = Double.NaN;
+
+    GazeSpatialIndex() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    GazeSpatialIndex(double cellSize) {
+        this.cellSize = cellSize;
+    }
+
+    void insert(GazeInfos gi) {
+        InvalidationListener listener = observable -> markDirty(gi);
+        gi.setBoundsListener(listener);
+        gi.getNode().boundsInParentProperty().addListener(listener);
+        gi.getNode().localToSceneTransformProperty().addListener(listener);
+        entries.add(gi);
+        markDirty(gi);
+    }
+
+    private void markDirty(GazeInfos gi) {
+        if (!gi.isBoundsDirty()) {
+            gi.setBoundsDirty(true);
+            dirtyEntries.add(gi);
+        }
+    }
+
+    void remove(GazeInfos gi) {
+        InvalidationListener listener = gi.getBoundsListener();
+        if (listener != null) {
+            gi.getNode().boundsInParentProperty().removeListener(listener);
+            gi.getNode().localToSceneTransformProperty().removeListener(listener);
+            gi.setBoundsListener(null);
+        }
+        unlink(gi);
+        gi.setBoundsKnown(false);
+        entries.remove(gi);
+        candidates.remove(gi);
+    }
+
+    void clear() {
+        for (GazeInfos gi : new ArrayList<>(entries)) {
+            remove(gi);
+        }
+        cells.clear();
+        alwaysTested.clear();
+        dirtyEntries.clear();
+        candidates.clear();
+        previousCandidates.clear();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return the registered nodes which may contain the given screen position. The returned list is reused by the
+     * next call.
+     */
+    List<GazeInfos> candidatesAt(double screenX, double screenY, Node sceneRoot) {
+        refresh(sceneRoot);
+
+        // only the candidates of the previous sample can hold the gaze or the mouse
+        List<GazeInfos> previous = candidates;
+        candidates = previousCandidates;
+        previousCandidates = previous;
+        candidates.clear();
+        queryStamp++;
+
+        List<GazeInfos> cell = cells.get(key(cellOf(screenX), cellOf(screenY)));
+        if (cell != null) {
+            for (GazeInfos gi : cell) {
+                addCandidate(gi);
+            }
+        }
+        for (GazeInfos gi : alwaysTested) {
+            addCandidate(gi);
+        }
+        for (GazeInfos gi : previousCandidates) {
+            if (gi.isOnGaze() || gi.isOnMouse()) {
+                addCandidate(gi);
+            }
+        }
+        return candidates;
+    }
+
+    private void addCandidate(GazeInfos gi) {
+        if (gi.getQueryStamp() != queryStamp) {
+            gi.setQueryStamp(queryStamp);
+            candidates.add(gi);
+        }
+    }
+
+    private void refresh(Node sceneRoot) {
+        if (hasWindowMoved(sceneRoot)) {
+            dirtyEntries.clear();
+            for (GazeInfos gi : entries) {
+                gi.setBoundsDirty(false);
+                reindex(gi);
+            }
+        } else {
+            GazeInfos gi;
+            while ((gi = dirtyEntries.poll()) != null) {
+                gi.setBoundsDirty(false);
+                // the entry may have been removed since it was queued
+                if (gi.getBoundsListener() != null) {
+                    reindex(gi);
+                }
+            }
+        }
+
+        // the nodes not displayed yet are not notified when an ancestor of theirs is added to the scene
+        for (int i = alwaysTested.size() - 1; i >= 0; i--) {
+            GazeInfos gi = alwaysTested.get(i);
+            if (!gi.isBoundsKnown()) {
+                reindex(gi);
+            }
+        }
+    }
+
+    private boolean hasWindowMoved(Node sceneRoot) {
+        if (sceneRoot == null) {
+            return false;
+        }
+        Scene scene = sceneRoot.getScene();
+        if (scene == null || scene.getWindow() == null) {
+            return false;
+        }
+        Window window = scene.getWindow();
+        double windowX = window.getX() + scene.getX();
+        double windowY = window.getY() + scene.getY();
+        if (windowX != lastWindowX || windowY != lastWindowY) {
+            lastWindowX = windowX;
+            lastWindowY = windowY;
+            return true;
+        }
+        return false;
+    }
+
+    private void reindex(GazeInfos gi) {
+        // reading the properties validates them again, so that their next change is notified
+        gi.getNode().getBoundsInParent();
+        gi.getNode().getLocalToSceneTransform();
+        Bounds screenBounds = gi.getNode().localToScreen(gi.getNode().getBoundsInLocal());
+
+        if (screenBounds == null) {
+            if (!gi.isBoundsKnown() && gi.isAlwaysTested()) {
+                return;
+            }
+            unlink(gi);
+            gi.setBoundsKnown(false);
+            gi.setAlwaysTested(true);
+            alwaysTested.add(gi);
+            return;
+        }
+
+        if (gi.isBoundsKnown()
+            && screenBounds.getMinX() == gi.getMinX() && screenBounds.getMinY() == gi.getMinY()
+            && screenBounds.getMaxX() == gi.getMaxX() && screenBounds.getMaxY() == gi.getMaxY()) {
+            return;
+        }
+
+        unlink(gi);
+        gi.setBoundsKnown(true);
+        gi.setMinX(screenBounds.getMinX());
+        gi.setMinY(screenBounds.getMinY());
+        gi.setMaxX(screenBounds.getMaxX());
+        gi.setMaxY(screenBounds.getMaxY());
+
+        int minCellX = cellOf(gi.getMinX());
+        int minCellY = cellOf(gi.getMinY());
+        int maxCellX = cellOf(gi.getMaxX());
+        int maxCellY = cellOf(gi.getMaxY());
+
+        if ((long) (maxCellX - minCellX + 1) * (maxCellY - minCellY + 1) > MAX_CELLS_PER_ENTRY) {
+            gi.setAlwaysTested(true);
+            alwaysTested.add(gi);
+            return;
+        }
+
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+                cells.computeIfAbsent(key(cellX, cellY), k -> new ArrayList<>()).add(gi);
+            }
+        }
+        gi.setIndexed(true);
+    }
+
+    private void unlink(GazeInfos gi) {
+        if (gi.isIndexed()) {
+            int minCellX = cellOf(gi.getMinX());
+            int minCellY = cellOf(gi.getMinY());
+            int maxCellX = cellOf(gi.getMaxX());
+            int maxCellY = cellOf(gi.getMaxY());
+            for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+                for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+                    Long key = key(cellX, cellY);
+                    List<GazeInfos> cell = cells.get(key);
+                    if (cell != null) {
+                        cell.remove(gi);
+                        if (cell.isEmpty()) {
+                            cells.remove(key);
+                        }
+                    }
+                }
+            }
+            gi.setIndexed(false);
+        }
+        if (gi.isAlwaysTested()) {
+            alwaysTested.remove(gi);
+            gi.setAlwaysTested(false);
+        }
+    }
+
+    private int cellOf(double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private static long key(int cellX, int cellY) {
+        return ((long) cellX << 32) | (cellY & 0xffffffffL);
+    }
+
+}
@@ -1,6 +1,5 @@
 package net.gazeplay.commons.gaze.devicemanager;
 
-import javafx.application.Platform;
 import javafx.geometry.Dimension2D;
 import javafx.geometry.Point2D;
 import lombok.Setter;
@@ -62,9 +61,8 @@ public class PositionPollerRunnable implements Runnable {
         final double offsetX = screenPosition.getX();
         final double offsetY = screenPosition.getY();
 
-        final Point2D point = new Point2D(positionX + offsetX, positionY + offsetY);
-
-        Platform.runLater(() -> tobiiGazeDeviceManager.onGazeUpdate(point, "gaze"));
+        // delivered to the JavaFX thread once per pulse, only the latest sample is kept
+        tobiiGazeDeviceManager.getGazeSampleMailbox().offer(positionX + offsetX, positionY + offsetY);
     }
 
 }
@@ -0,0 +1,79 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import lombok.Getter;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+/**
+ * Replays a gaze trace recorded in a text file, looping when the end is reached.
+ * <p>
+ * Each line holds one sample, as comma separated ratios of the screen width and height : {@code x,y}. A leading
+ * timestamp column ({@code timestamp,x,y}) is accepted and ignored, the replay rate is the one of the simulated
+ * device. Empty lines and lines starting with {@code #} are skipped.
+ */
+public class RecordedGazeSampleSource implements GazeSampleSource {
+
+    private final float[] xs;
+
+    private final float[] ys;
+
+    @Getter
+    private final int size;
+
+    private int index = 0;
+
+    public RecordedGazeSampleSource(File traceFile) throws IOException {
+        float[] xs = new float[1024];
+        float[] ys = new float[1024];
+        int size = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(traceFile.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split(",");
+                if (columns.length < 2) {
+                    throw new IOException("Invalid gaze sample at line " + lineNumber + " of " + traceFile);
+                }
+                if (size == xs.length) {
+                    xs = Arrays.copyOf(xs, size * 2);
+                    ys = Arrays.copyOf(ys, size * 2);
+                }
+                try {
+                    xs[size] = Float.parseFloat(columns[columns.length - 2].trim());
+                    ys[size] = Float.parseFloat(columns[columns.length - 1].trim());
+                } catch (NumberFormatException e) {
+                    throw new IOException("Invalid gaze sample at line " + lineNumber + " of " + traceFile, e);
+                }
+                size++;
+            }
+        }
+
+        if (size == 0) {
+            throw new IOException("No gaze sample in " + traceFile);
+        }
+
+        this.xs = xs;
+        this.ys = ys;
+        this.size = size;
+    }
+
+    @Override
+    public boolean next(double[] target) {
+        target[0] = xs[index];
+        target[1] = ys[index];
+        index = (index + 1) % size;
+        return true;
+    }
+
+}
@@ -0,0 +1,137 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import javafx.geometry.Dimension2D;
+import javafx.geometry.Point2D;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Simulated eye-tracker, feeding the gaze path of the games with samples from a {@link GazeSampleSource} at a fixed
+ * rate (60, 120, 300 Hz ...). It needs no hardware nor native library, so that the games can be load tested on any
+ * machine.
+ * <p>
+ * Like a real tracker, it hands the samples over through a latest-wins {@link GazeSampleMailbox} by default, which
+ * drops the samples the JavaFX thread could not keep up with. When every sample is dispatched, they go through a
+ * bounded {@link GazeSampleQueue} instead, and the simulator waits for the games to keep up. The dispatched and
+ * dropped samples and the dispatch latency are reported periodically while the games run, and on destroy.
+ */
+@Slf4j
+public class SimulatedGazeDeviceManager extends AbstractGazeDeviceManager {
+
+    /**
+     * Enough for about a second of samples at 300 Hz
+     */
+    static final int QUEUE_CAPACITY = 256;
+
+    private static final long REPORT_INTERVAL_SECONDS = 10;
+
+    private final GazeSampleSource gazeSampleSource;
+
+    @Getter
+    private final int samplingRate;
+
+    @Getter
+    private final boolean everySampleDispatched;
+
+    @Getter
+    private final GazeSampleBuffer gazeSampleBuffer;
+
+    @Getter
+    private final GazeSampleDrainer gazeSampleDrainer;
+
+    private ScheduledExecutorService executorService;
+
+    /**
+     * @param everySampleDispatched true to dispatch every sample through a queue, false to dispatch only the latest
+     *                              sample at each pulse
+     */
+    public SimulatedGazeDeviceManager(GazeSampleSource gazeSampleSource, int samplingRate, boolean everySampleDispatched) {
+        super();
+        if (samplingRate <= 0) {
+            throw new IllegalArgumentException("Invalid sampling rate : " + samplingRate);
+        }
+        this.gazeSampleSource = gazeSampleSource;
+        this.samplingRate = samplingRate;
+        this.everySampleDispatched = everySampleDispatched;
+        this.gazeSampleBuffer = everySampleDispatched ? new GazeSampleQueue(QUEUE_CAPACITY) : new GazeSampleMailbox();
+        this.gazeSampleDrainer = new GazeSampleDrainer(gazeSampleBuffer, this);
+    }
+
+    @Override
+    public void init(Supplier<Dimension2D> currentScreenDimensionSupplier, Supplier<Point2D> currentScreenPositionSupplier) {
+        final double[] sample = new double[2];
+        executorService = Executors.newScheduledThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "simulated-gaze-device");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executorService.scheduleAtFixedRate(() -> {
+            try {
+                if (!gazeSampleSource.next(sample)) {
+                    log.info("Simulated gaze source exhausted");
+                    log.info(getReport());
+                    executorService.shutdown();
+                    return;
+                }
+                final Dimension2D screenDimension = currentScreenDimensionSupplier.get();
+                final Point2D screenPosition = currentScreenPositionSupplier.get();
+                offer(
+                    screenPosition.getX() + sample[0] * screenDimension.getWidth(),
+                    screenPosition.getY() + sample[1] * screenDimension.getHeight());
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (final RuntimeException e) {
+                log.warn("Exception while simulating gaze sample", e);
+            }
+        }, 0, TimeUnit.SECONDS.toNanos(1) / samplingRate, TimeUnit.NANOSECONDS);
+        executorService.scheduleAtFixedRate(() -> log.info(getReport()),
+            REPORT_INTERVAL_SECONDS, REPORT_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        gazeSampleDrainer.start();
+    }
+
+    private void offer(double x, double y) throws InterruptedException {
+        if (gazeSampleBuffer instanceof GazeSampleQueue) {
+            ((GazeSampleQueue) gazeSampleBuffer).put(x, y);
+        } else {
+            ((GazeSampleMailbox) gazeSampleBuffer).offer(x, y);
+        }
+    }
+
+    /**
+     * @return the counts of the samples offered, dispatched and dropped so far, with the dispatch latency
+     */
+    public String getReport() {
+        final StringBuilder report = new StringBuilder()
+            .append("Simulated gaze at ").append(samplingRate).append(" Hz")
+            .append(everySampleDispatched ? ", every sample" : ", latest sample")
+            .append(" : ").append(gazeSampleBuffer.getOfferedSamples()).append(" samples offered, ")
+            .append(gazeSampleDrainer.getDispatchedSamples()).append(" dispatched, ")
+            .append(gazeSampleBuffer.getDroppedSamples()).append(" dropped, ")
+            .append(gazeSampleBuffer.getQueueDepth()).append(" waiting");
+        if (gazeSampleBuffer instanceof GazeSampleQueue) {
+            report.append(", simulator waited ")
+                .append(String.format("%.1f", ((GazeSampleQueue) gazeSampleBuffer).getWaitedMillis())).append(" ms");
+        }
+        return report
+            .append(", latency avg = ").append(String.format("%.2f", gazeSampleDrainer.getAverageLatencyMillis()))
+            .append(" ms, max = ").append(String.format("%.2f", gazeSampleDrainer.getMaxLatencyMillis())).append(" ms")
+            .toString();
+    }
+
+    @Override
+    public void destroy() {
+        gazeSampleDrainer.stop();
+        ScheduledExecutorService executorService = this.executorService;
+        if (executorService != null) {
+            // interrupts the simulator if it is waiting for the queue to have room
+            executorService.shutdownNow();
+        }
+        log.info(getReport());
+    }
+
+}
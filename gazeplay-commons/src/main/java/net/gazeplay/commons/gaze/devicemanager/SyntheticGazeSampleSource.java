@@ -0,0 +1,95 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import java.util.Random;
+
+/**
+ * Generates an endless, plausible gaze signal : fixations on random points of the screen, with some measurement
+ * noise, linked by fast saccades.
+ */
+public class SyntheticGazeSampleSource implements GazeSampleSource {
+
+    private static final int MIN_FIXATION_DURATION_MS = 150;
+
+    private static final int MAX_FIXATION_DURATION_MS = 600;
+
+    private static final int MIN_SACCADE_DURATION_MS = 20;
+
+    private static final int MAX_SACCADE_DURATION_MS = 60;
+
+    /**
+     * Standard deviation of the noise, as a ratio of the screen size (about 10 pixels on a full HD screen)
+     */
+    private static final double NOISE_STANDARD_DEVIATION = 0.005;
+
+    private static final double MARGIN = 0.05;
+
+    private final Random random;
+
+    private final int samplingRate;
+
+    private double fromX;
+    private double fromY;
+    private double toX;
+    private double toY;
+
+    private int saccadeSamples;
+    private int fixationSamples;
+    private int sampleIndex;
+
+    /**
+     * @param samplingRate the number of samples per second, used to give fixations and saccades a realistic duration
+     * @param seed         the seed of the generator, so that a load test can be replayed identically
+     */
+    public SyntheticGazeSampleSource(int samplingRate, long seed) {
+        this.random = new Random(seed);
+        this.samplingRate = samplingRate;
+        this.toX = randomPosition();
+        this.toY = randomPosition();
+        nextFixation();
+    }
+
+    @Override
+    public boolean next(double[] target) {
+        if (sampleIndex >= saccadeSamples + fixationSamples) {
+            nextFixation();
+        }
+
+        final double x;
+        final double y;
+        if (sampleIndex < saccadeSamples) {
+            double progress = (sampleIndex + 1) / (double) saccadeSamples;
+            // saccades accelerate then decelerate
+            double eased = (1 - Math.cos(Math.PI * progress)) / 2;
+            x = fromX + (toX - fromX) * eased;
+            y = fromY + (toY - fromY) * eased;
+        } else {
+            x = toX + random.nextGaussian() * NOISE_STANDARD_DEVIATION;
+            y = toY + random.nextGaussian() * NOISE_STANDARD_DEVIATION;
+        }
+        sampleIndex++;
+
+        target[0] = x;
+        target[1] = y;
+        return true;
+    }
+
+    private void nextFixation() {
+        fromX = toX;
+        fromY = toY;
+        toX = randomPosition();
+        toY = randomPosition();
+        saccadeSamples = samples(MIN_SACCADE_DURATION_MS, MAX_SACCADE_DURATION_MS);
+        fixationSamples = samples(MIN_FIXATION_DURATION_MS, MAX_FIXATION_DURATION_MS);
+        sampleIndex = 0;
+    }
+
+    private int samples(int minDurationMs, int maxDurationMs) {
+        int durationMs = minDurationMs + random.nextInt(maxDurationMs - minDurationMs + 1);
+        return Math.max(1, durationMs * samplingRate / 1000);
+    }
+
+    private double randomPosition() {
+        return MARGIN + random.nextDouble() * (1 - 2 * MARGIN);
+    }
+
+}
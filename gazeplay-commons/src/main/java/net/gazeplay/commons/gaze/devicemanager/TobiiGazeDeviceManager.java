@@ -2,6 +2,7 @@ package net.gazeplay.commons.gaze.devicemanager;
 
 import javafx.geometry.Dimension2D;
 import javafx.geometry.Point2D;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.concurrent.ExecutorService;
@@ -15,6 +16,12 @@ public class TobiiGazeDeviceManager extends AbstractGazeDeviceManager {
 
     private PositionPollerRunnable positionPollerRunnable;
 
+    @Getter
+    private final GazeSampleMailbox gazeSampleMailbox = new GazeSampleMailbox();
+
+    @Getter
+    private final GazeSampleDrainer gazeSampleDrainer = new GazeSampleDrainer(gazeSampleMailbox, this);
+
     public TobiiGazeDeviceManager() {
         super();
     }
@@ -24,12 +31,14 @@ public class TobiiGazeDeviceManager extends AbstractGazeDeviceManager {
         positionPollerRunnable = new PositionPollerRunnable(currentScreenDimensionSupplier, currentScreenPositionSupplier, this);
         executorService = Executors.newSingleThreadExecutor();
         executorService.submit(positionPollerRunnable);
+        gazeSampleDrainer.start();
     }
 
 
     @Override
     public void destroy() {
         positionPollerRunnable.setStopRequested(true);
+        gazeSampleDrainer.stop();
         ExecutorService executorService = this.executorService;
         if (executorService != null) {
             executorService.shutdown();
@@ -0,0 +1,58 @@
+package net.gazeplay.commons.soundsmanager;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Arrays;
+
+/**
+ * A sound effect decoded once in the format of the lines of the {@link SoundEngine}.
+ */
+final class PcmSound {
+
+    /**
+     * 16 bits stereo at 44.1 kHz, which every sound card plays without conversion
+     */
+    static final AudioFormat FORMAT = new AudioFormat(44100, 16, 2, true, false);
+
+    static final int FRAME_SIZE = FORMAT.getFrameSize();
+
+    private final byte[] data;
+
+    PcmSound(final byte[] data) {
+        this.data = data;
+    }
+
+    /**
+     * Decodes the sound, and converts it to {@link #FORMAT}. The compressed formats such as mp3 are decoded by the
+     * service providers of the classpath.
+     */
+    static PcmSound decode(final URL url) throws IOException, UnsupportedAudioFileException {
+        try (AudioInputStream source = AudioSystem.getAudioInputStream(url)) {
+            final AudioFormat sourceFormat = source.getFormat();
+            final AudioFormat pcmFormat = new AudioFormat(sourceFormat.getSampleRate(), 16, sourceFormat.getChannels(), true, false);
+            try (AudioInputStream pcm = AudioSystem.getAudioInputStream(pcmFormat, source);
+                 AudioInputStream converted = AudioSystem.getAudioInputStream(FORMAT, pcm)) {
+                final byte[] bytes = converted.readAllBytes();
+                // a truncated file may end in the middle of a frame
+                final int length = bytes.length - bytes.length % FRAME_SIZE;
+                return new PcmSound(length == bytes.length ? bytes : Arrays.copyOf(bytes, length));
+            }
+        } catch (final IllegalArgumentException e) {
+            // no conversion to the format of the lines is available
+            throw new UnsupportedAudioFileException(url + " cannot be converted to " + FORMAT + " : " + e.getMessage());
+        }
+    }
+
+    byte[] getData() {
+        return data;
+    }
+
+    int getFrameCount() {
+        return data.length / FRAME_SIZE;
+    }
+
+}
@@ -0,0 +1,372 @@
+package net.gazeplay.commons.soundsmanager;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import javafx.scene.media.AudioClip;
+import lombok.extern.slf4j.Slf4j;
+import net.gazeplay.commons.configuration.ActiveConfigurationContext;
+
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Plays the sound effects of the application with a low latency.
+ * <p>
+ * Each effect is decoded once to PCM and kept in a cache weighted by its size. The effects to play are put in a
+ * bounded queue, which a small pool of voices takes them from. Each voice writes the effects it takes to its own line,
+ * kept open, and the lines are mixed by the sound system. An effect is dropped when the queue is full, as it would be
+ * heard too late anyway.
+ * <p>
+ * The sounds which cannot be decoded, or which are played once no line can be opened, are played as JavaFX
+ * {@link AudioClip}s, created once per sound.
+ * <p>
+ * The engine can be used from any thread.
+ */
+@Slf4j
+public class SoundEngine {
+
+    private static final int VOICES = 4;
+
+    private static final int QUEUE_CAPACITY = 32;
+
+    private static final long CACHE_MAXIMUM_BYTES = 64 * 1024 * 1024;
+
+    /**
+     * The data is written to the lines by chunks of 512 frames, about 12 ms, so that a stopped sound is cut quickly
+     */
+    private static final int CHUNK_SIZE = 512 * PcmSound.FRAME_SIZE;
+
+    /**
+     * The lines buffer 4 chunks, about 46 ms
+     */
+    private static final int LINE_BUFFER_SIZE = 4 * CHUNK_SIZE;
+
+    private static SoundEngine instance;
+
+    /**
+     * @return the engine of the process, which plays the sounds at the effects volume of the configuration
+     */
+    public static synchronized SoundEngine getInstance() {
+        if (instance == null) {
+            instance = new SoundEngine(VOICES, QUEUE_CAPACITY, SoundLine::open,
+                () -> ActiveConfigurationContext.getInstance().getEffectsVolumeProperty().getValue());
+        }
+        return instance;
+    }
+
+    private final BlockingQueue<Request> queue;
+
+    private final Set<Request> playingRequests = ConcurrentHashMap.newKeySet();
+
+    private final Cache<String, PcmSound> sounds = CacheBuilder.newBuilder()
+        .maximumWeight(CACHE_MAXIMUM_BYTES)
+        .weigher((String resource, PcmSound sound) -> sound.getData().length)
+        .build();
+
+    private final Map<String, AudioClip> audioClips = new ConcurrentHashMap<>();
+
+    private final SoundLine.Factory lineFactory;
+
+    private final DoubleSupplier volume;
+
+    private final Thread[] voices;
+
+    private final AtomicInteger activeVoices = new AtomicInteger();
+
+    private final AtomicLong playedCount = new AtomicLong();
+
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    private final AtomicLong totalLatencyNanos = new AtomicLong();
+
+    private final AtomicLong maximumLatencyNanos = new AtomicLong();
+
+    private volatile boolean shutdown;
+
+    /**
+     * @param volume the volume of the effects, between 0 and 1, read while they are played
+     */
+    SoundEngine(final int voiceCount, final int queueCapacity, final SoundLine.Factory lineFactory, final DoubleSupplier volume) {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.lineFactory = lineFactory;
+        this.volume = volume;
+        this.voices = new Thread[voiceCount];
+        for (int i = 0; i < voiceCount; i++) {
+            voices[i] = new Thread(new Voice(), "sound-voice-" + i);
+            voices[i].setDaemon(true);
+            voices[i].start();
+        }
+    }
+
+    /**
+     * Plays the sound as soon as a voice is free, or drops it if too many sounds are waiting already.
+     *
+     * @param resource the path of the sound in the resources, or the path of a file
+     * @return false if the sound has been dropped
+     */
+    public boolean play(final String resource) {
+        if (queue.offer(new Request(resource, System.nanoTime()))) {
+            return true;
+        }
+        droppedCount.incrementAndGet();
+        log.debug("Too many sounds waiting, {} is dropped", resource);
+        return false;
+    }
+
+    /**
+     * Discards the sounds waiting for a voice. The sounds already playing are played until their end.
+     */
+    public void clear() {
+        queue.clear();
+    }
+
+    /**
+     * Discards the given sound if it is waiting for a voice, and cuts it if it is playing.
+     */
+    public void stop(final String resource) {
+        queue.removeIf(request -> request.resource.equals(resource));
+        for (final Request request : playingRequests) {
+            if (request.resource.equals(resource)) {
+                request.stopped = true;
+            }
+        }
+        final AudioClip audioClip = audioClips.get(resource);
+        if (audioClip != null) {
+            audioClip.stop();
+        }
+    }
+
+    /**
+     * Stops the voices, waiting for them to release their line.
+     */
+    void shutdown() throws InterruptedException {
+        shutdown = true;
+        queue.clear();
+        for (final Request request : playingRequests) {
+            request.stopped = true;
+        }
+        for (final Thread voice : voices) {
+            voice.interrupt();
+        }
+        for (final Thread voice : voices) {
+            voice.join();
+        }
+    }
+
+    public int getVoiceCount() {
+        return voices.length;
+    }
+
+    /**
+     * @return the number of voices playing a sound
+     */
+    public int getActiveVoices() {
+        return activeVoices.get();
+    }
+
+    /**
+     * @return the number of sounds waiting for a voice
+     */
+    public int getQueuedCount() {
+        return queue.size();
+    }
+
+    /**
+     * @return the number of sounds started by a voice
+     */
+    public long getPlayedCount() {
+        return playedCount.get();
+    }
+
+    /**
+     * @return the number of sounds dropped because the queue was full
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * @return the average time between the request of a sound and the start of its playing, in nanoseconds
+     */
+    public long getAverageLatencyNanos() {
+        final long played = playedCount.get();
+        return played == 0 ? 0 : totalLatencyNanos.get() / played;
+    }
+
+    /**
+     * @return the longest time between the request of a sound and the start of its playing, in nanoseconds
+     */
+    public long getMaximumLatencyNanos() {
+        return maximumLatencyNanos.get();
+    }
+
+    static URL resolve(final String resource) throws MalformedURLException {
+        final URL url = ClassLoader.getSystemResource(resource);
+        if (url != null) {
+            return url;
+        }
+        final File file = new File(resource);
+        if (!file.exists()) {
+            log.warn("file doesn't exist : {}", resource);
+        }
+        return file.toURI().toURL();
+    }
+
+    /**
+     * @return the decoded sound, or null if it cannot be decoded
+     */
+    private PcmSound getSound(final String resource) {
+        try {
+            return sounds.get(resource, () -> PcmSound.decode(resolve(resource)));
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof UnsupportedAudioFileException) {
+                log.debug("Sound {} cannot be decoded, it is played as an audio clip", resource);
+            } else {
+                log.warn("Failed to decode sound {}", resource, e.getCause());
+            }
+            return null;
+        }
+    }
+
+    private void playAudioClip(final Request request) {
+        try {
+            final AudioClip audioClip = audioClips.computeIfAbsent(request.resource, resource -> {
+                try {
+                    return new AudioClip(resolve(resource).toString());
+                } catch (final MalformedURLException e) {
+                    throw new IllegalArgumentException(e);
+                }
+            });
+            recordStart(request);
+            audioClip.play(volume.getAsDouble());
+        } catch (final RuntimeException e) {
+            log.info("Sound {} can't be played", request.resource, e);
+        }
+    }
+
+    private void recordStart(final Request request) {
+        final long latency = System.nanoTime() - request.requestTime;
+        playedCount.incrementAndGet();
+        totalLatencyNanos.addAndGet(latency);
+        maximumLatencyNanos.accumulateAndGet(latency, Math::max);
+    }
+
+    private static final class Request {
+
+        private final String resource;
+
+        private final long requestTime;
+
+        private volatile boolean stopped;
+
+        private Request(final String resource, final long requestTime) {
+            this.resource = resource;
+            this.requestTime = requestTime;
+        }
+
+    }
+
+    /**
+     * Takes the sounds from the queue, and writes them to its line
+     */
+    private final class Voice implements Runnable {
+
+        private final byte[] chunk = new byte[CHUNK_SIZE];
+
+        private SoundLine line;
+
+        private boolean lineUnavailable;
+
+        @Override
+        public void run() {
+            try {
+                while (!shutdown) {
+                    final Request request = queue.take();
+                    activeVoices.incrementAndGet();
+                    playingRequests.add(request);
+                    try {
+                        play(request);
+                    } catch (final RuntimeException e) {
+                        log.warn("Exception while playing sound {}", request.resource, e);
+                    } finally {
+                        playingRequests.remove(request);
+                        activeVoices.decrementAndGet();
+                    }
+                }
+            } catch (final InterruptedException e) {
+                log.debug("Voice {} stopped", Thread.currentThread().getName());
+            } finally {
+                if (line != null) {
+                    line.close();
+                }
+            }
+        }
+
+        private void play(final Request request) {
+            final PcmSound sound = getSound(request.resource);
+            if (sound == null || !openLine()) {
+                playAudioClip(request);
+                return;
+            }
+            final byte[] data = sound.getData();
+            boolean started = false;
+            for (int offset = 0; offset < data.length; offset += CHUNK_SIZE) {
+                if (request.stopped) {
+                    line.flush();
+                    return;
+                }
+                final int length = Math.min(CHUNK_SIZE, data.length - offset);
+                applyVolume(data, offset, length, volume.getAsDouble());
+                line.write(chunk, 0, length);
+                if (!started) {
+                    started = true;
+                    recordStart(request);
+                }
+            }
+        }
+
+        private boolean openLine() {
+            if (line == null && !lineUnavailable) {
+                try {
+                    line = lineFactory.open(PcmSound.FORMAT, LINE_BUFFER_SIZE);
+                } catch (final LineUnavailableException | IllegalArgumentException e) {
+                    log.warn("No sound line available for {}", Thread.currentThread().getName(), e);
+                    lineUnavailable = true;
+                }
+            }
+            return line != null;
+        }
+
+        /**
+         * Copies the samples to the chunk, scaled by the volume
+         */
+        private void applyVolume(final byte[] data, final int offset, final int length, final double volume) {
+            if (volume >= 1) {
+                System.arraycopy(data, offset, chunk, 0, length);
+                return;
+            }
+            final int gain = (int) (Math.max(0, volume) * 65536);
+            for (int i = 0; i < length; i += 2) {
+                final int sample = (short) ((data[offset + i] & 0xFF) | data[offset + i + 1] << 8);
+                final int scaled = (sample * gain) >> 16;
+                chunk[i] = (byte) scaled;
+                chunk[i + 1] = (byte) (scaled >> 8);
+            }
+        }
+
+    }
+
+}
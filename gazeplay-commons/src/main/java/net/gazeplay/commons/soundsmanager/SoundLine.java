@@ -0,0 +1,53 @@
+package net.gazeplay.commons.soundsmanager;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+
+/**
+ * The output of a voice of the {@link SoundEngine}, kept open for the whole life of the engine.
+ */
+interface SoundLine {
+
+    /**
+     * Blocks until the data fits in the buffer of the line
+     */
+    void write(byte[] data, int offset, int length);
+
+    /**
+     * Discards the data not played yet
+     */
+    void flush();
+
+    void close();
+
+    interface Factory {
+
+        SoundLine open(AudioFormat format, int bufferSize) throws LineUnavailableException;
+
+    }
+
+    static SoundLine open(final AudioFormat format, final int bufferSize) throws LineUnavailableException {
+        final SourceDataLine line = AudioSystem.getSourceDataLine(format);
+        line.open(format, bufferSize);
+        line.start();
+        return new SoundLine() {
+            @Override
+            public void write(final byte[] data, final int offset, final int length) {
+                line.write(data, offset, length);
+            }
+
+            @Override
+            public void flush() {
+                line.flush();
+            }
+
+            @Override
+            public void close() {
+                line.close();
+            }
+        };
+    }
+
+}
@@ -1,55 +1,40 @@
 package net.gazeplay.commons.soundsmanager;
 
-import javafx.application.Platform;
 import lombok.Getter;
-import lombok.extern.slf4j.Slf4j;
-import net.gazeplay.commons.utils.games.ForegroundSoundsUtils;
 
-import java.util.LinkedList;
-import java.util.Queue;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-
-@Slf4j
+/**
+ * Plays the sound effects of a game through the {@link SoundEngine} of the process.
+ */
 public class SoundManager {
-    @Getter
-    private ExecutorService executorService;
-
-    @Getter
-    private SoundPlayerRunnable soundPlayerRunnable;
 
     @Getter
-    private Queue<String> listOfMusicToPlay = new LinkedList<>();
+    private final SoundEngine soundEngine;
 
-    public void init() {
-        soundPlayerRunnable = new SoundPlayerRunnable(this);
-        executorService = Executors.newSingleThreadExecutor();
-        executorService.submit(soundPlayerRunnable);
+    public SoundManager() {
+        this(SoundEngine.getInstance());
     }
 
-    public void destroy() {
-        soundPlayerRunnable.setStopRequested(true);
-        if (executorService != null) {
-            executorService.shutdown();
-        }
+    public SoundManager(final SoundEngine soundEngine) {
+        this.soundEngine = soundEngine;
     }
 
-    public void playRequestedSounds() {
-        if (listOfMusicToPlay.size() > 0) {
-            String nextToPlay = listOfMusicToPlay.poll();
-            try {
-                ForegroundSoundsUtils.playSound(nextToPlay);
-            } catch (Exception e) {
-                log.info("Sound {} can't be played", listOfMusicToPlay);
-            }
-        }
+    /**
+     * Discards the sounds not played yet
+     */
+    public void clear() {
+        soundEngine.clear();
     }
 
-    public void clear() {
-            listOfMusicToPlay.clear();
+    public void destroy() {
+        clear();
     }
 
-     public void add(String resource) {
-            listOfMusicToPlay.add(resource);
+    /**
+     * Plays the sound as soon as possible, without waiting for the sounds already playing to end
+     *
+     * @param resource the path of the sound in the resources, or the path of a file
+     */
+    public void add(String resource) {
+        soundEngine.play(resource);
     }
 }
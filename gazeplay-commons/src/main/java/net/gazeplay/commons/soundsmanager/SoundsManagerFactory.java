@@ -30,10 +30,7 @@ public class SoundsManagerFactory {
 
     private SoundManager create() {
 
-        final SoundManager soundManager = new SoundManager();
-
-        soundManager.init();
-        return soundManager;
+        return new SoundManager(SoundEngine.getInstance());
     }
 
 }
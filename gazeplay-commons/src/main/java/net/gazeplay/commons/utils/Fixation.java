@@ -0,0 +1,29 @@
+package net.gazeplay.commons.utils;
+
+import lombok.Data;
+
+/**
+ * A fixation found by a {@link FixationDetector}.
+ */
+@Data
+public class Fixation {
+
+    /**
+     * The index of the first sample of the fixation, in the order the samples were given to the detector
+     */
+    private final int firstSample;
+
+    private final int sampleCount;
+
+    private final long startTime;
+
+    private final long duration;
+
+    /**
+     * The position of the fixation, which is the centroid of its samples
+     */
+    private final double x;
+
+    private final double y;
+
+}
@@ -0,0 +1,341 @@
+package net.gazeplay.commons.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import net.gazeplay.commons.configuration.Configuration;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Classifies the gaze samples into fixations and saccades, while they are recorded.
+ * <p>
+ * Two standard definitions of a fixation are available :
+ * <ul>
+ * <li>{@link Algorithm#VELOCITY} (I-VT) : the consecutive samples between which the gaze moves slower than the
+ * velocity threshold</li>
+ * <li>{@link Algorithm#DISPERSION} (I-DT) : the consecutive samples whose spread, width plus height, stays under the
+ * dispersion threshold</li>
+ * </ul>
+ * The fixations shorter than the minimum duration are discarded. Each fixation is given to the listener as soon as
+ * it ends, and the last one when the detector is flushed.
+ * <p>
+ * Some trackers, such as the mouse, only send a sample when the gaze moves. When no sample comes for longer than the
+ * maximum gap, the gaze is considered to have stayed on the last sample until the next one, and the samples before
+ * the gap are classified on their own.
+ * <p>
+ * Only the samples not classified yet are kept, in primitive arrays. With the velocity algorithm, each sample is
+ * processed in constant time. With the dispersion algorithm, the window is scanned each time its dispersion is
+ * tested, so that a sample costs up to the number of samples within the minimum duration.
+ */
+@Slf4j
+public class FixationDetector {
+
+    public enum Algorithm {
+        VELOCITY, DISPERSION
+    }
+
+    private static final int INITIAL_WINDOW_CAPACITY = 32;
+
+    private final Algorithm algorithm;
+
+    /**
+     * In pixels per millisecond
+     */
+    private final double velocityThreshold;
+
+    private final double dispersionThreshold;
+
+    private final long minimumDuration;
+
+    private final long maximumGap;
+
+    private final Consumer<Fixation> listener;
+
+    /**
+     * The samples which may start a fixation, with the dispersion algorithm
+     */
+    private long[] windowTimes = new long[INITIAL_WINDOW_CAPACITY];
+
+    private double[] windowXs = new double[INITIAL_WINDOW_CAPACITY];
+
+    private double[] windowYs = new double[INITIAL_WINDOW_CAPACITY];
+
+    private int windowStart;
+
+    private int windowEnd;
+
+    private int windowFirstSample;
+
+    /**
+     * The previous sample, with the velocity algorithm
+     */
+    private boolean hasPreviousSample;
+
+    private long previousTime;
+
+    private double previousX;
+
+    private double previousY;
+
+    private int sampleCount;
+
+    private long lastTime;
+
+    private boolean inFixation;
+
+    private int fixationFirstSample;
+
+    private int fixationSampleCount;
+
+    private long fixationStartTime;
+
+    private long fixationEndTime;
+
+    private double sumX;
+
+    private double sumY;
+
+    private double minX;
+
+    private double minY;
+
+    private double maxX;
+
+    private double maxY;
+
+    /**
+     * @param velocityThreshold   the speed under which the gaze is fixating, in pixels per second
+     * @param dispersionThreshold the spread of the samples of a fixation, width plus height, in pixels
+     * @param minimumDuration     the shortest fixation, in milliseconds
+     * @param maximumGap          the longest time between two samples of a fixation, in milliseconds
+     */
+    public FixationDetector(
+        final Algorithm algorithm,
+        final double velocityThreshold,
+        final double dispersionThreshold,
+        final long minimumDuration,
+        final long maximumGap,
+        final Consumer<Fixation> listener
+    ) {
+        this.algorithm = algorithm;
+        this.velocityThreshold = velocityThreshold / 1000;
+        this.dispersionThreshold = dispersionThreshold;
+        this.minimumDuration = minimumDuration;
+        this.maximumGap = maximumGap;
+        this.listener = listener;
+    }
+
+    /**
+     * Creates a detector with the fixation definition of the configuration
+     */
+    public static FixationDetector fromConfiguration(final Configuration config, final Consumer<Fixation> listener) {
+        Algorithm algorithm = Algorithm.DISPERSION;
+        final String algorithmName = config.getFixationDetectionAlgorithm();
+        if (algorithmName != null) {
+            try {
+                algorithm = Algorithm.valueOf(algorithmName);
+            } catch (final IllegalArgumentException e) {
+                log.warn("Unknown fixation detection algorithm {}, using {}", algorithmName, algorithm);
+            }
+        }
+        return new FixationDetector(algorithm, config.getFixationVelocityThreshold(),
+            config.getFixationDispersionThreshold(), config.getFixationMinimumDuration(), config.getFixationMaximumGap(),
+            listener);
+    }
+
+    /**
+     * Adds the next sample of the gaze
+     *
+     * @param time the time of the sample, in milliseconds, never before the time of the previous sample
+     */
+    public void add(final long time, final double x, final double y) {
+        if (sampleCount > 0 && time - lastTime > maximumGap) {
+            holdLastSample(time);
+            flush();
+        }
+        lastTime = time;
+        final int sample = sampleCount++;
+        if (algorithm == Algorithm.VELOCITY) {
+            addVelocitySample(sample, time, x, y);
+        } else {
+            addDispersionSample(sample, time, x, y);
+        }
+    }
+
+    /**
+     * Adds the samples of the buffers, from {@code from} included to {@code to} excluded
+     */
+    public void add(final long[] times, final double[] xs, final double[] ys, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            add(times[i], xs[i], ys[i]);
+        }
+    }
+
+    /**
+     * Ends the fixation in progress, as no sample follows. The samples added next are classified from scratch.
+     */
+    public void flush() {
+        endFixation();
+        windowStart = 0;
+        windowEnd = 0;
+        hasPreviousSample = false;
+    }
+
+    /**
+     * @return the number of samples added
+     */
+    public int getSampleCount() {
+        return sampleCount;
+    }
+
+    private void addVelocitySample(final int sample, final long time, final double x, final double y) {
+        if (hasPreviousSample) {
+            final long elapsedTime = time - previousTime;
+            final double distance = Math.hypot(x - previousX, y - previousY);
+            final boolean saccade = elapsedTime > 0 ? distance > velocityThreshold * elapsedTime : distance > 0;
+            if (saccade) {
+                endFixation();
+            } else {
+                if (!inFixation) {
+                    startFixation(sample - 1, previousTime, previousX, previousY);
+                }
+                extendFixation(time, x, y);
+            }
+        }
+        hasPreviousSample = true;
+        previousTime = time;
+        previousX = x;
+        previousY = y;
+    }
+
+    private void addDispersionSample(final int sample, final long time, final double x, final double y) {
+        if (inFixation) {
+            final double dispersion = Math.max(maxX, x) - Math.min(minX, x) + Math.max(maxY, y) - Math.min(minY, y);
+            if (dispersion <= dispersionThreshold) {
+                extendFixation(time, x, y);
+                return;
+            }
+            endFixation();
+        }
+
+        if (windowStart == windowEnd) {
+            windowStart = 0;
+            windowEnd = 0;
+            windowFirstSample = sample;
+        }
+        appendToWindow(time, x, y);
+        startWindowFixation(time);
+    }
+
+    /**
+     * Starts a fixation with the samples of the window, from the oldest ones which are not dispersed
+     *
+     * @param endTime the time until which the last sample of the window lasts
+     */
+    private void startWindowFixation(final long endTime) {
+        // the window must last the minimum duration before its dispersion is tested
+        while (windowStart < windowEnd && endTime - windowTimes[windowStart] >= minimumDuration) {
+            if (windowDispersion() <= dispersionThreshold) {
+                startFixation(windowFirstSample, windowTimes[windowStart], windowXs[windowStart], windowYs[windowStart]);
+                for (int i = windowStart + 1; i < windowEnd; i++) {
+                    extendFixation(windowTimes[i], windowXs[i], windowYs[i]);
+                }
+                fixationEndTime = endTime;
+                windowStart = windowEnd;
+                return;
+            }
+            windowStart++;
+            windowFirstSample++;
+        }
+    }
+
+    /**
+     * Considers that the gaze stayed on the last sample until the given time, as no sample came in between
+     */
+    private void holdLastSample(final long time) {
+        if (inFixation) {
+            fixationEndTime = time;
+        } else if (algorithm == Algorithm.VELOCITY) {
+            if (hasPreviousSample) {
+                startFixation(sampleCount - 1, previousTime, previousX, previousY);
+                fixationEndTime = time;
+            }
+        } else {
+            // holding the last sample adds nothing to the dispersion of the window
+            startWindowFixation(time);
+        }
+    }
+
+    private void appendToWindow(final long time, final double x, final double y) {
+        if (windowEnd == windowTimes.length) {
+            final int size = windowEnd - windowStart;
+            if (windowStart > 0) {
+                System.arraycopy(windowTimes, windowStart, windowTimes, 0, size);
+                System.arraycopy(windowXs, windowStart, windowXs, 0, size);
+                System.arraycopy(windowYs, windowStart, windowYs, 0, size);
+            } else {
+                windowTimes = Arrays.copyOf(windowTimes, size * 2);
+                windowXs = Arrays.copyOf(windowXs, size * 2);
+                windowYs = Arrays.copyOf(windowYs, size * 2);
+            }
+            windowStart = 0;
+            windowEnd = size;
+        }
+        windowTimes[windowEnd] = time;
+        windowXs[windowEnd] = x;
+        windowYs[windowEnd] = y;
+        windowEnd++;
+    }
+
+    private double windowDispersion() {
+        double windowMinX = windowXs[windowStart];
+        double windowMaxX = windowMinX;
+        double windowMinY = windowYs[windowStart];
+        double windowMaxY = windowMinY;
+        for (int i = windowStart + 1; i < windowEnd; i++) {
+            windowMinX = Math.min(windowMinX, windowXs[i]);
+            windowMaxX = Math.max(windowMaxX, windowXs[i]);
+            windowMinY = Math.min(windowMinY, windowYs[i]);
+            windowMaxY = Math.max(windowMaxY, windowYs[i]);
+        }
+        return windowMaxX - windowMinX + windowMaxY - windowMinY;
+    }
+
+    private void startFixation(final int sample, final long time, final double x, final double y) {
+        inFixation = true;
+        fixationFirstSample = sample;
+        fixationSampleCount = 1;
+        fixationStartTime = time;
+        fixationEndTime = time;
+        sumX = x;
+        sumY = y;
+        minX = x;
+        maxX = x;
+        minY = y;
+        maxY = y;
+    }
+
+    private void extendFixation(final long time, final double x, final double y) {
+        fixationSampleCount++;
+        fixationEndTime = time;
+        sumX += x;
+        sumY += y;
+        minX = Math.min(minX, x);
+        maxX = Math.max(maxX, x);
+        minY = Math.min(minY, y);
+        maxY = Math.max(maxY, y);
+    }
+
+    private void endFixation() {
+        if (!inFixation) {
+            return;
+        }
+        inFixation = false;
+        final long duration = fixationEndTime - fixationStartTime;
+        if (duration >= minimumDuration) {
+            listener.accept(new Fixation(fixationFirstSample, fixationSampleCount, fixationStartTime, duration,
+                sumX / fixationSampleCount, sumY / fixationSampleCount));
+        }
+    }
+
+}
@@ -18,6 +18,7 @@ import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedList;
 
 @Slf4j
@@ -72,13 +73,12 @@ public class FixationSequence {
         gc.setStroke(color);
         gc.setLineWidth(4);
 
-        for (int i = 0; i < sequence.size() - 1; i++) {
-            gc.strokeLine(
-                sequence.get(i).getY(),
-                sequence.get(i).getX(),
-                sequence.get(i + 1).getY(),
-                sequence.get(i + 1).getX()
-            );
+        FixationPoint previous = null;
+        for (final FixationPoint point : sequence) {
+            if (previous != null) {
+                gc.strokeLine(previous.getY(), previous.getX(), point.getY(), point.getX());
+            }
+            previous = point;
         }
 
         return gc;
@@ -152,21 +152,24 @@ public class FixationSequence {
 
     public static LinkedList<FixationPoint> vertexReduction(final LinkedList<FixationPoint> allPoints, final double tolerance) {
         double distance;
-        FixationPoint pivotVertex = allPoints.get(0);
+        final Iterator<FixationPoint> iterator = allPoints.iterator();
+        FixationPoint pivotVertex = iterator.next();
 
         final LinkedList<FixationPoint> reducedPolyline = new LinkedList<>();
         reducedPolyline.add(pivotVertex);
 
+        // the last point is left out
         for (int i = 1; i < allPoints.size() - 1; i++) {
-            distance = Math.sqrt(Math.pow(pivotVertex.getY() - allPoints.get(i).getY(), 2)
-                + Math.pow(pivotVertex.getX() - allPoints.get(i).getX(), 2));
+            final FixationPoint point = iterator.next();
+            distance = Math.sqrt(Math.pow(pivotVertex.getY() - point.getY(), 2)
+                + Math.pow(pivotVertex.getX() - point.getX(), 2));
 
             if (distance <= tolerance) {
                 // add to the accepted vertex the duration of the reduced vertices -- to adapt the radius
-                pivotVertex.setGazeDuration(pivotVertex.getGazeDuration() + allPoints.get(i).getGazeDuration());
+                pivotVertex.setGazeDuration(pivotVertex.getGazeDuration() + point.getGazeDuration());
             } else {
-                reducedPolyline.add(allPoints.get(i));
-                pivotVertex = allPoints.get(i);
+                reducedPolyline.add(point);
+                pivotVertex = point;
             }
         }
         return reducedPolyline;
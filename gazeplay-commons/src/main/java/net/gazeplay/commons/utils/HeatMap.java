@@ -5,6 +5,7 @@ import javafx.geometry.VPos;
 import javafx.scene.SnapshotParameters;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.PixelFormat;
 import javafx.scene.image.PixelWriter;
 import javafx.scene.image.WritableImage;
 import javafx.scene.paint.Color;
@@ -15,6 +16,7 @@ import javafx.scene.text.Font;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.awt.image.BufferedImage;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.List;
@@ -30,6 +32,15 @@ public class HeatMap {
      */
     @Getter
     private final WritableImage image;
+    private final int width;
+
+    private final int height;
+
+    /**
+     * Colors of the pixels, row by row
+     */
+    private final int[] argb;
+
     /**
      * Array of the different colors used to interpolate
      */
@@ -61,7 +72,9 @@ public class HeatMap {
      */
     public HeatMap(final double[][] data, final double opacity, final List<Color> colors) {
 
-        this.image = new WritableImage(data[0].length, data.length);
+        this.width = data[0].length;
+        this.height = data.length;
+        this.image = new WritableImage(width, height);
         this.colors = colors;
         this.opacity = opacity;
 
@@ -80,13 +93,31 @@ public class HeatMap {
         }
         subdivisionValue = (maxValue - minValue) / (this.colors.size() - 1);
 
-        // Create heatmap pixel per pixel
-        final PixelWriter pxWriter = image.getPixelWriter();
+        // Compute the colors once, then write them all at once
+        argb = new int[width * height];
         for (int x = 0; x < data.length; x++) {
             for (int y = 0; y < data[x].length; y++) {
-                pxWriter.setColor(y, x, getColor(data[x][y]));
+                argb[x * width + y] = toArgb(getColor(data[x][y]));
             }
         }
+        final PixelWriter pxWriter = image.getPixelWriter();
+        pxWriter.setPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), argb, 0, width);
+    }
+
+    /**
+     * @return a copy of the heatmap image which can be drawn and encoded outside of the JavaFX thread
+     */
+    public BufferedImage toBufferedImage() {
+        final BufferedImage bufferedImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        bufferedImage.setRGB(0, 0, width, height, argb, 0, width);
+        return bufferedImage;
+    }
+
+    private static int toArgb(final Color color) {
+        return (int) Math.round(color.getOpacity() * 255) << 24
+            | (int) Math.round(color.getRed() * 255) << 16
+            | (int) Math.round(color.getGreen() * 255) << 8
+            | (int) Math.round(color.getBlue() * 255);
     }
 
     /**
@@ -21,11 +21,33 @@ public abstract class AbstractImageLibrary implements ImageLibrary {
     @Setter
     private ReplayablePseudoRandom randomGenerator;
 
+    private double requestedWidth;
+    private double requestedHeight;
+
+    /**
+     * The images are decoded in a background thread, so their size is not known when they are picked
+     */
+    @Setter
+    private boolean backgroundLoading;
+
+    /**
+     * Decodes the images at the size they are displayed at instead of their own resolution, the ratio of the images is
+     * kept. A value of 0 keeps the dimension of the images.
+     */
+    public void setRequestedSize(final double requestedWidth, final double requestedHeight) {
+        this.requestedWidth = requestedWidth;
+        this.requestedHeight = requestedHeight;
+    }
+
     @Override
     public abstract int getImagesCount();
 
     protected abstract Image loadImageAtIndex(int index);
 
+    protected Image loadImage(final String url) {
+        return ImageCache.getSharedInstance().get(url, requestedWidth, requestedHeight, backgroundLoading);
+    }
+
     @Override
     public Image pickRandomImage() {
         return pickMultipleRandomDistinctImages(1).iterator().next();
@@ -42,6 +42,13 @@ public class GazePlayDirectories {
         return new File(getGazePlayFolder(), "temp");
     }
 
+    /**
+     * @return thumbnails cache directory for GazePlay : in the temp directory of GazePlay, a folder called thumbnails
+     */
+    public static File getThumbnailsCacheFolder() {
+        return new File(getTempFolder(), "thumbnails");
+    }
+
     /**
      * @return statistics directory for GazePlay : in the default directory of GazePlay, in a folder called statistics
      */
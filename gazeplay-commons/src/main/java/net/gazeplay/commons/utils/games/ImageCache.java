@@ -0,0 +1,128 @@
+package net.gazeplay.commons.utils.games;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import javafx.scene.image.Image;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.extern.slf4j.Slf4j;
+import net.gazeplay.commons.configuration.ActiveConfigurationContext;
+
+import java.util.Map;
+
+/**
+ * Cache of the decoded images, shared by all the image libraries of the process.
+ * <p>
+ * The images are weighted by the size of their decoded pixels, so the cache holds a few large pictures or many small
+ * ones within the same memory budget. The images are decoded at the size they are displayed at when it is known,
+ * which divides the memory used by a photo by the ratio between its resolution and the one of the screen.
+ */
+@Slf4j
+public class ImageCache {
+
+    private static final int BYTES_PER_PIXEL = 4;
+
+    /**
+     * Weight of an image still loading in the background when no size has been requested, that of a full HD picture
+     */
+    private static final int DEFAULT_IMAGE_WEIGHT = 1920 * 1080 * BYTES_PER_PIXEL;
+
+    private static ImageCache sharedInstance;
+
+    /**
+     * @return the cache of the process, whose budget is read from the configuration when it is first used
+     */
+    public static synchronized ImageCache getSharedInstance() {
+        if (sharedInstance == null) {
+            final long maximumBytes = ActiveConfigurationContext.getInstance().getImageCacheSize() * 1024L * 1024L;
+            log.info("Image cache budget : {} bytes", maximumBytes);
+            sharedInstance = new ImageCache(maximumBytes);
+        }
+        return sharedInstance;
+    }
+
+    private final Cache<Key, Image> cache;
+
+    public ImageCache(final long maximumBytes) {
+        this.cache = CacheBuilder.newBuilder()
+            .maximumWeight(maximumBytes)
+            .weigher(ImageCache::weigh)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * @param url               the url of the image, or its path in the resources
+     * @param requestedWidth    the width to decode the image at, 0 for its own width
+     * @param requestedHeight   the height to decode the image at, 0 for its own height. The ratio of the image is kept
+     *                          when both are given.
+     * @param backgroundLoading the image is decoded in a background thread, so its size is not known when it is
+     *                          returned. This suits images which are only painted.
+     */
+    public Image get(final String url, final double requestedWidth, final double requestedHeight, final boolean backgroundLoading) {
+        final Key key = new Key(url, (int) Math.ceil(requestedWidth), (int) Math.ceil(requestedHeight), backgroundLoading);
+        Image image = cache.getIfPresent(key);
+        if (image == null) {
+            image = new Image(url, key.width, key.height, true, true, backgroundLoading);
+            if (image.isError()) {
+                log.warn("Failed to load image {}", url, image.getException());
+                return image;
+            }
+            cache.put(key, image);
+        }
+        return image;
+    }
+
+    /**
+     * @return the hit, miss and eviction counters of the cache
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    /**
+     * @return the number of bytes used by the images of the cache
+     */
+    public long getWeight() {
+        long weight = 0;
+        for (final Map.Entry<Key, Image> entry : cache.asMap().entrySet()) {
+            weight += weigh(entry.getKey(), entry.getValue());
+        }
+        return weight;
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    static int weigh(final Key key, final Image image) {
+        final long pixels;
+        if (image.getWidth() > 0 && image.getHeight() > 0) {
+            pixels = (long) image.getWidth() * (long) image.getHeight();
+        } else if (key.width > 0 && key.height > 0) {
+            pixels = (long) key.width * key.height;
+        } else if (key.width > 0 || key.height > 0) {
+            final long side = Math.max(key.width, key.height);
+            pixels = side * side;
+        } else {
+            return DEFAULT_IMAGE_WEIGHT;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, pixels * BYTES_PER_PIXEL);
+    }
+
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    static final class Key {
+
+        private final String url;
+
+        private final int width;
+
+        private final int height;
+
+        private final boolean backgroundLoading;
+
+    }
+
+}
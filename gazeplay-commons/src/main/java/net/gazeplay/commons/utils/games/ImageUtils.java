@@ -35,6 +35,26 @@ public class ImageUtils {
             createDefaultImageLibrary(new LazyImageLibrary(defaultDirectoryFile, randomGenerator), randomGenerator), randomGenerator);
     }
 
+    /**
+     * Creates a new LazyImageLibrary for the given directory, and a fallback library containing the default images from
+     * resources. The images are decoded in the background at the given size, which suits images that are only painted,
+     * for example with an ImagePattern.
+     * @param directoryFile The directory in which to search for images.
+     * @param requestedWidth The width the images are displayed at.
+     * @param requestedHeight The height the images are displayed at.
+     * @return LazyImageLibrary with a Default fallback.
+     */
+    public static ImageLibrary createScaledImageLibrary(final File directoryFile, final double requestedWidth, final double requestedHeight, ReplayablePseudoRandom randomGenerator) {
+        final ResourceImageLibrary defaultImageLibrary = new ResourceImageLibrary("data/common/default/images/", null, randomGenerator);
+        defaultImageLibrary.setRequestedSize(requestedWidth, requestedHeight);
+        defaultImageLibrary.setBackgroundLoading(true);
+
+        final LazyImageLibrary imageLibrary = new LazyImageLibrary(directoryFile, defaultImageLibrary, randomGenerator);
+        imageLibrary.setRequestedSize(requestedWidth, requestedHeight);
+        imageLibrary.setBackgroundLoading(true);
+        return imageLibrary;
+    }
+
     /**
      * Creates an Image Library that reads from the data/common/default/images directory
      * in the resources folder of the module from which it has been invoked.
@@ -17,11 +17,45 @@ import java.util.regex.Pattern;
 @Slf4j
 public class ResourceFileManager {
 
+    private static final Pattern supportedFilesPattern = Pattern.compile(createExtensionRegex(ImageUtils.supportedFilesExtensions));
+
+    /**
+     * Index generated by the build, null if the classpath has not been indexed (e.g. when running from an IDE which
+     * does not run the Gradle resource processing), in which case the classpath is scanned on every call.
+     */
+    private static final ResourceIndex resourceIndex = ResourceIndex.load(ResourceFileManager.class.getClassLoader());
+
     public static Set<String> getResourcePaths(String path) {
+        if (resourceIndex == null) {
+            return scanResourcePaths(path);
+        }
+        return getResourcePaths(resourceIndex, path);
+    }
+
+    static Set<String> getResourcePaths(ResourceIndex index, String path) {
+        String directory = path.replace('\\', '/');
+        while (directory.startsWith("/")) {
+            directory = directory.substring(1);
+        }
+        if (!directory.isEmpty() && !directory.endsWith("/")) {
+            directory = directory + "/";
+        }
+
+        Set<String> result = new HashSet<>();
+        for (String resource : index.withPrefix(directory)) {
+            String filename = resource.substring(resource.lastIndexOf('/') + 1);
+            if (supportedFilesPattern.matcher(filename).matches()) {
+                result.add(resource);
+            }
+        }
+        return result;
+    }
+
+    static Set<String> scanResourcePaths(String path) {
         String packageName = path.replaceAll("[/\\\\]", ".");
         Reflections reflections = new Reflections(packageName, new ResourcesScanner());
 
-        return reflections.getResources(Pattern.compile(createExtensionRegex(ImageUtils.supportedFilesExtensions)));
+        return reflections.getResources(supportedFilesPattern);
     }
 
     public static Set<String> getResourceFolders(String path) {
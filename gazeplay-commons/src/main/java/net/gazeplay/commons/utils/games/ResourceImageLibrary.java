@@ -1,19 +1,13 @@
 package net.gazeplay.commons.utils.games;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import javafx.scene.image.Image;
 import net.gazeplay.commons.random.ReplayablePseudoRandom;
-import net.gazeplay.commons.utils.RuntimeExecutionException;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ExecutionException;
 
 public class ResourceImageLibrary extends AbstractImageLibrary {
 
-    private final Cache<Integer, Image> imageCache = CacheBuilder.newBuilder().maximumSize(10).weakValues().build();
-
     private final List<String> allFiles;
 
     public ResourceImageLibrary(String resourceDirectory, ReplayablePseudoRandom randomGenerator) {
@@ -33,13 +27,6 @@ public class ResourceImageLibrary extends AbstractImageLibrary {
 
     @Override
     protected Image loadImageAtIndex(int index) {
-        try {
-            return imageCache.get(index, () -> {
-                String resource = allFiles.get(index);
-                return ImageUtils.loadImage(resource);
-            });
-        } catch (ExecutionException e) {
-            throw new RuntimeExecutionException(e);
-        }
+        return loadImage(allFiles.get(index));
     }
 }
@@ -0,0 +1,96 @@
+package net.gazeplay.commons.utils.games;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Sorted list of the resource paths of the classpath, read from the indexes generated by the build of every module
+ * (see gradle/resource-index.gradle). The paths under a directory are contiguous in the list, so they are found with a
+ * binary search instead of a scan of the classpath.
+ */
+@Slf4j
+final class ResourceIndex {
+
+    static final String INDEX_LOCATION = "META-INF/gazeplay/resources.idx";
+
+    private final String[] paths;
+
+    private ResourceIndex(final String[] paths) {
+        this.paths = paths;
+    }
+
+    static ResourceIndex of(final Collection<String> paths) {
+        return new ResourceIndex(new TreeSet<>(paths).toArray(new String[0]));
+    }
+
+    /**
+     * Merges the indexes of all the modules found by the class loader.
+     *
+     * @return the index, or null if no module of the classpath has been indexed
+     */
+    static ResourceIndex load(final ClassLoader classLoader) {
+        final TreeSet<String> paths = new TreeSet<>();
+        boolean found = false;
+        try {
+            final Enumeration<URL> indexes = classLoader.getResources(INDEX_LOCATION);
+            while (indexes.hasMoreElements()) {
+                final URL index = indexes.nextElement();
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(index.openStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        if (!line.isEmpty()) {
+                            paths.add(line);
+                        }
+                    }
+                }
+                found = true;
+            }
+        } catch (IOException e) {
+            log.warn("Failed to read the resource indexes", e);
+            return null;
+        }
+        if (!found) {
+            return null;
+        }
+        log.debug("Loaded {} indexed resources", paths.size());
+        return new ResourceIndex(paths.toArray(new String[0]));
+    }
+
+    int size() {
+        return paths.length;
+    }
+
+    boolean contains(final String path) {
+        return Arrays.binarySearch(paths, path) >= 0;
+    }
+
+    /**
+     * @return the paths starting with the given prefix, in sorted order
+     */
+    List<String> withPrefix(final String prefix) {
+        int from = Arrays.binarySearch(paths, prefix);
+        if (from < 0) {
+            from = -from - 1;
+        }
+        int to = from;
+        while (to < paths.length && paths[to].startsWith(prefix)) {
+            to++;
+        }
+        if (from == to) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(Arrays.asList(paths).subList(from, to));
+    }
+
+}
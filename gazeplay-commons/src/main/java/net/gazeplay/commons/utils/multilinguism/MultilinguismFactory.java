@@ -2,8 +2,8 @@ package net.gazeplay.commons.utils.multilinguism;
 
 import lombok.Getter;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class MultilinguismFactory {
 
@@ -12,14 +12,9 @@ public class MultilinguismFactory {
     @Getter
     private static final Multilinguism singleton = new Multilinguism(new I18N(mainFilePath));
 
-    private static final Map<String, Multilinguism> byResourceLocation = new HashMap<>();
+    private static final Map<String, Multilinguism> byResourceLocation = new ConcurrentHashMap<>();
 
     public static Multilinguism getForResource(final String resourceLocation) {
-        Multilinguism result = byResourceLocation.get(resourceLocation);
-        if (result == null) {
-            result = new Multilinguism(new I18N(resourceLocation));
-            byResourceLocation.put(resourceLocation, result);
-        }
-        return result;
+        return byResourceLocation.computeIfAbsent(resourceLocation, location -> new Multilinguism(new I18N(location)));
     }
 }
@@ -0,0 +1,90 @@
+package net.gazeplay.commons.utils.multilinguism;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Translations of a multilinguism file, which cannot be modified once loaded and can be read from any thread.
+ * <p>
+ * Each key is given an index, and the translations of a language are stored in an array at the index of their key, so
+ * looking up a translation allocates nothing.
+ */
+final class TranslationTable {
+
+    private final Map<String, Integer> keyIndexes;
+
+    private final Map<String, String[]> translationsByLanguage;
+
+    private TranslationTable(final Map<String, Integer> keyIndexes, final Map<String, String[]> translationsByLanguage) {
+        this.keyIndexes = keyIndexes;
+        this.translationsByLanguage = translationsByLanguage;
+    }
+
+    /**
+     * Reads a file whose first line holds the languages, from the second column, and whose other lines hold a key
+     * followed by its translation in each of these languages.
+     */
+    static TranslationTable parse(final BufferedReader reader) throws IOException {
+        final String header = reader.readLine();
+        if (header == null) {
+            return new TranslationTable(Collections.emptyMap(), Collections.emptyMap());
+        }
+        final String[] languages = header.split(",");
+
+        final Map<String, Integer> keyIndexes = new HashMap<>(1000);
+        final List<String[]> lines = new ArrayList<>(1000);
+        String line;
+        while ((line = reader.readLine()) != null) {
+            final String[] data = line.split(",");
+            data[0] = data[0].strip();
+            keyIndexes.putIfAbsent(data[0], keyIndexes.size());
+            lines.add(data);
+        }
+
+        final Map<String, String[]> translationsByLanguage = new HashMap<>();
+        final String[][] columns = new String[languages.length][];
+        for (int i = 1; i < languages.length; i++) {
+            columns[i] = translationsByLanguage.computeIfAbsent(languages[i].strip(), language -> new String[keyIndexes.size()]);
+        }
+        for (final String[] data : lines) {
+            final int keyIndex = keyIndexes.get(data[0]);
+            for (int i = 1; i < Math.min(data.length, languages.length); i++) {
+                columns[i][keyIndex] = data[i].strip();
+            }
+        }
+        return new TranslationTable(keyIndexes, translationsByLanguage);
+    }
+
+    /**
+     * @return the translation, or null if the key or the language is unknown
+     */
+    String get(final String key, final String language) {
+        final String[] translations = translationsByLanguage.get(language);
+        if (translations == null) {
+            return null;
+        }
+        final Integer keyIndex = keyIndexes.get(key);
+        return keyIndex == null ? null : translations[keyIndex];
+    }
+
+    /**
+     * @return the number of translations, over all the languages
+     */
+    int size() {
+        int size = 0;
+        for (final String[] translations : translationsByLanguage.values()) {
+            for (final String translation : translations) {
+                if (translation != null) {
+                    size++;
+                }
+            }
+        }
+        return size;
+    }
+
+}
@@ -0,0 +1,263 @@
+package net.gazeplay.commons.utils.stats;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Geometry of the areas of interest, computed on plain arrays so that it can run on any thread.
+ * <p>
+ * Points and polygons are given as {@code double} arrays of interleaved coordinates : {@code x0, y0, x1, y1, ...}.
+ * The JavaFX shapes of the areas are only created to display them.
+ */
+public final class AoiGeometry {
+
+    /**
+     * The indices of the bounds returned by {@link #bounds(double[])}
+     */
+    public static final int MIN_X = 0;
+
+    public static final int MIN_Y = 1;
+
+    public static final int MAX_X = 2;
+
+    public static final int MAX_Y = 3;
+
+    private AoiGeometry() {
+    }
+
+    /**
+     * Calculates a rectangle enclosing all the points, with a padding around them.
+     *
+     * @return the four corners of the rectangle, starting from the left corner of the highest {@code y}, clockwise on
+     * the screen
+     */
+    public static double[] boundingRectangle(final double[] points, final double padding) {
+        final double[] bounds = bounds(points);
+        final double left = bounds[MIN_X] - padding;
+        final double right = bounds[MAX_X] + padding;
+        final double top = bounds[MAX_Y] + padding;
+        final double bottom = bounds[MIN_Y] - padding;
+        return new double[]{left, top, right, top, right, bottom, left, bottom};
+    }
+
+    /**
+     * Calculates the convex hull of the points with Andrew's monotone chain, in {@code O(n log n)}. The collinear
+     * points of the edges are left out.
+     *
+     * @return the points of the hull, starting from the left-most point, counterclockwise with the {@code y} axis up
+     */
+    public static double[] convexHull(final double[] points) {
+        final int count = points.length / 2;
+        if (count < 3) {
+            return Arrays.copyOf(points, count * 2);
+        }
+        final Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.<Integer>comparingDouble(i -> points[2 * i]).thenComparingDouble(i -> points[2 * i + 1]));
+
+        // the lower chain, then the upper chain, each closed by the first point of the other one
+        final int[] hull = new int[2 * count];
+        int size = 0;
+        for (int k = 0; k < count; k++) {
+            size = pushHullPoint(points, hull, size, 2, order[k]);
+        }
+        final int lowerSize = size + 1;
+        for (int k = count - 2; k >= 0; k--) {
+            size = pushHullPoint(points, hull, size, lowerSize, order[k]);
+        }
+        // the last point is the first one again
+        size--;
+
+        final double[] result = new double[size * 2];
+        for (int k = 0; k < size; k++) {
+            result[2 * k] = points[2 * hull[k]];
+            result[2 * k + 1] = points[2 * hull[k] + 1];
+        }
+        return result;
+    }
+
+    private static int pushHullPoint(final double[] points, final int[] hull, int size, final int minimumSize, final int point) {
+        while (size >= minimumSize && cross(points, hull[size - 2], hull[size - 1], point) <= 0) {
+            size--;
+        }
+        hull[size] = point;
+        return size + 1;
+    }
+
+    private static double cross(final double[] points, final int o, final int a, final int b) {
+        return (points[2 * a] - points[2 * o]) * (points[2 * b + 1] - points[2 * o + 1])
+            - (points[2 * a + 1] - points[2 * o + 1]) * (points[2 * b] - points[2 * o]);
+    }
+
+    /**
+     * @return the bounds of the points, indexed by {@link #MIN_X}, {@link #MIN_Y}, {@link #MAX_X} and {@link #MAX_Y}
+     */
+    public static double[] bounds(final double[] points) {
+        final double[] bounds = {
+            Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY
+        };
+        for (int i = 0; i < points.length; i += 2) {
+            bounds[MIN_X] = Math.min(bounds[MIN_X], points[i]);
+            bounds[MIN_Y] = Math.min(bounds[MIN_Y], points[i + 1]);
+            bounds[MAX_X] = Math.max(bounds[MAX_X], points[i]);
+            bounds[MAX_Y] = Math.max(bounds[MAX_Y], points[i + 1]);
+        }
+        return bounds;
+    }
+
+    /**
+     * @return the area of the polygon, whatever its orientation
+     */
+    public static double area(final double[] polygon) {
+        return Math.abs(signedArea(polygon));
+    }
+
+    private static double signedArea(final double[] polygon) {
+        double sum = 0;
+        final int length = polygon.length;
+        for (int i = 0; i < length; i += 2) {
+            final int next = (i + 2) % length;
+            sum += polygon[i] * polygon[next + 1] - polygon[next] * polygon[i + 1];
+        }
+        return sum / 2;
+    }
+
+    /**
+     * Clips the polygon with a convex polygon, with the Sutherland-Hodgman algorithm.
+     *
+     * @param polygon any simple polygon
+     * @param convex  a convex polygon, of any orientation
+     * @return the intersection of the polygons, empty if they do not overlap
+     */
+    public static double[] intersection(final double[] polygon, final double[] convex) {
+        final double orientation = Math.signum(signedArea(convex));
+        if (orientation == 0 || polygon.length < 6) {
+            return new double[0];
+        }
+        double[] input = polygon;
+        for (int edge = 0; edge < convex.length && input.length > 0; edge += 2) {
+            final double ax = convex[edge];
+            final double ay = convex[edge + 1];
+            final double bx = convex[(edge + 2) % convex.length];
+            final double by = convex[(edge + 3) % convex.length];
+
+            // each point of the input gives at most two points of the output
+            final double[] output = new double[input.length * 2];
+            int size = 0;
+            double px = input[input.length - 2];
+            double py = input[input.length - 1];
+            double pSide = orientation * ((bx - ax) * (py - ay) - (by - ay) * (px - ax));
+            for (int i = 0; i < input.length; i += 2) {
+                final double qx = input[i];
+                final double qy = input[i + 1];
+                final double qSide = orientation * ((bx - ax) * (qy - ay) - (by - ay) * (qx - ax));
+                if ((qSide >= 0) != (pSide >= 0)) {
+                    final double t = pSide / (pSide - qSide);
+                    output[size++] = px + t * (qx - px);
+                    output[size++] = py + t * (qy - py);
+                }
+                if (qSide >= 0) {
+                    output[size++] = qx;
+                    output[size++] = qy;
+                }
+                px = qx;
+                py = qy;
+                pSide = qSide;
+            }
+            input = Arrays.copyOf(output, size);
+        }
+        return input.length < 6 ? new double[0] : input;
+    }
+
+    /**
+     * @param convex a convex polygon, of any orientation
+     * @return the area of the intersection of the polygons
+     */
+    public static double intersectionArea(final double[] polygon, final double[] convex) {
+        return area(intersection(polygon, convex));
+    }
+
+    /**
+     * Groups the convex polygons which overlap each other, directly or through other polygons. Two polygons overlap
+     * when their intersection covers more than the given part of the smaller one.
+     * <p>
+     * The candidate pairs are found by sweeping the bounds of the polygons along the {@code x} axis, and only the
+     * pairs whose bounds overlap are intersected.
+     *
+     * @param polygons         convex polygons
+     * @param overlapThreshold the part of the smaller polygon which must be covered, between 0 and 1
+     * @return for each polygon, the smallest index of its group, or -1 if it overlaps no other polygon
+     */
+    public static int[] connectedComponents(final List<double[]> polygons, final double overlapThreshold) {
+        final int count = polygons.size();
+        final double[][] bounds = new double[count][];
+        final double[] areas = new double[count];
+        final Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            bounds[i] = bounds(polygons.get(i));
+            areas[i] = area(polygons.get(i));
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingDouble(i -> bounds[i][MIN_X]));
+
+        final int[] parents = new int[count];
+        for (int i = 0; i < count; i++) {
+            parents[i] = i;
+        }
+        final List<Integer> active = new ArrayList<>();
+        for (final int current : order) {
+            final double[] currentBounds = bounds[current];
+            active.removeIf(other -> bounds[other][MAX_X] < currentBounds[MIN_X]);
+            for (final int other : active) {
+                if (bounds[other][MAX_Y] < currentBounds[MIN_Y] || currentBounds[MAX_Y] < bounds[other][MIN_Y]) {
+                    continue;
+                }
+                if (find(parents, current) == find(parents, other)) {
+                    continue;
+                }
+                final double overlap = intersectionArea(polygons.get(current), polygons.get(other));
+                if (overlap > overlapThreshold * Math.min(areas[current], areas[other])) {
+                    union(parents, current, other);
+                }
+            }
+            active.add(current);
+        }
+
+        final int[] groupSizes = new int[count];
+        for (int i = 0; i < count; i++) {
+            groupSizes[find(parents, i)]++;
+        }
+        final int[] groups = new int[count];
+        for (int i = 0; i < count; i++) {
+            final int root = find(parents, i);
+            groups[i] = groupSizes[root] > 1 ? root : -1;
+        }
+        return groups;
+    }
+
+    private static int find(final int[] parents, int i) {
+        while (parents[i] != i) {
+            parents[i] = parents[parents[i]];
+            i = parents[i];
+        }
+        return i;
+    }
+
+    /**
+     * Merges the groups, keeping the smallest index as the root
+     */
+    private static void union(final int[] parents, final int a, final int b) {
+        final int rootA = find(parents, a);
+        final int rootB = find(parents, b);
+        if (rootA < rootB) {
+            parents[rootB] = rootA;
+        } else {
+            parents[rootA] = rootB;
+        }
+    }
+
+}
@@ -11,7 +11,7 @@ public class AreaOfInterestProps {
     private final int fixations;
     private final int centerX;
     private final int centerY;
-    private final Double[] convexPoints;
+    private final double[] convexPoints;
     private final Point2D[] allPoint2DOfConvex;
     private final int startingIndex;
     private final int endingIndex;
@@ -25,7 +25,7 @@ public class AreaOfInterestProps {
     public AreaOfInterestProps(
         final List<CoordinatesTracker> listOfPoints,
         final int centerX, final int centerY,
-        final Double[] convexPoints, final Point2D[] allPoint2DOfConvex,
+        final double[] convexPoints, final Point2D[] allPoint2DOfConvex,
         final int startingIndex, final int endingIndex,
         final javafx.scene.shape.Polygon areaOfInterest, final InfoBoxProps infoBoxProps,
         final long areaStartTime, final long areaEndTime
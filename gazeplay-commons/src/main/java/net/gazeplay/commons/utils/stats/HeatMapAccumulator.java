@@ -0,0 +1,230 @@
+package net.gazeplay.commons.utils.stats;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Accumulates the gaze and mouse positions of a game session into a heatmap grid.
+ * <p>
+ * Every position adds a precomputed stamp (a disk or a gaussian) centered on its cell. Counts are stored in tiles of
+ * {@code int} which are only allocated once a stamp touches them, so the memory depends on the part of the scene
+ * which is looked at, and never on the heap size. Gaze and mouse positions go to separate layers, and can also be
+ * accumulated per time window.
+ */
+public class HeatMapAccumulator {
+
+    public static final int DEFAULT_COLUMNS = 400;
+
+    public static final int DEFAULT_RADIUS = 10;
+
+    private static final int TILE_SHIFT = 5;
+
+    private static final int TILE_SIZE = 1 << TILE_SHIFT;
+
+    private static final int TILE_MASK = TILE_SIZE - 1;
+
+    /**
+     * Peak weight of the gaussian stamp, so that it keeps some precision in integer counts
+     */
+    private static final int GAUSSIAN_SCALE = 16;
+
+    public enum Kernel {
+        DISK, GAUSSIAN
+    }
+
+    @Getter
+    private final int rows;
+
+    @Getter
+    private final int columns;
+
+    private final double cellSize;
+
+    private final int tileColumns;
+
+    private final int tileCount;
+
+    /**
+     * For each line of the stamp, from {@code -radius} to {@code radius} : the weights of the cells it covers
+     */
+    private final int[][] stampWeights;
+
+    /**
+     * For each line of the stamp : the column offset of its first weight
+     */
+    private final int[] stampStart;
+
+    private final int radius;
+
+    private final long windowDuration;
+
+    private final int[][][] eventLayers = new int[2][][];
+
+    private final List<int[][]> windowLayers = new ArrayList<>();
+
+    public HeatMapAccumulator(final double sceneWidth, final double sceneHeight) {
+        this(sceneWidth, sceneHeight, DEFAULT_COLUMNS, DEFAULT_RADIUS, Kernel.DISK, 0);
+    }
+
+    /**
+     * @param columns        number of columns of the grid, the number of rows follows the aspect ratio of the scene
+     * @param radius         radius of the stamp, in cells
+     * @param windowDuration duration of the time windows in milliseconds, or 0 not to accumulate per window
+     */
+    public HeatMapAccumulator(
+        final double sceneWidth, final double sceneHeight,
+        final int columns, final int radius, final Kernel kernel, final long windowDuration
+    ) {
+        if (sceneWidth > 0 && sceneHeight > 0) {
+            this.cellSize = sceneWidth / columns;
+            this.columns = columns;
+            this.rows = (int) (sceneHeight / cellSize);
+        } else {
+            this.cellSize = 1;
+            this.columns = 0;
+            this.rows = 0;
+        }
+        this.tileColumns = (this.columns + TILE_MASK) >> TILE_SHIFT;
+        this.tileCount = tileColumns * ((this.rows + TILE_MASK) >> TILE_SHIFT);
+        this.radius = radius;
+        this.windowDuration = windowDuration;
+
+        stampWeights = new int[2 * radius + 1][];
+        stampStart = new int[2 * radius + 1];
+        final double sigma = radius / 2d;
+        for (int i = -radius; i <= radius; i++) {
+            // same disk as before : the cells strictly closer than the radius
+            int halfWidth = 0;
+            while ((halfWidth + 1) * (halfWidth + 1) + i * i < radius * radius) {
+                halfWidth++;
+            }
+            final int[] weights = new int[i * i < radius * radius ? 2 * halfWidth + 1 : 0];
+            for (int j = 0; j < weights.length; j++) {
+                final int dj = j - halfWidth;
+                weights[j] = kernel == Kernel.DISK ? 1
+                    : (int) Math.max(1, Math.round(GAUSSIAN_SCALE * Math.exp(-(i * i + dj * dj) / (2 * sigma * sigma))));
+            }
+            stampWeights[i + radius] = weights;
+            stampStart[i + radius] = -halfWidth;
+        }
+    }
+
+    public void add(final double sceneX, final double sceneY, final byte event) {
+        add(sceneX, sceneY, event, -1);
+    }
+
+    /**
+     * @param event one of {@link ReplayDataWriter#EVENT_GAZE} and {@link ReplayDataWriter#EVENT_MOUSE}
+     * @param time  time of the event in milliseconds since the start of the game, used for the time windows
+     */
+    public void add(final double sceneX, final double sceneY, final byte event, final long time) {
+        final int row = (int) (sceneY / cellSize);
+        final int column = (int) (sceneX / cellSize);
+        if (row + radius < 0 || column + radius < 0 || row - radius >= rows || column - radius >= columns) {
+            return;
+        }
+
+        if (eventLayers[event] == null) {
+            eventLayers[event] = new int[tileCount][];
+        }
+        stamp(eventLayers[event], row, column);
+
+        if (windowDuration > 0 && time >= 0) {
+            final int window = (int) (time / windowDuration);
+            while (windowLayers.size() <= window) {
+                windowLayers.add(null);
+            }
+            if (windowLayers.get(window) == null) {
+                windowLayers.set(window, new int[tileCount][]);
+            }
+            stamp(windowLayers.get(window), row, column);
+        }
+    }
+
+    private void stamp(final int[][] tiles, final int row, final int column) {
+        final int firstLine = Math.max(-radius, -row);
+        final int lastLine = Math.min(radius, rows - 1 - row);
+        for (int i = firstLine; i <= lastLine; i++) {
+            final int[] weights = stampWeights[i + radius];
+            final int y = row + i;
+            final int tileRow = (y >> TILE_SHIFT) * tileColumns;
+            final int tileLine = (y & TILE_MASK) << TILE_SHIFT;
+            final int start = column + stampStart[i + radius];
+            final int first = Math.max(0, -start);
+            final int last = Math.min(weights.length, columns - start);
+            for (int j = first; j < last; j++) {
+                final int x = start + j;
+                final int tileIndex = tileRow + (x >> TILE_SHIFT);
+                int[] tile = tiles[tileIndex];
+                if (tile == null) {
+                    tile = new int[TILE_SIZE * TILE_SIZE];
+                    tiles[tileIndex] = tile;
+                }
+                tile[tileLine + (x & TILE_MASK)] += weights[j];
+            }
+        }
+    }
+
+    /**
+     * @return the number of time windows holding at least one event
+     */
+    public int getWindowCount() {
+        return windowLayers.size();
+    }
+
+    /**
+     * @return the counts of all the events, indexed by row then column
+     */
+    public double[][] toArray() {
+        final double[][] result = new double[rows][columns];
+        for (final int[][] layer : eventLayers) {
+            addTo(layer, result);
+        }
+        return result;
+    }
+
+    /**
+     * @return the counts of the given event, indexed by row then column
+     */
+    public double[][] toArray(final byte event) {
+        final double[][] result = new double[rows][columns];
+        addTo(eventLayers[event], result);
+        return result;
+    }
+
+    /**
+     * @return the counts of all the events which happened during the given time window, indexed by row then column
+     */
+    public double[][] toWindowArray(final int window) {
+        final double[][] result = new double[rows][columns];
+        if (window < windowLayers.size()) {
+            addTo(windowLayers.get(window), result);
+        }
+        return result;
+    }
+
+    private void addTo(final int[][] tiles, final double[][] result) {
+        if (tiles == null) {
+            return;
+        }
+        for (int tileIndex = 0; tileIndex < tiles.length; tileIndex++) {
+            final int[] tile = tiles[tileIndex];
+            if (tile == null) {
+                continue;
+            }
+            final int firstRow = (tileIndex / tileColumns) << TILE_SHIFT;
+            final int firstColumn = (tileIndex % tileColumns) << TILE_SHIFT;
+            final int lastRow = Math.min(rows, firstRow + TILE_SIZE);
+            final int lastColumn = Math.min(columns, firstColumn + TILE_SIZE);
+            for (int y = firstRow; y < lastRow; y++) {
+                final int line = (y - firstRow) << TILE_SHIFT;
+                for (int x = firstColumn; x < lastColumn; x++) {
+                    result[y][x] += tile[line + x - firstColumn];
+                }
+            }
+        }
+    }
+
+}
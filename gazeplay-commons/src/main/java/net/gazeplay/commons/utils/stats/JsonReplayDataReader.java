@@ -0,0 +1,134 @@
+package net.gazeplay.commons.utils.stats;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+
+/**
+ * Streams the {@code coordinatesAndTimeStamp} array of a JSON replay data file, one sample at a time. Each sample is
+ * validated when it is read, so that a multi-hour session is neither parsed nor held in memory as a whole.
+ */
+public class JsonReplayDataReader implements ReplaySampleCursor {
+
+    public static final String COORDINATES_PROPERTY = "coordinatesAndTimeStamp";
+
+    private final File file;
+
+    private final JsonReader reader;
+
+    private boolean inArray = false;
+
+    private long index = 0;
+
+    private long time;
+
+    private double x;
+
+    private double y;
+
+    private byte event;
+
+    public JsonReplayDataReader(File file) throws IOException {
+        this.file = file;
+        this.reader = new JsonReader(Files.newBufferedReader(file.toPath(), Charset.defaultCharset()));
+        try {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (COORDINATES_PROPERTY.equals(reader.nextName())) {
+                    if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+                        throw new IOException(COORDINATES_PROPERTY + " is not an array in " + file);
+                    }
+                    reader.beginArray();
+                    inArray = true;
+                    return;
+                }
+                reader.skipValue();
+            }
+            throw new IOException("No " + COORDINATES_PROPERTY + " in " + file);
+        } catch (IOException | IllegalStateException e) {
+            reader.close();
+            throw e instanceof IOException ? (IOException) e : new IOException("Invalid replay data file " + file, e);
+        }
+    }
+
+    @Override
+    public boolean next() throws IOException {
+        if (!inArray) {
+            return false;
+        }
+        try {
+            if (!reader.hasNext()) {
+                reader.endArray();
+                inArray = false;
+                return false;
+            }
+
+            boolean hasX = false;
+            boolean hasY = false;
+            boolean hasTime = false;
+            event = ReplayDataWriter.EVENT_MOUSE;
+
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "X":
+                        x = reader.nextDouble();
+                        hasX = true;
+                        break;
+                    case "Y":
+                        y = reader.nextDouble();
+                        hasY = true;
+                        break;
+                    case "time":
+                        time = reader.nextLong();
+                        hasTime = true;
+                        break;
+                    case "event":
+                        event = ReplayDataWriter.eventType(reader.nextString());
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            reader.endObject();
+
+            if (!hasX || !hasY || !hasTime) {
+                throw new IOException("Sample #" + index + " of " + file + " misses one of X, Y and time");
+            }
+            index++;
+            return true;
+        } catch (IllegalStateException | NumberFormatException e) {
+            throw new IOException("Invalid sample #" + index + " in " + file, e);
+        }
+    }
+
+    @Override
+    public long getTime() {
+        return time;
+    }
+
+    @Override
+    public double getX() {
+        return x;
+    }
+
+    @Override
+    public double getY() {
+        return y;
+    }
+
+    @Override
+    public byte getEvent() {
+        return event;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+}
@@ -0,0 +1,180 @@
+package net.gazeplay.commons.utils.stats;
+
+import javafx.animation.AnimationTimer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Plays recorded samples back on the JavaFX thread, against their original timeline.
+ * <p>
+ * The replay time is computed from an anchor at every pulse, rather than by sleeping between two samples, so that
+ * the timing errors do not accumulate over the session. All the samples which are due at a pulse are played together,
+ * then the track is told that the frame is complete so it can render once.
+ */
+@Slf4j
+public class ReplayClock extends AnimationTimer {
+
+    /**
+     * Slow enough for the slowest replay of the areas of interest, which is played at a sixth of the recorded speed
+     */
+    public static final double MIN_SPEED = 0.1;
+
+    public static final double MAX_SPEED = 16;
+
+    /**
+     * Samples played by the clock. Every method is called on the JavaFX thread.
+     */
+    public interface Track {
+
+        /**
+         * @return the time of the next sample, in milliseconds since the start of the recording, or a negative value
+         * when there is no more sample
+         */
+        long peekTime();
+
+        /**
+         * Plays the next sample
+         */
+        void playNext();
+
+        /**
+         * Moves to the given sample, which is then the next one to be played
+         */
+        void seek(int index);
+
+        /**
+         * Called once the samples due at a pulse have been played
+         *
+         * @param replayTime the current time of the replay, in milliseconds since the start of the recording
+         */
+        default void frameDone(long replayTime) {
+        }
+
+        /**
+         * Called once the last sample has been played
+         */
+        default void finished() {
+        }
+
+    }
+
+    private final Track track;
+
+    @Getter
+    private double speed = 1;
+
+    @Getter
+    private boolean paused = false;
+
+    @Getter
+    private boolean running = false;
+
+    private double anchorReplayTime = Double.NaN;
+
+    private long anchorNanoTime = -1;
+
+    @Getter
+    private long playedSamples = 0;
+
+    public ReplayClock(Track track) {
+        this.track = track;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        super.stop();
+    }
+
+    /**
+     * @param speed playback speed, clamped between {@link #MIN_SPEED} and {@link #MAX_SPEED}
+     */
+    public void setSpeed(double speed) {
+        reanchor(System.nanoTime());
+        this.speed = Math.max(MIN_SPEED, Math.min(MAX_SPEED, speed));
+    }
+
+    public void pause() {
+        reanchor(System.nanoTime());
+        paused = true;
+    }
+
+    public void resume() {
+        reanchor(System.nanoTime());
+        paused = false;
+    }
+
+    /**
+     * Moves the replay to the given sample. The replay goes on from the recorded time of that sample.
+     */
+    public void seek(int index) {
+        track.seek(index);
+        anchorReplayTime = Double.NaN;
+        anchorNanoTime = -1;
+    }
+
+    /**
+     * @return the current time of the replay, in milliseconds since the start of the recording
+     */
+    public long getReplayTime() {
+        return (long) replayTimeAt(System.nanoTime());
+    }
+
+    @Override
+    public void handle(long now) {
+        if (anchorNanoTime < 0) {
+            long firstTime = track.peekTime();
+            if (firstTime < 0) {
+                finish();
+                return;
+            }
+            if (Double.isNaN(anchorReplayTime)) {
+                anchorReplayTime = firstTime;
+            }
+            anchorNanoTime = now;
+        }
+
+        double replayTime = replayTimeAt(now);
+        long nextTime = track.peekTime();
+        while (nextTime >= 0 && nextTime <= replayTime) {
+            track.playNext();
+            playedSamples++;
+            nextTime = track.peekTime();
+        }
+        track.frameDone((long) replayTime);
+
+        if (nextTime < 0) {
+            finish();
+        }
+    }
+
+    private void finish() {
+        stop();
+        log.info("Replay finished after {} samples", playedSamples);
+        track.finished();
+    }
+
+    private double replayTimeAt(long nanoTime) {
+        if (anchorNanoTime < 0) {
+            return Double.isNaN(anchorReplayTime) ? 0 : anchorReplayTime;
+        }
+        if (paused) {
+            return anchorReplayTime;
+        }
+        return anchorReplayTime + (nanoTime - anchorNanoTime) / 1_000_000d * speed;
+    }
+
+    private void reanchor(long nanoTime) {
+        if (anchorNanoTime >= 0) {
+            anchorReplayTime = replayTimeAt(nanoTime);
+            anchorNanoTime = nanoTime;
+        }
+    }
+
+}
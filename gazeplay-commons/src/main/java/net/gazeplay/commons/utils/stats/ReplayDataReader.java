@@ -0,0 +1,131 @@
+package net.gazeplay.commons.utils.stats;
+
+import com.google.gson.stream.JsonWriter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads, one record at a time, a file written by {@link ReplayDataWriter}. The file is read through a single heap
+ * buffer, refilled as the records are consumed, so that it is not held in memory whatever its size.
+ * <p>
+ * The file is not memory-mapped : a mapped file stays locked on Windows until the mapping is garbage-collected, and
+ * it could then neither be moved nor deleted once read.
+ */
+public class ReplayDataReader implements ReplaySampleCursor {
+
+    private static final int RECORDS_PER_READ = 4096;
+
+    private final FileChannel channel;
+
+    private final ByteBuffer buffer = ByteBuffer.allocate(RECORDS_PER_READ * ReplayDataWriter.RECORD_SIZE);
+
+    private final long recordCount;
+
+    private long time = 0;
+
+    private float x;
+
+    private float y;
+
+    private byte event;
+
+    public ReplayDataReader(File file) throws IOException {
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        try {
+            final long size = channel.size();
+            buffer.limit(0);
+            if (size < ReplayDataWriter.HEADER_SIZE
+                || !fill(ReplayDataWriter.HEADER_SIZE)
+                || buffer.getInt() != ReplayDataWriter.MAGIC
+                || buffer.getShort() != ReplayDataWriter.VERSION) {
+                throw new IOException("Not a replay data file : " + file);
+            }
+            recordCount = (size - ReplayDataWriter.HEADER_SIZE) / ReplayDataWriter.RECORD_SIZE;
+        } catch (final IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the next bytes of the file into the buffer, keeping the ones not consumed yet
+     *
+     * @return whether the buffer holds at least the given number of bytes
+     */
+    private boolean fill(final int minimumRemaining) throws IOException {
+        if (buffer.remaining() >= minimumRemaining) {
+            return true;
+        }
+        buffer.compact();
+        while (buffer.position() < minimumRemaining) {
+            if (channel.read(buffer) < 0) {
+                break;
+            }
+        }
+        buffer.flip();
+        return buffer.remaining() >= minimumRemaining;
+    }
+
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    @Override
+    public boolean next() throws IOException {
+        if (!fill(ReplayDataWriter.RECORD_SIZE)) {
+            return false;
+        }
+        time += buffer.getInt();
+        x = buffer.getFloat();
+        y = buffer.getFloat();
+        event = buffer.get();
+        return true;
+    }
+
+    @Override
+    public long getTime() {
+        return time;
+    }
+
+    @Override
+    public double getX() {
+        return x;
+    }
+
+    @Override
+    public double getY() {
+        return y;
+    }
+
+    @Override
+    public byte getEvent() {
+        return event;
+    }
+
+    /**
+     * Writes the remaining records as the {@code coordinatesAndTimeStamp} array of the JSON replay data format
+     */
+    public void writeAsJson(JsonWriter writer) throws IOException {
+        writer.beginArray();
+        while (next()) {
+            writer.beginObject();
+            // written as floats, not to pretend a precision the binary format does not have
+            writer.name("X").value(Float.valueOf(x));
+            writer.name("Y").value(Float.valueOf(y));
+            writer.name("time").value(time);
+            writer.name("event").value(ReplayDataWriter.eventName(event));
+            writer.endObject();
+        }
+        writer.endArray();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+}
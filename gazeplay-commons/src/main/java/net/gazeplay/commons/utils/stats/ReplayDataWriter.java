@@ -0,0 +1,168 @@
+package net.gazeplay.commons.utils.stats;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Streams the gaze and mouse coordinates of a game session to disk while the game is played.
+ * <p>
+ * The file starts with a small header ({@link #MAGIC}, {@link #VERSION}) followed by fixed-width records :
+ * <ul>
+ * <li>the time elapsed since the previous record, in milliseconds (int)</li>
+ * <li>the X and Y coordinates, as ratios of the scene width and height (float, float)</li>
+ * <li>the event type, {@link #EVENT_GAZE} or {@link #EVENT_MOUSE} (byte)</li>
+ * </ul>
+ * Records are written into one of two fixed size buffers, a full buffer is written to the file in the background
+ * while the other one is being filled, so that memory use does not depend on the length of the session.
+ * {@link ReplayDataReader} reads the file back and converts it to the JSON replay data format.
+ */
+@Slf4j
+public class ReplayDataWriter implements Closeable {
+
+    static final int MAGIC = 0x47505244; // "GPRD"
+
+    static final short VERSION = 1;
+
+    static final int HEADER_SIZE = Integer.BYTES + Short.BYTES;
+
+    static final int RECORD_SIZE = Integer.BYTES + 2 * Float.BYTES + Byte.BYTES;
+
+    public static final byte EVENT_GAZE = 0;
+
+    public static final byte EVENT_MOUSE = 1;
+
+    private static final int RECORDS_PER_BUFFER = 4096;
+
+    private static final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "replay-data-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Getter
+    private final File file;
+
+    private final FileChannel channel;
+
+    private ByteBuffer activeBuffer = ByteBuffer.allocate(RECORDS_PER_BUFFER * RECORD_SIZE);
+
+    private ByteBuffer spareBuffer = ByteBuffer.allocate(RECORDS_PER_BUFFER * RECORD_SIZE);
+
+    private Future<?> pendingFlush;
+
+    private long previousTime = 0;
+
+    @Getter
+    private long recordCount = 0;
+
+    private volatile IOException failure;
+
+    private boolean closed = false;
+
+    public ReplayDataWriter(File file) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file.toPath(),
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putShort(VERSION).flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+    }
+
+    public static byte eventType(String event) {
+        return "gaze".equals(event) ? EVENT_GAZE : EVENT_MOUSE;
+    }
+
+    public static String eventName(byte eventType) {
+        return eventType == EVENT_GAZE ? "gaze" : "mouse";
+    }
+
+    /**
+     * @param time  the time of the event, in milliseconds since the start of the game
+     * @param x     the X coordinate, as a ratio of the scene width
+     * @param y     the Y coordinate, as a ratio of the scene height
+     * @param event {@link #EVENT_GAZE} or {@link #EVENT_MOUSE}
+     */
+    public synchronized void write(long time, double x, double y, byte event) {
+        if (closed) {
+            return;
+        }
+        activeBuffer.putInt((int) (time - previousTime));
+        activeBuffer.putFloat((float) x);
+        activeBuffer.putFloat((float) y);
+        activeBuffer.put(event);
+        previousTime = time;
+        recordCount++;
+
+        if (!activeBuffer.hasRemaining()) {
+            flushActiveBuffer();
+        }
+    }
+
+    private void flushActiveBuffer() {
+        waitForPendingFlush();
+
+        final ByteBuffer toWrite = activeBuffer;
+        activeBuffer = spareBuffer;
+        spareBuffer = toWrite;
+        activeBuffer.clear();
+
+        toWrite.flip();
+        pendingFlush = flushExecutor.submit(() -> {
+            try {
+                while (toWrite.hasRemaining()) {
+                    channel.write(toWrite);
+                }
+            } catch (IOException e) {
+                log.error("Exception while writing replay data to {}", file, e);
+                failure = e;
+            }
+        });
+    }
+
+    private void waitForPendingFlush() {
+        if (pendingFlush == null) {
+            return;
+        }
+        try {
+            pendingFlush.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.error("Exception while writing replay data to {}", file, e);
+        }
+        pendingFlush = null;
+    }
+
+    /**
+     * Writes the remaining records and closes the file. Does nothing when already closed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (activeBuffer.position() > 0) {
+            flushActiveBuffer();
+        }
+        waitForPendingFlush();
+        channel.close();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+}
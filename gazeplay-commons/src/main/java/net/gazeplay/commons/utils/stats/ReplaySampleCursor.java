@@ -0,0 +1,40 @@
+package net.gazeplay.commons.utils.stats;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads the recorded coordinates of a game session one sample at a time, without loading the whole session in
+ * memory. The current sample is exposed as primitive values.
+ */
+public interface ReplaySampleCursor extends Closeable {
+
+    /**
+     * Moves to the next sample
+     *
+     * @return false when there is no more sample
+     * @throws IOException when the sample cannot be read or is invalid
+     */
+    boolean next() throws IOException;
+
+    /**
+     * @return the time of the current sample, in milliseconds since the start of the game
+     */
+    long getTime();
+
+    /**
+     * @return the X coordinate of the current sample, as a ratio of the scene width
+     */
+    double getX();
+
+    /**
+     * @return the Y coordinate of the current sample, as a ratio of the scene height
+     */
+    double getY();
+
+    /**
+     * @return {@link ReplayDataWriter#EVENT_GAZE} or {@link ReplayDataWriter#EVENT_MOUSE}
+     */
+    byte getEvent();
+
+}
@@ -1,11 +1,23 @@
 package net.gazeplay.commons.utils.stats;
 
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 
 import java.io.File;
+import java.util.HashSet;
 import java.util.Observable;
+import java.util.Observer;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Files of the saved stats of a game. They are written in the background : observers are notified with the
+ * {@link File} which has just been written, then with {@code null} once all of them are ready.
+ */
 @Data
 @EqualsAndHashCode(callSuper = false)
 public class SavedStatsInfo extends Observable {
@@ -17,8 +29,83 @@ public class SavedStatsInfo extends Observable {
     private final File colorBandsFile;
     private final File replayDataFile;
 
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private final AtomicInteger fileCount = new AtomicInteger();
+
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private final AtomicInteger savedFileCount = new AtomicInteger();
+
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private final CountDownLatch filesReady = new CountDownLatch(1);
+
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private final Set<File> savedFiles = new HashSet<>();
+
+    void expectFiles(int count) {
+        fileCount.addAndGet(count);
+    }
+
+    void notifyFileSaved(File file) {
+        synchronized (savedFiles) {
+            savedFiles.add(file);
+        }
+        savedFileCount.incrementAndGet();
+        setChanged();
+        this.notifyObservers(file);
+    }
+
+    /**
+     * Runs the action once the file has been written, or once all the files are ready if it could not be written.
+     * The action runs right away on the calling thread if the file is already there, otherwise on the thread which
+     * wrote it.
+     */
+    public void whenFileSaved(File file, Runnable action) {
+        synchronized (savedFiles) {
+            if (!savedFiles.contains(file) && !isReady()) {
+                addObserver(new Observer() {
+                    @Override
+                    public void update(Observable o, Object arg) {
+                        if (arg == null || file.equals(arg)) {
+                            deleteObserver(this);
+                            action.run();
+                        }
+                    }
+                });
+                return;
+            }
+        }
+        action.run();
+    }
+
     public void notifyFilesReady() {
+        synchronized (savedFiles) {
+            filesReady.countDown();
+        }
+        setChanged();
         this.notifyObservers();
     }
 
+    /**
+     * @return the ratio of the files which have already been written, between 0 and 1
+     */
+    public double getProgress() {
+        int count = fileCount.get();
+        return count == 0 ? (isReady() ? 1 : 0) : Math.min(1, (double) savedFileCount.get() / count);
+    }
+
+    public boolean isReady() {
+        return filesReady.getCount() == 0;
+    }
+
+    /**
+     * @return true if all the files are ready, false if the timeout elapsed first
+     */
+    public boolean awaitFilesReady(long timeout, TimeUnit unit) throws InterruptedException {
+        return filesReady.await(timeout, unit);
+    }
+
 }
@@ -3,14 +3,15 @@ package net.gazeplay.commons.utils.stats;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 import javafx.embed.swing.SwingFXUtils;
 import javafx.event.EventHandler;
 import javafx.geometry.Point2D;
 import javafx.scene.Scene;
 import javafx.scene.image.WritableImage;
 import javafx.scene.input.MouseEvent;
-import javafx.scene.shape.Polygon;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -19,6 +20,8 @@ import net.gazeplay.commons.configuration.ActiveConfigurationContext;
 import net.gazeplay.commons.configuration.Configuration;
 import net.gazeplay.commons.gaze.GazeMotionListener;
 import net.gazeplay.commons.gaze.devicemanager.GazeEvent;
+import net.gazeplay.commons.utils.Fixation;
+import net.gazeplay.commons.utils.FixationDetector;
 import net.gazeplay.commons.utils.FixationPoint;
 import net.gazeplay.commons.utils.FixationSequence;
 import net.gazeplay.commons.utils.HeatMap;
@@ -37,19 +40,22 @@ import java.awt.image.BufferedImage;
 import java.awt.image.BufferedImageOp;
 import java.awt.image.ConvolveOp;
 import java.awt.image.Kernel;
-import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.text.SimpleDateFormat;
 import java.util.List;
 import java.util.*;
-
-import static java.lang.Math.pow;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Created by schwab on 16/08/2017.
@@ -58,9 +64,21 @@ import static java.lang.Math.pow;
 @ToString
 public class Stats implements GazeMotionListener {
 
-    private static final int trail = 10;
-    private static final int fixationTrail = 50;
-    private final double heatMapPixelSize;
+    /**
+     * The margin around the points of an area of interest
+     */
+    private static final double AOI_PADDING = 15;
+
+    /**
+     * The fewest samples of a fixation for it to be an area of interest
+     */
+    private static final int MINIMUM_AOI_SAMPLES = 3;
+
+    /**
+     * Writes the files of the saved stats. The threads are not daemons, so that the stats saved just before leaving
+     * GazePlay are complete, but they do not outlive their last task.
+     */
+    private static final ExecutorService statsExportExecutor = createStatsExportExecutor();
     public final Scene gameContextScene;
     protected String gameName;
 
@@ -86,7 +104,7 @@ public class Stats implements GazeMotionListener {
     private final boolean convexHULL = true;
     private ScreenRecorder screenRecorder;
     private ArrayList<TargetAOI> targetAOIList = null;
-    private double[][] heatMap;
+    private HeatMapAccumulator heatMap;
 
     @Getter
     public int nbGoalsReached = 0;
@@ -117,7 +135,11 @@ public class Stats implements GazeMotionListener {
     @Getter
     private WritableImage gameScreenShot;
 
-    JsonArray coordinateData = new JsonArray();
+    /**
+     * Coordinates recorded for the replay, streamed to a temporary file while the game is played
+     */
+    private ReplayDataWriter replayDataWriter;
+    private boolean replayDataRecordingFailed = false;
     private final JsonObject savedDataObj = new JsonObject();
     String currentGameVariant;
     String currentGameNameCode;
@@ -133,27 +155,24 @@ public class Stats implements GazeMotionListener {
     //parameters for AOI
     private int movementHistoryidx = 0;
     private final List<AreaOfInterestProps> allAOIList = new ArrayList<>();
-    private List<CoordinatesTracker> areaOfInterestList = new ArrayList<>();
     @Getter
     private final List<List> allAOIListTemp = new ArrayList<>();
     @Getter
     private final List<int[]> startAndEndIdx = new ArrayList<>();
     @Getter
-    private final List<Polygon> allAOIListPolygon = new ArrayList<>();
-    @Getter
-    private final List<Double[]> allAOIListPolygonPt = new ArrayList<>();
+    private final List<double[]> allAOIListPolygonPt = new ArrayList<>();
     private final double highestFixationTime = 0;
     private final Configuration config = ActiveConfigurationContext.getInstance();
-    private int colorIterator;
-    private final javafx.scene.paint.Color[] colors = new javafx.scene.paint.Color[]{
-        javafx.scene.paint.Color.PURPLE,
-        javafx.scene.paint.Color.WHITE,
-        javafx.scene.paint.Color.PINK,
-        javafx.scene.paint.Color.ORANGE,
-        javafx.scene.paint.Color.BLUE,
-        javafx.scene.paint.Color.RED,
-        javafx.scene.paint.Color.CHOCOLATE
-    };
+
+    /**
+     * Finds the areas of interest in the movement history, as the samples are indexed the same way
+     */
+    private final FixationDetector areaOfInterestDetector = FixationDetector.fromConfiguration(config, this::addAreaOfInterest);
+
+    /**
+     * The detectors of the fixations of the mouse and of the gaze, indexed like {@link #fixationSequence}
+     */
+    private List<FixationDetector> fixationDetectors;
 
     private static boolean configMenuOpen = false;
 
@@ -168,8 +187,6 @@ public class Stats implements GazeMotionListener {
     public Stats(final Scene gameContextScene, final String gameName) {
         this.gameContextScene = gameContextScene;
         this.gameName = gameName;
-
-        heatMapPixelSize = computeHeatMapPixelSize(gameContextScene);
     }
 
     public Stats(final Scene gameContextScene, final String gameName, int nbGoalsReached, int nbGoalsToReach, int nbUnCountedGoalsReached, ArrayList<LinkedList<FixationPoint>> fixationSequence, LifeCycle lifeCycle, RoundsDurationReport roundsDurationReport, SavedStatsInfo savedStatsInfo) {
@@ -182,15 +199,20 @@ public class Stats implements GazeMotionListener {
         this.lifeCycle = lifeCycle;
         this.roundsDurationReport = roundsDurationReport;
         this.savedStatsInfo = savedStatsInfo;
+    }
 
-        heatMapPixelSize = computeHeatMapPixelSize(gameContextScene);
+    private static ExecutorService createStatsExportExecutor() {
+        final int threads = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 10, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, "stats-export"));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 
-    static double[][] instantiateHeatMapData(final Scene gameContextScene, final double heatMapPixelSize) {
-        final int heatMapWidth = (int) (gameContextScene.getHeight() / heatMapPixelSize);
-        final int heatMapHeight = (int) (gameContextScene.getWidth() / heatMapPixelSize);
-        log.info("heatMapWidth = {}, heatMapHeight = {}", heatMapWidth, heatMapHeight);
-        return new double[heatMapWidth][heatMapHeight];
+    static HeatMapAccumulator instantiateHeatMapData(final Scene gameContextScene) {
+        final HeatMapAccumulator heatMap = new HeatMapAccumulator(gameContextScene.getWidth(), gameContextScene.getHeight());
+        log.info("heatMap rows = {}, columns = {}", heatMap.getRows(), heatMap.getColumns());
+        return heatMap;
     }
 
     public ArrayList<TargetAOI> getTargetAOIList() {
@@ -300,161 +322,40 @@ public class Stats implements GazeMotionListener {
     }
 
     private void generateAOIList(final int index) {
-        final double x1 = movementHistory.get(index).getXValue();
-        final double y1 = movementHistory.get(index).getYValue();
-        final double x2 = movementHistory.get(index - 1).getXValue();
-        final double y2 = movementHistory.get(index - 1).getYValue();
-        final double eDistance = Math.sqrt(pow(x2 - x1, 2) + pow(y2 - y1, 2));
-        if (eDistance < 150 && movementHistory.get(index).getIntervalTime() > 10) {
-            if (index == 1) {
-                areaOfInterestList.add(movementHistory.get(0));
-            }
-            areaOfInterestList.add(movementHistory.get(index));
-        } else {
-            if (areaOfInterestList.size() > 2) {
-
-                allAOIListTemp.add(new ArrayList<>(areaOfInterestList));
-                int[] startEnd = new int[]{index - areaOfInterestList.size(), index};
-                startAndEndIdx.add(startEnd);
-
-                final Point2D[] points = new Point2D[areaOfInterestList.size()];
-
-                for (int i = 0; i < areaOfInterestList.size(); i++) {
-                    CoordinatesTracker coordinate = areaOfInterestList.get(i);
-                    points[i] = new Point2D(coordinate.getXValue(), coordinate.getYValue());
-                }
-
-                final Double[] polygonPoints;
-
-                // Uncomment to use convex hull
-                // if (config.getConvexHullDisabledProperty().getValue()) {
-                // polygonPoints = calculateConvexHull(points);
-                // } else {
-                polygonPoints = calculateRectangle(points);
-                // }
-
-                final Polygon areaOfInterest = new Polygon();
-                areaOfInterest.getPoints().addAll(polygonPoints);
-                allAOIListPolygonPt.add(polygonPoints);
-
-                colorIterator = index % 7;
-                areaOfInterest.setStroke(colors[colorIterator]);
-                allAOIListPolygon.add(areaOfInterest);
-            } else if (eDistance > 700) {
-                areaOfInterestList.add(movementHistory.get(index));
-                allAOIListTemp.add(new ArrayList<>(areaOfInterestList));
-                int[] startEnd = new int[]{index - areaOfInterestList.size(), index};
-                startAndEndIdx.add(startEnd);
-                final float radius = 15;
-                final Point2D[] points = new Point2D[8];
-
-                for (int i = 0; i < 8; i++) {
-                    CoordinatesTracker coordinate = areaOfInterestList.get(0);
-                    points[i] = new Point2D(coordinate.getXValue() + pow(-1, i) * radius, coordinate.getYValue() + pow(-1, i) * radius);
-                }
-
-                final Double[] polygonPoints;
-
-                // Uncomment to use convex hull
-                // if (config.getConvexHullDisabledProperty().getValue()) {
-                //     polygonPoints = calculateConvexHull(points);
-                // } else {
-                polygonPoints = calculateRectangle(points);
-                // }
-
-                final Polygon areaOfInterest = new Polygon();
-                areaOfInterest.getPoints().addAll(polygonPoints);
-                allAOIListPolygonPt.add(polygonPoints);
-
-                colorIterator = index % 7;
-                areaOfInterest.setStroke(colors[colorIterator]);
-                allAOIListPolygon.add(areaOfInterest);
-            }
-            areaOfInterestList = new ArrayList<>();
-        }
+        final CoordinatesTracker coordinate = movementHistory.get(index);
+        areaOfInterestDetector.add(coordinate.getTimeStarted(), coordinate.getXValue(), coordinate.getYValue());
     }
 
-    static Double[] calculateRectangle(final Point2D[] point2D) {
-        double leftPoint = point2D[0].getX();
-        double rightPoint = point2D[0].getX();
-        double topPoint = point2D[0].getY();
-        double bottomPoint = point2D[0].getY();
-
-        for (int i = 1; i < point2D.length; i++) {
-            if (point2D[i].getX() < leftPoint) {
-                leftPoint = point2D[i].getX();
-            }
-            if (point2D[i].getX() > rightPoint) {
-                rightPoint = point2D[i].getX();
-            }
-            if (point2D[i].getY() > topPoint) {
-                topPoint = point2D[i].getY();
-            }
-            if (point2D[i].getY() < bottomPoint) {
-                bottomPoint = point2D[i].getY();
-            }
-        }
-
-        final Double[] squarePoints = new Double[8];
-        final int bias = 15;
-
-        squarePoints[0] = leftPoint - bias;
-        squarePoints[1] = topPoint + bias;
-        squarePoints[2] = rightPoint + bias;
-        squarePoints[3] = topPoint + bias;
-        squarePoints[4] = rightPoint + bias;
-        squarePoints[5] = bottomPoint - bias;
-        squarePoints[6] = leftPoint - bias;
-        squarePoints[7] = bottomPoint - bias;
-        return squarePoints;
-    }
-
-    static Double[] calculateConvexHull(final Point2D[] points) {
-        final int numberOfPoints = points.length;
-        final ArrayList<Double> convexHullPoints = new ArrayList<>();
-        final Vector<Point2D> hull = new Vector<>();
-
-        // Finding the index of the lowest X value, or left-most point, in all points.
-        int lowestValueIndex = 0;
-        for (int i = 1; i < numberOfPoints; i++) {
-            if (points[i].getX() < points[lowestValueIndex].getX()) {
-                lowestValueIndex = i;
-            }
+    private void addAreaOfInterest(final Fixation fixation) {
+        if (fixation.getSampleCount() < MINIMUM_AOI_SAMPLES) {
+            return;
         }
-
-        int point = lowestValueIndex, q;
-        do {
-            hull.add(points[point]);
-            q = (point + 1) % numberOfPoints;
-            for (int i = 0; i < numberOfPoints; i++) {
-                if (orientation(points[point], points[i], points[q]) < 0) { // Checking if the points are convex.
-                    q = i;
-                }
-            }
-            point = q;
-        } while (point != lowestValueIndex);
-
-        for (final Point2D temp : hull) {
-            convexHullPoints.add(temp.getX());
-            convexHullPoints.add(temp.getY());
+        final int start = fixation.getFirstSample();
+        final int end = start + fixation.getSampleCount();
+        final List<CoordinatesTracker> areaOfInterestList = new ArrayList<>(movementHistory.subList(start, end));
+        allAOIListTemp.add(areaOfInterestList);
+        startAndEndIdx.add(new int[]{start, end});
+
+        final double[] points = new double[areaOfInterestList.size() * 2];
+        for (int i = 0; i < areaOfInterestList.size(); i++) {
+            CoordinatesTracker coordinate = areaOfInterestList.get(i);
+            points[2 * i] = coordinate.getXValue();
+            points[2 * i + 1] = coordinate.getYValue();
         }
 
-        Double[] hullPointsArray = new Double[convexHullPoints.size()];
-        convexHullPoints.toArray(hullPointsArray);
-
-        return hullPointsArray;
+        // Uncomment to use convex hull
+        // if (config.getConvexHullDisabledProperty().getValue()) {
+        // allAOIListPolygonPt.add(AoiGeometry.convexHull(points));
+        // } else {
+        allAOIListPolygonPt.add(AoiGeometry.boundingRectangle(points, AOI_PADDING));
+        // }
     }
 
-    static int orientation(final Point2D p1, final Point2D p2, final Point2D p3) {
-
-        final int val = (int) ((p2.getY() - p1.getY()) * (p3.getX() - p2.getX())
-            - (p2.getX() - p1.getX()) * (p3.getY() - p2.getY()));
-
-        if (val == 0) {
-            return 0;
-        }
-
-        return (val > 0) ? 1 : -1;
+    private FixationDetector createFixationSequenceDetector(final Configuration config, final int sequenceIndex) {
+        // the sequence is looked up for each fixation, as its snapshot replaces it with the simplified one
+        // the fixation points hold the y coordinate as x, as FixationSequence draws them
+        return FixationDetector.fromConfiguration(config, fixation -> fixationSequence.get(sequenceIndex).add(new FixationPoint(
+            fixation.getStartTime(), fixation.getDuration(), (int) Math.round(fixation.getY()), (int) Math.round(fixation.getX()))));
     }
 
     public void start() {
@@ -465,10 +366,14 @@ public class Stats implements GazeMotionListener {
         }
         lifeCycle.start(() -> {
             if (!config.isHeatMapDisabled()) {
-                heatMap = instantiateHeatMapData(gameContextScene, heatMapPixelSize);
+                heatMap = instantiateHeatMapData(gameContextScene);
             }
             if (!config.isFixationSequenceDisabled()) {
                 fixationSequence = new ArrayList<LinkedList<FixationPoint>>(List.of(new LinkedList<FixationPoint>(), new LinkedList<FixationPoint>()));
+                fixationDetectors = List.of(
+                    createFixationSequenceDetector(config, FixationSequence.MOUSE_FIXATION_SEQUENCE),
+                    createFixationSequenceDetector(config, FixationSequence.GAZE_FIXATION_SEQUENCE)
+                );
             }
             startTime = System.currentTimeMillis();
 
@@ -484,10 +389,10 @@ public class Stats implements GazeMotionListener {
                         setJSONCoordinates(timeToFixation, getX, getY, "gaze");
 
                         if (!config.isHeatMapDisabled()) {
-                            incrementHeatMap(getX, getY);
+                            incrementHeatMap(getX, getY, ReplayDataWriter.EVENT_GAZE, timeToFixation);
                         }
                         if (!config.isFixationSequenceDisabled()) {
-                            incrementFixationSequence(getX, getY, fixationSequence.get(FixationSequence.GAZE_FIXATION_SEQUENCE));
+                            incrementFixationSequence(getX, getY, FixationSequence.GAZE_FIXATION_SEQUENCE);
                         }
 
                         if (config.getAreaOfInterestDisabledProperty().getValue()) {
@@ -497,9 +402,7 @@ public class Stats implements GazeMotionListener {
                                 movementHistory
                                     .add(new CoordinatesTracker(getX, getY, timeInterval, System.currentTimeMillis()));
                                 movementHistoryidx++;
-                                if (movementHistoryidx > 1) {
-                                    generateAOIList(movementHistoryidx - 1);
-                                }
+                                generateAOIList(movementHistoryidx - 1);
                                 previousTime = timeToFixation;
                             }
                         }
@@ -519,10 +422,10 @@ public class Stats implements GazeMotionListener {
                         setJSONCoordinates(timeElapsedMillis, getX, getY, "mouse");
 
                         if (!config.isHeatMapDisabled()) {
-                            incrementHeatMap(getX, getY);
+                            incrementHeatMap(getX, getY, ReplayDataWriter.EVENT_MOUSE, timeElapsedMillis);
                         }
                         if (!config.isFixationSequenceDisabled()) {
-                            incrementFixationSequence(getX, getY, fixationSequence.get(FixationSequence.MOUSE_FIXATION_SEQUENCE));
+                            incrementFixationSequence(getX, getY, FixationSequence.MOUSE_FIXATION_SEQUENCE);
                         }
 
                         if (config.getAreaOfInterestDisabledProperty().getValue()) {
@@ -532,9 +435,7 @@ public class Stats implements GazeMotionListener {
                                 movementHistory
                                     .add(new CoordinatesTracker(getX, getY, timeInterval, System.currentTimeMillis()));
                                 movementHistoryidx++;
-                                if (movementHistoryidx > 1) {
-                                    generateAOIList(movementHistoryidx - 1);
-                                }
+                                generateAOIList(movementHistoryidx - 1);
                                 previousTime = timeElapsedMillis;
                                 counter = 0;
                             }
@@ -552,12 +453,24 @@ public class Stats implements GazeMotionListener {
     }
 
     private void setJSONCoordinates(long timeElapsedMillis, int getX, int getY, String event) {
-        JsonObject coordinates = new JsonObject();
-        coordinates.addProperty("X", getX / gameContextScene.getWidth());
-        coordinates.addProperty("Y", getY / gameContextScene.getHeight());
-        coordinates.addProperty("time", timeElapsedMillis);
-        coordinates.addProperty("event", event);
-        saveCoordinates(coordinates);
+        if (replayDataWriter == null) {
+            if (replayDataRecordingFailed) {
+                return;
+            }
+            try {
+                final File tempFolder = GazePlayDirectories.getTempFolder();
+                final boolean tempFolderCreated = tempFolder.mkdirs();
+                log.debug("tempFolderCreated = {}", tempFolderCreated);
+                replayDataWriter = new ReplayDataWriter(File.createTempFile("replayData", ".bin", tempFolder));
+            } catch (final IOException e) {
+                log.error("Could not record the replay data", e);
+                replayDataRecordingFailed = true;
+                return;
+            }
+        }
+        replayDataWriter.write(timeElapsedMillis,
+            getX / gameContextScene.getWidth(), getY / gameContextScene.getHeight(),
+            ReplayDataWriter.eventType(event));
     }
 
     public List<CoordinatesTracker> getMovementHistoryWithTime() {
@@ -586,6 +499,8 @@ public class Stats implements GazeMotionListener {
             if (recordMouseMovements != null) {
                 gameContextScene.removeEventFilter(MouseEvent.ANY, recordMouseMovements);
             }
+            // the last area of interest ends with the recording
+            areaOfInterestDetector.flush();
         });
     }
 
@@ -595,7 +510,7 @@ public class Stats implements GazeMotionListener {
         final int positionX = (int) position.getX();
         final int positionY = (int) position.getY();
         incrementHeatMap(positionX, positionY);
-        incrementFixationSequence(positionX, positionY, fixationSequence.get(FixationSequence.GAZE_FIXATION_SEQUENCE));
+        incrementFixationSequence(positionX, positionY, FixationSequence.GAZE_FIXATION_SEQUENCE);
     }
 
     static void saveImageAsPng(final BufferedImage bufferedImage, final File outputFile) {
@@ -616,38 +531,63 @@ public class Stats implements GazeMotionListener {
         return graphics;
     }
 
-    private BufferedImage newBufferImage(BufferedImage screenshotImage) {
+    private static BufferedImage newBufferImage(BufferedImage screenshotImage, boolean withColorKey) {
         return new BufferedImage(
-            screenshotImage.getWidth() + (heatMap != null ? screenshotImage.getWidth() / 20 + 10 : 0),
+            screenshotImage.getWidth() + (withColorKey ? screenshotImage.getWidth() / 20 + 10 : 0),
             screenshotImage.getHeight(), screenshotImage.getType());
     }
 
-
-    private void addHeatMapToMetrics(HeatMap hm, BufferedImage bImage, Graphics graphics, BufferedImage screenshotImage) {
-        BufferedImage heatmapImage = SwingFXUtils.fromFXImage(hm.getImage(), null);
+    private static BufferedImage blurHeatMap(BufferedImage heatmapImage) {
         final Kernel kernel = new Kernel(3, 3,
             new float[]{1 / 16f, 1 / 8f, 1 / 16f, 1 / 8f, 1 / 4f, 1 / 8f, 1 / 16f, 1 / 8f, 1 / 16f});
         final BufferedImageOp op = new ConvolveOp(kernel);
-        heatmapImage = op.filter(heatmapImage, null);
+        return op.filter(heatmapImage, null);
+    }
 
-        final BufferedImage keyMouse = SwingFXUtils.fromFXImage(hm.getColorKey(bImage.getWidth() / 20, bImage.getHeight() / 2),
-            null);
+    private BufferedImage composeGazeMetricsImage(
+        BufferedImage screenshotImage, BufferedImage blurredHeatMap, BufferedImage colorKey, BufferedImage... sequences
+    ) {
+        final BufferedImage bImage = newBufferImage(screenshotImage, colorKey != null);
+        final Graphics graphics = initGazeMetricsImage(bImage, screenshotImage);
+        if (blurredHeatMap != null) {
+            graphics.drawImage(blurredHeatMap, 0, 0, screenshotImage.getWidth(), screenshotImage.getHeight(), null);
+            graphics.drawImage(colorKey, bImage.getWidth() - colorKey.getWidth(), (bImage.getHeight() - colorKey.getHeight()) / 2, null);
+        }
+        for (final BufferedImage sequence : sequences) {
+            if (sequence != null) {
+                graphics.drawImage(sequence, 0, 0, screenshotImage.getWidth(), screenshotImage.getHeight(), null);
+            }
+        }
+        graphics.dispose();
+        return bImage;
+    }
 
-        graphics.drawImage(heatmapImage, 0, 0, screenshotImage.getWidth(), screenshotImage.getHeight(), null);
-        graphics.drawImage(keyMouse, bImage.getWidth() - keyMouse.getWidth(), (bImage.getHeight() - keyMouse.getHeight()) / 2, null);
+    /**
+     * Ends the fixations in progress, so that they are part of the fixation sequences
+     */
+    private void flushFixationDetectors() {
+        if (fixationDetectors != null) {
+            for (final FixationDetector detector : fixationDetectors) {
+                detector.flush();
+            }
+        }
     }
 
-    private void addFixationSequence(int fixationSequenceIndex, Graphics gMouseOrGaze, Graphics gMouseAndGaze, BufferedImage screenshotImage) {
+    private BufferedImage snapshotFixationSequence(int fixationSequenceIndex) {
         if (this.fixationSequence.get(fixationSequenceIndex) != null && fixationSequence.get(fixationSequenceIndex).size() > 0) {
             final FixationSequence scanpath = new FixationSequence((int) gameContextScene.getWidth(),
                 (int) gameContextScene.getHeight(), fixationSequence, fixationSequenceIndex);
             fixationSequence.set(fixationSequenceIndex, scanpath.getSequence());
-            final BufferedImage seqImage = SwingFXUtils.fromFXImage(scanpath.getImage(), null);
-            gMouseOrGaze.drawImage(seqImage, 0, 0, screenshotImage.getWidth(), screenshotImage.getHeight(), null);
-            gMouseAndGaze.drawImage(seqImage, 0, 0, screenshotImage.getWidth(), screenshotImage.getHeight(), null);
+            return SwingFXUtils.fromFXImage(scanpath.getImage(), null);
         }
+        return null;
     }
 
+    /**
+     * Saves the stats of the game. Everything which reads the state of the game or needs the JavaFX thread is done
+     * before returning, the images, the CSV and the replay data are then written in parallel in the background. The
+     * returned {@link SavedStatsInfo} notifies its observers as the files get written.
+     */
     public SavedStatsInfo saveStats() throws IOException {
         final Configuration config = ActiveConfigurationContext.getInstance();
 
@@ -668,48 +608,103 @@ public class Stats implements GazeMotionListener {
         final File screenShotFile = new File(todayDirectory, screenShotFilePrefix + ".png");
         final File colorBandsFile = new File(todayDirectory, colorBandsFilePrefix + ".png");
         final File replayDataFile = new File(todayDirectory, replayDataFilePrefix + ".json");
+        final File replayDataBinaryFile = new File(todayDirectory, replayDataFilePrefix + ".bin");
 
-        final BufferedImage screenshotImage = SwingFXUtils.fromFXImage(gameScreenShot, null);
-        saveImageAsPng(screenshotImage, screenShotFile);
-
-        final BufferedImage bImageMouse = newBufferImage(screenshotImage);
-        final BufferedImage bImageGaze = newBufferImage(screenshotImage);
-        final BufferedImage bImageMouseAndGaze = newBufferImage(screenshotImage);
+        final SavedStatsInfo savedStatsInfo = new SavedStatsInfo(heatMapCsvFile, gazeMetricsFileMouse, gazeMetricsFileGaze, gazeMetricsFileMouseAndGaze, screenShotFile,
+            colorBandsFile, replayDataFile);
+        this.savedStatsInfo = savedStatsInfo;
 
-        Graphics gMouse = initGazeMetricsImage(bImageMouse, screenshotImage);
-        Graphics gGaze = initGazeMetricsImage(bImageGaze, screenshotImage);
-        Graphics gMouseAndGaze = initGazeMetricsImage(bImageMouseAndGaze, screenshotImage);
+        final BufferedImage screenshotImage = SwingFXUtils.fromFXImage(gameScreenShot, null);
 
-        try (BufferedWriter bf = Files.newBufferedWriter(replayDataFile.toPath(), Charset.defaultCharset())) {
-            bf.write(buildSavedDataJSON(coordinateData).toString());
-            bf.flush();
+        // the replay data header is built once the fixations in progress are flushed, and before the fixation
+        // sequences are simplified by their snapshot
+        flushFixationDetectors();
+        final ReplayDataWriter writer = replayDataWriter;
+        replayDataWriter = null;
+        final JsonObject replayDataHeader = new JsonObject();
+        for (final Map.Entry<String, JsonElement> entry : buildSavedDataJSON().entrySet()) {
+            replayDataHeader.add(entry.getKey(), entry.getValue());
         }
 
-        final SavedStatsInfo savedStatsInfo = new SavedStatsInfo(heatMapCsvFile, gazeMetricsFileMouse, gazeMetricsFileGaze, gazeMetricsFileMouseAndGaze, screenShotFile,
-            colorBandsFile, replayDataFile);
-
-        this.savedStatsInfo = savedStatsInfo;
+        final double[][] heatMapData;
+        final BufferedImage heatMapImage;
+        final BufferedImage colorKey;
         if (this.heatMap != null) {
-            final HeatMap hm = new HeatMap(heatMap, config.getHeatMapOpacity(), config.getHeatMapColors());
-            addHeatMapToMetrics(hm, bImageMouse, gMouse, screenshotImage);
-            addHeatMapToMetrics(hm, bImageGaze, gGaze, screenshotImage);
-            addHeatMapToMetrics(hm, bImageMouseAndGaze, gMouseAndGaze, screenshotImage);
-            saveHeatMapAsCsv(heatMapCsvFile);
+            heatMapData = heatMap.toArray();
+            final HeatMap hm = new HeatMap(heatMapData, config.getHeatMapOpacity(), config.getHeatMapColors());
+            heatMapImage = hm.toBufferedImage();
+            final int gazeMetricsWidth = newBufferImage(screenshotImage, true).getWidth();
+            colorKey = SwingFXUtils.fromFXImage(hm.getColorKey(gazeMetricsWidth / 20, screenshotImage.getHeight() / 2), null);
+        } else {
+            heatMapData = null;
+            heatMapImage = null;
+            colorKey = null;
         }
 
+        final BufferedImage mouseSequence;
+        final BufferedImage gazeSequence;
         if (this.fixationSequence != null) {
-            addFixationSequence(FixationSequence.MOUSE_FIXATION_SEQUENCE, gMouse, gMouseAndGaze, screenshotImage);
-            addFixationSequence(FixationSequence.GAZE_FIXATION_SEQUENCE, gGaze, gMouseAndGaze, screenshotImage);
+            mouseSequence = snapshotFixationSequence(FixationSequence.MOUSE_FIXATION_SEQUENCE);
+            gazeSequence = snapshotFixationSequence(FixationSequence.GAZE_FIXATION_SEQUENCE);
+        } else {
+            mouseSequence = null;
+            gazeSequence = null;
         }
 
-        saveImageAsPng(bImageMouse, gazeMetricsFileMouse);
-        saveImageAsPng(bImageGaze, gazeMetricsFileGaze);
-        saveImageAsPng(bImageMouseAndGaze, gazeMetricsFileMouseAndGaze);
+        // the files are counted before any export starts, so that the progress never runs ahead of them
+        // the screenshot, the replay data, the heatmap csv if any, and the three gaze metrics images
+        savedStatsInfo.expectFiles(heatMapData != null ? 6 : 5);
+
+        final List<CompletableFuture<Void>> exports = new ArrayList<>();
+        exports.add(export(savedStatsInfo, screenShotFile, () -> saveImageAsPng(screenshotImage, screenShotFile)));
+        exports.add(export(savedStatsInfo, replayDataFile,
+            () -> saveReplayData(writer, replayDataHeader, replayDataFile, replayDataBinaryFile)));
+        if (heatMapData != null) {
+            exports.add(export(savedStatsInfo, heatMapCsvFile, () -> saveHeatMapAsCsv(heatMapCsvFile, heatMapData)));
+        }
 
-        savedStatsInfo.notifyFilesReady();
+        // the heatmap is blurred once for the three images
+        final CompletableFuture<BufferedImage> blurredHeatMap = heatMapImage == null
+            ? CompletableFuture.completedFuture(null)
+            : CompletableFuture.supplyAsync(() -> blurHeatMap(heatMapImage), statsExportExecutor);
+        exports.add(blurredHeatMap.thenAcceptAsync(blurred -> {
+            saveImageAsPng(composeGazeMetricsImage(screenshotImage, blurred, colorKey, mouseSequence), gazeMetricsFileMouse);
+            savedStatsInfo.notifyFileSaved(gazeMetricsFileMouse);
+        }, statsExportExecutor));
+        exports.add(blurredHeatMap.thenAcceptAsync(blurred -> {
+            saveImageAsPng(composeGazeMetricsImage(screenshotImage, blurred, colorKey, gazeSequence), gazeMetricsFileGaze);
+            savedStatsInfo.notifyFileSaved(gazeMetricsFileGaze);
+        }, statsExportExecutor));
+        exports.add(blurredHeatMap.thenAcceptAsync(blurred -> {
+            saveImageAsPng(composeGazeMetricsImage(screenshotImage, blurred, colorKey, mouseSequence, gazeSequence), gazeMetricsFileMouseAndGaze);
+            savedStatsInfo.notifyFileSaved(gazeMetricsFileMouseAndGaze);
+        }, statsExportExecutor));
+
+        CompletableFuture.allOf(exports.toArray(new CompletableFuture[0])).whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                log.error("Failed to save stats files", throwable);
+            }
+            savedStatsInfo.notifyFilesReady();
+        });
         return savedStatsInfo;
     }
 
+    @FunctionalInterface
+    private interface ExportTask {
+        void run() throws IOException;
+    }
+
+    private static CompletableFuture<Void> export(final SavedStatsInfo savedStatsInfo, final File file, final ExportTask task) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                task.run();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            savedStatsInfo.notifyFileSaved(file);
+        }, statsExportExecutor);
+    }
+
     public RoundsDurationReport getRoundsDurationReport() { return roundsDurationReport;}
 
     public long computeRoundsDurationAverageDuration() {
@@ -810,7 +805,7 @@ public class Stats implements GazeMotionListener {
         this.roundsDurationReport.printLengthBetweenGoalsToString(out);
     }
 
-    private void saveHeatMapAsCsv(final File file) throws IOException {
+    private void saveHeatMapAsCsv(final File file, final double[][] heatMap) throws IOException {
         try (PrintWriter out = new PrintWriter(file, StandardCharsets.UTF_8)) {
             for (final double[] doubles : heatMap) {
                 for (int j = 0; j < heatMap[0].length - 1; j++) {
@@ -823,75 +818,60 @@ public class Stats implements GazeMotionListener {
         }
     }
 
-    void incrementFixationSequence(final int x, final int y, LinkedList<FixationPoint> fixationSequence) {
-
-        final long gazeDuration;
-
-        final FixationPoint newGazePoint = new FixationPoint(System.currentTimeMillis(), 0, y, x);
-        if (fixationSequence.size() != 0) {
-            gazeDuration = newGazePoint.getTimeGaze()
-                - (fixationSequence.get(fixationSequence.size() - 1)).getTimeGaze();
-            newGazePoint.setGazeDuration(gazeDuration);
-        }
-
-        // if the new points coordinates are the same as last one's in the list then update the last fixationPoint in
-        // the list
-        // same coordinate points are a result of the eyetracker's frequency of sampling
-        if (fixationSequence.size() > 1
-            && (Math.abs(newGazePoint.getX()
-            - fixationSequence.get(fixationSequence.size() - 1).getX()) <= fixationTrail)
-            && (Math.abs(newGazePoint.getY()
-            - fixationSequence.get(fixationSequence.size() - 1).getY()) <= fixationTrail)) {
-            fixationSequence.get(fixationSequence.size() - 1)
-                .setGazeDuration(newGazePoint.getGazeDuration() + newGazePoint.getGazeDuration());
-        } else { // else add the new point in the list
-            fixationSequence.add(newGazePoint);
-        }
+    void incrementFixationSequence(final int x, final int y, final int sequenceIndex) {
+        fixationDetectors.get(sequenceIndex).add(System.currentTimeMillis(), x, y);
     }
 
     void incrementHeatMap(final int x, final int y) {
+        incrementHeatMap(x, y, ReplayDataWriter.EVENT_GAZE, System.currentTimeMillis() - startTime);
+    }
+
+    void incrementHeatMap(final int x, final int y, final byte event, final long timeElapsedMillis) {
         currentGazeTime = System.currentTimeMillis();
-        // in heatChart, x and y are opposed
-        final int newX = (int) (y / heatMapPixelSize);
-        final int newY = (int) (x / heatMapPixelSize);
-        for (int i = -trail; i <= trail; i++) {
-            for (int j = -trail; j <= trail; j++) {
-                if (Math.sqrt(i * i + j * j) < trail) {
-                    increment(newX + i, newY + j);
-                }
-            }
+        if (heatMap != null) {
+            heatMap.add(x, y, event, timeElapsedMillis);
         }
     }
 
-    private void increment(final int x, final int y) {
-        if (heatMap != null && x >= 0 && y >= 0 && x < heatMap.length && y < heatMap[0].length) {
-            heatMap[x][y]++;
-        }
+    public void takeScreenShot() {
+        gameScreenShot = gameContextScene.snapshot(null);
     }
 
     /**
-     * @return the size of the HeatMap Pixel Size in order to avoid a too big heatmap (400 px) if maximum memory is more
-     * than 1Gb, only 200
+     * Writes the replay data in the JSON format, streaming the recorded coordinates so that the whole session is
+     * never held in memory. The compact binary recording is kept next to it.
      */
-    double computeHeatMapPixelSize(final Scene gameContextScene) {
-        final long maxMemory = Runtime.getRuntime().maxMemory();
-        final double width = gameContextScene.getWidth();
-        final double result;
-        if (maxMemory < 1024 * 1024 * 1024) {
-            // size is less than 1Gb (2^30)
-            result = width / 200;
-        } else {
-            result = width / 400;
+    private static void saveReplayData(
+        final ReplayDataWriter writer, final JsonObject header, final File replayDataFile, final File replayDataBinaryFile
+    ) throws IOException {
+        if (writer != null) {
+            writer.close();
         }
-        log.info("computeHeatMapPixelSize() : result = {}", result);
-        return result;
-    }
 
-    public void takeScreenShot() {
-        gameScreenShot = gameContextScene.snapshot(null);
+        final Gson gson = new GsonBuilder().create();
+        try (JsonWriter jsonWriter = new JsonWriter(Files.newBufferedWriter(replayDataFile.toPath(), Charset.defaultCharset()))) {
+            jsonWriter.beginObject();
+            for (final Map.Entry<String, JsonElement> entry : header.entrySet()) {
+                jsonWriter.name(entry.getKey());
+                gson.toJson(entry.getValue(), jsonWriter);
+            }
+            jsonWriter.name("coordinatesAndTimeStamp");
+            if (writer == null) {
+                jsonWriter.beginArray().endArray();
+            } else {
+                try (ReplayDataReader reader = new ReplayDataReader(writer.getFile())) {
+                    reader.writeAsJson(jsonWriter);
+                }
+            }
+            jsonWriter.endObject();
+        }
+
+        if (writer != null) {
+            Files.move(writer.getFile().toPath(), replayDataBinaryFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
     }
 
-    private JsonObject buildSavedDataJSON(JsonArray data) {
+    private JsonObject buildSavedDataJSON() {
         Gson gson = new GsonBuilder().create();
         JsonArray fixationSequenceArray = gson.toJsonTree(fixationSequence).getAsJsonArray();
         JsonArray durationBetweenGoalsArray = gson.toJsonTree(roundsDurationReport.getDurationBetweenGoals()).getAsJsonArray();
@@ -919,15 +899,9 @@ public class Stats implements GazeMotionListener {
         savedDataObj.add("roundsDurationReport", roundsDurationReportObject);
 
         savedDataObj.add("fixationSequence", fixationSequenceArray);
-        savedDataObj.add("coordinatesAndTimeStamp", data);
         return savedDataObj;
     }
 
-    private JsonArray saveCoordinates(JsonObject coordinates) {
-        coordinateData.add(coordinates);
-        return coordinateData;
-    }
-
     public int greatestCommonFactor(int width, int height) {
         return (height == 0) ? width : greatestCommonFactor(height, width % height);
     }
@@ -16,5 +16,6 @@ public class TargetAOI {
     @Setter
     private long timeEnded;
     private long duration;
+    private double[] polygonPoints;
     private Polygon polygon;
 }
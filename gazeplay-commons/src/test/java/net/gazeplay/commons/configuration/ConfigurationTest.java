@@ -56,6 +56,7 @@ class ConfigurationTest {
 
     @AfterEach
     void reset() {
+        configuration.flush();
         testProperties.delete();
         Locale.setDefault(original);
     }
@@ -0,0 +1,99 @@
+package net.gazeplay.commons.configuration;
+
+import org.aeonbits.owner.ConfigFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigurationWriterTest {
+
+    private File configFile;
+
+    private ApplicationConfig applicationConfig;
+
+    @BeforeEach
+    void setup() throws IOException {
+        configFile = File.createTempFile("GazePlay-writer", ".properties");
+        applicationConfig = ConfigFactory.create(ApplicationConfig.class, new Properties());
+    }
+
+    @AfterEach
+    void reset() {
+        configFile.delete();
+    }
+
+    @Test
+    void shouldCoalesceTheRequestedWrites() throws IOException {
+        ConfigurationWriter writer = new ConfigurationWriter(configFile, applicationConfig, 60_000);
+
+        for (int i = 0; i < 20; i++) {
+            applicationConfig.setProperty("MUSIC_VOLUME", "" + i / 20d);
+            writer.requestWrite();
+        }
+        assertEquals(0, writer.getWrites());
+
+        writer.flush();
+
+        assertEquals(20, writer.getRequestedWrites());
+        assertEquals(1, writer.getWrites());
+        assertEquals(19, writer.getSavedWrites());
+        assertEquals("0.95", load().getProperty("MUSIC_VOLUME"));
+    }
+
+    @Test
+    void shouldWriteInTheBackground() throws IOException, InterruptedException {
+        ConfigurationWriter writer = new ConfigurationWriter(configFile, applicationConfig, 10);
+
+        applicationConfig.setProperty("QUIT_KEY", "Y");
+        writer.requestWrite();
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (writer.getWrites() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(1, writer.getWrites());
+        assertEquals("Y", load().getProperty("QUIT_KEY"));
+        assertFalse(new File(configFile.getParentFile(), configFile.getName() + ".tmp").exists());
+    }
+
+    @Test
+    void shouldNotWriteWithoutPendingChanges() {
+        ConfigurationWriter writer = new ConfigurationWriter(configFile, applicationConfig, 60_000);
+
+        writer.flush();
+
+        assertEquals(0, writer.getWrites());
+    }
+
+    @Test
+    void shouldFlushAllThePendingWrites() throws IOException {
+        ConfigurationWriter writer = new ConfigurationWriter(configFile, applicationConfig, 60_000);
+        applicationConfig.setProperty("LANGUAGE", "fra");
+        writer.requestWrite();
+
+        ConfigurationWriter.flushAll();
+
+        assertTrue(writer.getWrites() >= 1);
+        assertEquals("fra", load().getProperty("LANGUAGE"));
+    }
+
+    private Properties load() throws IOException {
+        Properties properties = new Properties();
+        try (InputStream is = Files.newInputStream(configFile.toPath())) {
+            properties.load(is);
+        }
+        return properties;
+    }
+
+}
@@ -0,0 +1,131 @@
+package net.gazeplay.commons.gaze;
+
+import javafx.geometry.Point2D;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Group;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.paint.Color;
+import javafx.stage.Stage;
+import net.gazeplay.commons.gaze.devicemanager.GazeEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(ApplicationExtension.class)
+class LightingBufferTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private LightingBuffer lightingBuffer;
+
+    @BeforeEach
+    void setup() {
+        lightingBuffer = new LightingBuffer(4, 3, 20, 20, Color.BLUE);
+    }
+
+    @Test
+    void shouldMakeLightingBuffer() {
+        Group group = new Group();
+        LightingBuffer result = SecondScreen.makeLightingBuffer(group, new Rectangle2D(0, 0, 1920, 1080));
+
+        assertEquals(1920 / 20, result.getColumns());
+        assertEquals(1080 / 20, result.getRows());
+        assertEquals(1, group.getChildren().size());
+        assertEquals(1920, result.getFitWidth());
+    }
+
+    @Test
+    void shouldLightCell() {
+        lightingBuffer.light(2, 1);
+
+        assertEquals(1, lightingBuffer.getIntensity(2, 1));
+        assertEquals(0xFF0000FF, lightingBuffer.getArgb(2, 1));
+        assertEquals(0xFF000000, lightingBuffer.getArgb(1, 2));
+        assertTrue(lightingBuffer.isPulseRunning());
+        lightingBuffer.dispose();
+    }
+
+    @Test
+    void shouldFadeOutLinearly() {
+        lightingBuffer.light(0, 0);
+        lightingBuffer.advance(0);
+        lightingBuffer.advance(5 * SECOND);
+
+        assertEquals(0.75f, lightingBuffer.getIntensity(0, 0), 1e-6);
+        assertEquals(0xFF0000BF, lightingBuffer.getArgb(0, 0));
+
+        lightingBuffer.advance(15 * SECOND);
+
+        assertEquals(0.25f, lightingBuffer.getIntensity(0, 0), 1e-6);
+        lightingBuffer.dispose();
+    }
+
+    @Test
+    void shouldRestartFadingWhenLitAgain() {
+        lightingBuffer.light(0, 0);
+        lightingBuffer.advance(0);
+        lightingBuffer.advance(10 * SECOND);
+        lightingBuffer.light(0, 0);
+
+        assertEquals(1, lightingBuffer.getIntensity(0, 0));
+        lightingBuffer.dispose();
+    }
+
+    @Test
+    void shouldStopThePulseOnceAllCellsAreBlack() {
+        lightingBuffer.light(0, 0);
+        lightingBuffer.light(3, 2);
+        lightingBuffer.advance(0);
+        lightingBuffer.advance(10 * SECOND);
+
+        assertTrue(lightingBuffer.isPulseRunning());
+
+        lightingBuffer.advance(25 * SECOND);
+
+        assertEquals(0, lightingBuffer.getIntensity(0, 0));
+        assertEquals(0xFF000000, lightingBuffer.getArgb(3, 2));
+        assertFalse(lightingBuffer.isPulseRunning());
+    }
+
+    @Test
+    void shouldLightBufferWhenGazeMoved() {
+        SecondScreen secondScreen = new SecondScreen(mock(Stage.class), lightingBuffer);
+        secondScreen.gazeMoved(new Point2D(45, 25));
+        secondScreen.gazeMoved(new Point2D(80, 0));
+
+        assertEquals(1, lightingBuffer.getIntensity(2, 1));
+        secondScreen.close();
+        assertFalse(lightingBuffer.isPulseRunning());
+    }
+
+    @Test
+    void shouldLightCellUnderTheMouse() {
+        lightingBuffer.fireEvent(mouseEvent(MouseEvent.MOUSE_MOVED, 45, 25));
+        lightingBuffer.fireEvent(mouseEvent(MouseEvent.MOUSE_CLICKED, 5, 5));
+
+        assertEquals(1, lightingBuffer.getIntensity(2, 1));
+        assertEquals(0, lightingBuffer.getIntensity(0, 0));
+        lightingBuffer.dispose();
+    }
+
+    @Test
+    void shouldLightCellUnderTheGaze() {
+        lightingBuffer.fireEvent(new GazeEvent(GazeEvent.GAZE_ENTERED, 0, 65, 45));
+        lightingBuffer.fireEvent(new GazeEvent(GazeEvent.GAZE_MOVED, 0, 500, 500));
+
+        assertEquals(1, lightingBuffer.getIntensity(3, 2));
+        lightingBuffer.dispose();
+    }
+
+    private static MouseEvent mouseEvent(javafx.event.EventType<MouseEvent> eventType, double x, double y) {
+        return new MouseEvent(eventType, x, y, x, y, MouseButton.NONE, 0, false, false, false, false,
+            false, false, false, false, false, false, null);
+    }
+}
@@ -0,0 +1,64 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GazeSampleMailboxTest {
+
+    private GazeSampleMailbox mailbox;
+
+    private final double[] sample = new double[2];
+
+    @BeforeEach
+    void setup() {
+        mailbox = new GazeSampleMailbox();
+    }
+
+    @Test
+    void shouldBeEmptyAtFirst() {
+        assertFalse(mailbox.take(sample));
+        assertEquals(0, mailbox.getQueueDepth());
+    }
+
+    @Test
+    void shouldDeliverTheOfferedSample() {
+        mailbox.offer(10, 20);
+        assertEquals(1, mailbox.getQueueDepth());
+
+        assertTrue(mailbox.take(sample));
+        assertEquals(10, sample[0]);
+        assertEquals(20, sample[1]);
+        assertEquals(0, mailbox.getQueueDepth());
+        assertFalse(mailbox.take(sample));
+    }
+
+    @Test
+    void shouldKeepOnlyTheLatestSample() {
+        mailbox.offer(1, 1);
+        mailbox.offer(2, 2);
+        mailbox.offer(3, 3);
+
+        assertEquals(1, mailbox.getQueueDepth());
+        assertTrue(mailbox.take(sample));
+        assertEquals(3, sample[0]);
+        assertEquals(3, sample[1]);
+
+        assertEquals(3, mailbox.getOfferedSamples());
+        assertEquals(1, mailbox.getDeliveredSamples());
+        assertEquals(2, mailbox.getDroppedSamples());
+    }
+
+    @Test
+    void shouldNotCountTakenSamplesAsDropped() {
+        mailbox.offer(1, 1);
+        mailbox.take(sample);
+        mailbox.offer(2, 2);
+        mailbox.take(sample);
+
+        assertEquals(0, mailbox.getDroppedSamples());
+        assertEquals(2, mailbox.getDeliveredSamples());
+    }
+
+}
@@ -0,0 +1,95 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GazeSampleQueueTest {
+
+    private GazeSampleQueue queue;
+
+    private final double[] sample = new double[2];
+
+    @BeforeEach
+    void setup() {
+        queue = new GazeSampleQueue(3);
+    }
+
+    @Test
+    void shouldBeEmptyAtFirst() {
+        assertFalse(queue.take(sample));
+        assertEquals(0, queue.getQueueDepth());
+    }
+
+    @Test
+    void shouldDeliverEverySampleInOrder() throws InterruptedException {
+        queue.put(1, 10);
+        queue.put(2, 20);
+        queue.put(3, 30);
+        assertEquals(3, queue.getQueueDepth());
+
+        for (int i = 1; i <= 3; i++) {
+            assertTrue(queue.take(sample));
+            assertEquals(i, sample[0]);
+            assertEquals(i * 10, sample[1]);
+        }
+        assertFalse(queue.take(sample));
+
+        assertEquals(3, queue.getOfferedSamples());
+        assertEquals(3, queue.getDeliveredSamples());
+        assertEquals(0, queue.getDroppedSamples());
+    }
+
+    @Test
+    void shouldWrapAroundTheBuffer() throws InterruptedException {
+        for (int i = 0; i < 10; i++) {
+            queue.put(i, i);
+            assertTrue(queue.take(sample));
+            assertEquals(i, sample[0]);
+        }
+        assertEquals(0, queue.getQueueDepth());
+    }
+
+    @Test
+    void shouldWaitWhileTheQueueIsFull() throws InterruptedException {
+        queue.put(1, 1);
+        queue.put(2, 2);
+        queue.put(3, 3);
+
+        Thread tracker = new Thread(() -> {
+            try {
+                queue.put(4, 4);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        tracker.start();
+        Thread.sleep(50);
+        assertTrue(tracker.isAlive());
+        assertEquals(3, queue.getOfferedSamples());
+
+        assertTrue(queue.take(sample));
+        tracker.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertFalse(tracker.isAlive());
+        assertEquals(4, queue.getOfferedSamples());
+        assertEquals(3, queue.getQueueDepth());
+        assertTrue(queue.getWaitedMillis() > 0);
+    }
+
+    @Test
+    void shouldStopWaitingWhenInterrupted() throws InterruptedException {
+        queue.put(1, 1);
+        queue.put(2, 2);
+        queue.put(3, 3);
+
+        Thread.currentThread().interrupt();
+        assertThrows(InterruptedException.class, () -> queue.put(4, 4));
+
+        assertEquals(3, queue.getOfferedSamples());
+    }
+
+}
@@ -0,0 +1,62 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordedGazeSampleSourceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final double[] sample = new double[2];
+
+    private File writeTrace(String... lines) throws IOException {
+        Path trace = tempDir.resolve("trace.csv");
+        Files.write(trace, List.of(lines), StandardCharsets.UTF_8);
+        return trace.toFile();
+    }
+
+    @Test
+    void shouldReplayTheTraceInALoop() throws IOException {
+        RecordedGazeSampleSource source = new RecordedGazeSampleSource(writeTrace(
+            "# x,y",
+            "0.25,0.5",
+            "",
+            "0.75,0.125"
+        ));
+        assertEquals(2, source.getSize());
+
+        assertTrue(source.next(sample));
+        assertArrayEquals(new double[]{0.25, 0.5}, sample);
+        assertTrue(source.next(sample));
+        assertArrayEquals(new double[]{0.75, 0.125}, sample);
+        assertTrue(source.next(sample));
+        assertArrayEquals(new double[]{0.25, 0.5}, sample);
+    }
+
+    @Test
+    void shouldIgnoreTheTimestampColumn() throws IOException {
+        RecordedGazeSampleSource source = new RecordedGazeSampleSource(writeTrace("1234,0.5,0.25"));
+        source.next(sample);
+        assertArrayEquals(new double[]{0.5, 0.25}, sample);
+    }
+
+    @Test
+    void shouldRejectInvalidTraces() throws IOException {
+        File invalid = writeTrace("0.5;0.25");
+        assertThrows(IOException.class, () -> new RecordedGazeSampleSource(invalid));
+
+        File empty = writeTrace("# nothing");
+        assertThrows(IOException.class, () -> new RecordedGazeSampleSource(empty));
+    }
+
+}
@@ -0,0 +1,53 @@
+package net.gazeplay.commons.gaze.devicemanager;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyntheticGazeSampleSourceTest {
+
+    private final double[] sample = new double[2];
+
+    @Test
+    void shouldStayOnScreen() {
+        SyntheticGazeSampleSource source = new SyntheticGazeSampleSource(300, 42);
+        for (int i = 0; i < 100_000; i++) {
+            assertTrue(source.next(sample));
+            assertTrue(sample[0] > -0.1 && sample[0] < 1.1);
+            assertTrue(sample[1] > -0.1 && sample[1] < 1.1);
+        }
+    }
+
+    @Test
+    void shouldAlternateFixationsAndSaccades() {
+        SyntheticGazeSampleSource source = new SyntheticGazeSampleSource(120, 42);
+        int saccadeSamples = 0;
+        source.next(sample);
+        double previousX = sample[0];
+        double previousY = sample[1];
+        for (int i = 0; i < 12_000; i++) {
+            source.next(sample);
+            if (Math.hypot(sample[0] - previousX, sample[1] - previousY) > 0.05) {
+                saccadeSamples++;
+            }
+            previousX = sample[0];
+            previousY = sample[1];
+        }
+        // 100 seconds of signal : a few hundred saccades, but most samples belong to fixations
+        assertTrue(saccadeSamples > 50);
+        assertTrue(saccadeSamples < 6_000);
+    }
+
+    @Test
+    void shouldBeReplayableWithTheSameSeed() {
+        SyntheticGazeSampleSource source1 = new SyntheticGazeSampleSource(60, 7);
+        SyntheticGazeSampleSource source2 = new SyntheticGazeSampleSource(60, 7);
+        double[] other = new double[2];
+        for (int i = 0; i < 1000; i++) {
+            source1.next(sample);
+            source2.next(other);
+            assertArrayEquals(sample, other);
+        }
+    }
+
+}
@@ -0,0 +1,205 @@
+package net.gazeplay.commons.soundsmanager;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.sound.sampled.AudioFileFormat;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SoundEngineTest {
+
+    @TempDir
+    File tempDir;
+
+    private SoundEngine soundEngine;
+
+    @AfterEach
+    void shutdown() throws InterruptedException {
+        if (soundEngine != null) {
+            soundEngine.shutdown();
+        }
+    }
+
+    /**
+     * Writes a wav file whose samples all have the given value
+     */
+    private String writeSound(String name, AudioFormat format, int frames, int sample) throws IOException {
+        byte[] data = new byte[frames * format.getFrameSize()];
+        for (int i = 0; i < data.length; i += format.getSampleSizeInBits() / 8) {
+            if (format.getSampleSizeInBits() == 8) {
+                data[i] = (byte) sample;
+            } else {
+                data[i] = (byte) sample;
+                data[i + 1] = (byte) (sample >> 8);
+            }
+        }
+        File file = new File(tempDir, name);
+        AudioSystem.write(new AudioInputStream(new ByteArrayInputStream(data), format, frames), AudioFileFormat.Type.WAVE, file);
+        return file.getAbsolutePath();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Condition not met in time");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * Keeps the data written, and blocks each write until it is allowed
+     */
+    private static class RecordingLine implements SoundLine {
+
+        private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+
+        private final Semaphore allowedWrites;
+
+        private final AtomicInteger flushCount = new AtomicInteger();
+
+        private RecordingLine(int allowedWrites) {
+            this.allowedWrites = new Semaphore(allowedWrites);
+        }
+
+        @Override
+        public void write(byte[] data, int offset, int length) {
+            allowedWrites.acquireUninterruptibly();
+            synchronized (written) {
+                written.write(data, offset, length);
+            }
+        }
+
+        @Override
+        public void flush() {
+            flushCount.incrementAndGet();
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private byte[] getWritten() {
+            synchronized (written) {
+                return written.toByteArray();
+            }
+        }
+    }
+
+    @Test
+    void shouldDecodeToTheFormatOfTheLines() throws Exception {
+        AudioFormat format = new AudioFormat(22050, 8, 1, true, false);
+        String sound = writeSound("mono.wav", format, 2205, 0);
+
+        PcmSound result = PcmSound.decode(new File(sound).toURI().toURL());
+
+        assertEquals(4410, result.getFrameCount(), 10);
+        assertEquals(result.getFrameCount() * 4, result.getData().length);
+    }
+
+    @Test
+    void shouldPlaySoundOnALine() throws Exception {
+        String sound = writeSound("sound.wav", PcmSound.FORMAT, 3000, 1000);
+        RecordingLine line = new RecordingLine(Integer.MAX_VALUE);
+        soundEngine = new SoundEngine(1, 4, (format, bufferSize) -> line, () -> 1);
+
+        assertTrue(soundEngine.play(sound));
+        await(() -> line.getWritten().length == 3000 * 4 && soundEngine.getActiveVoices() == 0);
+
+        assertEquals(1, soundEngine.getPlayedCount());
+        assertTrue(soundEngine.getAverageLatencyNanos() > 0);
+        assertTrue(soundEngine.getMaximumLatencyNanos() >= soundEngine.getAverageLatencyNanos());
+        byte[] written = line.getWritten();
+        assertEquals(1000, (short) ((written[0] & 0xFF) | written[1] << 8));
+    }
+
+    @Test
+    void shouldApplyTheVolume() throws Exception {
+        String sound = writeSound("sound.wav", PcmSound.FORMAT, 100, -1000);
+        RecordingLine line = new RecordingLine(Integer.MAX_VALUE);
+        soundEngine = new SoundEngine(1, 4, (format, bufferSize) -> line, () -> 0.5);
+
+        soundEngine.play(sound);
+        await(() -> line.getWritten().length == 100 * 4);
+
+        byte[] written = line.getWritten();
+        assertEquals(-500, (short) ((written[396] & 0xFF) | written[397] << 8));
+    }
+
+    @Test
+    void shouldReportTheOccupancyOfTheVoices() throws Exception {
+        String sound = writeSound("sound.wav", PcmSound.FORMAT, 100, 0);
+        RecordingLine firstLine = new RecordingLine(0);
+        RecordingLine secondLine = new RecordingLine(0);
+        AtomicInteger openedLines = new AtomicInteger();
+        soundEngine = new SoundEngine(2, 4, (format, bufferSize) -> openedLines.getAndIncrement() == 0 ? firstLine : secondLine, () -> 1);
+
+        soundEngine.play(sound);
+        soundEngine.play(sound);
+        soundEngine.play(sound);
+        await(() -> soundEngine.getActiveVoices() == 2);
+
+        assertEquals(2, soundEngine.getVoiceCount());
+        assertEquals(1, soundEngine.getQueuedCount());
+
+        firstLine.allowedWrites.release(Integer.MAX_VALUE / 2);
+        secondLine.allowedWrites.release(Integer.MAX_VALUE / 2);
+        await(() -> soundEngine.getPlayedCount() == 3 && soundEngine.getActiveVoices() == 0);
+        assertEquals(0, soundEngine.getQueuedCount());
+    }
+
+    @Test
+    void shouldDropSoundsWhenTheQueueIsFull() {
+        soundEngine = new SoundEngine(0, 2, (format, bufferSize) -> new RecordingLine(Integer.MAX_VALUE), () -> 1);
+
+        assertTrue(soundEngine.play("first.wav"));
+        assertTrue(soundEngine.play("second.wav"));
+        assertFalse(soundEngine.play("third.wav"));
+
+        assertEquals(2, soundEngine.getQueuedCount());
+        assertEquals(1, soundEngine.getDroppedCount());
+    }
+
+    @Test
+    void shouldCutAStoppedSound() throws Exception {
+        String sound = writeSound("long.wav", PcmSound.FORMAT, 44100, 0);
+        RecordingLine line = new RecordingLine(1);
+        soundEngine = new SoundEngine(1, 4, (format, bufferSize) -> line, () -> 1);
+
+        soundEngine.play(sound);
+        await(() -> soundEngine.getPlayedCount() == 1);
+        soundEngine.stop(sound);
+        line.allowedWrites.release(Integer.MAX_VALUE / 2);
+        await(() -> soundEngine.getActiveVoices() == 0);
+
+        assertTrue(line.getWritten().length < 44100 * 4 / 2);
+        assertEquals(1, line.flushCount.get());
+    }
+
+    @Test
+    void shouldDiscardTheQueuedSoundsWhenStopped() {
+        soundEngine = new SoundEngine(0, 4, (format, bufferSize) -> new RecordingLine(Integer.MAX_VALUE), () -> 1);
+        soundEngine.play("first.wav");
+        soundEngine.play("second.wav");
+        soundEngine.play("first.wav");
+
+        soundEngine.stop("first.wav");
+
+        assertEquals(1, soundEngine.getQueuedCount());
+    }
+}
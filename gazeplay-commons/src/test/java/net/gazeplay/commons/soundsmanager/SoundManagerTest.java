@@ -1,38 +1,47 @@
 package net.gazeplay.commons.soundsmanager;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 public class SoundManagerTest {
 
+    private SoundEngine soundEngine;
+
     private SoundManager soundManager;
 
     @BeforeEach
     void initSoundManager() {
-        soundManager = new SoundManager();
+        // no voice, so that the sounds stay in the queue
+        soundEngine = new SoundEngine(0, 8, (format, bufferSize) -> {
+            throw new AssertionError("no line should be opened");
+        }, () -> 1);
+        soundManager = new SoundManager(soundEngine);
+    }
+
+    @AfterEach
+    void shutdown() throws InterruptedException {
+        soundEngine.shutdown();
     }
 
     @Test
-    void shouldAddSeveralFilesNameToTheList() {
+    void shouldAddSeveralFilesNameToTheQueue() {
         soundManager.add("music/mvmt0.wav");
         soundManager.add("music/hand_sound1.mp3");
         soundManager.add("music/song.mp3");
 
-        Assertions.assertTrue(soundManager.getListOfMusicToPlay().contains("music/mvmt0.wav"));
-        Assertions.assertTrue(soundManager.getListOfMusicToPlay().contains("music/hand_sound1.mp3"));
-        Assertions.assertTrue(soundManager.getListOfMusicToPlay().contains("music/song.mp3"));
+        Assertions.assertEquals(3, soundEngine.getQueuedCount());
     }
 
     @Test
-    void shouldRemoveFilesFromListWhenPlayed() {
+    void shouldRemoveFilesFromQueueWhenCleared() {
         soundManager.add("music/mvmt0.wav");
         soundManager.add("music/hand_sound1.mp3");
 
-        soundManager.playRequestedSounds();
-        Assertions.assertFalse(soundManager.getListOfMusicToPlay().contains("music/mvmt0.wav"));
-        soundManager.playRequestedSounds();
-        Assertions.assertFalse(soundManager.getListOfMusicToPlay().contains("music/hand_sound1.mp3"));
+        soundManager.clear();
+
+        Assertions.assertEquals(0, soundEngine.getQueuedCount());
     }
 
 }
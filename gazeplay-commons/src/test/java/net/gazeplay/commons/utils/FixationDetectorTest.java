@@ -0,0 +1,159 @@
+package net.gazeplay.commons.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FixationDetectorTest {
+
+    private final List<Fixation> fixations = new ArrayList<>();
+
+    /**
+     * Adds samples every 10 ms around the given position, spread over 4 pixels in x and 3 pixels in y
+     */
+    private static long addFixation(FixationDetector detector, long startTime, int sampleCount, double x, double y) {
+        long time = startTime;
+        for (int i = 0; i < sampleCount; i++) {
+            detector.add(time, x + (i % 3) * 2, y + (i % 2) * 3);
+            time += 10;
+        }
+        return time;
+    }
+
+    private void assertFixation(Fixation fixation, int firstSample, int sampleCount, long startTime, double x, double y) {
+        assertEquals(firstSample, fixation.getFirstSample());
+        assertEquals(sampleCount, fixation.getSampleCount());
+        assertEquals(startTime, fixation.getStartTime());
+        assertEquals((sampleCount - 1) * 10, fixation.getDuration());
+        assertEquals(x, fixation.getX(), 2);
+        assertEquals(y, fixation.getY(), 2);
+    }
+
+    @Test
+    void shouldFindFixationsByDispersion() {
+        FixationDetector detector = new FixationDetector(FixationDetector.Algorithm.DISPERSION, 1000, 50, 100, 100, fixations::add);
+
+        long time = addFixation(detector, 1000, 20, 100, 100);
+        addFixation(detector, time, 30, 500, 400);
+        assertEquals(1, fixations.size());
+
+        detector.flush();
+
+        assertEquals(2, fixations.size());
+        assertFixation(fixations.get(0), 0, 20, 1000, 102, 101);
+        assertFixation(fixations.get(1), 20, 30, 1200, 502, 401);
+    }
+
+    @Test
+    void shouldFindFixationsByVelocity() {
+        FixationDetector detector = new FixationDetector(FixationDetector.Algorithm.VELOCITY, 1000, 50, 100, 100, fixations::add);
+
+        long time = addFixation(detector, 1000, 20, 100, 100);
+        addFixation(detector, time, 30, 500, 400);
+        assertEquals(1, fixations.size());
+
+        detector.flush();
+
+        assertEquals(2, fixations.size());
+        assertFixation(fixations.get(0), 0, 20, 1000, 102, 101);
+        assertFixation(fixations.get(1), 20, 30, 1200, 502, 401);
+    }
+
+    @Test
+    void shouldDiscardShortFixations() {
+        FixationDetector dispersionDetector = new FixationDetector(FixationDetector.Algorithm.DISPERSION, 1000, 50, 100, 100, fixations::add);
+        FixationDetector velocityDetector = new FixationDetector(FixationDetector.Algorithm.VELOCITY, 1000, 50, 100, 100, fixations::add);
+
+        for (FixationDetector detector : List.of(dispersionDetector, velocityDetector)) {
+            long time = addFixation(detector, 1000, 5, 100, 100);
+            time = addFixation(detector, time, 5, 800, 100);
+            addFixation(detector, time, 5, 100, 600);
+            detector.flush();
+        }
+
+        assertEquals(0, fixations.size());
+    }
+
+    @Test
+    void shouldSplitFixationWhenTheGazeDrifts() {
+        FixationDetector detector = new FixationDetector(FixationDetector.Algorithm.DISPERSION, 1000, 50, 100, 100, fixations::add);
+
+        // a slow drift of 1 pixel every 10 ms
+        for (int i = 0; i < 100; i++) {
+            detector.add(i * 10, 100 + i, 100);
+        }
+        detector.flush();
+
+        assertEquals(2, fixations.size());
+        assertEquals(51, fixations.get(0).getSampleCount());
+        assertEquals(49, fixations.get(1).getSampleCount());
+        assertEquals(51, fixations.get(1).getFirstSample());
+    }
+
+    @Test
+    void shouldKeepTheWindowOfAHighFrequencySignal() {
+        FixationDetector detector = new FixationDetector(FixationDetector.Algorithm.DISPERSION, 1000, 50, 500, 100, fixations::add);
+
+        // a 1000 Hz signal, the window holds 500 samples before its dispersion is tested
+        for (int i = 0; i < 1000; i++) {
+            detector.add(i, 100 + (i % 5), 100);
+        }
+        detector.flush();
+
+        assertEquals(1, fixations.size());
+        assertEquals(1000, fixations.get(0).getSampleCount());
+        assertEquals(999, fixations.get(0).getDuration());
+        assertEquals(1000, detector.getSampleCount());
+    }
+
+    @Test
+    void shouldKeepTheDwellBeforeAGap() {
+        FixationDetector dispersionDetector = new FixationDetector(FixationDetector.Algorithm.DISPERSION, 1000, 50, 100, 100, fixations::add);
+        FixationDetector velocityDetector = new FixationDetector(FixationDetector.Algorithm.VELOCITY, 1000, 50, 100, 100, fixations::add);
+
+        for (FixationDetector detector : List.of(dispersionDetector, velocityDetector)) {
+            // the pointer moves quickly, stays still for a second without sending any sample, then jumps away
+            for (int i = 0; i < 5; i++) {
+                detector.add(1000 + i * 10, 100 + i * 100, 100);
+            }
+            detector.add(2040, 900, 600);
+            detector.add(2050, 950, 650);
+            detector.flush();
+        }
+
+        assertEquals(2, fixations.size());
+        for (Fixation fixation : fixations) {
+            assertEquals(4, fixation.getFirstSample());
+            assertEquals(1, fixation.getSampleCount());
+            assertEquals(1040, fixation.getStartTime());
+            assertEquals(1000, fixation.getDuration());
+            assertEquals(500, fixation.getX());
+            assertEquals(100, fixation.getY());
+        }
+    }
+
+    @Test
+    void shouldAddSamplesFromBuffers() {
+        long[] times = new long[40];
+        double[] xs = new double[40];
+        double[] ys = new double[40];
+        for (int i = 0; i < 40; i++) {
+            times[i] = i * 10;
+            xs[i] = i < 20 ? 100 : 700;
+            ys[i] = 300;
+        }
+        FixationDetector detector = new FixationDetector(FixationDetector.Algorithm.VELOCITY, 1000, 50, 100, 100, fixations::add);
+
+        detector.add(times, xs, ys, 0, 40);
+        detector.flush();
+
+        assertEquals(2, fixations.size());
+        assertTrue(fixations.get(0).getX() < fixations.get(1).getX());
+        assertEquals(20, fixations.get(1).getFirstSample());
+    }
+
+}
@@ -0,0 +1,53 @@
+package net.gazeplay.commons.utils.games;
+
+import javafx.scene.image.Image;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(ApplicationExtension.class)
+class ImageCacheTest {
+
+    private static final String IMAGE = "data/biboule/images/gazeplayClassicLogo.png";
+
+    @Test
+    void shouldDecodeTheImageAtTheRequestedSize() {
+        ImageCache cache = new ImageCache(1024 * 1024);
+
+        Image image = cache.get(IMAGE, 50, 50, false);
+
+        assertTrue(image.getWidth() <= 50);
+        assertTrue(image.getHeight() <= 50);
+        assertEquals((long) (image.getWidth() * image.getHeight() * 4), cache.getWeight());
+    }
+
+    @Test
+    void shouldReturnTheCachedImage() {
+        ImageCache cache = new ImageCache(1024 * 1024);
+
+        Image image = cache.get(IMAGE, 50, 50, false);
+
+        assertSame(image, cache.get(IMAGE, 50, 50, false));
+        assertNotSame(image, cache.get(IMAGE, 20, 20, false));
+        assertEquals(1, cache.getStats().hitCount());
+        assertEquals(2, cache.getStats().missCount());
+    }
+
+    @Test
+    void shouldEvictTheImagesOverTheBudget() {
+        ImageCache cache = new ImageCache(1);
+
+        cache.get(IMAGE, 50, 50, false);
+        cache.get(IMAGE, 50, 50, false);
+
+        assertEquals(2, cache.getStats().missCount());
+        assertTrue(cache.getStats().evictionCount() > 0);
+        assertEquals(0, cache.getWeight());
+    }
+
+}
@@ -0,0 +1,65 @@
+package net.gazeplay.commons.utils.games;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResourceIndexTest {
+
+    private final ResourceIndex index = ResourceIndex.of(List.of(
+        "data/whereisit/images/cat/cat1.png",
+        "data/biboule/images/gazeplayClassicLogo.png",
+        "data/whereisit/images/cat/cat2.jpg",
+        "data/whereisit/images/cats/cats1.png",
+        "data/whereisit/sounds/cat.mp3",
+        "logback.xml"
+    ));
+
+    @Test
+    void shouldFindThePathsWithAPrefix() {
+        assertEquals(List.of(
+            "data/whereisit/images/cat/cat1.png",
+            "data/whereisit/images/cat/cat2.jpg",
+            "data/whereisit/images/cats/cats1.png"
+        ), index.withPrefix("data/whereisit/images/"));
+        assertEquals(List.of("data/whereisit/images/cats/cats1.png"), index.withPrefix("data/whereisit/images/cats"));
+    }
+
+    @Test
+    void shouldFindNothingForAnUnknownPrefix() {
+        assertTrue(index.withPrefix("data/unknown/").isEmpty());
+        assertTrue(index.withPrefix("zzz").isEmpty());
+    }
+
+    @Test
+    void shouldFindAllThePathsForAnEmptyPrefix() {
+        assertEquals(6, index.withPrefix("").size());
+    }
+
+    @Test
+    void shouldContainTheIndexedPaths() {
+        assertTrue(index.contains("logback.xml"));
+        assertFalse(index.contains("data/whereisit"));
+    }
+
+    @Test
+    void shouldGetTheImagesOfADirectoryOnly() {
+        assertEquals(2, ResourceFileManager.getResourcePaths(index, "data/whereisit/images/cat").size());
+        assertEquals(3, ResourceFileManager.getResourcePaths(index, "data\\whereisit\\images\\").size());
+        assertEquals(4, ResourceFileManager.getResourcePaths(index, "/data").size());
+    }
+
+    @Test
+    void shouldLoadTheIndexesOfTheClasspath() {
+        ResourceIndex loaded = ResourceIndex.load(getClass().getClassLoader());
+
+        assertNotNull(loaded);
+        assertTrue(loaded.contains("data/biboule/images/gazeplayClassicLogo.png"));
+    }
+
+}
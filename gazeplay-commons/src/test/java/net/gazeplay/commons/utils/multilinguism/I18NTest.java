@@ -3,7 +3,6 @@ package net.gazeplay.commons.utils.multilinguism;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
-import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -13,7 +12,7 @@ class I18NTest {
 
     @Test
     void shouldLoadTranslationsFromResource() {
-        final Map<I18N.Entry, String> translations = I18N.loadFromFile("data/multilinguism/translation.csv");
+        final TranslationTable translations = I18N.loadFromFile("data/multilinguism/translation.csv");
         assert translations.size() == 6;
     }
 
@@ -26,7 +25,7 @@ class I18NTest {
             FILESEPARATOR + "data" +
             FILESEPARATOR + "multilinguism" +
             FILESEPARATOR + "translation.csv";
-        final Map<I18N.Entry, String> translations = I18N.loadFromFile(file);
+        final TranslationTable translations = I18N.loadFromFile(file);
         assert translations.size() == 6;
     }
 
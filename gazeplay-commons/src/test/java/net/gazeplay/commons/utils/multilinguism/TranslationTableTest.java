@@ -0,0 +1,68 @@
+package net.gazeplay.commons.utils.multilinguism;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TranslationTableTest {
+
+    private static TranslationTable parse(String content) throws IOException {
+        return TranslationTable.parse(new BufferedReader(new StringReader(content)));
+    }
+
+    @Test
+    void shouldTranslateKeys() throws IOException {
+        TranslationTable table = parse(",eng,fra\nhello,Hello,Bonjour\nbye,Bye,Au revoir\n");
+
+        assertEquals("Hello", table.get("hello", "eng"));
+        assertEquals("Au revoir", table.get("bye", "fra"));
+        assertEquals(4, table.size());
+    }
+
+    @Test
+    void shouldStripTheKeysLanguagesAndTranslations() throws IOException {
+        TranslationTable table = parse("\t, eng ,\tfra\n hello , Hello ,Bonjour\t\n");
+
+        assertEquals("Hello", table.get("hello", "eng"));
+        assertEquals("Bonjour", table.get("hello", "fra"));
+    }
+
+    @Test
+    void shouldReturnNullForUnknownKeysAndLanguages() throws IOException {
+        TranslationTable table = parse(",eng,fra\nhello,Hello,Bonjour\n");
+
+        assertNull(table.get("unknown", "eng"));
+        assertNull(table.get("hello", "deu"));
+    }
+
+    @Test
+    void shouldKeepEmptyTranslationsButNotMissingOnes() throws IOException {
+        TranslationTable table = parse(",eng,fra,deu\nhello,,Bonjour\n");
+
+        assertEquals("", table.get("hello", "eng"));
+        assertNull(table.get("hello", "deu"));
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    void shouldKeepTheLastTranslationOfADuplicatedKey() throws IOException {
+        TranslationTable table = parse(",eng\nhello,Hello\nhello,Hi\n");
+
+        assertEquals("Hi", table.get("hello", "eng"));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    void shouldLoadAnEmptyFile() throws IOException {
+        TranslationTable table = parse("");
+
+        assertNull(table.get("hello", "eng"));
+        assertEquals(0, table.size());
+    }
+
+}
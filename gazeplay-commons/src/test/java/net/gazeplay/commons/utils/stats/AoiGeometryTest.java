@@ -0,0 +1,134 @@
+package net.gazeplay.commons.utils.stats;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AoiGeometryTest {
+
+    private static double[] rectangle(double minX, double minY, double maxX, double maxY) {
+        return new double[]{minX, maxY, maxX, maxY, maxX, minY, minX, minY};
+    }
+
+    @Test
+    void shouldCalculateBoundingRectangle() {
+        double[] points = {500, 500, 385, 615, 815, 185};
+
+        double[] result = AoiGeometry.boundingRectangle(points, 15);
+
+        assertArrayEquals(new double[]{370, 630, 830, 630, 830, 170, 370, 170}, result);
+    }
+
+    @Test
+    void shouldCalculateConvexHull() {
+        double[] points = {2, 2, 2, 3, 3, 5, 1, 2, 1.25, 3, 2, 1, 4, 2};
+
+        double[] result = AoiGeometry.convexHull(points);
+
+        assertArrayEquals(new double[]{1, 2, 2, 1, 4, 2, 3, 5, 1.25, 3}, result);
+    }
+
+    @Test
+    void shouldLeaveCollinearPointsOutOfConvexHull() {
+        double[] points = {0, 0, 1, 0, 2, 0, 2, 2, 0, 2, 1, 1};
+
+        double[] result = AoiGeometry.convexHull(points);
+
+        assertArrayEquals(new double[]{0, 0, 2, 0, 2, 2, 0, 2}, result);
+    }
+
+    @Test
+    void shouldCalculateAreaWhateverTheOrientation() {
+        double[] clockwise = rectangle(0, 0, 4, 3);
+        double[] counterclockwise = {0, 0, 4, 0, 4, 3, 0, 3};
+
+        assertEquals(12, AoiGeometry.area(clockwise));
+        assertEquals(12, AoiGeometry.area(counterclockwise));
+    }
+
+    @Test
+    void shouldIntersectRectangles() {
+        double[] first = rectangle(0, 0, 10, 10);
+        double[] second = rectangle(5, -5, 20, 8);
+
+        double[] intersection = AoiGeometry.intersection(first, second);
+
+        assertEquals(40, AoiGeometry.area(intersection), 1e-9);
+        assertArrayEquals(new double[]{5, 0, 10, 8}, AoiGeometry.bounds(intersection), 1e-9);
+    }
+
+    @Test
+    void shouldIntersectTriangleWithRectangle() {
+        double[] triangle = {0, 0, 10, 0, 0, 10};
+        double[] square = rectangle(0, 0, 5, 5);
+
+        assertEquals(25, AoiGeometry.intersectionArea(triangle, square), 1e-9);
+        assertEquals(25, AoiGeometry.intersectionArea(square, triangle), 1e-9);
+    }
+
+    @Test
+    void shouldNotIntersectDisjointPolygons() {
+        double[] first = rectangle(0, 0, 10, 10);
+        double[] second = rectangle(20, 20, 30, 30);
+
+        assertEquals(0, AoiGeometry.intersection(first, second).length);
+        assertEquals(0, AoiGeometry.intersectionArea(first, second));
+    }
+
+    @Test
+    void shouldGroupOverlappingPolygons() {
+        List<double[]> polygons = List.of(
+            rectangle(0, 0, 10, 10),
+            rectangle(100, 100, 110, 110),
+            rectangle(1, 1, 11, 11),
+            rectangle(2, 2, 12, 12),
+            rectangle(9, 9, 19, 19),
+            rectangle(101, 100, 111, 110)
+        );
+
+        int[] groups = AoiGeometry.connectedComponents(polygons, 0.7);
+
+        assertArrayEquals(new int[]{0, 1, 0, 0, -1, 1}, groups);
+    }
+
+    @Test
+    void shouldCompareOverlapWithTheSmallerPolygon() {
+        List<double[]> polygons = List.of(
+            rectangle(0, 0, 100, 100),
+            rectangle(10, 10, 20, 20)
+        );
+
+        assertArrayEquals(new int[]{0, 0}, AoiGeometry.connectedComponents(polygons, 0.7));
+    }
+
+    @Test
+    void shouldGroupLikeTheExhaustiveComparison() {
+        Random random = new Random(42);
+        List<double[]> polygons = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            double x = random.nextInt(1000);
+            double y = random.nextInt(1000);
+            polygons.add(rectangle(x, y, x + 20 + random.nextInt(60), y + 20 + random.nextInt(60)));
+        }
+
+        int[] groups = AoiGeometry.connectedComponents(polygons, 0.7);
+
+        for (int i = 0; i < polygons.size(); i++) {
+            for (int j = i + 1; j < polygons.size(); j++) {
+                double overlap = AoiGeometry.intersectionArea(polygons.get(i), polygons.get(j));
+                double smallerArea = Math.min(AoiGeometry.area(polygons.get(i)), AoiGeometry.area(polygons.get(j)));
+                if (overlap > 0.7 * smallerArea) {
+                    assertEquals(groups[i], groups[j]);
+                    assertTrue(groups[j] != -1 && groups[j] <= i);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,80 @@
+package net.gazeplay.commons.utils.stats;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeatMapAccumulatorTest {
+
+    @Test
+    void shouldSizeTheGridFromTheScene() {
+        HeatMapAccumulator heatMap = new HeatMapAccumulator(1600, 900);
+
+        assertEquals(400, heatMap.getColumns());
+        assertEquals(225, heatMap.getRows());
+        assertEquals(225, heatMap.toArray().length);
+        assertEquals(400, heatMap.toArray()[0].length);
+    }
+
+    @Test
+    void shouldStampADisk() {
+        HeatMapAccumulator heatMap = new HeatMapAccumulator(1600, 900);
+
+        heatMap.add(800, 400, ReplayDataWriter.EVENT_GAZE);
+        double[][] data = heatMap.toArray();
+
+        int cells = 0;
+        for (double[] row : data) {
+            for (double value : row) {
+                cells += value;
+            }
+        }
+        // the cells strictly closer than 10 cells to the center
+        assertEquals(305, cells);
+        assertEquals(1, data[100][200]);
+        assertEquals(1, data[100][209]);
+        assertEquals(0, data[100][210]);
+        assertEquals(1, data[93][207]);
+        assertEquals(0, data[92][207]);
+    }
+
+    @Test
+    void shouldClipTheStampOnTheEdges() {
+        HeatMapAccumulator heatMap = new HeatMapAccumulator(1600, 900);
+
+        heatMap.add(0, 0, ReplayDataWriter.EVENT_GAZE);
+        heatMap.add(1599, 899, ReplayDataWriter.EVENT_GAZE);
+        heatMap.add(-1000, 5000, ReplayDataWriter.EVENT_GAZE);
+        double[][] data = heatMap.toArray();
+
+        assertEquals(1, data[0][0]);
+        assertEquals(1, data[224][399]);
+    }
+
+    @Test
+    void shouldKeepGazeAndMouseApart() {
+        HeatMapAccumulator heatMap = new HeatMapAccumulator(1600, 900);
+
+        heatMap.add(800, 400, ReplayDataWriter.EVENT_GAZE);
+        heatMap.add(800, 400, ReplayDataWriter.EVENT_MOUSE);
+        heatMap.add(800, 400, ReplayDataWriter.EVENT_MOUSE);
+
+        assertEquals(1, heatMap.toArray(ReplayDataWriter.EVENT_GAZE)[100][200]);
+        assertEquals(2, heatMap.toArray(ReplayDataWriter.EVENT_MOUSE)[100][200]);
+        assertEquals(3, heatMap.toArray()[100][200]);
+    }
+
+    @Test
+    void shouldAccumulatePerTimeWindow() {
+        HeatMapAccumulator heatMap = new HeatMapAccumulator(1600, 900, 400, 10, HeatMapAccumulator.Kernel.GAUSSIAN, 1000);
+
+        heatMap.add(800, 400, ReplayDataWriter.EVENT_GAZE, 500);
+        heatMap.add(800, 400, ReplayDataWriter.EVENT_GAZE, 2500);
+
+        assertEquals(3, heatMap.getWindowCount());
+        assertTrue(heatMap.toWindowArray(0)[100][200] > heatMap.toWindowArray(0)[100][205]);
+        assertEquals(0, heatMap.toWindowArray(1)[100][200]);
+        assertEquals(heatMap.toWindowArray(0)[100][200], heatMap.toWindowArray(2)[100][200]);
+    }
+
+}
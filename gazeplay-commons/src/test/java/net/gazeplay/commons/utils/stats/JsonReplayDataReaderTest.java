@@ -0,0 +1,67 @@
+package net.gazeplay.commons.utils.stats;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonReplayDataReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private File write(String json) throws IOException {
+        Path file = tempDir.resolve("replayData.json");
+        Files.write(file, json.getBytes(Charset.defaultCharset()));
+        return file.toFile();
+    }
+
+    @Test
+    void shouldStreamTheSamples() throws IOException {
+        File file = write("{\"gameSeed\":1,\"gameName\":\"Cakes\",\"fixationSequence\":[[]],"
+            + "\"coordinatesAndTimeStamp\":["
+            + "{\"X\":0.5,\"Y\":0.25,\"time\":100,\"event\":\"gaze\"},"
+            + "{\"X\":\"0.75\",\"Y\":0.125,\"time\":130,\"event\":\"mouse\",\"extra\":{}}"
+            + "],\"sceneAspectRatio\":0.5}");
+
+        try (JsonReplayDataReader reader = new JsonReplayDataReader(file)) {
+            assertTrue(reader.next());
+            assertEquals(100, reader.getTime());
+            assertEquals(0.5, reader.getX());
+            assertEquals(0.25, reader.getY());
+            assertEquals(ReplayDataWriter.EVENT_GAZE, reader.getEvent());
+
+            assertTrue(reader.next());
+            assertEquals(130, reader.getTime());
+            assertEquals(0.75, reader.getX());
+            assertEquals(0.125, reader.getY());
+            assertEquals(ReplayDataWriter.EVENT_MOUSE, reader.getEvent());
+
+            assertFalse(reader.next());
+            assertFalse(reader.next());
+        }
+    }
+
+    @Test
+    void shouldRejectIncompleteSamples() throws IOException {
+        File file = write("{\"coordinatesAndTimeStamp\":[{\"X\":0.5,\"time\":100,\"event\":\"gaze\"}]}");
+
+        try (JsonReplayDataReader reader = new JsonReplayDataReader(file)) {
+            assertThrows(IOException.class, reader::next);
+        }
+    }
+
+    @Test
+    void shouldRejectFilesWithoutSamples() throws IOException {
+        File file = write("{\"gameSeed\":1,\"gameName\":\"Cakes\"}");
+
+        assertThrows(IOException.class, () -> new JsonReplayDataReader(file));
+    }
+
+}
@@ -0,0 +1,141 @@
+package net.gazeplay.commons.utils.stats;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(ApplicationExtension.class)
+class ReplayClockTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    private static class FakeTrack implements ReplayClock.Track {
+
+        private final long[] times;
+
+        private int index = 0;
+
+        private final List<Integer> played = new ArrayList<>();
+
+        private int frames = 0;
+
+        private boolean finished = false;
+
+        FakeTrack(long... times) {
+            this.times = times;
+        }
+
+        @Override
+        public long peekTime() {
+            return index < times.length ? times[index] : -1;
+        }
+
+        @Override
+        public void playNext() {
+            played.add(index++);
+        }
+
+        @Override
+        public void seek(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public void frameDone(long replayTime) {
+            frames++;
+        }
+
+        @Override
+        public void finished() {
+            finished = true;
+        }
+
+    }
+
+    @Test
+    void shouldPlayTheSamplesDueInTheSameFrameTogether() {
+        FakeTrack track = new FakeTrack(100, 110, 120, 200);
+        ReplayClock clock = new ReplayClock(track);
+        long start = System.nanoTime();
+
+        clock.handle(start);
+        assertEquals(List.of(0), track.played);
+
+        clock.handle(start + 25 * MILLIS);
+        assertEquals(List.of(0, 1, 2), track.played);
+        assertEquals(2, track.frames);
+
+        clock.handle(start + 100 * MILLIS);
+        assertEquals(List.of(0, 1, 2, 3), track.played);
+        assertTrue(track.finished);
+    }
+
+    @Test
+    void shouldScheduleAgainstAbsoluteTimestamps() {
+        FakeTrack track = new FakeTrack(0, 1000, 2000);
+        ReplayClock clock = new ReplayClock(track);
+        long start = System.nanoTime();
+
+        clock.handle(start);
+        // a late frame catches up with every sample which is due, without shifting the next ones
+        clock.handle(start + 1500 * MILLIS);
+        assertEquals(List.of(0, 1), track.played);
+        clock.handle(start + 1999 * MILLIS);
+        assertEquals(List.of(0, 1), track.played);
+        clock.handle(start + 2000 * MILLIS);
+        assertEquals(List.of(0, 1, 2), track.played);
+    }
+
+    @Test
+    void shouldSeekToTheGivenSample() {
+        FakeTrack track = new FakeTrack(0, 1000, 2000, 3000);
+        ReplayClock clock = new ReplayClock(track);
+        long start = System.nanoTime();
+
+        clock.handle(start);
+        clock.seek(2);
+        clock.handle(start + 10 * MILLIS);
+        assertEquals(List.of(0, 2), track.played);
+    }
+
+    @Test
+    void shouldClampTheSpeed() {
+        ReplayClock clock = new ReplayClock(new FakeTrack(0));
+
+        clock.setSpeed(100);
+        assertEquals(ReplayClock.MAX_SPEED, clock.getSpeed());
+
+        clock.setSpeed(0.01);
+        assertEquals(ReplayClock.MIN_SPEED, clock.getSpeed());
+    }
+
+    @Test
+    void shouldKeepTheSlowMotionSpeeds() {
+        ReplayClock clock = new ReplayClock(new FakeTrack(0));
+
+        // the 8x and 10x slow replays of the areas of interest
+        clock.setSpeed(1 / 4.8);
+        assertEquals(1 / 4.8, clock.getSpeed());
+
+        clock.setSpeed(1 / 6.0);
+        assertEquals(1 / 6.0, clock.getSpeed());
+    }
+
+    @Test
+    void shouldNotPlayWhilePaused() {
+        FakeTrack track = new FakeTrack(0, 10);
+        ReplayClock clock = new ReplayClock(track);
+
+        clock.handle(System.nanoTime());
+        clock.pause();
+        clock.handle(System.nanoTime() + 1000 * MILLIS);
+        assertEquals(List.of(0), track.played);
+        assertTrue(clock.isPaused());
+    }
+
+}
@@ -0,0 +1,116 @@
+package net.gazeplay.commons.utils.stats;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayDataWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldWriteFixedWidthRecords() throws IOException {
+        File file = tempDir.resolve("replayData.bin").toFile();
+        try (ReplayDataWriter writer = new ReplayDataWriter(file)) {
+            for (int i = 0; i < 10_000; i++) {
+                writer.write(i * 10L, 0.5, 0.25, ReplayDataWriter.EVENT_GAZE);
+            }
+            assertEquals(10_000, writer.getRecordCount());
+        }
+
+        assertEquals(ReplayDataWriter.HEADER_SIZE + 10_000L * ReplayDataWriter.RECORD_SIZE, file.length());
+    }
+
+    @Test
+    void shouldReadBackTheRecords() throws IOException {
+        File file = tempDir.resolve("replayData.bin").toFile();
+        try (ReplayDataWriter writer = new ReplayDataWriter(file)) {
+            writer.write(100, 0.5, 0.25, ReplayDataWriter.EVENT_GAZE);
+            writer.write(130, 0.75, 0.125, ReplayDataWriter.EVENT_MOUSE);
+        }
+
+        try (ReplayDataReader reader = new ReplayDataReader(file)) {
+            assertEquals(2, reader.getRecordCount());
+
+            assertTrue(reader.next());
+            assertEquals(100, reader.getTime());
+            assertEquals(0.5, reader.getX());
+            assertEquals(0.25, reader.getY());
+            assertEquals(ReplayDataWriter.EVENT_GAZE, reader.getEvent());
+
+            assertTrue(reader.next());
+            assertEquals(130, reader.getTime());
+            assertEquals(0.75, reader.getX());
+            assertEquals(0.125, reader.getY());
+            assertEquals(ReplayDataWriter.EVENT_MOUSE, reader.getEvent());
+
+            assertFalse(reader.next());
+        }
+    }
+
+    @Test
+    void shouldReadMoreRecordsThanTheBufferHolds() throws IOException {
+        File file = tempDir.resolve("replayData.bin").toFile();
+        try (ReplayDataWriter writer = new ReplayDataWriter(file)) {
+            for (int i = 0; i < 10_000; i++) {
+                writer.write(i * 10L, i / 10_000.0, 0.25, ReplayDataWriter.EVENT_GAZE);
+            }
+        }
+
+        int count = 0;
+        try (ReplayDataReader reader = new ReplayDataReader(file)) {
+            while (reader.next()) {
+                assertEquals(count * 10L, reader.getTime());
+                assertEquals((float) (count / 10_000.0), reader.getX());
+                count++;
+            }
+        }
+        assertEquals(10_000, count);
+
+        // the file is not locked once read
+        Files.move(file.toPath(), tempDir.resolve("moved.bin"));
+    }
+
+    @Test
+    void shouldConvertToTheJsonReplayDataFormat() throws IOException {
+        File file = tempDir.resolve("replayData.bin").toFile();
+        try (ReplayDataWriter writer = new ReplayDataWriter(file)) {
+            writer.write(100, 0.5, 0.25, ReplayDataWriter.eventType("gaze"));
+            writer.write(130, 0.75, 0.125, ReplayDataWriter.eventType("mouse"));
+        }
+
+        StringWriter json = new StringWriter();
+        try (ReplayDataReader reader = new ReplayDataReader(file)) {
+            reader.writeAsJson(new JsonWriter(json));
+        }
+
+        JsonArray coordinates = new JsonParser().parse(json.toString()).getAsJsonArray();
+        assertEquals(2, coordinates.size());
+        JsonObject second = coordinates.get(1).getAsJsonObject();
+        assertEquals(0.75, second.get("X").getAsDouble());
+        assertEquals(0.125, second.get("Y").getAsDouble());
+        assertEquals(130, second.get("time").getAsLong());
+        assertEquals("mouse", second.get("event").getAsString());
+    }
+
+    @Test
+    void shouldRejectOtherFiles() throws IOException {
+        Path other = tempDir.resolve("other.bin");
+        Files.write(other, new byte[]{1, 2, 3, 4, 5, 6, 7});
+
+        assertThrows(IOException.class, () -> new ReplayDataReader(other.toFile()));
+    }
+
+}
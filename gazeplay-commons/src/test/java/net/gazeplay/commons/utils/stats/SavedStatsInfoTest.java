@@ -0,0 +1,56 @@
+package net.gazeplay.commons.utils.stats;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SavedStatsInfoTest {
+
+    private final File screenshotFile = new File("screenshot.png");
+
+    private final File metricsFile = new File("metrics.png");
+
+    private final SavedStatsInfo savedStatsInfo = new SavedStatsInfo(new File("heatmap.csv"), metricsFile, metricsFile,
+        metricsFile, screenshotFile, new File("colorBands.png"), new File("replayData.json"));
+
+    private final List<String> actions = new ArrayList<>();
+
+    @Test
+    void shouldRunActionOnceTheFileIsSaved() {
+        savedStatsInfo.expectFiles(2);
+        savedStatsInfo.whenFileSaved(screenshotFile, () -> actions.add("screenshot"));
+
+        savedStatsInfo.notifyFileSaved(metricsFile);
+        assertEquals(List.of(), actions);
+
+        savedStatsInfo.notifyFileSaved(screenshotFile);
+        savedStatsInfo.notifyFilesReady();
+        assertEquals(List.of("screenshot"), actions);
+    }
+
+    @Test
+    void shouldRunActionRightAwayWhenTheFileIsAlreadySaved() {
+        savedStatsInfo.expectFiles(1);
+        savedStatsInfo.notifyFileSaved(screenshotFile);
+
+        savedStatsInfo.whenFileSaved(screenshotFile, () -> actions.add("screenshot"));
+
+        assertEquals(List.of("screenshot"), actions);
+    }
+
+    @Test
+    void shouldRunActionWhenTheFilesAreReadyWithoutIt() {
+        savedStatsInfo.expectFiles(1);
+        savedStatsInfo.whenFileSaved(screenshotFile, () -> actions.add("screenshot"));
+
+        savedStatsInfo.notifyFilesReady();
+        savedStatsInfo.whenFileSaved(metricsFile, () -> actions.add("metrics"));
+
+        assertEquals(List.of("screenshot", "metrics"), actions);
+    }
+
+}
@@ -28,6 +28,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -58,10 +59,10 @@ class StatsTest {
         when(mockScene.getHeight()).thenReturn(30.0);
         when(mockScene.getWidth()).thenReturn(60.0);
 
-        double[][] result = Stats.instantiateHeatMapData(mockScene, 3.0);
+        HeatMapAccumulator result = Stats.instantiateHeatMapData(mockScene);
 
-        assertEquals(10, result.length);
-        assertEquals(20, result[0].length);
+        assertEquals(200, result.getRows());
+        assertEquals(400, result.getColumns());
     }
 
     @Test
@@ -224,15 +225,18 @@ class StatsTest {
         stats.gazeMoved(new Point2D(30, 40));
         stats.gazeMoved(new Point2D(20, 50));
 
+        SavedStatsInfo[] savedStatsInfo = new SavedStatsInfo[1];
         Platform.runLater(() -> {
             try {
-                stats.saveStats();
+                savedStatsInfo[0] = stats.saveStats();
             } catch (IOException e) {
                 e.printStackTrace();
             }
         });
         TestingUtils.waitForRunLater();
 
+        assertTrue(savedStatsInfo[0].awaitFilesReady(10, TimeUnit.SECONDS));
+        assertEquals(1, savedStatsInfo[0].getProgress());
         assertNotEquals(0, buildDir.list().length);
     }
 
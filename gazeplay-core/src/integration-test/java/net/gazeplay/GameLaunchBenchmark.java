@@ -0,0 +1,151 @@
+package net.gazeplay;
+
+import javafx.application.Platform;
+import javafx.event.Event;
+import javafx.scene.Scene;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.Pane;
+import javafx.stage.Stage;
+import lombok.extern.slf4j.Slf4j;
+import net.gazeplay.commons.configuration.ActiveConfigurationContext;
+import net.gazeplay.commons.gaze.devicemanager.GazeDeviceManagerFactory;
+import net.gazeplay.commons.soundsmanager.SoundsManagerFactory;
+import net.gazeplay.commons.utils.games.GazePlayDirectories;
+import net.gazeplay.ui.scenes.gamemenu.GameMenuController;
+import net.gazeplay.ui.scenes.ingame.GameContextFactoryBean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.framework.junit5.Start;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Compares the time needed to display a game when it is launched in a new JVM, as done from the game menu, with the
+ * time needed to launch it in the running JVM.
+ */
+@Slf4j
+@ExtendWith(ApplicationExtension.class)
+class GameLaunchBenchmark {
+
+    private static final String GAME_NAME_CODE = "Creampie";
+
+    private static final int ITERATIONS = 3;
+
+    private static final long PROCESS_TIMEOUT_MS = 60_000;
+
+    private AnnotationConfigApplicationContext applicationContext;
+
+    private GazePlay gazePlay;
+
+    private Stage stage;
+
+    @Start
+    void start(Stage stage) {
+        this.stage = stage;
+        stage.setScene(new Scene(new Pane(), 1280, 720));
+        stage.show();
+    }
+
+    @BeforeEach
+    void setup() {
+        ActiveConfigurationContext.switchToDefaultUser();
+        GazePlayDirectories.getGazePlayFolder().mkdirs();
+
+        applicationContext = new AnnotationConfigApplicationContext(
+            SpringApplication.class,
+            GazePlay.class,
+            GameMenuController.class,
+            GameContextFactoryBean.class,
+            CurrentScreenDimensionSupplierFactoryBean.class,
+            CurrentScreenPositionSupplierFactoryBean.class,
+            GazeDeviceManagerFactory.class,
+            SoundsManagerFactory.class
+        );
+        gazePlay = applicationContext.getBean(GazePlay.class);
+        gazePlay.setPrimaryStage(stage);
+        gazePlay.setPrimaryScene(stage.getScene());
+    }
+
+    @AfterEach
+    void tearDown() {
+        applicationContext.close();
+    }
+
+    @Test
+    void compareNewProcessWithInProcessLaunch() throws Exception {
+        GameMenuController gameMenuController = applicationContext.getBean(GameMenuController.class);
+        GameSpec gameSpec = gazePlay.getGamesLocator().listGames(gazePlay.getTranslator()).stream()
+            .filter(spec -> spec.getGameSummary().getNameCode().equals(GAME_NAME_CODE))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException(GAME_NAME_CODE));
+
+        long processNanos = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            processNanos += measureNewProcess(gameMenuController.createBuilder(GAME_NAME_CODE, null, 720, 1280));
+        }
+
+        long inProcessNanos = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            inProcessNanos += measureInProcess(gameMenuController, gameSpec);
+        }
+
+        log.info("{} : new process = {} ms/launch, in process = {} ms/launch", GAME_NAME_CODE,
+            TimeUnit.NANOSECONDS.toMillis(processNanos / ITERATIONS),
+            TimeUnit.NANOSECONDS.toMillis(inProcessNanos / ITERATIONS));
+    }
+
+    /**
+     * The child JVM deletes the token file once its stage is about to be shown
+     */
+    private static long measureNewProcess(ProcessBuilder builder) throws IOException, InterruptedException {
+        File token = new File(GazePlayDirectories.getGazePlayFolder(), "TokenLauncher");
+        assertTrue(token.exists() || token.createNewFile());
+
+        long start = System.nanoTime();
+        Process process = builder.inheritIO().start();
+        try {
+            while (token.exists()) {
+                assertTrue(process.isAlive(), "the game process exited before being displayed");
+                // a loaded machine aborts the benchmark rather than failing the build
+                assumeTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(PROCESS_TIMEOUT_MS),
+                    "the game process was not displayed within " + PROCESS_TIMEOUT_MS + " ms");
+                Thread.sleep(10);
+            }
+            return System.nanoTime() - start;
+        } finally {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private long measureInProcess(GameMenuController gameMenuController, GameSpec gameSpec) throws InterruptedException {
+        long[] start = new long[1];
+        Platform.runLater(() -> {
+            start[0] = System.nanoTime();
+            gameMenuController.chooseAndStartNewGame(gazePlay, gameSpec, null);
+        });
+        // the game is displayed at the pulse following its launch
+        TestingUtils.waitForRunLater();
+        long elapsed = System.nanoTime() - start[0];
+
+        // leave the game the way the quit shortcut does, so that the next launch starts from a clean state
+        KeyCode quitKey = KeyCode.valueOf(ActiveConfigurationContext.getInstance().getQuitKey());
+        Platform.runLater(() -> {
+            Scene scene = gazePlay.getPrimaryScene();
+            Event.fireEvent(scene, new KeyEvent(KeyEvent.KEY_PRESSED, "", "", quitKey, false, false, false, false));
+            Event.fireEvent(scene, new KeyEvent(KeyEvent.KEY_RELEASED, "", "", quitKey, false, false, false, false));
+        });
+        TestingUtils.waitForRunLater();
+        return elapsed;
+    }
+
+}
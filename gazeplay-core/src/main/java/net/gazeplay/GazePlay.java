@@ -40,6 +40,13 @@ public class GazePlay {
     @Getter
     private Scene primaryScene;
 
+    /**
+     * True when this JVM was started to play a single game or replay, it exits when leaving the stats screen
+     */
+    @Setter
+    @Getter
+    private boolean dedicatedGameProcess = false;
+
     @Autowired
     @Getter
     private Translator translator;
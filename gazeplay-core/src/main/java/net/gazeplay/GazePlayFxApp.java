@@ -130,6 +130,7 @@ public class GazePlayFxApp extends Application {
 
                 String selectedVariantCode = options.getVariantSelectionOptions().getGameVariant();
                 if (selectedGameNameCode != null) {
+                    gazePlay.setDedicatedGameProcess(true);
                     final String searchGameNameCode = selectedGameNameCode;
                     final GameSpec selectedGameSpec = gameSpecs.stream()
                         .filter(gameSpec -> gameSpec.getGameSummary().getNameCode().equals(searchGameNameCode))
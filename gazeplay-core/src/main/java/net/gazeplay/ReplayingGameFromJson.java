@@ -2,8 +2,10 @@ package net.gazeplay;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
 import javafx.application.Platform;
 import javafx.concurrent.Task;
 import javafx.event.Event;
@@ -22,7 +24,12 @@ import lombok.extern.slf4j.Slf4j;
 import net.gazeplay.commons.configuration.ActiveConfigurationContext;
 import net.gazeplay.commons.gamevariants.IGameVariant;
 import net.gazeplay.commons.utils.FixationPoint;
+import net.gazeplay.commons.utils.stats.JsonReplayDataReader;
 import net.gazeplay.commons.utils.stats.LifeCycle;
+import net.gazeplay.commons.utils.stats.ReplayClock;
+import net.gazeplay.commons.utils.stats.ReplayDataReader;
+import net.gazeplay.commons.utils.stats.ReplayDataWriter;
+import net.gazeplay.commons.utils.stats.ReplaySampleCursor;
 import net.gazeplay.commons.utils.stats.RoundsDurationReport;
 import net.gazeplay.commons.utils.stats.SavedStatsInfo;
 import net.gazeplay.commons.utils.stats.Stats;
@@ -36,18 +43,15 @@ import org.json.JSONObject;
 import org.json.JSONTokener;
 import org.springframework.context.ApplicationContext;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 @Slf4j
 public class ReplayingGameFromJson {
@@ -107,7 +111,6 @@ public class ReplayingGameFromJson {
     private String currentGameVariant;
     private GameSpec selectedGameSpec;
     private IGameVariant gameVariant;
-    private JsonArray coordinatesAndTimeStamp;
     private ArrayList<LinkedList<FixationPoint>> fixationSequence;
     private int nbGoalsReached;
     private int nbGoalsToReach;
@@ -115,10 +118,11 @@ public class ReplayingGameFromJson {
     private LifeCycle lifeCycle;
     private RoundsDurationReport roundsDurationReport;
     private SavedStatsInfo savedStatsInfo;
-    private int nextTimeMouse, nextTimeGaze, prevTimeMouse, prevTimeGaze;
     private double sceneAspectRatio;
 
-    private Thread workingThread;
+    @Getter
+    private ReplayClock replayClock;
+    private ReplayTrack replayTrack;
 
     private String fileName;
 
@@ -140,32 +144,23 @@ public class ReplayingGameFromJson {
         }
 
         final File replayDataFile = new File(fileName);
-
-        InputStream in = Files.newInputStream(Paths.get(fileName));
-        JSONTokener tokener = new JSONTokener(in);
-        JSONObject object = new JSONObject(tokener);
+        final JsonObject header = readHeader(replayDataFile);
 
         try (InputStream inputStream = ReplayingGameFromJson.class.getResourceAsStream("JSON-schema-replayData.json")) {
             JSONObject rawSchema = new JSONObject(new JSONTokener(inputStream));
             Schema schema = SchemaLoader.load(rawSchema);
-            schema.validate(object); // throws a ValidationException if this object is invalid
+            // the samples are validated one by one while they are replayed
+            header.add(JsonReplayDataReader.COORDINATES_PROPERTY, new JsonArray());
+            schema.validate(new JSONObject(header.toString())); // throws a ValidationException if this object is invalid
         } catch (ValidationException e) {
             e.printStackTrace();
         }
 
-        BufferedReader bufferedReader = null;
-        try {
-            bufferedReader = Files.newBufferedReader(replayDataFile.toPath(), Charset.defaultCharset());
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-        assert bufferedReader != null;
         Gson gson = new Gson();
-        JsonFile json = gson.fromJson(bufferedReader, JsonFile.class);
+        JsonFile json = gson.fromJson(header, JsonFile.class);
         currentGameSeed = json.getGameSeed();
         currentGameNameCode = json.getGameName();
         currentGameVariant = json.getGameVariant();
-        coordinatesAndTimeStamp = json.getCoordinatesAndTimeStamp();
         fixationSequence = json.getFixationSequence();
         nbGoalsReached = json.getStatsNbGoalsReached();
         nbGoalsToReach = json.getStatsNbGoalsToReach();
@@ -182,6 +177,50 @@ public class ReplayingGameFromJson {
         final File colorBandsFile = new File(filePrefix + "-colorBands.png");
         savedStatsInfo = new SavedStatsInfo(heatMapCsvFile, gazeMetricsMouseFile, gazeMetricsGazeFile, gazeMetricsMouseAndGazeFile, screenShotFile,
             colorBandsFile, replayDataFile);
+        // the files of a replayed session were written when it was played
+        savedStatsInfo.notifyFilesReady();
+    }
+
+    /**
+     * Reads every top-level property of the replay data file but the samples, which are skipped without being
+     * parsed nor kept in memory.
+     */
+    static JsonObject readHeader(File replayDataFile) throws IOException {
+        final JsonObject header = new JsonObject();
+        boolean hasCoordinates = false;
+        try (JsonReader reader = new JsonReader(Files.newBufferedReader(replayDataFile.toPath(), Charset.defaultCharset()))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                if (JsonReplayDataReader.COORDINATES_PROPERTY.equals(name)) {
+                    reader.skipValue();
+                    hasCoordinates = true;
+                } else {
+                    header.add(name, new JsonParser().parse(reader));
+                }
+            }
+            reader.endObject();
+        } catch (IllegalStateException | JsonParseException e) {
+            throw new IOException("Invalid replay data file " + replayDataFile, e);
+        }
+        if (!hasCoordinates) {
+            throw new IOException("No " + JsonReplayDataReader.COORDINATES_PROPERTY + " in " + replayDataFile);
+        }
+        return header;
+    }
+
+    /**
+     * Opens the samples of the replay data file, from the binary file saved next to it when there is one
+     */
+    static ReplaySampleCursor openSamples(File replayDataFile) throws IOException {
+        String path = replayDataFile.getPath();
+        if (path.endsWith(".json")) {
+            File binaryFile = new File(path.substring(0, path.length() - ".json".length()) + ".bin");
+            if (binaryFile.isFile()) {
+                return new ReplayDataReader(binaryFile);
+            }
+        }
+        return new JsonReplayDataReader(replayDataFile);
     }
 
     public String getFileName() {
@@ -203,6 +242,10 @@ public class ReplayingGameFromJson {
         if (fileName == null) {
             return;
         }
+        if (ActiveConfigurationContext.getInstance().isInProcessGameLaunch()) {
+            drawLines();
+            return;
+        }
         double height = gameContext.getCurrentScreenDimensionSupplier().get().getHeight();
         double width = gameContext.getCurrentScreenDimensionSupplier().get().getWidth();
         double screenRatio = height / width;
@@ -247,7 +290,7 @@ public class ReplayingGameFromJson {
 
         EventHandler<Event> homeEvent = e -> {
             gameContext.getRoot().setCursor(Cursor.WAIT); // Change cursor to wait style
-            workingThread.interrupt();
+            stopReplay();
             this.exit(statsSaved, currentGame);
             gameContext.getRoot().setCursor(Cursor.DEFAULT); // Change cursor to default style
         };
@@ -259,12 +302,17 @@ public class ReplayingGameFromJson {
         final javafx.scene.canvas.Canvas canvas = new Canvas(screenDimension.getWidth(), screenDimension.getHeight());
         gameContext.getChildren().add(canvas);
 
-        workingThread = new Thread(() -> {
-            gameContext.getGazeDeviceManager().setInReplayMode(true);
-            drawFixationLines(canvas, coordinatesAndTimeStamp);
-            Platform.runLater(() -> exit(statsSaved, currentGame));
-        });
-        workingThread.start();
+        gameContext.getGazeDeviceManager().setInReplayMode(true);
+        replayTrack = new ReplayTrack(canvas, new File(fileName), () -> exit(statsSaved, currentGame));
+        replayClock = new ReplayClock(replayTrack);
+        replayClock.start();
+    }
+
+    private void stopReplay() {
+        if (replayClock != null) {
+            replayClock.stop();
+            replayTrack.closeSamples();
+        }
     }
 
     private void launchGame(final int width, final int height) {
@@ -320,41 +368,114 @@ public class ReplayingGameFromJson {
         gameContext.getGazeDeviceManager().setInReplayMode(false);
     }
 
-    private void drawFixationLines(Canvas canvas, JsonArray coordinatesAndTimeStamp) {
-        Dimension2D dim2D = gameContext.getGamePanelDimensionProvider().getDimension2D();
-        double sceneWidth = dim2D.getWidth();
-        double sceneHeight = dim2D.getHeight();
-        final GraphicsContext graphics = canvas.getGraphicsContext2D();
-        synchronized (coordinatesAndTimeStamp) {
-            for (JsonElement coordinateAndTimeStamp : coordinatesAndTimeStamp) {
-                JsonObject coordinateAndTimeObj = coordinateAndTimeStamp.getAsJsonObject();
-                String nextEvent = coordinateAndTimeObj.get("event").getAsString();
-                int nextX = (int) (Double.parseDouble(coordinateAndTimeObj.get("X").getAsString()) * sceneWidth);
-                int nextY = (int) (Double.parseDouble(coordinateAndTimeObj.get("Y").getAsString()) * sceneHeight);
-                int delay;
-                if (nextEvent.equals("gaze")) {
-                    prevTimeGaze = nextTimeGaze;
-                    nextTimeGaze = Integer.parseInt(coordinateAndTimeObj.get("time").getAsString());
-                    delay = nextTimeGaze - prevTimeGaze;
-                    Platform.runLater(() -> {
-                        paint(graphics, canvas, nextX, nextY, "gaze");
-                    });
-                } else {
-                    prevTimeMouse = nextTimeMouse;
-                    nextTimeMouse = Integer.parseInt(coordinateAndTimeObj.get("time").getAsString());
-                    delay = nextTimeMouse - prevTimeMouse;
-                    Platform.runLater(() -> {
-                        paint(graphics, canvas, nextX, nextY, "mouse");
-                    });
+    /**
+     * Replays the samples of the replay data file, drawing the last positions of the gaze and of the mouse once per
+     * frame
+     */
+    private class ReplayTrack implements ReplayClock.Track {
+
+        private final Canvas canvas;
+
+        private final File replayDataFile;
+
+        private final Runnable onFinished;
+
+        private final double sceneWidth;
+
+        private final double sceneHeight;
+
+        private ReplaySampleCursor samples;
+
+        private boolean hasNext;
+
+        private boolean painted = true;
+
+        ReplayTrack(Canvas canvas, File replayDataFile, Runnable onFinished) {
+            this.canvas = canvas;
+            this.replayDataFile = replayDataFile;
+            this.onFinished = onFinished;
+            Dimension2D dim2D = gameContext.getGamePanelDimensionProvider().getDimension2D();
+            this.sceneWidth = dim2D.getWidth();
+            this.sceneHeight = dim2D.getHeight();
+            seek(0);
+        }
+
+        @Override
+        public long peekTime() {
+            return hasNext ? samples.getTime() : -1;
+        }
+
+        @Override
+        public void playNext() {
+            int nextX = (int) (samples.getX() * sceneWidth);
+            int nextY = (int) (samples.getY() * sceneHeight);
+            String event = samples.getEvent() == ReplayDataWriter.EVENT_GAZE ? "gaze" : "mouse";
+            if (event.equals("gaze")) {
+                updateGazeTab(nextX, nextY);
+            } else {
+                updateMouseTab(nextX, nextY);
+            }
+            gameContext.getGazeDeviceManager().onSavedMovementsUpdate(new Point2D(nextX, nextY), event);
+            painted = false;
+            advance();
+        }
+
+        @Override
+        public void seek(int index) {
+            closeSamples();
+            lastGazeCoordinates.clear();
+            lastMouseCoordinates.clear();
+            try {
+                samples = openSamples(replayDataFile);
+                hasNext = true;
+                for (int i = 0; i <= index && hasNext; i++) {
+                    hasNext = samples.next();
                 }
+            } catch (IOException e) {
+                log.error("Could not replay {}", replayDataFile, e);
+                hasNext = false;
+            }
+        }
+
+        @Override
+        public void frameDone(long replayTime) {
+            if (!painted) {
+                GraphicsContext graphics = canvas.getGraphicsContext2D();
+                graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+                drawOvals(graphics);
+                painted = true;
+            }
+        }
+
+        @Override
+        public void finished() {
+            closeSamples();
+            onFinished.run();
+        }
+
+        private void advance() {
+            try {
+                hasNext = samples.next();
+            } catch (IOException e) {
+                log.error("Could not replay {}", replayDataFile, e);
+                hasNext = false;
+            }
+            if (!hasNext) {
+                closeSamples();
+            }
+        }
+
+        private void closeSamples() {
+            if (samples != null) {
                 try {
-                    TimeUnit.MILLISECONDS.sleep(delay);
-                } catch (InterruptedException e) {
-                    log.info("Game has been interrupted");
-                    break;
+                    samples.close();
+                } catch (IOException e) {
+                    log.warn("Could not close {}", replayDataFile, e);
                 }
+                samples = null;
             }
         }
+
     }
 
     public void updateGazeTab(int nextX, int nextY) {
@@ -446,8 +567,6 @@ class JsonFile {
     @Getter
     private double sceneAspectRatio;
     @Getter
-    private JsonArray coordinatesAndTimeStamp;
-    @Getter
     private LifeCycle lifeCycle;
     @Getter
     private int statsNbGoalsReached;
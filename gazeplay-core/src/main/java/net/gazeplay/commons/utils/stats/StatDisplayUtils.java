@@ -23,19 +23,31 @@ import net.gazeplay.GazePlay;
 import net.gazeplay.commons.utils.FixationPoint;
 import net.gazeplay.commons.utils.HomeButton;
 import net.gazeplay.stats.ShootGamesStats;
-import net.gazeplay.ui.scenes.stats.StatsContext;
 
+import java.io.File;
 import java.time.Duration;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static javafx.scene.chart.XYChart.Data;
 
 @Slf4j
 public class StatDisplayUtils {
 
-    public static HomeButton createHomeButtonInStatsScreen(GazePlay gazePlay, StatsContext statsContext) {
-        EventHandler<Event> homeEvent = e -> closeStatsWindow();
+    /**
+     * Maximum time a dedicated game process waits for the stats files being written in the background before exiting
+     */
+    private static final long STATS_EXPORT_TIMEOUT_SECONDS = 30;
+
+    public static HomeButton createHomeButtonInStatsScreen(GazePlay gazePlay, Stats stats) {
+        EventHandler<Event> homeEvent = e -> {
+            if (gazePlay.isDedicatedGameProcess()) {
+                closeStatsWindow(stats);
+            } else {
+                gazePlay.onReturnToMenu();
+            }
+        };
 
         Dimension2D screenDimension = gazePlay.getCurrentScreenDimensionSupplier().get();
 
@@ -45,9 +57,22 @@ public class StatDisplayUtils {
         return homeButton;
     }
 
-    static void closeStatsWindow() {
+    static void closeStatsWindow(Stats stats) {
         Platform.exit();
-        System.exit(0);
+        Thread exitThread = new Thread(() -> {
+            SavedStatsInfo savedStatsInfo = stats.getSavedStatsInfo();
+            if (savedStatsInfo != null) {
+                try {
+                    if (!savedStatsInfo.awaitFilesReady(STATS_EXPORT_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                        log.warn("Stats files are still being written, exiting anyway");
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            System.exit(0);
+        }, "stats-exit");
+        exitThread.start();
     }
 
     public static LineChart<String, Number> buildLineChart(Stats stats, final Region root) {
@@ -300,10 +325,11 @@ public class StatDisplayUtils {
         gazeMetrics.setPreserveRatio(true);
 
         SavedStatsInfo savedStatsInfo = stats.getSavedStatsInfo();
-        savedStatsInfo.addObserver((o, arg) -> Platform.runLater(
-            () -> gazeMetrics.setImage(new Image(savedStatsInfo.getGazeMetricsFileMouseAndGaze().toURI().toString()))));
-
-        gazeMetrics.setImage(new Image(savedStatsInfo.getGazeMetricsFileMouseAndGaze().toURI().toString()));
+        if (savedStatsInfo.isReady()) {
+            gazeMetrics.setImage(new Image(savedStatsInfo.getGazeMetricsFileMouseAndGaze().toURI().toString()));
+        } else {
+            displayWhenSaved(savedStatsInfo, savedStatsInfo.getGazeMetricsFileMouseAndGaze(), gazeMetrics);
+        }
 
         EventHandler<Event> openGazeMetricsEvent = createZoomInGazeMetricsEventHandler(gazeMetrics, root);
         gazeMetrics.addEventHandler(MouseEvent.MOUSE_CLICKED, openGazeMetricsEvent);
@@ -311,6 +337,19 @@ public class StatDisplayUtils {
         return gazeMetrics;
     }
 
+    /**
+     * Displays the saved image once it has been written in the background. Only the image displayed last is kept
+     * when several ones are requested before they are ready.
+     */
+    public static void displayWhenSaved(SavedStatsInfo savedStatsInfo, File imageFile, ImageView imageView) {
+        imageView.setUserData(imageFile);
+        savedStatsInfo.whenFileSaved(imageFile, () -> Platform.runLater(() -> {
+            if (imageFile.equals(imageView.getUserData())) {
+                imageView.setImage(new Image(imageFile.toURI().toString()));
+            }
+        }));
+    }
+
     private static void resetToOriginalIndexInParent(Node node, int originalIndexInParent) {
         Parent parent = node.getParent();
 
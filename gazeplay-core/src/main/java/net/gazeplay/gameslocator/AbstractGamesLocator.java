@@ -6,6 +6,7 @@ import net.gazeplay.GameSpecSource;
 import net.gazeplay.GameSummaryComparator;
 import net.gazeplay.commons.ui.Translator;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
@@ -17,11 +18,7 @@ public abstract class AbstractGamesLocator implements GamesLocator {
 
     @Override
     public List<GameSpec> listGames(Translator translator) {
-        LinkedList<GameSpec> gameList = new LinkedList<>();
-        List<Class> gamesClasses = findGameSpecSourceClasses();
-        for (GameSpecSource source : gameSpecSourceInstantiator.instantiateGameSpecSources(gamesClasses)) {
-            gameList.add(source.getGameSpec());
-        }
+        LinkedList<GameSpec> gameList = new LinkedList<>(findGameSpecs());
         log.info("Games found : {}", gameList.size());
 
         Comparator<GameSpec> gameSpecComparator = Comparator
@@ -37,6 +34,15 @@ public abstract class AbstractGamesLocator implements GamesLocator {
         return gameList;
     }
 
+    protected List<GameSpec> findGameSpecs() {
+        List<GameSpec> gameSpecs = new ArrayList<>();
+        List<Class> gamesClasses = findGameSpecSourceClasses();
+        for (GameSpecSource source : gameSpecSourceInstantiator.instantiateGameSpecSources(gamesClasses)) {
+            gameSpecs.add(source.getGameSpec());
+        }
+        return gameSpecs;
+    }
+
     protected abstract List<Class> findGameSpecSourceClasses();
 
 }
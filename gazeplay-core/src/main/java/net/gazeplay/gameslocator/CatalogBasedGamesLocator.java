@@ -1,9 +1,15 @@
 package net.gazeplay.gameslocator;
 
 import lombok.extern.slf4j.Slf4j;
+import net.gazeplay.GameSpec;
+import net.gazeplay.GamesCatalog;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Scanner;
@@ -16,6 +22,36 @@ public class CatalogBasedGamesLocator extends AbstractGamesLocator {
 
     private static final String catalogResourceLocation = "games-catalog.txt";
 
+    private final GameSpecSourceInstantiator gameSpecSourceInstantiator = new GameSpecSourceInstantiator();
+
+    /**
+     * The games are read from the summaries of the games catalog, and are only instantiated once they are opened. The
+     * games are instantiated right away from the list of their classes if there is no such catalog.
+     */
+    @Override
+    protected List<GameSpec> findGameSpecs() {
+        InputStream resourceAsStream = getClass().getClassLoader().getResourceAsStream(GamesCatalog.RESOURCE_LOCATION);
+        if (resourceAsStream == null) {
+            log.info("No {} found, instantiating all the games", GamesCatalog.RESOURCE_LOCATION);
+            return super.findGameSpecs();
+        }
+        try (Reader reader = new InputStreamReader(resourceAsStream, StandardCharsets.UTF_8)) {
+            return readGameSpecs(reader);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to read {}, instantiating all the games", GamesCatalog.RESOURCE_LOCATION, e);
+            return super.findGameSpecs();
+        }
+    }
+
+    List<GameSpec> readGameSpecs(Reader reader) {
+        List<GameSpec> result = new ArrayList<>();
+        for (GamesCatalog.Entry entry : GamesCatalog.read(reader)) {
+            result.add(new CatalogGameSpec(entry.toGameSummary(), entry.getGameSpecSourceClassName(), entry.getVariantCount(),
+                gameSpecSourceInstantiator));
+        }
+        return result;
+    }
+
     @Override
     protected List<Class> findGameSpecSourceClasses() {
 
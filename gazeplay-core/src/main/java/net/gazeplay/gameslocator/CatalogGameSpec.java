@@ -0,0 +1,72 @@
+package net.gazeplay.gameslocator;
+
+import net.gazeplay.GameSpec;
+import net.gazeplay.GameSummary;
+import net.gazeplay.IGameLauncher;
+import net.gazeplay.commons.gamevariants.generators.IGameVariantGenerator;
+
+/**
+ * A game read from the games catalog. Its {@link net.gazeplay.GameSpecSource} is only instantiated the first time its
+ * variant generator or its launcher is needed. The number of its variants is recorded in the catalog.
+ */
+class CatalogGameSpec extends GameSpec {
+
+    private final String gameSpecSourceClassName;
+
+    private final int variantCount;
+
+    private final GameSpecSourceInstantiator gameSpecSourceInstantiator;
+
+    private volatile GameSpec gameSpec;
+
+    CatalogGameSpec(GameSummary gameSummary, String gameSpecSourceClassName, int variantCount, GameSpecSourceInstantiator gameSpecSourceInstantiator) {
+        super(gameSummary);
+        this.gameSpecSourceClassName = gameSpecSourceClassName;
+        this.variantCount = variantCount;
+        this.gameSpecSourceInstantiator = gameSpecSourceInstantiator;
+    }
+
+    @Override
+    public IGameVariantGenerator getGameVariantGenerator() {
+        return getGameSpec().getGameVariantGenerator();
+    }
+
+    @Override
+    public IGameLauncher getGameLauncher() {
+        return getGameSpec().getGameLauncher();
+    }
+
+    @Override
+    public int getVariantCount() {
+        return variantCount;
+    }
+
+    boolean isLoaded() {
+        return gameSpec != null;
+    }
+
+    private GameSpec getGameSpec() {
+        GameSpec result = gameSpec;
+        if (result == null) {
+            synchronized (this) {
+                result = gameSpec;
+                if (result == null) {
+                    result = loadGameSpec();
+                    gameSpec = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private GameSpec loadGameSpec() {
+        final Class gameSpecSourceClass;
+        try {
+            gameSpecSourceClass = Class.forName(gameSpecSourceClassName);
+        } catch (ClassNotFoundException e) {
+            throw new GameSpecSourceInstantiator.GameSpecInstantiationException("Failed to load class " + gameSpecSourceClassName, e);
+        }
+        return gameSpecSourceInstantiator.instantiateGameSpecSource(gameSpecSourceClass).getGameSpec();
+    }
+
+}
@@ -18,20 +18,22 @@ public class GameSpecSourceInstantiator {
     public List<GameSpecSource> instantiateGameSpecSources(List<Class> gamesClasses) {
         return gamesClasses
             .stream()
-            .map(gameClass -> {
-                try {
-                    Constructor<GameSpecSource> defaultConstructor = gameClass.getConstructor();
-                    return defaultConstructor.newInstance();
-                } catch (
-                    NoSuchMethodException |
-                        IllegalAccessException |
-                        InstantiationException |
-                        InvocationTargetException |
-                        ClassCastException e) {
-                    throw new GameSpecInstantiationException("Failed to create new instance of class " + gameClass, e);
-                }
-            })
+            .map(this::instantiateGameSpecSource)
             .collect(Collectors.toList());
     }
 
+    public GameSpecSource instantiateGameSpecSource(Class gameClass) {
+        try {
+            Constructor<GameSpecSource> defaultConstructor = gameClass.getConstructor();
+            return defaultConstructor.newInstance();
+        } catch (
+            NoSuchMethodException |
+                IllegalAccessException |
+                InstantiationException |
+                InvocationTargetException |
+                ClassCastException e) {
+            throw new GameSpecInstantiationException("Failed to create new instance of class " + gameClass, e);
+        }
+    }
+
 }
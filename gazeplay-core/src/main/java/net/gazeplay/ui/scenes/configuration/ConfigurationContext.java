@@ -793,7 +793,6 @@ public class ConfigurationContext extends GraphicalContext<BorderPane> {
             List<GameSpec> games = gamesLocator.listGames(getGazePlay().getTranslator());
             for (GameSpec game : games) {
 
-                Set<IGameVariant> variants = game.getGameVariantGenerator().getVariants();
                 MenuItem gameShortcutItem = new MenuItem(getGazePlay().getTranslator().translate(game.getGameSummary().getNameCode()));
                 gameShortcutItem.setOnAction(event -> {
                     currentSelectedGame = game;
@@ -802,6 +801,7 @@ public class ConfigurationContext extends GraphicalContext<BorderPane> {
                     variantBox.setText(getGazePlay().getTranslator().translate("SelectVariant"));
                     shortCutBox.getChildren().remove(variantBox);
                     gameBox.setText(gameShortcutItem.getText());
+                    Set<IGameVariant> variants = game.getGameVariantGenerator().getVariants();
                     if (variants.size() > 0) {
                         shortCutBox.getChildren().remove(generateButton);
 
@@ -68,6 +68,12 @@ public class GameMenuController {
         GameSpec selectedGameSpec,
         IGameVariant gameVariant
     ) {
+        if (ActiveConfigurationContext.getInstance().isInProcessGameLaunch()) {
+            // the running JVM, Spring context and JavaFX toolkit are reused, the game is torn down by GameContext
+            chooseAndStartNewGame(gazePlay, selectedGameSpec, gameVariant);
+            return;
+        }
+
         gazePlay.getPrimaryScene().setCursor(Cursor.WAIT);
         gazePlay.getPrimaryScene().setRoot(new LoadingContext(gazePlay));
 
@@ -42,12 +42,21 @@ public class GameMenuFactory {
 
     private final static long FAVORITE_SWITCH_FIXATION_DURATION_IN_MILLISECONDS = 1000;
 
+    private final static String FAVORITE_ICON = "data/common/images/heart_filled.png";
+
+    private final static int THUMBNAIL_SIZE = 200;
+
+    private final static int CATEGORY_ICON_SIZE = 50;
+
     @Autowired
     private ApplicationContext applicationContext;
 
     @Autowired
     private GameMenuController gameMenuController;
 
+    @Autowired
+    private ThumbnailService thumbnailService;
+
     public GameButtonPane createGameButton(
         @NonNull final GazePlay gazePlay,
         @NonNull final Region root,
@@ -60,9 +69,8 @@ public class GameMenuFactory {
         final GameSummary gameSummary = gameSpec.getGameSummary();
         final String gameName = translator.translate(gameSummary.getNameCode());
 
-        final Image heartIcon;
-        heartIcon = new Image("data/common/images/heart_filled.png");
-        ImageView favGamesImageView = new ImageView(heartIcon);
+        ImageView favGamesImageView = new ImageView();
+        ThumbnailService.display(thumbnailService.getIcon(FAVORITE_ICON, 0), favGamesImageView);
 
         if (config.getFavoriteGamesProperty().contains(gameSummary.getNameCode())) {
             favGamesImageView.setEffect(null);
@@ -108,21 +116,26 @@ public class GameMenuFactory {
 
         if (gameSummary.getGameThumbnail() != null) {
 
-            Image buttonGraphics = new Image(gameSummary.getGameThumbnail(), 200, 200, true, false);
-            ImageView imageView = new ImageView(buttonGraphics);
+            // the view stays empty until the thumbnail has been decoded in the background
+            ImageView imageView = new ImageView();
             imageView.getStyleClass().add("gameChooserButtonThumbnail");
             imageView.setPreserveRatio(true);
             thumbnailContainer.setCenter(imageView);
 
-            double imageSizeRatio = buttonGraphics.getWidth() / buttonGraphics.getHeight();
-
             switch (orientation) {
                 case HORIZONTAL:
-                    gameCard.heightProperty().addListener((observableValue, oldValue, newValue) -> {
-                        double preferredHeight = newValue.doubleValue() - thumbnailBorderSize;
+                    Runnable fitThumbnail = () -> {
+                        Image buttonGraphics = imageView.getImage();
+                        if (buttonGraphics == null || gameCard.getHeight() <= 0) {
+                            return;
+                        }
+                        double imageSizeRatio = buttonGraphics.getWidth() / buttonGraphics.getHeight();
+                        double preferredHeight = gameCard.getHeight() - thumbnailBorderSize;
                         imageView.setFitHeight(preferredHeight - 10);
                         imageView.setFitWidth(preferredHeight * imageSizeRatio);
-                    });
+                    };
+                    gameCard.heightProperty().addListener((observableValue, oldValue, newValue) -> fitThumbnail.run());
+                    imageView.imageProperty().addListener((observableValue, oldValue, newValue) -> fitThumbnail.run());
 
                     break;
                 case VERTICAL:
@@ -133,6 +146,8 @@ public class GameMenuFactory {
                     gameCard.heightProperty().addListener((observableValue, oldValue, newValue) -> imageView.setFitHeight(newValue.doubleValue() * THUMBNAIL_HEIGHT_RATIO));
                     break;
             }
+
+            ThumbnailService.display(thumbnailService.getThumbnail(gameSummary.getGameThumbnail(), THUMBNAIL_SIZE), imageView);
         }
 
         final HBox gameCategoryContainer = new HBox();
@@ -150,8 +165,8 @@ public class GameMenuFactory {
         gameCard.setBottom(gameCategoryContainer);
         for (GameCategories.Category gameCategory : gameSummary.getCategories()) {
             if (gameCategory.getThumbnail() != null) {
-                Image buttonGraphics = new Image(gameCategory.getThumbnail(), 50, 50, true, false);
-                ImageView imageView = new ImageView(buttonGraphics);
+                ImageView imageView = new ImageView();
+                ThumbnailService.display(thumbnailService.getIcon(gameCategory.getThumbnail(), CATEGORY_ICON_SIZE), imageView);
                 imageView.getStyleClass().add("gameChooserButtonGameTypeIndicator");
                 imageView.setPreserveRatio(true);
                 switch (orientation) {
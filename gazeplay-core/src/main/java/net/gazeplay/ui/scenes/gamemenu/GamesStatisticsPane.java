@@ -42,7 +42,8 @@ public class GamesStatisticsPane extends GridPane {
         setAllLabelsStyle();
 
         final int gamesCount = games.size();
-        final int variantsCount = games.stream().mapToInt(gameSpec -> gameSpec.getGameVariantGenerator().getVariants().size()).sum();
+        // the games read from the catalog count their variants without being instantiated
+        final int variantsCount = games.stream().mapToInt(GameSpec::getVariantCount).sum();
         gamesCountValueLabel.setText(Integer.toString(gamesCount));
         gamesVariantsCountValueLabel.setText(Integer.toString(variantsCount));
     }
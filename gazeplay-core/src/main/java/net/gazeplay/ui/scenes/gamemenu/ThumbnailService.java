@@ -0,0 +1,162 @@
+package net.gazeplay.ui.scenes.gamemenu;
+
+import com.google.common.hash.Hashing;
+import javafx.application.Platform;
+import javafx.embed.swing.SwingFXUtils;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import lombok.extern.slf4j.Slf4j;
+import net.gazeplay.commons.threads.CustomThreadFactory;
+import net.gazeplay.commons.threads.GroupingThreadFactory;
+import net.gazeplay.commons.utils.games.GazePlayDirectories;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decodes the images of the game menu on a pool of background threads, so that the menu is displayed without waiting
+ * for them.
+ * <p>
+ * The thumbnails of the games are scaled down once and kept as small PNG files in a cache on disk, keyed by the
+ * resource, its modification time and the size of the thumbnail. The icons shared by all the game cards are decoded
+ * once for the process.
+ */
+@Slf4j
+@Component
+public class ThumbnailService {
+
+    private final File cacheDirectory;
+
+    private final ExecutorService executorService;
+
+    private final Map<String, CompletableFuture<Image>> thumbnails = new ConcurrentHashMap<>();
+
+    private final Map<String, CompletableFuture<Image>> icons = new ConcurrentHashMap<>();
+
+    public ThumbnailService() {
+        this(GazePlayDirectories.getThumbnailsCacheFolder());
+    }
+
+    ThumbnailService(final File cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+
+        final int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+        final GroupingThreadFactory groupingThreadFactory = new GroupingThreadFactory("Thumbnails");
+        groupingThreadFactory.setDaemon(true);
+        final CustomThreadFactory threadFactory = new CustomThreadFactory("Thumbnails", groupingThreadFactory);
+        // the images given as a path are looked up in the resources by the context class loader of the thread
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 1, TimeUnit.MINUTES,
+            new LinkedBlockingQueue<>(), runnable -> {
+            final Thread thread = threadFactory.newThread(runnable);
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        this.executorService = executor;
+    }
+
+    /**
+     * @param resource the url of the image, or its path in the resources
+     * @param size     the size of the square the thumbnail fits in
+     */
+    public CompletableFuture<Image> getThumbnail(final String resource, final int size) {
+        return thumbnails.computeIfAbsent(resource + "@" + size,
+            key -> CompletableFuture.supplyAsync(() -> loadThumbnail(resource, size), executorService));
+    }
+
+    /**
+     * @param resource the url of the image, or its path in the resources
+     * @param size     the size of the square the icon fits in, 0 to keep the size of the image
+     */
+    public CompletableFuture<Image> getIcon(final String resource, final int size) {
+        return icons.computeIfAbsent(resource + "@" + size,
+            key -> CompletableFuture.supplyAsync(() -> new Image(resource, size, size, true, true), executorService));
+    }
+
+    /**
+     * Displays the image in the view once it has been decoded, on the JavaFX application thread. The view stays empty
+     * until then.
+     */
+    public static void display(final CompletableFuture<Image> image, final ImageView imageView) {
+        if (image.isDone() && !image.isCompletedExceptionally()) {
+            imageView.setImage(image.join());
+        } else {
+            image.thenAcceptAsync(imageView::setImage, Platform::runLater);
+        }
+    }
+
+    Image loadThumbnail(final String resource, final int size) {
+        final File cacheFile = new File(cacheDirectory, cacheFileName(resource, size));
+        if (cacheFile.isFile()) {
+            final Image cachedImage = new Image(cacheFile.toURI().toString());
+            if (!cachedImage.isError()) {
+                return cachedImage;
+            }
+            log.warn("Failed to read the cached thumbnail {}", cacheFile, cachedImage.getException());
+        }
+
+        final Image image = new Image(resource, size, size, true, true);
+        if (image.isError()) {
+            log.warn("Failed to load the thumbnail {}", resource, image.getException());
+            return image;
+        }
+        writeCacheFile(image, cacheFile);
+        return image;
+    }
+
+    String cacheFileName(final String resource, final int size) {
+        final String key = resource + "\n" + size + "\n" + lastModified(resource);
+        return Hashing.sha256().hashString(key, StandardCharsets.UTF_8) + ".png";
+    }
+
+    private void writeCacheFile(final Image image, final File cacheFile) {
+        File tempFile = null;
+        try {
+            Files.createDirectories(cacheDirectory.toPath());
+            // the thumbnail is written aside, so that another GazePlay process never reads a partial file
+            tempFile = File.createTempFile("thumbnail", ".tmp", cacheDirectory);
+            ImageIO.write(SwingFXUtils.fromFXImage(image, null), "png", tempFile);
+            Files.move(tempFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (final IOException e) {
+            log.warn("Failed to write the cached thumbnail {}", cacheFile, e);
+            if (tempFile != null && !tempFile.delete()) {
+                log.debug("Failed to delete {}", tempFile);
+            }
+        }
+    }
+
+    private static long lastModified(final String resource) {
+        try {
+            final URL url = resource.contains(":")
+                ? new URL(resource)
+                : Thread.currentThread().getContextClassLoader().getResource(resource);
+            if (url == null) {
+                return 0;
+            }
+            if ("file".equals(url.getProtocol())) {
+                return new File(url.toURI()).lastModified();
+            }
+            final URLConnection connection = url.openConnection();
+            return connection.getLastModified();
+        } catch (final IOException | URISyntaxException | IllegalArgumentException e) {
+            return 0;
+        }
+    }
+
+}
@@ -22,7 +22,6 @@ import javafx.stage.Stage;
 import javafx.util.Duration;
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import net.gazeplay.GameLifeCycle;
 import net.gazeplay.GamePanelDimensionProvider;
@@ -68,9 +67,6 @@ public class GameContext extends GraphicalContext<Pane> implements IGameContext
     long endTime = 0;
     boolean limiteUsed = false;
 
-    @Setter
-    private static boolean runAsynchronousStatsPersist = false;
-
     @Getter
     private final Translator translator;
 
@@ -101,6 +97,12 @@ public class GameContext extends GraphicalContext<Pane> implements IGameContext
 
     private GridPane leftControlPane;
 
+    private Scene quitShortcutScene;
+
+    private EventHandler<KeyEvent> quitKeyPressedHandler;
+
+    private EventHandler<KeyEvent> quitKeyReleasedHandler;
+
     protected GameContext(
         @NonNull GazePlay gazePlay,
         @NonNull Translator translator,
@@ -218,21 +220,27 @@ public class GameContext extends GraphicalContext<Pane> implements IGameContext
         Configuration config = ActiveConfigurationContext.getInstance();
         final Scene scene = gazePlay.getPrimaryScene();
 
-        EventHandler<KeyEvent> buttonHandler = new EventHandler<>() {
-
-            public void handle(KeyEvent event) {
+        removeQuitShortcut();
 
-                exitGame(stats, gazePlay, currentGame);
-                scene.removeEventHandler(KeyEvent.KEY_PRESSED, this);
-                scene.removeEventHandler(KeyEvent.KEY_RELEASED, this);
+        quitKeyReleasedHandler = event -> exitGame(stats, gazePlay, currentGame);
+        quitKeyPressedHandler = key -> {
+            if (key.getCode().getChar().equals(config.getQuitKey())) {
+                scene.addEventHandler(KeyEvent.KEY_RELEASED, quitKeyReleasedHandler);
             }
         };
+        quitShortcutScene = scene;
+        scene.addEventHandler(KeyEvent.KEY_PRESSED, quitKeyPressedHandler);
+    }
 
-        scene.addEventHandler(KeyEvent.KEY_PRESSED, (key) -> {
-            if (key.getCode().getChar().equals(config.getQuitKey())) {
-                scene.addEventHandler(KeyEvent.KEY_RELEASED, buttonHandler);
-            }
-        });
+    /**
+     * The primary scene outlives the game when games are launched in process, its handlers have to be removed
+     */
+    private void removeQuitShortcut() {
+        if (quitShortcutScene != null) {
+            quitShortcutScene.removeEventHandler(KeyEvent.KEY_PRESSED, quitKeyPressedHandler);
+            quitShortcutScene.removeEventHandler(KeyEvent.KEY_RELEASED, quitKeyReleasedHandler);
+            quitShortcutScene = null;
+        }
     }
 
     public void createControlPanel(@NonNull GazePlay gazePlay, @NonNull Stats stats, GameLifeCycle currentGame) {
@@ -375,6 +383,7 @@ public class GameContext extends GraphicalContext<Pane> implements IGameContext
             videoRecordingContext.pointersClear();
         }
 
+        removeQuitShortcut();
         currentGame.dispose();
         ForegroundSoundsUtils.stopSound(); // to stop playing the sound of Bravo
         stats.stop();
@@ -384,18 +393,11 @@ public class GameContext extends GraphicalContext<Pane> implements IGameContext
         soundManager.clear();
         soundManager.destroy();
 
-        Runnable asynchronousStatsPersistTask = () -> {
-            try {
-                stats.saveStats();
-            } catch (IOException e) {
-                log.error("Failed to save stats file", e);
-            }
-        };
-
-        if (runAsynchronousStatsPersist) {
-            AsyncUiTaskExecutor.getInstance().getExecutorService().execute(asynchronousStatsPersistTask);
-        } else {
-            asynchronousStatsPersistTask.run();
+        try {
+            // only collects the stats here, the files are written in the background
+            stats.saveStats();
+        } catch (IOException e) {
+            log.error("Failed to save stats file", e);
         }
 
         StatsContext statsContext = StatsContextFactory.newInstance(gazePlay, stats);
@@ -416,6 +418,7 @@ public class GameContext extends GraphicalContext<Pane> implements IGameContext
             videoRecordingContext.pointersClear();
         }
 
+        removeQuitShortcut();
         currentGame.dispose();
         ForegroundSoundsUtils.stopSound(); // to stop playing the sound of Bravo
         gazeDeviceManager.clear();
@@ -457,18 +460,11 @@ public class GameContext extends GraphicalContext<Pane> implements IGameContext
     public void showRoundStats(Stats stats, GameLifeCycle currentGame) {
         stats.stop();
 
-        Runnable asynchronousStatsPersistTask = () -> {
-            try {
-                stats.saveStats();
-            } catch (IOException e) {
-                log.error("Failed to save stats file", e);
-            }
-        };
-
-        if (runAsynchronousStatsPersist) {
-            AsyncUiTaskExecutor.getInstance().getExecutorService().execute(asynchronousStatsPersistTask);
-        } else {
-            asynchronousStatsPersistTask.run();
+        try {
+            // only collects the stats here, the files are written in the background
+            stats.saveStats();
+        } catch (IOException e) {
+            log.error("Failed to save stats file", e);
         }
 
         Dimension2D screenDimension = getGazePlay().getCurrentScreenDimensionSupplier().get();
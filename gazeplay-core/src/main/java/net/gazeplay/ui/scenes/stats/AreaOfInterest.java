@@ -1,8 +1,5 @@
 package net.gazeplay.ui.scenes.stats;
 
-import javafx.animation.Animation;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
 import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.event.Event;
@@ -14,7 +11,6 @@ import javafx.geometry.Pos;
 import javafx.scene.Node;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.*;
 import javafx.scene.media.Media;
@@ -27,7 +23,6 @@ import javafx.scene.shape.Polygon;
 import javafx.scene.shape.Shape;
 import javafx.scene.text.Font;
 import javafx.scene.text.Text;
-import javafx.util.Duration;
 import lombok.extern.slf4j.Slf4j;
 import net.gazeplay.GazePlay;
 import net.gazeplay.commons.configuration.ActiveConfigurationContext;
@@ -43,22 +38,45 @@ import ws.schild.jave.VideoAttributes;
 import java.io.File;
 import java.text.DecimalFormat;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
 public class AreaOfInterest extends GraphicalContext<BorderPane> {
 
+    /**
+     * The part of the smaller of two areas which the other one must cover for them to be combined
+     */
+    private static final double COMBINATION_THRESHOLD = 0.70;
+
+    /**
+     * The margin around the points of an area of interest
+     */
+    private static final double AOI_PADDING = 15;
+
+    /**
+     * Groups and scores the areas of interest, away from the JavaFX thread
+     */
+    private static final ExecutorService analysisExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "aoi-analysis");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private final List<CoordinatesTracker> movementHistory;
     private final Label timeLabel;
-    private Timeline clock;
+    private ReplayClock replayClock;
+    private final Deque<Circle> trail = new ArrayDeque<>();
+    private final Deque<Long> trailTimes = new ArrayDeque<>();
     private MediaPlayer player;
     private final List<AreaOfInterestProps> allAOIList;
     private List<CoordinatesTracker> areaOfInterestList;
 
     private final List<List> allAOIListTemp;
     private final List<int[]> startAndEndIdx;
-    private final List<Polygon> allAOIListPolygon;
-    private final List<Double[]> allAOIListPolygonPt;
+    private final List<double[]> allAOIListPolygonPt;
 
     private final Color[] colors = new Color[]{
         Color.PURPLE,
@@ -75,13 +93,12 @@ public class AreaOfInterest extends GraphicalContext<BorderPane> {
     private Polygon currentAreaDisplay;
     private GridPane currentInfoBox;
     private Line currentLineToInfoBox;
-    private double score;
     private int colorIterator;
     private final Pane graphicsPane;
     private Double previousInfoBoxX;
     private Double previousInfoBoxY;
-    private final ArrayList<InitialAreaOfInterestProps> combinedAreaList;
-    private final int[] areaMap;
+    private ArrayList<InitialAreaOfInterestProps> combinedAreaList = new ArrayList<>();
+    private int[] areaMap;
     private boolean playing = false;
 
     private double highestFixationTime = 0;
@@ -97,15 +114,11 @@ public class AreaOfInterest extends GraphicalContext<BorderPane> {
         movementHistory = stats.getMovementHistoryWithTime();
         allAOIListTemp = stats.getAllAOIListTemp();
         startAndEndIdx = stats.getStartAndEndIdx();
-        allAOIListPolygon = stats.getAllAOIListPolygon();
         allAOIListPolygonPt = stats.getAllAOIListPolygonPt();
 
         this.dataTreatment();
         calculateAreaOfInterest(0, stats.getStartTime());
 
-        areaMap = new int[allAOIList.size()];
-        Arrays.fill(areaMap, -1);
-        combinedAreaList = computeConnectedArea();
         if (highestFixationTime != 0) {
             for (final AreaOfInterestProps areaOfInterestProps : allAOIList) {
                 final double priority = areaOfInterestProps.getInfoBoxProps().getTimeSpent() / highestFixationTime * 0.6
@@ -115,44 +128,29 @@ public class AreaOfInterest extends GraphicalContext<BorderPane> {
             }
         }
 
-        for (final InitialAreaOfInterestProps initialAreaOfInterestProps : combinedAreaList) {
-            graphicsPane.getChildren().add(initialAreaOfInterestProps.getAreaOfInterest());
-        }
+        // only the shapes are created on the JavaFX thread, once the areas are grouped
+        CompletableFuture.supplyAsync(
+            () -> AoiGeometry.connectedComponents(allAOIListPolygonPt, COMBINATION_THRESHOLD), analysisExecutor)
+            .thenAcceptAsync(this::displayConnectedAreas, Platform::runLater)
+            .exceptionally(throwable -> {
+                log.error("Failed to combine the areas of interest", throwable);
+                return null;
+            });
+
+        final Label scoreLabel = new Label();
+        scoreLabel.setTextFill(Color.WHITE);
+        scoreLabel.setFont(new Font("Arial", 20));
 
         if (stats.getTargetAOIList() != null) {
             final ArrayList<TargetAOI> targetAOIArrayList = stats.getTargetAOIList();
             calculateTargetAOI(targetAOIArrayList);
 
-            long timeTargetAreaStart;
-            long timeTargetAreaEnd;
-            score = 0;
-            int targetAOIIterator = 0;
-
-            for (final AreaOfInterestProps areaOfInterestProps : allAOIList) {
-
-                final long timeAreaStart = areaOfInterestProps.getAreaStartTime();
-                final long timeAreaEnd = areaOfInterestProps.getAreaEndTime();
-                double maxScore = 0;
-                for (targetAOIIterator = 0; targetAOIIterator < targetAOIArrayList.size(); targetAOIIterator++) {
-
-                    timeTargetAreaStart = targetAOIArrayList.get(targetAOIIterator).getTimeStarted();
-                    timeTargetAreaEnd = targetAOIArrayList.get(targetAOIIterator).getTimeEnded();
-
-                    if (timeTargetAreaStart <= timeAreaStart && timeAreaStart <= timeTargetAreaEnd) {
-                        final Shape intersect = Shape.intersect(targetAOIArrayList.get(targetAOIIterator).getPolygon(),
-                            areaOfInterestProps.getAreaOfInterest());
-                        if (intersect.getBoundsInLocal().getWidth() != -1) {
-                            if (intersect.getBoundsInLocal().getWidth()
-                                / (areaOfInterestProps.getAreaOfInterest().getBoundsInLocal().getWidth() - 1)
-                                > maxScore)
-                                maxScore = intersect.getBoundsInLocal().getWidth()
-                                    / (areaOfInterestProps.getAreaOfInterest().getBoundsInLocal().getWidth() - 1);
-                        }
-                    }
-                }
-                score += maxScore;
-            }
-            score /= allAOIList.size();
+            CompletableFuture.supplyAsync(() -> calculateScore(allAOIList, targetAOIArrayList), analysisExecutor)
+                .thenAcceptAsync(score -> scoreLabel.setText("Score: " + score), Platform::runLater)
+                .exceptionally(throwable -> {
+                    log.error("Failed to score the areas of interest", throwable);
+                    return null;
+                });
         }
         final StackPane stackPane = new StackPane();
 
@@ -186,7 +184,7 @@ public class AreaOfInterest extends GraphicalContext<BorderPane> {
             final SavedStatsInfo savedStatsInfo = stats.getSavedStatsInfo();
             final javafx.scene.image.ImageView screenshot = new javafx.scene.image.ImageView();
             screenshot.setPreserveRatio(true);
-            screenshot.setImage(new Image(savedStatsInfo.getScreenshotFile().toURI().toString()));
+            StatDisplayUtils.displayWhenSaved(savedStatsInfo, savedStatsInfo.getScreenshotFile(), screenshot);
         }
 
         final GridPane grid = new GridPane();
@@ -206,11 +204,6 @@ public class AreaOfInterest extends GraphicalContext<BorderPane> {
         timeLabel.setMinSize(100, 0);
         timeLabel.setTextFill(Color.GREEN);
 
-        final Label scoreLabel = new Label();
-        scoreLabel.setTextFill(Color.WHITE);
-        scoreLabel.setFont(new Font("Arial", 20));
-        scoreLabel.setText("Score: " + score);
-
         final HBox topPane;
         final VBox centerPane = new VBox();
         centerPane.setAlignment(Pos.CENTER);
@@ -235,6 +228,7 @@ public class AreaOfInterest extends GraphicalContext<BorderPane> {
             if (config.isVideoRecordingEnabled()) {
                 player.stop();
             }
+            stopPlaying();
             this.clear();
             gazePlay.onDisplayStats(statsContext);
         };
@@ -288,7 +282,7 @@ public class AreaOfInterest extends GraphicalContext<BorderPane> {
         });
         cancelBtn.setOnAction(e -> {
             if (playing) {
-                playing = false;
+                stopPlaying();
             }
             graphicsPane.getChildren().removeAll();
             addAllInitialArea();
@@ -331,72 +325,118 @@ public class AreaOfInterest extends GraphicalContext<BorderPane> {
                 player.play();
             }
             intereatorAOI = 0;
-            plotMovement(0, graphicsPane, progressRate);
-            final long startTime = System.currentTimeMillis();
-            clock = new Timeline(new KeyFrame(Duration.ZERO, f -> {
-                final long theTime = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - startTime);
-                timeLabel.setText(theTime + "");
-            }), new KeyFrame(Duration.seconds(1)));
-            clock.setCycleCount(Animation.INDEFINITE);
-            clock.play();
+            replayClock = new ReplayClock(new MovementTrack());
+            replayClock.setSpeed(1 / progressRate);
+            replayClock.start();
         }
     }
 
-    private void plotMovement(final int movementIndex, final Pane graphicsPane, final double progressRate) {
-        new Timer().schedule(new TimerTask() {
-            @Override
-            public void run() {
-                final CoordinatesTracker coordinatesTracker = movementHistory.get(movementIndex);
-                final Circle circle;
-                if (movementHistory.get(movementIndex).getIntervalTime() > 11
-                    && movementHistory.get(movementIndex).getDistance() < 20) {
-                    circle = new Circle(coordinatesTracker.getXValue(), coordinatesTracker.getYValue(), 4);
-                    circle.setStroke(Color.LIGHTYELLOW);
-                    circle.setFill(Color.ORANGERED);
-                } else {
-                    circle = new Circle(coordinatesTracker.getXValue(), coordinatesTracker.getYValue(), 3);
-                    circle.setStroke(Color.LIGHTGREEN);
-                    circle.setFill(Color.GREEN);
-                }
+    private void stopPlaying() {
+        if (replayClock != null) {
+            replayClock.stop();
+        }
+        playing = false;
+        timeLabel.setText("");
+        graphicsPane.getChildren().removeAll(trail);
+        trail.clear();
+        trailTimes.clear();
+    }
 
-                Platform.runLater(() -> {
-                    if (intereatorAOI < allAOIList.size()) {
-                        if (movementIndex == allAOIList.get(intereatorAOI).getStartingIndex()) {
-                            currentInfoBox = allAOIList.get(intereatorAOI).getInfoBoxProps().getInfoBox();
-                            currentAreaDisplay = allAOIList.get(intereatorAOI).getAreaOfInterest();
-                            currentLineToInfoBox = allAOIList.get(intereatorAOI).getInfoBoxProps().getLineToInfoBox();
-                            graphicsPane.getChildren().add(currentAreaDisplay);
-                            graphicsPane.getChildren().add(currentInfoBox);
-                            graphicsPane.getChildren().add(currentLineToInfoBox);
-                        }
-                        if (movementIndex == allAOIList.get(intereatorAOI).getEndingIndex()) {
-                            graphicsPane.getChildren().remove(currentAreaDisplay);
-                            graphicsPane.getChildren().remove(currentInfoBox);
-                            graphicsPane.getChildren().remove(currentLineToInfoBox);
-                            intereatorAOI++;
-                        }
-                    }
+    /**
+     * Plays the movement history back, each point being displayed for two seconds
+     */
+    private class MovementTrack implements ReplayClock.Track {
 
-                    graphicsPane.getChildren().add(circle);
-                    new Timer().schedule(new TimerTask() {
-                        @Override
-                        public void run() {
-                            Platform.runLater(() -> graphicsPane.getChildren().remove(circle));
-                        }
-                    }, 2000);
+        private static final long TRAIL_DURATION_NANOS = 2_000_000_000L;
 
-                    if (movementIndex < movementHistory.size() - 1 && playing) {
-                        plotMovement(movementIndex + 1, graphicsPane, progressRate);
-                    } else {
-                        clock.stop();
-                        timeLabel.setText("");
-                        playing = false;
-                        graphicsPane.getChildren().removeAll(); // Reset the view to how it was before playback started.
-                        addAllInitialArea();
-                    }
-                });
+        private final long[] times = new long[movementHistory.size()];
+
+        private int movementIndex = 0;
+
+        MovementTrack() {
+            long time = 0;
+            for (int i = 0; i < times.length; i++) {
+                time += movementHistory.get(i).getIntervalTime();
+                times[i] = time;
+            }
+        }
+
+        @Override
+        public long peekTime() {
+            return movementIndex < times.length ? times[movementIndex] : -1;
+        }
+
+        @Override
+        public void playNext() {
+            plotMovement(movementIndex);
+            movementIndex++;
+        }
+
+        @Override
+        public void seek(int index) {
+            movementIndex = Math.max(0, Math.min(index, times.length));
+            graphicsPane.getChildren().removeAll(trail);
+            trail.clear();
+            trailTimes.clear();
+            graphicsPane.getChildren().removeAll(currentAreaDisplay, currentInfoBox, currentLineToInfoBox);
+            intereatorAOI = 0;
+            while (intereatorAOI < allAOIList.size() && allAOIList.get(intereatorAOI).getEndingIndex() < movementIndex) {
+                intereatorAOI++;
+            }
+        }
+
+        @Override
+        public void frameDone(long replayTime) {
+            long now = System.nanoTime();
+            while (!trailTimes.isEmpty() && now - trailTimes.peekFirst() > TRAIL_DURATION_NANOS) {
+                trailTimes.pollFirst();
+                graphicsPane.getChildren().remove(trail.pollFirst());
             }
-        }, (long) (movementHistory.get(movementIndex).getIntervalTime() * progressRate));
+            timeLabel.setText(TimeUnit.MILLISECONDS.toSeconds(replayTime) + "");
+        }
+
+        @Override
+        public void finished() {
+            stopPlaying();
+            graphicsPane.getChildren().removeAll(); // Reset the view to how it was before playback started.
+            addAllInitialArea();
+        }
+
+    }
+
+    private void plotMovement(final int movementIndex) {
+        final CoordinatesTracker coordinatesTracker = movementHistory.get(movementIndex);
+        final Circle circle;
+        if (coordinatesTracker.getIntervalTime() > 11 && coordinatesTracker.getDistance() < 20) {
+            circle = new Circle(coordinatesTracker.getXValue(), coordinatesTracker.getYValue(), 4);
+            circle.setStroke(Color.LIGHTYELLOW);
+            circle.setFill(Color.ORANGERED);
+        } else {
+            circle = new Circle(coordinatesTracker.getXValue(), coordinatesTracker.getYValue(), 3);
+            circle.setStroke(Color.LIGHTGREEN);
+            circle.setFill(Color.GREEN);
+        }
+
+        if (intereatorAOI < allAOIList.size()) {
+            if (movementIndex == allAOIList.get(intereatorAOI).getStartingIndex()) {
+                currentInfoBox = allAOIList.get(intereatorAOI).getInfoBoxProps().getInfoBox();
+                currentAreaDisplay = allAOIList.get(intereatorAOI).getAreaOfInterest();
+                currentLineToInfoBox = allAOIList.get(intereatorAOI).getInfoBoxProps().getLineToInfoBox();
+                graphicsPane.getChildren().add(currentAreaDisplay);
+                graphicsPane.getChildren().add(currentInfoBox);
+                graphicsPane.getChildren().add(currentLineToInfoBox);
+            }
+            if (movementIndex == allAOIList.get(intereatorAOI).getEndingIndex()) {
+                graphicsPane.getChildren().remove(currentAreaDisplay);
+                graphicsPane.getChildren().remove(currentInfoBox);
+                graphicsPane.getChildren().remove(currentLineToInfoBox);
+                intereatorAOI++;
+            }
+        }
+
+        graphicsPane.getChildren().add(circle);
+        trail.addLast(circle);
+        trailTimes.addLast(System.nanoTime());
     }
 
     void addAllInitialArea() {
@@ -436,11 +476,13 @@ public class AreaOfInterest extends GraphicalContext<BorderPane> {
             centerX /= areaOfInterestList.size();
             centerY /= areaOfInterestList.size();
 
+            final Polygon areaOfInterest = new Polygon(allAOIListPolygonPt.get(i));
+            areaOfInterest.setStroke(colors[movementHistoryEndingIndex % colors.length]);
             final InfoBoxProps infoBox = calculateInfoBox("AOI number " + (allAOIList.size() + 1), ttff, timeSpent,
-                areaOfInterestList.size(), centerX, centerY, allAOIListPolygon.get(i));
+                areaOfInterestList.size(), centerX, centerY, areaOfInterest);
             final AreaOfInterestProps areaOfInterestProps = new AreaOfInterestProps(areaOfInterestList, centerX,
                 centerY, allAOIListPolygonPt.get(i), points, movementHistoryStartingIndex, movementHistoryEndingIndex,
-                allAOIListPolygon.get(i), infoBox, (long) areaStartTime, (long) areaEndTime);
+                areaOfInterest, infoBox, (long) areaStartTime, (long) areaEndTime);
             allAOIList.add(areaOfInterestProps);
 
         }
@@ -506,38 +548,7 @@ public class AreaOfInterest extends GraphicalContext<BorderPane> {
      * sequence.
      */
     static Double[] calculateRectangle(final Point2D[] point2D) {
-        double leftPoint = point2D[0].getX();
-        double rightPoint = point2D[0].getX();
-        double topPoint = point2D[0].getY();
-        double bottomPoint = point2D[0].getY();
-
-        for (int i = 1; i < point2D.length; i++) {
-            if (point2D[i].getX() < leftPoint) {
-                leftPoint = point2D[i].getX();
-            }
-            if (point2D[i].getX() > rightPoint) {
-                rightPoint = point2D[i].getX();
-            }
-            if (point2D[i].getY() > topPoint) {
-                topPoint = point2D[i].getY();
-            }
-            if (point2D[i].getY() < bottomPoint) {
-                bottomPoint = point2D[i].getY();
-            }
-        }
-
-        final Double[] squarePoints = new Double[8];
-        final int bias = 15;
-
-        squarePoints[0] = leftPoint - bias;
-        squarePoints[1] = topPoint + bias;
-        squarePoints[2] = rightPoint + bias;
-        squarePoints[3] = topPoint + bias;
-        squarePoints[4] = rightPoint + bias;
-        squarePoints[5] = bottomPoint - bias;
-        squarePoints[6] = leftPoint - bias;
-        squarePoints[7] = bottomPoint - bias;
-        return squarePoints;
+        return toBoxedArray(AoiGeometry.boundingRectangle(toArray(point2D), AOI_PADDING));
     }
 
     /**
@@ -563,49 +574,74 @@ public class AreaOfInterest extends GraphicalContext<BorderPane> {
     }
 
     /**
-     * Implements Jarvis's Algorithm to calculate the points on a Convex Hull.
-     * It starts by calculating the left-most point and will loop through all
-     * the points until it reaches this point again, finding the most convex points.
+     * Calculates the points on a Convex Hull, starting from the left-most point.
      *
      * @param points The array of Point2D objects to calculate the hull around.
      * @return Double array containing all X and Y values of each hull point in
      * sequence.
-     * @see Point2D
+     * @see AoiGeometry#convexHull(double[])
      */
     static Double[] calculateConvexHull(final Point2D[] points) {
-        final int numberOfPoints = points.length;
-        final ArrayList<Double> convexHullPoints = new ArrayList<>();
-        final Vector<Point2D> hull = new Vector<>();
-
-        // Finding the index of the lowest X value, or left-most point, in all points.
-        int lowestValueIndex = 0;
-        for (int i = 1; i < numberOfPoints; i++) {
-            if (points[i].getX() < points[lowestValueIndex].getX()) {
-                lowestValueIndex = i;
-            }
+        return toBoxedArray(AoiGeometry.convexHull(toArray(points)));
+    }
+
+    private static double[] toArray(final Point2D[] points) {
+        final double[] array = new double[points.length * 2];
+        for (int i = 0; i < points.length; i++) {
+            array[2 * i] = points[i].getX();
+            array[2 * i + 1] = points[i].getY();
+        }
+        return array;
+    }
+
+    private static Double[] toBoxedArray(final double[] array) {
+        final Double[] boxedArray = new Double[array.length];
+        for (int i = 0; i < array.length; i++) {
+            boxedArray[i] = array[i];
         }
+        return boxedArray;
+    }
 
-        int point = lowestValueIndex, q;
-        do {
-            hull.add(points[point]);
-            q = (point + 1) % numberOfPoints;
-            for (int i = 0; i < numberOfPoints; i++) {
-                if (orientation(points[point], points[i], points[q]) < 0) { // Checking if the points are convex.
-                    q = i;
+    /**
+     * Scores how well the areas of interest cover the targets displayed while they were looked at. Only the points of
+     * the areas and of the targets are read, so that it can run on any thread.
+     *
+     * @param areas   The areas of interest.
+     * @param targets The targets, whose points have been computed by {@link #calculateTargetAOI(ArrayList)}.
+     * @return The average, over the areas, of the best coverage of each area by a target.
+     */
+    static double calculateScore(final List<AreaOfInterestProps> areas, final List<TargetAOI> targets) {
+        double score = 0;
+        for (final AreaOfInterestProps areaOfInterestProps : areas) {
+            final long timeAreaStart = areaOfInterestProps.getAreaStartTime();
+            double maxScore = 0;
+            for (final TargetAOI targetAOI : targets) {
+                if (targetAOI.getTimeStarted() <= timeAreaStart && timeAreaStart <= targetAOI.getTimeEnded()) {
+                    maxScore = Math.max(maxScore, calculateTargetCoverage(areaOfInterestProps.getConvexPoints(),
+                        targetAOI.getPolygonPoints()));
                 }
             }
-            point = q;
-        } while (point != lowestValueIndex);
-
-        for (final Point2D temp : hull) {
-            convexHullPoints.add(temp.getX());
-            convexHullPoints.add(temp.getY());
+            score += maxScore;
         }
+        return score / areas.size();
+    }
 
-        Double[] hullPointsArray = new Double[convexHullPoints.size()];
-        convexHullPoints.toArray(hullPointsArray);
-
-        return hullPointsArray;
+    /**
+     * Calculates how much of the width of an area of interest is covered by a target.
+     *
+     * @param areaPoints   The points of the area of interest.
+     * @param targetPoints The points of the rectangle of the target.
+     * @return The width of the intersection divided by the width of the area, 0 if they do not overlap.
+     */
+    static double calculateTargetCoverage(final double[] areaPoints, final double[] targetPoints) {
+        final double[] intersection = AoiGeometry.intersection(areaPoints, targetPoints);
+        if (intersection.length == 0) {
+            return 0;
+        }
+        final double[] intersectionBounds = AoiGeometry.bounds(intersection);
+        final double[] areaBounds = AoiGeometry.bounds(areaPoints);
+        return (intersectionBounds[AoiGeometry.MAX_X] - intersectionBounds[AoiGeometry.MIN_X])
+            / (areaBounds[AoiGeometry.MAX_X] - areaBounds[AoiGeometry.MIN_X]);
     }
 
     /**
@@ -620,19 +656,17 @@ public class AreaOfInterest extends GraphicalContext<BorderPane> {
             log.debug("The target is at (" + targetAOI.getXValue() + ", " + targetAOI.getYValue() + ")");
 
             final int radius = targetAOI.getAreaRadius();
-            final Point2D[] point2D = {
-                new Point2D(targetAOI.getXValue() - 100, targetAOI.getYValue()),
-                new Point2D(targetAOI.getXValue() + radius, targetAOI.getYValue() + 100),
-                new Point2D(targetAOI.getXValue(), targetAOI.getYValue() - radius),
-                new Point2D(targetAOI.getXValue() + radius, targetAOI.getYValue() - radius)
+            final double[] points = {
+                targetAOI.getXValue() - 100, targetAOI.getYValue(),
+                targetAOI.getXValue() + radius, targetAOI.getYValue() + 100,
+                targetAOI.getXValue(), targetAOI.getYValue() - radius,
+                targetAOI.getXValue() + radius, targetAOI.getYValue() - radius
             };
 
-            final Double[] polygonPoints;
-            polygonPoints = calculateRectangle(point2D);
+            final double[] polygonPoints = AoiGeometry.boundingRectangle(points, AOI_PADDING);
+            targetAOI.setPolygonPoints(polygonPoints);
 
-            final Polygon targetArea;
-            targetArea = new Polygon();
-            targetArea.getPoints().addAll(polygonPoints);
+            final Polygon targetArea = new Polygon(polygonPoints);
             targetArea.setFill(Color.rgb(255, 255, 255, 0.4));
             targetAOI.setPolygon(targetArea);
         }
@@ -686,39 +720,20 @@ public class AreaOfInterest extends GraphicalContext<BorderPane> {
         return infoBox;
     }
 
-    private ArrayList<InitialAreaOfInterestProps> computeConnectedArea() {
-        for (int i = 0; i < allAOIList.size(); i++) {
-            AreaOfInterestProps currentAOI = allAOIList.get(i);
-
-            final double areaSize =
-                currentAOI.getAreaOfInterest().getBoundsInLocal().getWidth() *
-                    currentAOI.getAreaOfInterest().getBoundsInLocal().getHeight();
-
-            for (int j = 0; j < allAOIList.size(); j++) {
-                if (allAOIList.get(j).getAreaOfInterest() != currentAOI.getAreaOfInterest()) {
-                    final Shape intersect = Shape.intersect(currentAOI.getAreaOfInterest(),
-                        allAOIList.get(j).getAreaOfInterest());
-
-                    if (intersect.getBoundsInLocal().getWidth() != -1) {
-                        final double toCompareAreaSize =
-                            intersect.getBoundsInLocal().getWidth() *
-                                intersect.getBoundsInLocal().getHeight();
-                        final double combinationThreshHold = 0.70;
-
-                        if ((toCompareAreaSize / areaSize) > combinationThreshHold) {
-                            if (areaMap[j] != -1) {
-                                areaMap[i] = areaMap[j];
-                            } else {
-                                areaMap[i] = i;
-                                areaMap[j] = i;
-                            }
-                            break; // We break here as we have finished calculating this pair of areas.
-                        }
-                    }
-                }
-            }
+    private void displayConnectedAreas(final int[] areaMap) {
+        this.areaMap = areaMap;
+        combinedAreaList = computeConnectedArea();
+        // the replay in progress adds the areas back once it is finished or cancelled
+        if (!playing) {
+            addAllInitialArea();
         }
+    }
 
+    /**
+     * Creates the shapes of the areas combined by {@link #areaMap}. The shapes of the combined areas are only
+     * created to display them, the areas to combine are computed by {@link AoiGeometry}.
+     */
+    private ArrayList<InitialAreaOfInterestProps> computeConnectedArea() {
         final ArrayList<InitialAreaOfInterestProps> listOfCombinedPolygons = new ArrayList<>();
 
         for (int i = 0; i < allAOIList.size(); i++) {
@@ -12,7 +12,6 @@ import javafx.scene.chart.AreaChart;
 import javafx.scene.chart.LineChart;
 import javafx.scene.control.RadioButton;
 import javafx.scene.control.TableView;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.*;
@@ -229,13 +228,13 @@ public class StatsContext extends GraphicalContext<BorderPane> {
             SavedStatsInfo savedStatsInfo = stats.getSavedStatsInfo();
             switch (buttonName) {
                 case "Mouse":
-                    metrics.setImage(new Image(savedStatsInfo.getGazeMetricsFileMouse().toURI().toString()));
+                    StatDisplayUtils.displayWhenSaved(savedStatsInfo, savedStatsInfo.getGazeMetricsFileMouse(), metrics);
                     break;
                 case "Gaze":
-                    metrics.setImage(new Image(savedStatsInfo.getGazeMetricsFileGaze().toURI().toString()));
+                    StatDisplayUtils.displayWhenSaved(savedStatsInfo, savedStatsInfo.getGazeMetricsFileGaze(), metrics);
                     break;
                 default: // "MouseAndGaze"
-                    metrics.setImage(new Image(savedStatsInfo.getGazeMetricsFileMouseAndGaze().toURI().toString()));
+                    StatDisplayUtils.displayWhenSaved(savedStatsInfo, savedStatsInfo.getGazeMetricsFileMouseAndGaze(), metrics);
                     break;
             }
         });
@@ -346,7 +345,7 @@ public class StatsContext extends GraphicalContext<BorderPane> {
         CustomButton continueButton,
         boolean additionButton
     ) {
-        HomeButton homeButton = StatDisplayUtils.createHomeButtonInStatsScreen(gazePlay, this);
+        HomeButton homeButton = StatDisplayUtils.createHomeButtonInStatsScreen(gazePlay, stats);
 
         I18NTooltip tooltipBackToMenu = new I18NTooltip(gazePlay.getTranslator(), "BackToMenu");
         I18NTooltip.install(homeButton, tooltipBackToMenu);
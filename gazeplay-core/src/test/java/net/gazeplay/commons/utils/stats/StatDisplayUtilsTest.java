@@ -18,7 +18,6 @@ import net.gazeplay.commons.utils.FixationPoint;
 import net.gazeplay.commons.utils.HomeButton;
 import net.gazeplay.commons.utils.screen.ScreenDimensionSupplier;
 import net.gazeplay.stats.ShootGamesStats;
-import net.gazeplay.ui.scenes.stats.StatsContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -43,9 +42,6 @@ class StatDisplayUtilsTest {
     @Mock
     private GazePlay gazePlay;
 
-    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
-    private StatsContext mockStatsContext;
-
     @Mock
     private Stats mockStats;
 
@@ -88,7 +84,7 @@ class StatDisplayUtilsTest {
 
     @Test
     void shouldCreateHomeButton() {
-        final HomeButton button = StatDisplayUtils.createHomeButtonInStatsScreen(gazePlay, mockStatsContext);
+        final HomeButton button = StatDisplayUtils.createHomeButtonInStatsScreen(gazePlay, mockStats);
         assert button.isVisible();
     }
 
@@ -232,6 +228,7 @@ class StatDisplayUtilsTest {
     void shouldBuildGazeMetrics() {
         final File mockFile = new File("bear.jpg");
         final SavedStatsInfo mockSavedStatsInfo = new SavedStatsInfo(mockFile, mockFile, mockFile, mockFile, mockFile, mockFile, mockFile);
+        mockSavedStatsInfo.notifyFilesReady();
 
         when(mockStats.getSavedStatsInfo()).thenReturn(mockSavedStatsInfo);
 
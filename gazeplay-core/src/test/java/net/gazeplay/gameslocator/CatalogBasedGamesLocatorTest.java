@@ -0,0 +1,72 @@
+package net.gazeplay.gameslocator;
+
+import net.gazeplay.GameCategories;
+import net.gazeplay.GameSpec;
+import net.gazeplay.GameSummary;
+import net.gazeplay.GamesCatalog;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CatalogBasedGamesLocatorTest {
+
+    private static String catalog(GamesCatalog.Entry... entries) {
+        StringWriter writer = new StringWriter();
+        GamesCatalog.write(List.of(entries), writer);
+        return writer.toString();
+    }
+
+    @Test
+    void shouldReadTheSummariesWithoutInstantiatingTheGames() {
+        GameSummary summary = GameSummary.builder()
+            .nameCode("Order")
+            .gameThumbnail("data/Thumbnails/order.png")
+            .category(GameCategories.Category.MEMORIZATION)
+            .category(GameCategories.Category.LOGIC_MATHS)
+            .priority(2)
+            .build();
+        String catalog = catalog(new GamesCatalog.Entry("net.gazeplay.games.order.OrderGameSpecSource", summary, 3));
+
+        List<GameSpec> gameSpecs = new CatalogBasedGamesLocator().readGameSpecs(new StringReader(catalog));
+
+        assertEquals(1, gameSpecs.size());
+        assertEquals(summary, gameSpecs.get(0).getGameSummary());
+        assertEquals(3, gameSpecs.get(0).getVariantCount());
+        assertFalse(((CatalogGameSpec) gameSpecs.get(0)).isLoaded());
+    }
+
+    @Test
+    void shouldInstantiateTheGameOnceItsVariantsAreNeeded() {
+        GameSummary summary = GameSummary.builder().nameCode("Order").build();
+        String catalog = catalog(new GamesCatalog.Entry("net.gazeplay.games.order.OrderGameSpecSource", summary, 3));
+
+        GameSpec gameSpec = new CatalogBasedGamesLocator().readGameSpecs(new StringReader(catalog)).get(0);
+
+        assertNotNull(gameSpec.getGameVariantGenerator());
+        assertTrue(((CatalogGameSpec) gameSpec).isLoaded());
+        assertNotNull(gameSpec.getGameLauncher());
+    }
+
+    @Test
+    void shouldThrowExceptionForUnknownClass() {
+        GameSummary summary = GameSummary.builder().nameCode("Unknown").build();
+        String catalog = catalog(new GamesCatalog.Entry("net.gazeplay.games.UnknownGameSpecSource", summary, 1));
+
+        GameSpec gameSpec = new CatalogBasedGamesLocator().readGameSpecs(new StringReader(catalog)).get(0);
+
+        assertThrows(GameSpecSourceInstantiator.GameSpecInstantiationException.class, gameSpec::getGameLauncher);
+    }
+
+    @Test
+    void shouldReadAnEmptyCatalog() {
+        assertEquals(0, new CatalogBasedGamesLocator().readGameSpecs(new StringReader("")).size());
+    }
+}
@@ -436,7 +436,7 @@ class ConfigurationContextTest {
 
         ChoiceBox<EyeTracker> result = ConfigurationContext.buildEyeTrackerConfigChooser(mockConfig);
 
-        assertEquals(3, result.getItems().size());
+        assertEquals(4, result.getItems().size());
 
         result.setValue(EyeTracker.eyetribe);
 
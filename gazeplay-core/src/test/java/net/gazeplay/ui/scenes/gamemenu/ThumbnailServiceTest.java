@@ -0,0 +1,65 @@
+package net.gazeplay.ui.scenes.gamemenu;
+
+import javafx.scene.image.Image;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.testfx.framework.junit5.ApplicationExtension;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(ApplicationExtension.class)
+class ThumbnailServiceTest {
+
+    private static final String IMAGE = "data/common/images/gazeplayicon.png";
+
+    @TempDir
+    File cacheDirectory;
+
+    @Test
+    void shouldScaleTheThumbnailAndCacheItOnDisk() throws Exception {
+        ThumbnailService thumbnailService = new ThumbnailService(cacheDirectory);
+
+        Image thumbnail = thumbnailService.getThumbnail(IMAGE, 32).get(10, TimeUnit.SECONDS);
+
+        assertFalse(thumbnail.isError());
+        assertTrue(thumbnail.getWidth() <= 32);
+        assertTrue(thumbnail.getHeight() <= 32);
+        assertTrue(new File(cacheDirectory, thumbnailService.cacheFileName(IMAGE, 32)).isFile());
+    }
+
+    @Test
+    void shouldReadTheThumbnailFromTheDiskCache() throws Exception {
+        Image decoded = new ThumbnailService(cacheDirectory).getThumbnail(IMAGE, 32).get(10, TimeUnit.SECONDS);
+
+        Image cached = new ThumbnailService(cacheDirectory).loadThumbnail(IMAGE, 32);
+
+        assertTrue(cached.getUrl().startsWith("file:"));
+        assertEquals(decoded.getWidth(), cached.getWidth());
+        assertEquals(decoded.getHeight(), cached.getHeight());
+    }
+
+    @Test
+    void shouldKeyTheCacheBySize() {
+        ThumbnailService thumbnailService = new ThumbnailService(cacheDirectory);
+
+        assertNotEquals(thumbnailService.cacheFileName(IMAGE, 32), thumbnailService.cacheFileName(IMAGE, 64));
+    }
+
+    @Test
+    void shouldDecodeSharedIconsOnce() throws Exception {
+        ThumbnailService thumbnailService = new ThumbnailService(cacheDirectory);
+
+        Image icon = thumbnailService.getIcon(IMAGE, 0).get(10, TimeUnit.SECONDS);
+
+        assertSame(icon, thumbnailService.getIcon(IMAGE, 0).get(10, TimeUnit.SECONDS));
+    }
+
+}
@@ -183,6 +183,22 @@ class AreaOfInterestTest {
         assertArrayEquals(r2, e2);
     }
 
+    @Test
+    void shouldCalculateScore() {
+        AreaOfInterestProps lookedAtDuringTarget = new AreaOfInterestProps(List.of(), 50, 50,
+            new double[]{0, 0, 100, 0, 100, 100, 0, 100}, null, 0, 1, null, null, 1000, 1200);
+        AreaOfInterestProps lookedAtAfterTarget = new AreaOfInterestProps(List.of(), 50, 50,
+            new double[]{0, 0, 100, 0, 100, 100, 0, 100}, null, 2, 3, null, null, 5000, 5200);
+        TargetAOI target = new TargetAOI(100, 50, 50, 900);
+        target.setTimeEnded(1100);
+        target.setPolygonPoints(new double[]{50, 0, 150, 0, 150, 100, 50, 100});
+
+        double result = AreaOfInterest.calculateScore(
+            List.of(lookedAtDuringTarget, lookedAtAfterTarget), List.of(target));
+
+        assertEquals(0.25, result, 0.0001);
+    }
+
     @Test
     void shouldMakeInfoBox() {
         String aoiID = "id";
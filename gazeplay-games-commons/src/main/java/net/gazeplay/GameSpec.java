@@ -32,4 +32,21 @@ public class GameSpec {
     public GameSpec(final GameSummary gameSummary, final IGameLauncher gameLauncher) {
         this(gameSummary, new NoVariantGenerator(), gameLauncher);
     }
+
+    /**
+     * For the games whose variant generator and launcher are only created when they are needed, by overriding their
+     * getters.
+     */
+    protected GameSpec(final GameSummary gameSummary) {
+        this.gameSummary = gameSummary;
+        this.gameVariantGenerator = null;
+        this.gameLauncher = null;
+    }
+
+    /**
+     * @return the number of variants of the game
+     */
+    public int getVariantCount() {
+        return getGameVariantGenerator().getVariants().size();
+    }
 }
@@ -0,0 +1,129 @@
+package net.gazeplay;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Summaries of all the games, written at build time so that the games can be listed and their variants counted without
+ * instantiating their {@link GameSpecSource}. The variant generator and the launcher of a game are only created once the game is opened.
+ */
+@Slf4j
+public final class GamesCatalog {
+
+    public static final String RESOURCE_LOCATION = "games-catalog.json";
+
+    private static final Type ENTRIES_TYPE = new TypeToken<List<Entry>>() {
+    }.getType();
+
+    private GamesCatalog() {
+    }
+
+    public static List<Entry> read(final Reader reader) {
+        final List<Entry> entries = new Gson().fromJson(reader, ENTRIES_TYPE);
+        return entries == null ? new ArrayList<>() : entries;
+    }
+
+    public static void write(final List<Entry> entries, final Writer writer) {
+        new GsonBuilder().setPrettyPrinting().create().toJson(entries, ENTRIES_TYPE, writer);
+    }
+
+    /**
+     * Writes the catalog of the given games, called by the build.
+     *
+     * @param args the path of the catalog to write, followed by the class names of the {@link GameSpecSource}
+     */
+    public static void main(final String[] args) throws IOException, ReflectiveOperationException {
+        final Path catalogPath = Paths.get(args[0]);
+        final List<Entry> entries = new ArrayList<>();
+        for (final String className : Arrays.asList(args).subList(1, args.length)) {
+            final Class<?> gameSpecSourceClass = Class.forName(className);
+            if (!GameSpecSource.class.isAssignableFrom(gameSpecSourceClass)) {
+                log.warn("{} is not a GameSpecSource", className);
+                continue;
+            }
+            final GameSpec gameSpec = ((GameSpecSource) gameSpecSourceClass.getConstructor().newInstance()).getGameSpec();
+            entries.add(new Entry(className, gameSpec.getGameSummary(), gameSpec.getVariantCount()));
+        }
+        Files.createDirectories(catalogPath.toAbsolutePath().getParent());
+        try (Writer writer = Files.newBufferedWriter(catalogPath, StandardCharsets.UTF_8)) {
+            write(entries, writer);
+        }
+        log.info("Wrote {} games in {}", entries.size(), catalogPath);
+    }
+
+    /**
+     * The summary of a game, the number of its variants, and the {@link GameSpecSource} to instantiate to play it
+     */
+    public static class Entry {
+
+        @Getter
+        private String gameSpecSourceClassName;
+
+        private String nameCode;
+
+        private String gameThumbnail;
+
+        private List<GameCategories.Category> categories;
+
+        private String backgroundMusicUrl;
+
+        private String description;
+
+        private int priority;
+
+        private int absolutePriority;
+
+        @Getter
+        private int variantCount;
+
+        /**
+         * Used by Gson
+         */
+        private Entry() {
+        }
+
+        public Entry(final String gameSpecSourceClassName, final GameSummary gameSummary, final int variantCount) {
+            this.gameSpecSourceClassName = gameSpecSourceClassName;
+            this.variantCount = variantCount;
+            this.nameCode = gameSummary.getNameCode();
+            this.gameThumbnail = gameSummary.getGameThumbnail();
+            this.categories = new ArrayList<>(gameSummary.getCategories());
+            this.backgroundMusicUrl = gameSummary.getBackgroundMusicUrl();
+            this.description = gameSummary.getDescription();
+            this.priority = gameSummary.getPriority();
+            this.absolutePriority = gameSummary.getAbsolutePriority();
+        }
+
+        public GameSummary toGameSummary() {
+            final GameSummary.GameSummaryBuilder builder = GameSummary.builder();
+            if (categories != null) {
+                builder.categories(categories);
+            }
+            return builder
+                .nameCode(nameCode)
+                .gameThumbnail(gameThumbnail)
+                .backgroundMusicUrl(backgroundMusicUrl)
+                .description(description)
+                .priority(priority)
+                .absolutePriority(absolutePriority)
+                .build();
+        }
+
+    }
+
+}
@@ -1,28 +1,22 @@
 package net.gazeplay.components;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.KeyValue;
-import javafx.animation.Timeline;
 import javafx.event.ActionEvent;
 import javafx.event.Event;
 import javafx.event.EventHandler;
 import javafx.scene.Node;
 import javafx.scene.control.ProgressIndicator;
 import javafx.scene.input.MouseEvent;
-import javafx.util.Duration;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import net.gazeplay.IGameContext;
 import net.gazeplay.commons.gaze.devicemanager.GazeDeviceManager;
 import net.gazeplay.commons.gaze.devicemanager.GazeEvent;
+import net.gazeplay.components.dwell.Dwell;
+import net.gazeplay.components.dwell.DwellEngine;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Timer;
-import java.util.TimerTask;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
 @Slf4j
 public class GazeIndicator extends ProgressIndicator implements IGazeProgressIndicator {
@@ -31,10 +25,11 @@ public class GazeIndicator extends ProgressIndicator implements IGazeProgressInd
     @Setter
     private double duration;
 
-    private Timeline animation;
+    private final Dwell dwell;
+
+    private DwellEngine.ScheduledAction hideAction;
 
     private EventHandler<ActionEvent> finishHandler;
-    private final OnFinishIndicatorEvent onFinishHandler;
 
     private final Map<Node, EventHandler> nodedToListenTo;
 
@@ -50,10 +45,8 @@ public class GazeIndicator extends ProgressIndicator implements IGazeProgressInd
         this.setVisible(false);
 
         this.gameContext = gameContext;
-        this.animation = new Timeline();
+        this.dwell = new Dwell(this::setProgress, this::onFinish);
         this.nodedToListenTo = new HashMap<>();
-
-        onFinishHandler = buildOnFinishEventHandler();
     }
 
     @Override
@@ -67,88 +60,37 @@ public class GazeIndicator extends ProgressIndicator implements IGazeProgressInd
         this.setVisible(true);
         this.setProgress(0);
 
-        animation.stop();
-        animation = new Timeline();
-
-        animation.getKeyFrames().add(new KeyFrame(new Duration(gameContext.getConfiguration().getFixationLength()), new KeyValue(this.progressProperty(), 1)));
-
-        animation.setOnFinished(onFinishHandler);
-        animation.play();
+        cancelHide();
+        dwell.start(gameContext.getConfiguration().getFixationLength());
         isStarted = true;
     }
 
     @Override
     public void stop() {
 
-        if (onFinishHandler.getTimer() != null) {
-            onFinishHandler.getTimer().cancel();
-        }
+        cancelHide();
 
-        animation.stop();
+        dwell.stop();
         this.setVisible(false);
         this.setProgress(0);
         isStarted = false;
     }
 
-    private OnFinishIndicatorEvent buildOnFinishEventHandler() {
-
-        return new OnFinishIndicatorEvent(this);
-    }
-
-    private class OnFinishIndicatorEvent implements EventHandler<ActionEvent> {
-
-        private final GazeIndicator thisIndicator;
-        private final Lock lock;
-        private Timer timer;
-
-        public OnFinishIndicatorEvent(final GazeIndicator thisIndicator) {
-
-            this.thisIndicator = thisIndicator;
-
-            this.lock = new ReentrantLock();
-        }
-
-        @Override
-        public void handle(final ActionEvent event) {
-            isStarted = false;
-            if (finishHandler != null) {
-                finishHandler.handle(event);
-            }
-
-            if (timer != null) {
-                timer.cancel();
-            }
-
-            lock.lock();
-            try {
-                final TimerTask timerTask = new TimerTask() {
-                    @Override
-                    public void run() {
-                        thisIndicator.stop();
-                    }
-                };
-                timer = new Timer();
-                timer.schedule(timerTask, TIME_DISPLAYED_AFTER_FINISHED_MS);
-            } finally {
-                lock.unlock();
-            }
-
+    private void onFinish() {
+        isStarted = false;
+        if (finishHandler != null) {
+            finishHandler.handle(new ActionEvent(this, this));
         }
 
-        private Timer getTimer() {
-
-            Timer res;
-
-            lock.lock();
-            try {
-                res = timer;
-            } finally {
-                lock.unlock();
-            }
+        cancelHide();
+        hideAction = DwellEngine.getInstance().schedule(this::stop, TIME_DISPLAYED_AFTER_FINISHED_MS);
+    }
 
-            return res;
+    private void cancelHide() {
+        if (hideAction != null) {
+            hideAction.cancel();
+            hideAction = null;
         }
-
     }
 
     protected EventHandler buildEventHandler(final Node node) {
@@ -20,6 +20,13 @@ public class Portrait extends Circle {
         return ImageUtils.createImageLibrary(Utils.getImagesSubdirectory("portraits"), randomGenerator);
     }
 
+    /**
+     * @param maximumDiameter the largest diameter the portraits are displayed at, the images are decoded at that size
+     */
+    public static ImageLibrary createImageLibrary(ReplayablePseudoRandom randomGenerator, double maximumDiameter) {
+        return ImageUtils.createScaledImageLibrary(Utils.getImagesSubdirectory("portraits"), maximumDiameter, maximumDiameter, randomGenerator);
+    }
+
     @Getter
     private final int initialRadius;
 
@@ -1,8 +1,5 @@
 package net.gazeplay.components;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.KeyValue;
-import javafx.animation.Timeline;
 import javafx.event.Event;
 import javafx.event.EventHandler;
 import javafx.scene.control.ProgressIndicator;
@@ -11,19 +8,26 @@ import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Circle;
-import javafx.util.Duration;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import net.gazeplay.IGameContext;
 import net.gazeplay.commons.gaze.devicemanager.GazeEvent;
+import net.gazeplay.components.dwell.Dwell;
+
+import java.util.function.IntSupplier;
 
 @Slf4j
 public class ProgressButton extends StackPane {
 
+    /**
+     * Time the gaze has to stay on the button before its indicator starts progressing
+     */
+    private static final double DWELL_DELAY_MS = 300;
+
     @Getter
     private final Circle button;
     private ProgressIndicator indicator;
-    private Timeline timelineProgressBar;
+    private Dwell dwell;
     private double buttonHeight;
     private EventHandler<Event> enterbuttonHandler;
     private EventHandler<Event> exitbuttonHandler;
@@ -87,7 +91,6 @@ public class ProgressButton extends StackPane {
         buttonHeight = 0;
         indicator = new ProgressIndicator(0);
         indicator.setMouseTransparent(true);
-        timelineProgressBar = new Timeline();
         button.radiusProperty().addListener((obs, oldVal, newVal) -> {
             indicator.setMinHeight(2 * newVal.doubleValue());
             indicator.setMinWidth(2 * newVal.doubleValue());
@@ -101,81 +104,42 @@ public class ProgressButton extends StackPane {
     }
 
     public ProgressIndicator assignIndicator(final EventHandler<Event> enterEvent, final int fixationLength) {
-        indicator.setMouseTransparent(true);
-        indicator.setOpacity(0);
-        final ProgressButton pb = this;
-        final Event e1 = new Event(pb, pb, GazeEvent.ANY);
-
-        enterbuttonHandler = e -> {
-            if (inuse) {
-                indicator.setProgress(0);
-                indicator.setOpacity(0.5);
-
-                timelineProgressBar.stop();
-                timelineProgressBar.getKeyFrames().clear();
-
-                timelineProgressBar.setDelay(new Duration(300));
-
-                timelineProgressBar.getKeyFrames().add(
-                    new KeyFrame(new Duration(fixationLength), new KeyValue(indicator.progressProperty(), 1)));
-
-                timelineProgressBar.onFinishedProperty().set(actionEvent -> {
-                    indicator.setOpacity(0);
-                    if (enterEvent != null) {
-                        enterEvent.handle(e1);
-                    }
-                });
-                timelineProgressBar.play();
-            }
-        };
-
-        exitbuttonHandler = e -> {
-            if (inuse) {
-
-                timelineProgressBar.stop();
-                indicator.setOpacity(0);
-                indicator.setProgress(0);
-            }
-        };
-
-        active2();
-
-        return indicator;
+        return assignIndicator(enterEvent, () -> fixationLength);
     }
 
     public ProgressIndicator assignIndicatorUpdatable(final EventHandler<Event> enterEvent, final IGameContext gameContext) {
+        return assignIndicator(enterEvent, () -> gameContext.getConfiguration().getFixationLength());
+    }
+
+    private ProgressIndicator assignIndicator(final EventHandler<Event> enterEvent, final IntSupplier fixationLength) {
         indicator.setMouseTransparent(true);
         indicator.setOpacity(0);
         final ProgressButton pb = this;
         final Event e1 = new Event(pb, pb, GazeEvent.ANY);
 
+        if (dwell != null) {
+            dwell.stop();
+        }
+        dwell = new Dwell(indicator::setProgress, () -> {
+            indicator.setOpacity(0);
+            if (enterEvent != null) {
+                enterEvent.handle(e1);
+            }
+        });
+
         enterbuttonHandler = e -> {
             if (inuse) {
                 indicator.setProgress(0);
                 indicator.setOpacity(0.5);
 
-                timelineProgressBar.stop();
-                timelineProgressBar.getKeyFrames().clear();
-
-                timelineProgressBar.setDelay(new Duration(300));
-
-                timelineProgressBar.getKeyFrames().add(
-                    new KeyFrame(new Duration(gameContext.getConfiguration().getFixationLength()), new KeyValue(indicator.progressProperty(), 1)));
-
-                timelineProgressBar.onFinishedProperty().set(actionEvent -> {
-                    indicator.setOpacity(0);
-                    if (enterEvent != null) {
-                        enterEvent.handle(e1);
-                    }
-                });
-                timelineProgressBar.play();
+                dwell.start(DWELL_DELAY_MS, fixationLength.getAsInt());
             }
         };
 
         exitbuttonHandler = e -> {
             if (inuse) {
 
-                timelineProgressBar.stop();
+                dwell.stop();
                 indicator.setOpacity(0);
                 indicator.setProgress(0);
             }
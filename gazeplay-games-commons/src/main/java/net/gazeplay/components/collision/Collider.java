@@ -0,0 +1,157 @@
+package net.gazeplay.components.collision;
+
+import lombok.Getter;
+
+/**
+ * Axis aligned box or circle which can be registered in a {@link CollisionGrid}.
+ * <p>
+ * The shape is kept in primitive fields and is updated in place, so that moving a collider every frame does not
+ * allocate anything. The owner is the game object the collider stands for, it is handed back to the contact listeners.
+ *
+ * @param <T> the type of the game objects
+ */
+public class Collider<T> {
+
+    public enum Shape {
+        BOX, CIRCLE
+    }
+
+    @Getter
+    private final T owner;
+
+    /**
+     * Bit identifying the kind of game object, queries only report the colliders whose group is in their mask
+     */
+    @Getter
+    private final int group;
+
+    @Getter
+    private Shape shape = Shape.BOX;
+
+    @Getter
+    private double minX;
+
+    @Getter
+    private double minY;
+
+    @Getter
+    private double maxX;
+
+    @Getter
+    private double maxY;
+
+    @Getter
+    private double radius;
+
+    CollisionGrid<T> grid;
+
+    int index = -1;
+
+    int firstColumn;
+
+    int lastColumn;
+
+    int firstRow;
+
+    int lastRow;
+
+    int stamp;
+
+    boolean removed;
+
+    boolean pending;
+
+    public Collider(final T owner, final int group) {
+        this.owner = owner;
+        this.group = group;
+    }
+
+    public void setBox(final double x, final double y, final double width, final double height) {
+        shape = Shape.BOX;
+        radius = 0;
+        minX = x;
+        minY = y;
+        maxX = x + width;
+        maxY = y + height;
+        moved();
+    }
+
+    public void setCircle(final double centerX, final double centerY, final double radius) {
+        shape = Shape.CIRCLE;
+        this.radius = radius;
+        minX = centerX - radius;
+        minY = centerY - radius;
+        maxX = centerX + radius;
+        maxY = centerY + radius;
+        moved();
+    }
+
+    public double getCenterX() {
+        return (minX + maxX) / 2;
+    }
+
+    public double getCenterY() {
+        return (minY + maxY) / 2;
+    }
+
+    public double getWidth() {
+        return maxX - minX;
+    }
+
+    public double getHeight() {
+        return maxY - minY;
+    }
+
+    /**
+     * @return true if the collider is registered in a grid and has not been removed from it
+     */
+    public boolean isInGrid() {
+        return grid != null && !removed;
+    }
+
+    /**
+     * Shapes which only touch each other do not intersect
+     */
+    public boolean intersects(final Collider<?> other) {
+        if (minX >= other.maxX || other.minX >= maxX || minY >= other.maxY || other.minY >= maxY) {
+            return false;
+        }
+        if (shape == Shape.BOX && other.shape == Shape.BOX) {
+            return true;
+        }
+        if (shape == Shape.CIRCLE && other.shape == Shape.CIRCLE) {
+            final double dx = getCenterX() - other.getCenterX();
+            final double dy = getCenterY() - other.getCenterY();
+            final double distance = radius + other.radius;
+            return dx * dx + dy * dy < distance * distance;
+        }
+        final Collider<?> circle = shape == Shape.CIRCLE ? this : other;
+        final Collider<?> box = shape == Shape.CIRCLE ? other : this;
+        final double dx = circle.getCenterX() - clamp(circle.getCenterX(), box.minX, box.maxX);
+        final double dy = circle.getCenterY() - clamp(circle.getCenterY(), box.minY, box.maxY);
+        return dx * dx + dy * dy < circle.radius * circle.radius;
+    }
+
+    public boolean contains(final double x, final double y) {
+        if (x < minX || x >= maxX || y < minY || y >= maxY) {
+            return false;
+        }
+        if (shape == Shape.BOX) {
+            return true;
+        }
+        final double dx = x - getCenterX();
+        final double dy = y - getCenterY();
+        return dx * dx + dy * dy < radius * radius;
+    }
+
+    private void moved() {
+        if (grid != null && !removed) {
+            grid.relocate(this);
+        }
+    }
+
+    private static double clamp(final double value, final double min, final double max) {
+        return value < min ? min : Math.min(value, max);
+    }
+
+}
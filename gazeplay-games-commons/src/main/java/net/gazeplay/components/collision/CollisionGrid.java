@@ -0,0 +1,327 @@
+package net.gazeplay.components.collision;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+
+/**
+ * Uniform grid broad phase for the colliders of a game.
+ * <p>
+ * The area of the game is split into cells of about the size of the game objects, and every collider is registered in
+ * the cells its bounding box overlaps. A query only tests the colliders registered in the cells of the queried shape,
+ * so its cost depends on the number of nearby objects rather than on the number of objects in the game. Colliders
+ * which lie outside of the area are registered in the cells of its border, they are still found but less efficiently.
+ * <p>
+ * The grid is meant to be used from a single thread, usually the JavaFX application thread. Once its cells have grown
+ * to the number of objects of the game, moving the colliders and querying the grid do not allocate anything.
+ *
+ * @param <T> the type of the game objects
+ */
+public class CollisionGrid<T> {
+
+    private final double originX;
+
+    private final double originY;
+
+    private final double cellWidth;
+
+    private final double cellHeight;
+
+    @Getter
+    private final int columns;
+
+    @Getter
+    private final int rows;
+
+    private final ArrayList<ArrayList<Collider<T>>> cells;
+
+    private final ArrayList<Collider<T>> colliders = new ArrayList<>();
+
+    /**
+     * Colliders moved or removed during a query, the grid is updated once the query is over
+     */
+    private final ArrayList<Collider<T>> pendingColliders = new ArrayList<>();
+
+    private boolean querying;
+
+    private int queryStamp;
+
+    public CollisionGrid(final double x, final double y, final double width, final double height, final double cellSize) {
+        if (!(width > 0) || !(height > 0) || !(cellSize > 0)) {
+            throw new IllegalArgumentException("The area and the cells of the grid must not be empty");
+        }
+        this.originX = x;
+        this.originY = y;
+        this.columns = (int) Math.ceil(width / cellSize);
+        this.rows = (int) Math.ceil(height / cellSize);
+        this.cellWidth = width / columns;
+        this.cellHeight = height / rows;
+        this.cells = new ArrayList<>(columns * rows);
+        for (int i = 0; i < columns * rows; i++) {
+            cells.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * @return the number of colliders in the grid
+     */
+    public int size() {
+        return colliders.size();
+    }
+
+    public void add(final Collider<T> collider) {
+        if (collider.grid != null && collider.grid != this) {
+            throw new IllegalArgumentException("The collider is already in another grid");
+        }
+        if (collider.grid == this) {
+            if (collider.removed) {
+                collider.removed = false;
+                markPending(collider);
+            }
+            return;
+        }
+        collider.grid = this;
+        collider.removed = false;
+        collider.index = colliders.size();
+        colliders.add(collider);
+        collider.firstColumn = column(collider.getMinX());
+        collider.lastColumn = column(collider.getMaxX());
+        collider.firstRow = row(collider.getMinY());
+        collider.lastRow = row(collider.getMaxY());
+        addToCells(collider);
+    }
+
+    public void remove(final Collider<T> collider) {
+        if (collider.grid != this || collider.removed) {
+            return;
+        }
+        if (querying) {
+            collider.removed = true;
+            markPending(collider);
+        } else {
+            detach(collider);
+        }
+    }
+
+    public void clear() {
+        if (querying) {
+            for (int i = 0; i < colliders.size(); i++) {
+                remove(colliders.get(i));
+            }
+            return;
+        }
+        for (int i = 0; i < colliders.size(); i++) {
+            reset(colliders.get(i));
+        }
+        colliders.clear();
+        for (int i = 0; i < cells.size(); i++) {
+            cells.get(i).clear();
+        }
+    }
+
+    /**
+     * Reports the colliders intersecting the given one. The collider does not need to be in the grid, which allows to
+     * probe a position before moving a game object to it.
+     *
+     * @param groups the mask of the groups of the colliders to report
+     */
+    public void forEachContact(final Collider<T> collider, final int groups, final ContactListener<T> listener) {
+        startQuery();
+        try {
+            query(collider, groups, listener);
+        } finally {
+            endQuery();
+        }
+    }
+
+    /**
+     * Reports every pair of intersecting colliders of the given groups. A collider belonging to both masks is reported
+     * once on each side of the pair.
+     *
+     * @param groups      the mask of the groups of the first collider of the pairs
+     * @param otherGroups the mask of the groups of the second collider of the pairs
+     */
+    public void forEachContact(final int groups, final int otherGroups, final ContactListener<T> listener) {
+        startQuery();
+        try {
+            // colliders added by the listener are appended, and removed ones stay in place until the query is over
+            for (int i = 0; i < colliders.size(); i++) {
+                final Collider<T> collider = colliders.get(i);
+                if (!collider.removed && (collider.getGroup() & groups) != 0) {
+                    query(collider, otherGroups, listener);
+                }
+            }
+        } finally {
+            endQuery();
+        }
+    }
+
+    /**
+     * @return true if at least one collider of the given groups intersects the given one
+     */
+    public boolean hasContact(final Collider<T> collider, final int groups) {
+        startQuery();
+        try {
+            return find(collider, groups) != null;
+        } finally {
+            endQuery();
+        }
+    }
+
+    void relocate(final Collider<T> collider) {
+        if (querying) {
+            markPending(collider);
+        } else {
+            updateCells(collider);
+        }
+    }
+
+    private void query(final Collider<T> collider, final int groups, final ContactListener<T> listener) {
+        final int stamp = ++queryStamp;
+        collider.stamp = stamp;
+        final int firstColumn = column(collider.getMinX());
+        final int lastColumn = column(collider.getMaxX());
+        final int firstRow = row(collider.getMinY());
+        final int lastRow = row(collider.getMaxY());
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                final ArrayList<Collider<T>> cell = cells.get(row * columns + column);
+                for (int i = 0; i < cell.size(); i++) {
+                    final Collider<T> other = cell.get(i);
+                    if (other.stamp == stamp) {
+                        continue;
+                    }
+                    other.stamp = stamp;
+                    if (!other.removed && (other.getGroup() & groups) != 0 && collider.intersects(other)) {
+                        listener.onContact(collider, other);
+                        if (collider.removed) {
+                            return;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private Collider<T> find(final Collider<T> collider, final int groups) {
+        final int stamp = ++queryStamp;
+        collider.stamp = stamp;
+        for (int row = row(collider.getMinY()); row <= row(collider.getMaxY()); row++) {
+            for (int column = column(collider.getMinX()); column <= column(collider.getMaxX()); column++) {
+                final ArrayList<Collider<T>> cell = cells.get(row * columns + column);
+                for (int i = 0; i < cell.size(); i++) {
+                    final Collider<T> other = cell.get(i);
+                    if (other.stamp != stamp) {
+                        other.stamp = stamp;
+                        if (!other.removed && (other.getGroup() & groups) != 0 && collider.intersects(other)) {
+                            return other;
+                        }
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private void startQuery() {
+        if (querying) {
+            throw new IllegalStateException("The grid can not be queried from a contact listener");
+        }
+        querying = true;
+    }
+
+    private void endQuery() {
+        querying = false;
+        for (int i = 0; i < pendingColliders.size(); i++) {
+            final Collider<T> collider = pendingColliders.get(i);
+            collider.pending = false;
+            if (collider.grid != this) {
+                continue;
+            }
+            if (collider.removed) {
+                detach(collider);
+            } else {
+                updateCells(collider);
+            }
+        }
+        pendingColliders.clear();
+    }
+
+    private void markPending(final Collider<T> collider) {
+        if (!collider.pending) {
+            collider.pending = true;
+            pendingColliders.add(collider);
+        }
+    }
+
+    private void updateCells(final Collider<T> collider) {
+        final int firstColumn = column(collider.getMinX());
+        final int lastColumn = column(collider.getMaxX());
+        final int firstRow = row(collider.getMinY());
+        final int lastRow = row(collider.getMaxY());
+        if (firstColumn == collider.firstColumn && lastColumn == collider.lastColumn
+            && firstRow == collider.firstRow && lastRow == collider.lastRow) {
+            return;
+        }
+        removeFromCells(collider);
+        collider.firstColumn = firstColumn;
+        collider.lastColumn = lastColumn;
+        collider.firstRow = firstRow;
+        collider.lastRow = lastRow;
+        addToCells(collider);
+    }
+
+    private void addToCells(final Collider<T> collider) {
+        for (int row = collider.firstRow; row <= collider.lastRow; row++) {
+            for (int column = collider.firstColumn; column <= collider.lastColumn; column++) {
+                cells.get(row * columns + column).add(collider);
+            }
+        }
+    }
+
+    private void removeFromCells(final Collider<T> collider) {
+        for (int row = collider.firstRow; row <= collider.lastRow; row++) {
+            for (int column = collider.firstColumn; column <= collider.lastColumn; column++) {
+                removeSwapping(cells.get(row * columns + column), collider);
+            }
+        }
+    }
+
+    private void detach(final Collider<T> collider) {
+        removeFromCells(collider);
+        final Collider<T> last = colliders.remove(colliders.size() - 1);
+        if (last != collider) {
+            colliders.set(collider.index, last);
+            last.index = collider.index;
+        }
+        reset(collider);
+    }
+
+    private static <T> void reset(final Collider<T> collider) {
+        collider.grid = null;
+        collider.index = -1;
+        collider.removed = false;
+    }
+
+    private static <T> void removeSwapping(final ArrayList<Collider<T>> cell, final Collider<T> collider) {
+        final int last = cell.size() - 1;
+        for (int i = 0; i <= last; i++) {
+            if (cell.get(i) == collider) {
+                cell.set(i, cell.get(last));
+                cell.remove(last);
+                return;
+            }
+        }
+    }
+
+    private int column(final double x) {
+        final int column = (int) Math.floor((x - originX) / cellWidth);
+        return column < 0 ? 0 : Math.min(column, columns - 1);
+    }
+
+    private int row(final double y) {
+        final int row = (int) Math.floor((y - originY) / cellHeight);
+        return row < 0 ? 0 : Math.min(row, rows - 1);
+    }
+
+}
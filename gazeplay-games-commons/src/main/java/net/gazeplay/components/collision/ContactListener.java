@@ -0,0 +1,20 @@
+package net.gazeplay.components.collision;
+
+/**
+ * Called by a {@link CollisionGrid} for every pair of intersecting colliders found by a query.
+ * <p>
+ * The listener may add, move or remove colliders, the changes are applied to the grid once the query is over. It must
+ * not start another query of the same grid.
+ *
+ * @param <T> the type of the game objects
+ */
+@FunctionalInterface
+public interface ContactListener<T> {
+
+    /**
+     * @param collider the collider the query was made for
+     * @param other    the collider it intersects
+     */
+    void onContact(Collider<T> collider, Collider<T> other);
+
+}
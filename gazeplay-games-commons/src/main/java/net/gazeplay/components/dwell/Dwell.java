@@ -0,0 +1,71 @@
+package net.gazeplay.components.dwell;
+
+import java.util.function.DoubleConsumer;
+
+/**
+ * Progression of the gaze fixation on a target, advanced by a {@link DwellEngine}.
+ * <p>
+ * A widget creates its dwell once and starts it every time the gaze enters it, so that looking at targets does not
+ * allocate animations. The listeners are called on the JavaFX application thread, and may start or stop any dwell.
+ */
+public class Dwell {
+
+    private final DwellEngine engine;
+
+    private final DoubleConsumer progressListener;
+
+    private final Runnable finishListener;
+
+    /**
+     * Index of the dwell in the arrays of the engine, -1 when it is not running
+     */
+    int slot = -1;
+
+    /**
+     * @param progressListener called with the progress of the dwell, from 0 to 1, on every pulse once the delay is over
+     * @param finishListener   called once the dwell has lasted its whole duration
+     */
+    public Dwell(final DoubleConsumer progressListener, final Runnable finishListener) {
+        this(DwellEngine.getInstance(), progressListener, finishListener);
+    }
+
+    public Dwell(final DwellEngine engine, final DoubleConsumer progressListener, final Runnable finishListener) {
+        this.engine = engine;
+        this.progressListener = progressListener;
+        this.finishListener = finishListener;
+    }
+
+    public void start(final double durationMillis) {
+        start(0, durationMillis);
+    }
+
+    /**
+     * Starts the dwell again from the beginning, whether it was running or not.
+     *
+     * @param delayMillis time before the progress starts
+     */
+    public void start(final double delayMillis, final double durationMillis) {
+        engine.start(this, delayMillis, durationMillis);
+    }
+
+    public void stop() {
+        engine.stop(this);
+    }
+
+    public boolean isRunning() {
+        return slot >= 0;
+    }
+
+    void progress(final double progress) {
+        if (progressListener != null) {
+            progressListener.accept(progress);
+        }
+    }
+
+    void finish() {
+        if (finishListener != null) {
+            finishListener.run();
+        }
+    }
+
+}
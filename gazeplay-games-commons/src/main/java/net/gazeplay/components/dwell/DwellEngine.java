@@ -0,0 +1,203 @@
+package net.gazeplay.components.dwell;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Advances all the running {@link Dwell}s of the application from the JavaFX pulse.
+ * <p>
+ * The timing of the running dwells is kept in primitive arrays, and a single animation timer runs while at least one
+ * dwell is running. Starting a dwell therefore costs no thread nor animation object, whatever the number of targets of
+ * a game. The engine also runs the delayed actions of the widgets on one shared scheduler thread.
+ * <p>
+ * The engine must only be used from the JavaFX application thread.
+ */
+public class DwellEngine {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "dwell-scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static DwellEngine instance;
+
+    public static DwellEngine getInstance() {
+        if (instance == null) {
+            instance = new DwellEngine(System::nanoTime, true);
+        }
+        return instance;
+    }
+
+    private final LongSupplier clock;
+
+    private final AnimationTimer pulse;
+
+    private boolean pulseRunning;
+
+    private long[] startTimes = new long[INITIAL_CAPACITY];
+
+    private long[] delays = new long[INITIAL_CAPACITY];
+
+    private long[] durations = new long[INITIAL_CAPACITY];
+
+    private Dwell[] dwells = new Dwell[INITIAL_CAPACITY];
+
+    /**
+     * Copy of the running dwells made at every pulse, so that the listeners can start and stop dwells
+     */
+    private Dwell[] pulseDwells = new Dwell[INITIAL_CAPACITY];
+
+    private int count;
+
+    /**
+     * @param clock       the time source, in nanoseconds
+     * @param pulseDriven the dwells are advanced from the JavaFX pulse, otherwise {@link #advance(long)} has to be called
+     */
+    DwellEngine(final LongSupplier clock, final boolean pulseDriven) {
+        this.clock = clock;
+        this.pulse = pulseDriven ? new AnimationTimer() {
+            @Override
+            public void handle(final long now) {
+                advance(now);
+            }
+        } : null;
+    }
+
+    /**
+     * @return the number of running dwells
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Runs the action on the JavaFX application thread after the delay, unless it is cancelled before
+     */
+    public ScheduledAction schedule(final Runnable action, final long delayMillis) {
+        final ScheduledAction scheduledAction = new ScheduledAction(action);
+        scheduledAction.future = scheduler.schedule(() -> Platform.runLater(scheduledAction::run), delayMillis, TimeUnit.MILLISECONDS);
+        return scheduledAction;
+    }
+
+    void start(final Dwell dwell, final double delayMillis, final double durationMillis) {
+        int slot = dwell.slot;
+        if (slot < 0) {
+            if (count == dwells.length) {
+                grow();
+            }
+            slot = count++;
+            dwells[slot] = dwell;
+            dwell.slot = slot;
+        }
+        startTimes[slot] = clock.getAsLong();
+        delays[slot] = (long) (delayMillis * 1_000_000);
+        durations[slot] = (long) (durationMillis * 1_000_000);
+        if (pulse != null && !pulseRunning) {
+            pulse.start();
+            pulseRunning = true;
+        }
+    }
+
+    void stop(final Dwell dwell) {
+        final int slot = dwell.slot;
+        if (slot < 0) {
+            return;
+        }
+        final int last = --count;
+        if (slot != last) {
+            final Dwell moved = dwells[last];
+            dwells[slot] = moved;
+            startTimes[slot] = startTimes[last];
+            delays[slot] = delays[last];
+            durations[slot] = durations[last];
+            moved.slot = slot;
+        }
+        dwells[last] = null;
+        dwell.slot = -1;
+        if (count == 0 && pulse != null && pulseRunning) {
+            pulse.stop();
+            pulseRunning = false;
+        }
+    }
+
+    void advance(final long now) {
+        final int pulseCount = count;
+        // a listener starting a dwell may grow the arrays, this pulse keeps going through its own copy
+        final Dwell[] runningDwells = pulseDwells;
+        System.arraycopy(dwells, 0, runningDwells, 0, pulseCount);
+        for (int i = 0; i < pulseCount; i++) {
+            final Dwell dwell = runningDwells[i];
+            runningDwells[i] = null;
+            // a listener called before may have stopped or restarted this dwell
+            final int slot = dwell.slot;
+            if (slot < 0) {
+                continue;
+            }
+            final long elapsed = now - startTimes[slot] - delays[slot];
+            if (elapsed < 0) {
+                continue;
+            }
+            if (elapsed >= durations[slot]) {
+                stop(dwell);
+                dwell.progress(1);
+                dwell.finish();
+            } else {
+                dwell.progress((double) elapsed / durations[slot]);
+            }
+        }
+    }
+
+    private void grow() {
+        final int capacity = dwells.length * 2;
+        startTimes = Arrays.copyOf(startTimes, capacity);
+        delays = Arrays.copyOf(delays, capacity);
+        durations = Arrays.copyOf(durations, capacity);
+        dwells = Arrays.copyOf(dwells, capacity);
+        pulseDwells = new Dwell[capacity];
+    }
+
+    /**
+     * Action run after a delay by {@link #schedule(Runnable, long)}
+     */
+    public static final class ScheduledAction {
+
+        private final Runnable action;
+
+        private ScheduledFuture<?> future;
+
+        /**
+         * Only accessed from the JavaFX application thread
+         */
+        private boolean cancelled;
+
+        private ScheduledAction(final Runnable action) {
+            this.action = action;
+        }
+
+        /**
+         * The action is not run, even if its delay is over and it is waiting for the JavaFX application thread
+         */
+        public void cancel() {
+            cancelled = true;
+            future.cancel(false);
+        }
+
+        private void run() {
+            if (!cancelled) {
+                action.run();
+            }
+        }
+
+    }
+
+}
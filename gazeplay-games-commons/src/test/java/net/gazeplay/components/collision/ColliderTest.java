@@ -0,0 +1,78 @@
+package net.gazeplay.components.collision;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ColliderTest {
+
+    private static Collider<String> box(double x, double y, double width, double height) {
+        Collider<String> collider = new Collider<>("box", 1);
+        collider.setBox(x, y, width, height);
+        return collider;
+    }
+
+    private static Collider<String> circle(double centerX, double centerY, double radius) {
+        Collider<String> collider = new Collider<>("circle", 1);
+        collider.setCircle(centerX, centerY, radius);
+        return collider;
+    }
+
+    @Test
+    void shouldKeepTheBoundingBoxOfACircle() {
+        Collider<String> circle = circle(10, 20, 5);
+
+        assertEquals(Collider.Shape.CIRCLE, circle.getShape());
+        assertEquals(5, circle.getMinX());
+        assertEquals(25, circle.getMaxY());
+        assertEquals(10, circle.getWidth());
+        assertEquals(10, circle.getCenterX());
+        assertEquals(20, circle.getCenterY());
+    }
+
+    @Test
+    void shouldIntersectOverlappingBoxes() {
+        assertTrue(box(0, 0, 10, 10).intersects(box(5, 5, 10, 10)));
+        assertFalse(box(0, 0, 10, 10).intersects(box(20, 0, 10, 10)));
+    }
+
+    @Test
+    void shouldNotIntersectTouchingBoxes() {
+        assertFalse(box(0, 0, 10, 10).intersects(box(10, 0, 10, 10)));
+    }
+
+    @Test
+    void shouldIntersectCirclesCloserThanTheirRadii() {
+        assertTrue(circle(0, 0, 5).intersects(circle(6, 6, 5)));
+        assertFalse(circle(0, 0, 5).intersects(circle(8, 8, 5)));
+    }
+
+    @Test
+    void shouldNotIntersectABoxCornerOutsideOfTheCircle() {
+        Collider<String> circle = circle(0, 0, 10);
+        Collider<String> corner = box(8, 8, 10, 10);
+
+        assertFalse(circle.intersects(corner));
+        assertFalse(corner.intersects(circle));
+    }
+
+    @Test
+    void shouldIntersectABoxEdgeInsideOfTheCircle() {
+        Collider<String> circle = circle(0, 0, 10);
+        Collider<String> side = box(-20, 5, 40, 10);
+
+        assertTrue(circle.intersects(side));
+        assertTrue(side.intersects(circle));
+    }
+
+    @Test
+    void shouldContainPointsInsideOfTheShape() {
+        assertTrue(box(0, 0, 10, 10).contains(0, 9));
+        assertFalse(box(0, 0, 10, 10).contains(10, 5));
+        assertTrue(circle(0, 0, 10).contains(5, 5));
+        assertFalse(circle(0, 0, 10).contains(8, 8));
+    }
+
+}
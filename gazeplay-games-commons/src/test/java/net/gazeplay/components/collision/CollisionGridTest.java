@@ -0,0 +1,164 @@
+package net.gazeplay.components.collision;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CollisionGridTest {
+
+    private static final int BULLET = 1;
+
+    private static final int ENEMY = 2;
+
+    private CollisionGrid<String> grid;
+
+    private List<String> contacts;
+
+    @BeforeEach
+    void setup() {
+        grid = new CollisionGrid<>(0, 0, 100, 100, 10);
+        contacts = new ArrayList<>();
+    }
+
+    private Collider<String> addBox(String owner, int group, double x, double y, double width, double height) {
+        Collider<String> collider = new Collider<>(owner, group);
+        collider.setBox(x, y, width, height);
+        grid.add(collider);
+        return collider;
+    }
+
+    private void record(Collider<String> collider, Collider<String> other) {
+        contacts.add(collider.getOwner() + "-" + other.getOwner());
+    }
+
+    @Test
+    void shouldSplitTheAreaIntoCells() {
+        assertEquals(10, grid.getColumns());
+        assertEquals(10, grid.getRows());
+    }
+
+    @Test
+    void shouldReportContactsOfTheRequestedGroups() {
+        addBox("bullet", BULLET, 10, 10, 5, 5);
+        addBox("enemy", ENEMY, 12, 12, 5, 5);
+        addBox("farEnemy", ENEMY, 80, 80, 5, 5);
+        addBox("otherBullet", BULLET, 11, 11, 5, 5);
+
+        grid.forEachContact(BULLET, ENEMY, this::record);
+
+        assertEquals(List.of("bullet-enemy", "otherBullet-enemy"), contacts);
+    }
+
+    @Test
+    void shouldReportAColliderSpanningSeveralCellsOnce() {
+        Collider<String> probe = new Collider<>("probe", BULLET);
+        probe.setBox(0, 0, 50, 50);
+        addBox("wall", ENEMY, 5, 5, 40, 40);
+
+        grid.forEachContact(probe, ENEMY, this::record);
+
+        assertEquals(List.of("probe-wall"), contacts);
+    }
+
+    @Test
+    void shouldFollowMovingColliders() {
+        Collider<String> enemy = addBox("enemy", ENEMY, 80, 80, 5, 5);
+        Collider<String> probe = new Collider<>("probe", BULLET);
+        probe.setBox(10, 10, 5, 5);
+
+        assertFalse(grid.hasContact(probe, ENEMY));
+        enemy.setBox(12, 12, 5, 5);
+        assertTrue(grid.hasContact(probe, ENEMY));
+    }
+
+    @Test
+    void shouldFindCollidersOutsideOfTheArea() {
+        addBox("enemy", ENEMY, -50, 150, 10, 10);
+        Collider<String> probe = new Collider<>("probe", BULLET);
+        probe.setBox(-45, 155, 10, 10);
+
+        assertTrue(grid.hasContact(probe, ENEMY));
+    }
+
+    @Test
+    void shouldDeferRemovalsDuringAQuery() {
+        addBox("bullet", BULLET, 10, 10, 5, 5);
+        addBox("enemy1", ENEMY, 12, 12, 5, 5);
+        addBox("enemy2", ENEMY, 11, 11, 5, 5);
+
+        grid.forEachContact(BULLET, ENEMY, (bullet, enemy) -> {
+            record(bullet, enemy);
+            grid.remove(bullet);
+            grid.remove(enemy);
+        });
+
+        assertEquals(1, contacts.size());
+        assertEquals(1, grid.size());
+    }
+
+    @Test
+    void shouldApplyMovesMadeDuringAQueryOnceItIsOver() {
+        Collider<String> bullet = addBox("bullet", BULLET, 10, 10, 5, 5);
+        addBox("enemy", ENEMY, 12, 12, 5, 5);
+        addBox("farEnemy", ENEMY, 80, 80, 5, 5);
+
+        grid.forEachContact(BULLET, ENEMY, (moved, enemy) -> moved.setBox(81, 81, 5, 5));
+
+        contacts.clear();
+        grid.forEachContact(BULLET, ENEMY, this::record);
+        assertEquals(List.of("bullet-farEnemy"), contacts);
+        assertTrue(bullet.isInGrid());
+    }
+
+    @Test
+    void shouldRemoveAndReAddColliders() {
+        Collider<String> enemy = addBox("enemy", ENEMY, 12, 12, 5, 5);
+        Collider<String> probe = new Collider<>("probe", BULLET);
+        probe.setBox(10, 10, 5, 5);
+
+        grid.remove(enemy);
+        assertFalse(enemy.isInGrid());
+        assertFalse(grid.hasContact(probe, ENEMY));
+
+        grid.add(enemy);
+        assertTrue(grid.hasContact(probe, ENEMY));
+    }
+
+    @Test
+    void shouldClearAllColliders() {
+        Collider<String> enemy = addBox("enemy", ENEMY, 12, 12, 5, 5);
+        addBox("bullet", BULLET, 10, 10, 5, 5);
+
+        grid.clear();
+
+        assertEquals(0, grid.size());
+        assertFalse(enemy.isInGrid());
+        grid.forEachContact(BULLET, ENEMY, this::record);
+        assertTrue(contacts.isEmpty());
+    }
+
+    @Test
+    void shouldNotBeQueriedFromAListener() {
+        addBox("bullet", BULLET, 10, 10, 5, 5);
+        Collider<String> enemy = addBox("enemy", ENEMY, 12, 12, 5, 5);
+
+        assertThrows(IllegalStateException.class,
+            () -> grid.forEachContact(BULLET, ENEMY, (bullet, other) -> grid.hasContact(enemy, BULLET)));
+    }
+
+    @Test
+    void shouldNotAddAColliderToTwoGrids() {
+        Collider<String> enemy = addBox("enemy", ENEMY, 12, 12, 5, 5);
+        CollisionGrid<String> otherGrid = new CollisionGrid<>(0, 0, 100, 100, 10);
+
+        assertThrows(IllegalArgumentException.class, () -> otherGrid.add(enemy));
+    }
+
+}
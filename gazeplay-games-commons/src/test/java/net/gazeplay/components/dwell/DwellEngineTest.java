@@ -0,0 +1,176 @@
+package net.gazeplay.components.dwell;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DwellEngineTest {
+
+    private static final long MILLIS = 1_000_000;
+
+    private long now;
+
+    private DwellEngine engine;
+
+    private List<String> events;
+
+    @BeforeEach
+    void setup() {
+        now = 0;
+        engine = new DwellEngine(() -> now, false);
+        events = new ArrayList<>();
+    }
+
+    private Dwell createDwell(String name) {
+        return new Dwell(engine, progress -> events.add(name + ":" + progress), () -> events.add(name + ":finished"));
+    }
+
+    private void advanceTo(long millis) {
+        now = millis * MILLIS;
+        engine.advance(now);
+    }
+
+    @Test
+    void shouldReportTheProgress() {
+        Dwell dwell = createDwell("a");
+        dwell.start(100);
+
+        advanceTo(25);
+        advanceTo(50);
+
+        assertEquals(List.of("a:0.25", "a:0.5"), events);
+        assertTrue(dwell.isRunning());
+    }
+
+    @Test
+    void shouldFinishOnceTheDurationIsOver() {
+        Dwell dwell = createDwell("a");
+        dwell.start(100);
+
+        advanceTo(120);
+        advanceTo(140);
+
+        assertEquals(List.of("a:1.0", "a:finished"), events);
+        assertFalse(dwell.isRunning());
+        assertEquals(0, engine.size());
+    }
+
+    @Test
+    void shouldWaitForTheDelay() {
+        Dwell dwell = createDwell("a");
+        dwell.start(300, 100);
+
+        advanceTo(200);
+        advanceTo(350);
+
+        assertEquals(List.of("a:0.5"), events);
+    }
+
+    @Test
+    void shouldNotReportAStoppedDwell() {
+        Dwell dwell = createDwell("a");
+        dwell.start(100);
+        dwell.stop();
+
+        advanceTo(200);
+
+        assertEquals(List.of(), events);
+        assertFalse(dwell.isRunning());
+        assertEquals(0, engine.size());
+    }
+
+    @Test
+    void shouldRestartFromTheBeginning() {
+        Dwell dwell = createDwell("a");
+        dwell.start(100);
+        advanceTo(50);
+
+        dwell.start(100);
+        advanceTo(75);
+
+        assertEquals(List.of("a:0.5", "a:0.25"), events);
+        assertEquals(1, engine.size());
+    }
+
+    @Test
+    void shouldKeepTheOtherDwellsRunningWhenOneStops() {
+        Dwell first = createDwell("a");
+        Dwell second = createDwell("b");
+        Dwell third = createDwell("c");
+        first.start(100);
+        second.start(200);
+        third.start(400);
+
+        first.stop();
+        advanceTo(100);
+
+        assertEquals(List.of("c:0.25", "b:0.5"), events);
+        assertEquals(2, engine.size());
+    }
+
+    @Test
+    void shouldLetTheListenersStartAndStopDwells() {
+        Dwell second = createDwell("b");
+        Dwell third = createDwell("c");
+        Dwell first = new Dwell(engine, progress -> {
+        }, () -> {
+            events.add("a:finished");
+            second.stop();
+            third.start(100);
+        });
+        first.start(100);
+        second.start(200);
+
+        advanceTo(100);
+        advanceTo(150);
+
+        assertEquals(List.of("a:finished", "c:0.5"), events);
+        assertFalse(second.isRunning());
+    }
+
+    @Test
+    void shouldGrowWithTheNumberOfDwells() {
+        List<Dwell> dwells = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            Dwell dwell = createDwell(Integer.toString(i));
+            dwell.start(100);
+            dwells.add(dwell);
+        }
+
+        advanceTo(100);
+
+        assertEquals(0, engine.size());
+        for (Dwell dwell : dwells) {
+            assertFalse(dwell.isRunning());
+        }
+        assertEquals(80, events.size());
+    }
+
+    @Test
+    void shouldLetTheListenersGrowTheEngine() {
+        Dwell extra = createDwell("extra");
+        Dwell first = new Dwell(engine, progress -> {
+            events.add("a:" + progress);
+            if (!extra.isRunning()) {
+                extra.start(100);
+            }
+        }, null);
+        first.start(100);
+        for (int i = 1; i < 16; i++) {
+            createDwell(Integer.toString(i)).start(100);
+        }
+
+        advanceTo(50);
+
+        assertEquals(16, events.size());
+        assertEquals(17, engine.size());
+        assertTrue(extra.isRunning());
+    }
+
+}
@@ -0,0 +1,110 @@
+package net.gazeplay.components.collision;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the time needed to find the contacts between bullets and enemies moving on a 1600x900 screen, when every
+ * pair is tested and when the pairs are found with a collision grid.
+ */
+@Slf4j
+class CollisionGridBenchmark {
+
+    private static final double WIDTH = 1600;
+
+    private static final double HEIGHT = 900;
+
+    private static final int BULLET = 1;
+
+    private static final int ENEMY = 2;
+
+    private static final int FRAMES = 2000;
+
+    private static final int WARMUP_FRAMES = 500;
+
+    @Test
+    void compareAllPairsWithGrid() {
+        for (int objects : new int[]{10, 100, 400}) {
+            long allPairsNanos = measure(objects, false);
+            long gridNanos = measure(objects, true);
+            log.info("{} bullets x {} enemies : all pairs = {} us/frame, grid = {} us/frame", objects, objects,
+                allPairsNanos / FRAMES / 1000.0, gridNanos / FRAMES / 1000.0);
+        }
+    }
+
+    @Test
+    void shouldFindTheSameContactsAsAllPairs() {
+        assertEquals(simulate(100, false, FRAMES), simulate(100, true, FRAMES));
+    }
+
+    private static long measure(int objects, boolean useGrid) {
+        simulate(objects, useGrid, WARMUP_FRAMES);
+        long start = System.nanoTime();
+        simulate(objects, useGrid, FRAMES);
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * @return the number of contacts found
+     */
+    private static long simulate(int objects, boolean useGrid, int frames) {
+        Random random = new Random(42);
+        CollisionGrid<double[]> grid = new CollisionGrid<>(0, 0, WIDTH, HEIGHT, WIDTH / 10);
+        List<Collider<double[]>> bullets = new ArrayList<>();
+        List<Collider<double[]>> enemies = new ArrayList<>();
+        for (int i = 0; i < objects; i++) {
+            bullets.add(spawn(grid, BULLET, random, 10, 30));
+            enemies.add(spawn(grid, ENEMY, random, WIDTH / 20, HEIGHT / 10));
+        }
+
+        long[] contacts = new long[1];
+        ContactListener<double[]> counter = (bullet, enemy) -> contacts[0]++;
+        for (int frame = 0; frame < frames; frame++) {
+            move(bullets);
+            move(enemies);
+            if (useGrid) {
+                grid.forEachContact(BULLET, ENEMY, counter);
+            } else {
+                for (int i = 0; i < bullets.size(); i++) {
+                    for (int j = 0; j < enemies.size(); j++) {
+                        if (bullets.get(i).intersects(enemies.get(j))) {
+                            counter.onContact(bullets.get(i), enemies.get(j));
+                        }
+                    }
+                }
+            }
+        }
+        return contacts[0];
+    }
+
+    /**
+     * The owner of the colliders holds their position, size and speed
+     */
+    private static Collider<double[]> spawn(CollisionGrid<double[]> grid, int group, Random random, double width, double height) {
+        double[] state = {
+            random.nextDouble() * WIDTH, random.nextDouble() * HEIGHT, width, height,
+            random.nextDouble() * 4 - 2, random.nextDouble() * 4 - 2
+        };
+        Collider<double[]> collider = new Collider<>(state, group);
+        collider.setBox(state[0], state[1], width, height);
+        grid.add(collider);
+        return collider;
+    }
+
+    private static void move(List<Collider<double[]>> colliders) {
+        for (int i = 0; i < colliders.size(); i++) {
+            Collider<double[]> collider = colliders.get(i);
+            double[] state = collider.getOwner();
+            state[0] = (state[0] + state[4] + WIDTH) % WIDTH;
+            state[1] = (state[1] + state[5] + HEIGHT) % HEIGHT;
+            collider.setBox(state[0], state[1], state[2], state[3]);
+        }
+    }
+
+}
@@ -0,0 +1,164 @@
+package net.gazeplay.games.blocs;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.geometry.Dimension2D;
+import javafx.geometry.Point2D;
+import javafx.scene.Scene;
+import javafx.scene.layout.Pane;
+import javafx.stage.Stage;
+import lombok.extern.slf4j.Slf4j;
+import net.gazeplay.GamePanelDimensionProvider;
+import net.gazeplay.IGameContext;
+import net.gazeplay.commons.gaze.devicemanager.AbstractGazeDeviceManager;
+import net.gazeplay.commons.utils.stats.Stats;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.framework.junit5.Start;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares the frame time and the gaze dispatch time of the ScratchCard grid, 100x100 blocs, when each bloc is a node
+ * and when the grid is drawn on a single scratch layer.
+ */
+@Slf4j
+@ExtendWith(ApplicationExtension.class)
+class ScratchLayerBenchmark {
+
+    private static final double WIDTH = 1600;
+
+    private static final double HEIGHT = 900;
+
+    private static final int FRAMES = 300;
+
+    private static final int SAMPLES_PER_FRAME = 4;
+
+    private Pane root;
+
+    @Start
+    void start(Stage stage) {
+        root = new Pane();
+        stage.setScene(new Scene(root, WIDTH, HEIGHT));
+        stage.show();
+    }
+
+    @Test
+    void compareBlocNodesWithScratchLayer() throws InterruptedException {
+        Result nodes = measure(false);
+        Result layer = measure(true);
+
+        log.info("bloc nodes : frame = {} ms (max {} ms), gaze dispatch = {} us/sample",
+            nodes.meanFrameMillis(), nodes.maxFrameMillis(), nodes.dispatchMicrosPerSample());
+        log.info("scratch layer : frame = {} ms (max {} ms), gaze dispatch = {} us/sample",
+            layer.meanFrameMillis(), layer.maxFrameMillis(), layer.dispatchMicrosPerSample());
+    }
+
+    private Result measure(boolean scratchLayerEnabled) throws InterruptedException {
+        AbstractGazeDeviceManager manager = createManager();
+        manager.setInReplayMode(true);
+
+        IGameContext gameContext = mock(IGameContext.class);
+        GamePanelDimensionProvider dimensionProvider = mock(GamePanelDimensionProvider.class);
+        when(gameContext.getChildren()).thenReturn(root.getChildren());
+        when(gameContext.getGamePanelDimensionProvider()).thenReturn(dimensionProvider);
+        when(dimensionProvider.getDimension2D()).thenReturn(new Dimension2D(WIDTH, HEIGHT));
+        when(gameContext.getGazeDeviceManager()).thenReturn(manager);
+
+        Stats stats = new Stats(root.getScene());
+        // the round is never won, so that both runs scratch the same cells
+        Blocs blocs = new Blocs(gameContext, 100, 100, true, 2f, true, stats, 42);
+        blocs.setScratchLayerEnabled(scratchLayerEnabled);
+
+        Result result = new Result();
+        CountDownLatch done = new CountDownLatch(1);
+        Random random = new Random(7);
+
+        Platform.runLater(() -> {
+            root.getChildren().clear();
+            blocs.launch();
+
+            new AnimationTimer() {
+                private long previousPulse = -1;
+
+                private int frames = 0;
+
+                @Override
+                public void handle(long now) {
+                    if (previousPulse >= 0) {
+                        result.addFrame(now - previousPulse);
+                    }
+                    previousPulse = now;
+
+                    long start = System.nanoTime();
+                    for (int i = 0; i < SAMPLES_PER_FRAME; i++) {
+                        manager.onSavedMovementsUpdate(new Point2D(random.nextDouble() * WIDTH, random.nextDouble() * HEIGHT), "gaze");
+                    }
+                    result.dispatchNanos += System.nanoTime() - start;
+                    result.samples += SAMPLES_PER_FRAME;
+
+                    if (++frames == FRAMES) {
+                        stop();
+                        done.countDown();
+                    }
+                }
+            }.start();
+        });
+
+        assertTrue(done.await(2, TimeUnit.MINUTES));
+        return result;
+    }
+
+    private static AbstractGazeDeviceManager createManager() {
+        return new AbstractGazeDeviceManager() {
+            @Override
+            public void init(Supplier<Dimension2D> currentScreenDimensionSupplier, Supplier<Point2D> currentScreenPositionSupplier) {
+            }
+
+            @Override
+            public void destroy() {
+            }
+        };
+    }
+
+    private static class Result {
+
+        private long frameNanos = 0;
+
+        private long maxFrameNanos = 0;
+
+        private int frames = 0;
+
+        private long dispatchNanos = 0;
+
+        private long samples = 0;
+
+        void addFrame(long nanos) {
+            frameNanos += nanos;
+            maxFrameNanos = Math.max(maxFrameNanos, nanos);
+            frames++;
+        }
+
+        double meanFrameMillis() {
+            return frameNanos / 1e6 / frames;
+        }
+
+        double maxFrameMillis() {
+            return maxFrameNanos / 1e6;
+        }
+
+        double dispatchMicrosPerSample() {
+            return dispatchNanos / 1e3 / samples;
+        }
+
+    }
+
+}
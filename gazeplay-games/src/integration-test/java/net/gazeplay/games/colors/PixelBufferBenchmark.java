@@ -0,0 +1,162 @@
+package net.gazeplay.games.colors;
+
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.stage.Stage;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.framework.junit5.Start;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the black and white conversion and the flood fill of a large colouring page, 4000x3000 pixels, when the
+ * pixels are read and written one {@link Color} at a time and when they are processed in a {@link PixelBuffer}.
+ */
+@Slf4j
+@ExtendWith(ApplicationExtension.class)
+class PixelBufferBenchmark {
+
+    private static final int WIDTH = 4000;
+
+    private static final int HEIGHT = 3000;
+
+    private static final int RUNS = 5;
+
+    private static final double COLOR_EQUALITY_THRESHOLD = 10d / 255d;
+
+    @Start
+    void start(Stage stage) {
+    }
+
+    @Test
+    void compareColorsWithPixelBuffer() {
+        long colorThresholdNanos = 0;
+        long colorFillNanos = 0;
+        long bufferThresholdNanos = 0;
+        long bufferFillNanos = 0;
+
+        for (int run = 0; run < RUNS; run++) {
+            WritableImage colorImage = createDrawing();
+            long start = System.nanoTime();
+            toBlackAndWhite(colorImage);
+            colorThresholdNanos += System.nanoTime() - start;
+            start = System.nanoTime();
+            int colorFilled = fill(colorImage, Color.RED, WIDTH / 2, HEIGHT / 2);
+            colorFillNanos += System.nanoTime() - start;
+
+            WritableImage bufferImage = createDrawing();
+            start = System.nanoTime();
+            PixelBuffer buffer = PixelBuffer.read(bufferImage.getPixelReader(), WIDTH, HEIGHT);
+            buffer.toBlackAndWhite();
+            buffer.write(bufferImage.getPixelWriter());
+            bufferThresholdNanos += System.nanoTime() - start;
+            start = System.nanoTime();
+            int bufferFilled = buffer.fill(WIDTH / 2, HEIGHT / 2, PixelBuffer.toArgb(Color.RED));
+            buffer.write(bufferImage.getPixelWriter());
+            bufferFillNanos += System.nanoTime() - start;
+
+            assertEquals(colorFilled, bufferFilled);
+        }
+
+        log.info("colors : black and white = {} ms, fill = {} ms",
+            colorThresholdNanos / 1e6 / RUNS, colorFillNanos / 1e6 / RUNS);
+        log.info("pixel buffer : black and white = {} ms, fill = {} ms",
+            bufferThresholdNanos / 1e6 / RUNS, bufferFillNanos / 1e6 / RUNS);
+    }
+
+    /**
+     * A grey page crossed by dark lines, and a large zone in its middle
+     */
+    private static WritableImage createDrawing() {
+        WritableImage image = new WritableImage(WIDTH, HEIGHT);
+        PixelWriter pixelWriter = image.getPixelWriter();
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                boolean border = x % 500 < 4 && (y < HEIGHT / 4 || y > HEIGHT * 3 / 4) || y % 400 < 4 && (x < WIDTH / 4 || x > WIDTH * 3 / 4);
+                pixelWriter.setArgb(x, y, border ? 0xFF101010 : 0xFFD0D0D0);
+            }
+        }
+        return image;
+    }
+
+    private static void toBlackAndWhite(WritableImage image) {
+        PixelReader pixelReader = image.getPixelReader();
+        PixelWriter pixelWriter = image.getPixelWriter();
+        double sum = 0;
+        for (int x = 0; x < WIDTH; x++) {
+            for (int y = 0; y < HEIGHT; y++) {
+                Color color = pixelReader.getColor(x, y);
+                sum += (color.getRed() + color.getGreen() + color.getBlue()) / 3;
+            }
+        }
+        double threshold = 3 * sum / (WIDTH * HEIGHT) / 4;
+        for (int x = 0; x < WIDTH; x++) {
+            for (int y = 0; y < HEIGHT; y++) {
+                Color color = pixelReader.getColor(x, y);
+                double brightness = (color.getRed() + color.getGreen() + color.getBlue()) / 3;
+                pixelWriter.setColor(x, y, brightness > threshold ? Color.WHITE : Color.BLACK);
+            }
+        }
+    }
+
+    /**
+     * Scanline fill reading and writing a color per pixel, as ColorsGame did before using a PixelBuffer
+     */
+    private static int fill(WritableImage image, Color newColor, int x, int y) {
+        PixelReader pixelReader = image.getPixelReader();
+        PixelWriter pixelWriter = image.getPixelWriter();
+        Color oldColor = pixelReader.getColor(x, y);
+        Deque<int[]> seeds = new ArrayDeque<>();
+        seeds.push(new int[]{x, y});
+        int filled = 0;
+        while (!seeds.isEmpty()) {
+            int[] seed = seeds.pop();
+            int rowY = seed[1];
+            if (!isEqualColors(pixelReader.getColor(seed[0], rowY), oldColor)) {
+                continue;
+            }
+            int left = seed[0];
+            while (left > 0 && isEqualColors(pixelReader.getColor(left - 1, rowY), oldColor)) {
+                left--;
+            }
+            int right = seed[0];
+            while (right < WIDTH - 1 && isEqualColors(pixelReader.getColor(right + 1, rowY), oldColor)) {
+                right++;
+            }
+            for (int i = left; i <= right; i++) {
+                pixelWriter.setColor(i, rowY, newColor);
+            }
+            filled += right - left + 1;
+            for (int neighbourY = rowY - 1; neighbourY <= rowY + 1; neighbourY += 2) {
+                if (neighbourY < 0 || neighbourY >= HEIGHT) {
+                    continue;
+                }
+                boolean inRun = false;
+                for (int i = left; i <= right; i++) {
+                    boolean toFill = isEqualColors(pixelReader.getColor(i, neighbourY), oldColor);
+                    if (toFill && !inRun) {
+                        seeds.push(new int[]{i, neighbourY});
+                    }
+                    inRun = toFill;
+                }
+            }
+        }
+        return filled;
+    }
+
+    private static boolean isEqualColors(Color color1, Color color2) {
+        double dist = Math.sqrt(
+            Math.pow(color1.getRed() - color2.getRed(), 2) + Math.pow(color1.getGreen() - color2.getGreen(), 2)
+                + Math.pow(color1.getBlue() - color2.getBlue(), 2));
+        return dist <= COLOR_EQUALITY_THRESHOLD;
+    }
+
+}
@@ -0,0 +1,177 @@
+package net.gazeplay.games.draw;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.geometry.Dimension2D;
+import javafx.scene.Scene;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Pane;
+import javafx.stage.Stage;
+import lombok.extern.slf4j.Slf4j;
+import net.gazeplay.commons.random.ReplayablePseudoRandom;
+import net.gazeplay.commons.utils.stats.Stats;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.framework.junit5.Start;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Plays back 100k points of a scribble on the canvas of the DrawBuilder, and compares the time per point at the start
+ * and at the end of the drawing with the previous rendering, which stroked the whole path at every point.
+ */
+@Slf4j
+@ExtendWith(ApplicationExtension.class)
+class DrawBuilderBenchmark {
+
+    private static final double WIDTH = 1600;
+
+    private static final double HEIGHT = 900;
+
+    private static final int POINTS = 100_000;
+
+    /**
+     * Stroking the whole path is quadratic, so it is only measured on the first points
+     */
+    private static final int PATH_POINTS = 10_000;
+
+    private static final int POINTS_PER_FRAME = 500;
+
+    private Pane root;
+
+    @Start
+    void start(Stage stage) {
+        root = new Pane();
+        stage.setScene(new Scene(root, WIDTH, HEIGHT));
+        stage.show();
+    }
+
+    @Test
+    void compareSegmentsWithPath() throws InterruptedException {
+        DrawBuilder drawBuilder = new DrawBuilder(new ReplayablePseudoRandom(42));
+        Canvas canvas = drawBuilder.createCanvas(new Dimension2D(WIDTH, HEIGHT), mock(Stats.class));
+        Result segments = playBack(canvas, POINTS, (x, y) -> canvas.fireEvent(mouseEvent(MouseEvent.MOUSE_MOVED, x, y)),
+            () -> canvas.fireEvent(mouseEvent(MouseEvent.MOUSE_ENTERED, 0, 0)));
+
+        Canvas pathCanvas = new Canvas(WIDTH, HEIGHT);
+        GraphicsContext graphicsContext = pathCanvas.getGraphicsContext2D();
+        Result path = playBack(pathCanvas, PATH_POINTS, (x, y) -> {
+            graphicsContext.lineTo(x, y);
+            graphicsContext.stroke();
+        }, graphicsContext::beginPath);
+
+        log.info("segments, {} points : {} us/point at the start, {} us/point at the end, frame = {} ms",
+            POINTS, segments.firstMicrosPerPoint(), segments.lastMicrosPerPoint(), segments.meanFrameMillis());
+        log.info("path, {} points : {} us/point at the start, {} us/point at the end, frame = {} ms",
+            PATH_POINTS, path.firstMicrosPerPoint(), path.lastMicrosPerPoint(), path.meanFrameMillis());
+
+        assertTrue(segments.lastMicrosPerPoint() < path.lastMicrosPerPoint());
+    }
+
+    private Result playBack(Canvas canvas, int points, BiConsumer<Double, Double> addPoint, Runnable startStroke)
+        throws InterruptedException {
+        Result result = new Result(points);
+        CountDownLatch done = new CountDownLatch(1);
+
+        Platform.runLater(() -> {
+            root.getChildren().setAll(canvas);
+            startStroke.run();
+
+            new AnimationTimer() {
+                private long previousPulse = -1;
+
+                private int played = 0;
+
+                @Override
+                public void handle(long now) {
+                    if (previousPulse >= 0) {
+                        result.addFrame(now - previousPulse);
+                    }
+                    previousPulse = now;
+
+                    long start = System.nanoTime();
+                    int end = Math.min(points, played + POINTS_PER_FRAME);
+                    for (; played < end; played++) {
+                        // a spiral scribble, going over the same area again and again
+                        double angle = played * 0.05;
+                        double radius = 50 + (played % 4000) / 10d;
+                        addPoint.accept(WIDTH / 2 + radius * Math.cos(angle), HEIGHT / 2 + radius * Math.sin(angle));
+                    }
+                    result.addPoints(played, System.nanoTime() - start);
+
+                    if (played == points) {
+                        stop();
+                        done.countDown();
+                    }
+                }
+            }.start();
+        });
+
+        assertTrue(done.await(5, TimeUnit.MINUTES));
+        return result;
+    }
+
+    private static MouseEvent mouseEvent(javafx.event.EventType<MouseEvent> eventType, double x, double y) {
+        return new MouseEvent(eventType, x, y, x, y, MouseButton.NONE, 0, false, false, false, false,
+            false, false, false, false, false, false, null);
+    }
+
+    private static class Result {
+
+        private final int points;
+
+        private long firstNanos = 0;
+
+        private int firstPoints = 0;
+
+        private long lastNanos = 0;
+
+        private int lastPoints = 0;
+
+        private long frameNanos = 0;
+
+        private int frames = 0;
+
+        Result(int points) {
+            this.points = points;
+        }
+
+        void addPoints(int played, long nanos) {
+            if (played <= PATH_POINTS / 10) {
+                firstNanos += nanos;
+                firstPoints += POINTS_PER_FRAME;
+            } else if (played > points - PATH_POINTS / 10) {
+                lastNanos += nanos;
+                lastPoints += POINTS_PER_FRAME;
+            }
+        }
+
+        void addFrame(long nanos) {
+            frameNanos += nanos;
+            frames++;
+        }
+
+        double firstMicrosPerPoint() {
+            return firstNanos / 1e3 / firstPoints;
+        }
+
+        double lastMicrosPerPoint() {
+            return lastNanos / 1e3 / lastPoints;
+        }
+
+        double meanFrameMillis() {
+            return frameNanos / 1e6 / frames;
+        }
+
+    }
+
+}
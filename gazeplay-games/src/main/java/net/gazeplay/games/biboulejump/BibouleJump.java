@@ -29,6 +29,9 @@ import net.gazeplay.commons.utils.games.ImageLibrary;
 import net.gazeplay.commons.utils.games.ImageUtils;
 import net.gazeplay.commons.utils.multilinguism.MultilinguismFactory;
 import net.gazeplay.components.ProgressButton;
+import net.gazeplay.components.collision.Collider;
+import net.gazeplay.components.collision.CollisionGrid;
+import net.gazeplay.components.collision.ContactListener;
 
 import java.io.File;
 import java.io.IOException;
@@ -79,6 +82,10 @@ public class BibouleJump extends AnimationTimer implements GameLifeCycle {
     private Rectangle biboule;
     private final Text scoreText;
     private final ArrayList<Platform> platforms;
+    private final CollisionGrid<Platform> platformColliders;
+    private final Collider<Platform> bibouleCollider = new Collider<>(null, 0);
+    private final ContactListener<Platform> bounceOnPlatform =
+        (collider, platform) -> bounce(platform.getOwner().getBounceFactor(), platform.getOwner().getSoundFileLocation());
 
     private int score;
 
@@ -106,6 +113,9 @@ public class BibouleJump extends AnimationTimer implements GameLifeCycle {
         this.platforms = new ArrayList();
         this.platformHeight = dimensions.getHeight() / 10;
         this.platformWidth = dimensions.getWidth() / 7;
+        // platforms are generated up to one screen above the window
+        this.platformColliders = new CollisionGrid<>(0, -dimensions.getHeight(), dimensions.getWidth(),
+            2 * dimensions.getHeight(), platformWidth);
 
         initBackground();
 
@@ -193,6 +203,9 @@ public class BibouleJump extends AnimationTimer implements GameLifeCycle {
         this.platforms = new ArrayList();
         this.platformHeight = dimensions.getHeight() / 10;
         this.platformWidth = dimensions.getWidth() / 7;
+        // platforms are generated up to one screen above the window
+        this.platformColliders = new CollisionGrid<>(0, -dimensions.getHeight(), dimensions.getWidth(),
+            2 * dimensions.getHeight(), platformWidth);
 
         initBackground();
 
@@ -306,6 +319,7 @@ public class BibouleJump extends AnimationTimer implements GameLifeCycle {
 
         backgroundLayer.getChildren().removeAll(platforms);
         platforms.clear();
+        platformColliders.clear();
 
         this.middleLayer.getChildren().clear();
         biboule = new Rectangle(dimensions.getWidth() / 2, dimensions.getHeight() / 2, dimensions.getHeight() / 6,
@@ -410,6 +424,7 @@ public class BibouleJump extends AnimationTimer implements GameLifeCycle {
         b.setFill(new ImagePattern(new Image(DATA_PATH + "/bouncepad.png")));
         backgroundLayer.getChildren().add(b);
         platforms.add(b);
+        platformColliders.add(b.getCollider());
     }
 
     /**
@@ -441,6 +456,7 @@ public class BibouleJump extends AnimationTimer implements GameLifeCycle {
         }
         highestPlatform = p;
         platforms.add(p);
+        platformColliders.add(p.getCollider());
         p.setFill(new ImagePattern(cloudImages.pickRandomImage()));
         backgroundLayer.getChildren().add(p);
     }
@@ -486,6 +502,7 @@ public class BibouleJump extends AnimationTimer implements GameLifeCycle {
             p.scroll(difference);
             if (p.getY() >= dimensions.getHeight()) {
                 backgroundLayer.getChildren().remove(p);
+                platformColliders.remove(p.getCollider());
                 rectIter.remove();
             }
         }
@@ -536,13 +553,9 @@ public class BibouleJump extends AnimationTimer implements GameLifeCycle {
 
         // Collision detection
         if (velocity.getY() > 0) { // The biboule is falling
-            final Rectangle bibouleCollider = new Rectangle(biboule.getX() + biboule.getWidth() / 4,
+            bibouleCollider.setBox(biboule.getX() + biboule.getWidth() / 4,
                 biboule.getY() + biboule.getHeight() * 2 / 3, biboule.getWidth() / 2, biboule.getHeight() / 3);
-            for (final Platform p : platforms) {
-                if (p.isColliding(bibouleCollider)) {
-                    bounce(p.getBounceFactor(), p.getSoundFileLocation());
-                }
-            }
+            platformColliders.forEachContact(bibouleCollider, Platform.COLLIDER_GROUP, bounceOnPlatform);
 
         }
 
@@ -35,13 +35,12 @@ public class MovingPlatform extends Platform {
         }
         double rightLimit = leftLimit + mouvementArea / 2;
 
-        collider.setX(leftLimit);
         setX(leftLimit);
 
         Timeline leftMovement = new Timeline(new KeyFrame(Duration.seconds(2),
-            new KeyValue(this.xProperty(), rightLimit), new KeyValue(collider.xProperty(), rightLimit)));
+            new KeyValue(this.xProperty(), rightLimit)));
         Timeline rightMovement = new Timeline(new KeyFrame(Duration.seconds(2),
-            new KeyValue(this.xProperty(), leftLimit), new KeyValue(collider.xProperty(), leftLimit)));
+            new KeyValue(this.xProperty(), leftLimit)));
 
         SequentialTransition animation = new SequentialTransition();
         animation.getChildren().addAll(leftMovement, rightMovement);
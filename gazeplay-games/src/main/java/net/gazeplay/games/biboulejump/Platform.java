@@ -2,16 +2,28 @@ package net.gazeplay.games.biboulejump;
 
 import javafx.scene.shape.Rectangle;
 import lombok.Getter;
+import net.gazeplay.components.collision.Collider;
 
 public class Platform extends Rectangle {
 
+    static final int COLLIDER_GROUP = 1;
+
     @Getter
     private final String soundFileLocation;
 
     @Getter
     private final int bounceFactor;
 
-    protected final Rectangle collider;
+    /**
+     * Follows the platform whenever it is scrolled or animated
+     */
+    @Getter
+    private final Collider<Platform> collider;
+
+    private final double colliderMarginUp;
+    private final double colliderMarginRight;
+    private final double colliderMarginDown;
+    private final double colliderMarginLeft;
 
     public Platform(final double x, final double y, final double width, final double height, final String soundFileLocation, final int bounceFactor) {
         this(x, y, width, height, soundFileLocation, bounceFactor, 0, 0, 0, 0);
@@ -27,20 +39,24 @@ public class Platform extends Rectangle {
         super(x, y, width, height);
         this.soundFileLocation = soundFileLocation;
         this.bounceFactor = bounceFactor;
-        this.collider = new Rectangle(x + colliderMarginLeft * width, y + colliderMarginUp * height,
-            width * (1 - colliderMarginLeft - colliderMarginRight),
-            height * (1 - colliderMarginUp - colliderMarginDown));
+        this.colliderMarginUp = colliderMarginUp;
+        this.colliderMarginRight = colliderMarginRight;
+        this.colliderMarginDown = colliderMarginDown;
+        this.colliderMarginLeft = colliderMarginLeft;
+        this.collider = new Collider<>(this, COLLIDER_GROUP);
+        updateCollider();
+        xProperty().addListener(observable -> updateCollider());
+        yProperty().addListener(observable -> updateCollider());
     }
 
     public void scroll(final double difference) {
         setY(getY() + difference);
-        collider.setY(collider.getY() + difference);
     }
 
-    public boolean isColliding(final Rectangle rect) {
-        return collider.getX() < rect.getX() + rect.getWidth() && collider.getX() + collider.getWidth() > rect.getX()
-            && collider.getY() < rect.getY() + rect.getHeight()
-            && collider.getY() + collider.getHeight() > rect.getY();
+    private void updateCollider() {
+        collider.setBox(getX() + colliderMarginLeft * getWidth(), getY() + colliderMarginUp * getHeight(),
+            getWidth() * (1 - colliderMarginLeft - colliderMarginRight),
+            getHeight() * (1 - colliderMarginUp - colliderMarginDown));
     }
 
 }
@@ -8,7 +8,9 @@ import javafx.scene.input.MouseEvent;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.ImagePattern;
 import javafx.scene.shape.Rectangle;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import net.gazeplay.GameLifeCycle;
 import net.gazeplay.IGameContext;
@@ -24,8 +26,15 @@ import net.gazeplay.components.AspectRatioImageRectangleUtil;
 @Slf4j
 public class Blocs implements GameLifeCycle {
 
+    /**
+     * Grids with more cells than this are drawn on a single {@link ScratchLayer} instead of one node per bloc
+     */
+    static final int SCRATCH_LAYER_MIN_CELLS = 400;
+
     private final EventHandler<Event> enterEvent;
 
+    private final EventHandler<Event> scratchEvent;
+
     private final IGameContext gameContext;
     private final int nbLines;
     private final int nbColomns;
@@ -38,6 +47,15 @@ public class Blocs implements GameLifeCycle {
     private final int trail = 10;
     private final ImageLibrary imageLibrary;
 
+    @Setter(AccessLevel.PACKAGE)
+    private boolean scratchLayerEnabled;
+
+    private ScratchLayer scratchLayer;
+
+    private int lastScratchedColumn = -1;
+
+    private int lastScratchedLine = -1;
+
     @Data
     public static class CurrentRoundDetails {
 
@@ -76,8 +94,10 @@ public class Blocs implements GameLifeCycle {
         imageLibrary = ImageUtils.createImageLibrary(Utils.getImagesSubdirectory("blocs"), randomGenerator);
 
         enterEvent = buildEvent(gameContext, stats, useTrail);
+        scratchEvent = buildScratchEvent(gameContext, stats, useTrail);
 
         initCount = nbColumns * nbLines;
+        scratchLayerEnabled = initCount > SCRATCH_LAYER_MIN_CELLS;
     }
 
     public Blocs(final IGameContext gameContext, final int nbLines, final int nbColumns, final boolean colors, final float percents4Win,
@@ -93,8 +113,10 @@ public class Blocs implements GameLifeCycle {
         imageLibrary = ImageUtils.createImageLibrary(Utils.getImagesSubdirectory("blocs"), randomGenerator);
 
         enterEvent = buildEvent(gameContext, this.stats, useTrail);
+        scratchEvent = buildScratchEvent(gameContext, this.stats, useTrail);
 
         initCount = nbColumns * nbLines;
+        scratchLayerEnabled = initCount > SCRATCH_LAYER_MIN_CELLS;
     }
 
     private void setHiddenPicture(final IGameContext gameContext) {
@@ -120,6 +142,11 @@ public class Blocs implements GameLifeCycle {
 
         setHiddenPicture(gameContext);
 
+        if (scratchLayerEnabled) {
+            launchScratchLayer(dimension2D);
+            return;
+        }
+
         final double width = dimension2D.getWidth() / nbColomns;
         final double height = dimension2D.getHeight() / nbLines;
 
@@ -132,18 +159,7 @@ public class Blocs implements GameLifeCycle {
                 if (colors) {
                     bloc.setFill(new Color(randomGenerator.nextDouble(), randomGenerator.nextDouble(), randomGenerator.nextDouble(), 1));
                 } else {
-                    final Color c = gameContext.getConfiguration().getBackgroundStyle().accept(new BackgroundStyleVisitor<Color>() {
-                        @Override
-                        public Color visitLight() {
-                           return Color.WHITE;
-                        }
-
-                        @Override
-                        public Color visitDark() {
-                            return Color.BLACK;
-                        }
-                    });
-                    bloc.setFill(c);
+                    bloc.setFill(backgroundColor());
                 }
                 gameContext.getChildren().add(bloc);
                 currentRoundDetails.blocs[i][j] = bloc;
@@ -158,21 +174,72 @@ public class Blocs implements GameLifeCycle {
 
             }
         }
+        onRoundReady();
+    }
+
+    private void launchScratchLayer(final Dimension2D dimension2D) {
+        scratchLayer = new ScratchLayer(dimension2D.getWidth(), dimension2D.getHeight(), nbColomns, nbLines);
+        if (colors) {
+            // same draw order as the blocs, so that a replay with the same seed gets the same colors
+            for (int i = 0; i < nbColomns; i++) {
+                for (int j = 0; j < nbLines; j++) {
+                    scratchLayer.fillCell(i, j, new Color(randomGenerator.nextDouble(), randomGenerator.nextDouble(), randomGenerator.nextDouble(), 1));
+                }
+            }
+        } else {
+            scratchLayer.fill(backgroundColor());
+        }
+        lastScratchedColumn = -1;
+        lastScratchedLine = -1;
+
+        gameContext.getChildren().add(scratchLayer);
+        scratchLayer.toFront();
+
+        gameContext.getGazeDeviceManager().addEventFilter(scratchLayer);
+        scratchLayer.addEventFilter(MouseEvent.ANY, scratchEvent);
+        scratchLayer.addEventFilter(GazeEvent.ANY, scratchEvent);
+
+        onRoundReady();
+    }
+
+    private void onRoundReady() {
         stats.notifyNewRoundReady();
         gameContext.getGazeDeviceManager().addStats(stats);
         gameContext.firstStart();
-      
+
         gameContext.setOffFixationLengthControl();
 
         gameContext.onGameStarted(2000);
     }
 
+    private Color backgroundColor() {
+        return gameContext.getConfiguration().getBackgroundStyle().accept(new BackgroundStyleVisitor<Color>() {
+            @Override
+            public Color visitLight() {
+                return Color.WHITE;
+            }
+
+            @Override
+            public Color visitDark() {
+                return Color.BLACK;
+            }
+        });
+    }
+
     @Override
     public void dispose() {
 
     }
 
     private void removeAllBlocs() {
+        if (scratchLayer != null) {
+            currentRoundDetails.remainingCount -= scratchLayer.scratchAll();
+            scratchLayer.removeEventFilter(MouseEvent.ANY, scratchEvent);
+            scratchLayer.removeEventFilter(GazeEvent.ANY, scratchEvent);
+            gameContext.getGazeDeviceManager().removeEventFilter(scratchLayer);
+            scratchLayer = null;
+            return;
+        }
         final Bloc[][] blocs = currentRoundDetails.blocs;
         final int maxY = blocs[0].length;
         for (final Bloc[] bloc : blocs) {
@@ -233,26 +300,68 @@ public class Blocs implements GameLifeCycle {
                     }
                 }
 
-                if (((float) initCount - currentRoundDetails.remainingCount) / initCount >= percents4Win
-                    && !currentRoundDetails.finished) {
-
-                    currentRoundDetails.finished = true;
-
-                    stats.incrementNumberOfGoalsReached();
+                checkWin(gameContext, stats);
+            }
+        };
+    }
 
-                    removeAllBlocs();
+    private EventHandler<Event> buildScratchEvent(final IGameContext gameContext, final Stats stats, final boolean useTrail) {
+        return e -> {
+            final double x;
+            final double y;
+            if (e instanceof MouseEvent && (e.getEventType().equals(MouseEvent.MOUSE_ENTERED)
+                || e.getEventType().equals(MouseEvent.MOUSE_MOVED) || e.getEventType().equals(MouseEvent.MOUSE_DRAGGED))) {
+                x = ((MouseEvent) e).getX();
+                y = ((MouseEvent) e).getY();
+            } else if (e instanceof GazeEvent && (e.getEventType().equals(GazeEvent.GAZE_ENTERED)
+                || e.getEventType().equals(GazeEvent.GAZE_MOVED))) {
+                x = ((GazeEvent) e).getX();
+                y = ((GazeEvent) e).getY();
+            } else {
+                return;
+            }
 
-                    gameContext.updateScore(stats,this);
+            final ScratchLayer layer = scratchLayer;
+            if (layer == null) {
+                return;
+            }
+            final int column = layer.columnAt(x);
+            final int line = layer.lineAt(y);
+            if (column < 0 || line < 0 || (column == lastScratchedColumn && line == lastScratchedLine)) {
+                return;
+            }
+            lastScratchedColumn = column;
+            lastScratchedLine = line;
 
-                    gameContext.playWinTransition(0, event -> {
-                        gameContext.clear();
-                        Blocs.this.launch();
-                    });
-                }
+            if (useTrail) {
+                currentRoundDetails.remainingCount -= layer.scratchAround(column, line, trail);
+            } else {
+                currentRoundDetails.remainingCount -= layer.scratch(column, line);
             }
+
+            checkWin(gameContext, stats);
         };
     }
 
+    private void checkWin(final IGameContext gameContext, final Stats stats) {
+        if (((float) initCount - currentRoundDetails.remainingCount) / initCount >= percents4Win
+            && !currentRoundDetails.finished) {
+
+            currentRoundDetails.finished = true;
+
+            stats.incrementNumberOfGoalsReached();
+
+            removeAllBlocs();
+
+            gameContext.updateScore(stats,this);
+
+            gameContext.playWinTransition(0, event -> {
+                gameContext.clear();
+                Blocs.this.launch();
+            });
+        }
+    }
+
     private static class Bloc extends Rectangle {
 
         final int posX;
@@ -0,0 +1,125 @@
+package net.gazeplay.games.blocs;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+import java.util.BitSet;
+
+/**
+ * Grid of blocs drawn on a single canvas, used instead of one {@link javafx.scene.shape.Rectangle} per bloc when the
+ * grid is large.
+ * <p>
+ * The remaining cells are kept in a bit set, a position is mapped to its cell arithmetically and scratching a cell
+ * only clears its pixels. Cell bounds are rounded to whole pixels, so that neighbouring cells neither overlap nor
+ * leave a gap between them.
+ */
+class ScratchLayer extends Canvas {
+
+    private final int nbColumns;
+
+    private final int nbLines;
+
+    private final double cellWidth;
+
+    private final double cellHeight;
+
+    private final BitSet remainingCells;
+
+    private final GraphicsContext graphics;
+
+    ScratchLayer(final double width, final double height, final int nbColumns, final int nbLines) {
+        super(width, height);
+        this.nbColumns = nbColumns;
+        this.nbLines = nbLines;
+        this.cellWidth = width / nbColumns;
+        this.cellHeight = height / nbLines;
+        this.remainingCells = new BitSet(nbColumns * nbLines);
+        this.remainingCells.set(0, nbColumns * nbLines);
+        this.graphics = getGraphicsContext2D();
+    }
+
+    void fill(final Color color) {
+        graphics.setFill(color);
+        graphics.fillRect(0, 0, getWidth(), getHeight());
+    }
+
+    void fillCell(final int column, final int line, final Color color) {
+        graphics.setFill(color);
+        graphics.fillRect(left(column), top(line), left(column + 1) - left(column), top(line + 1) - top(line));
+    }
+
+    /**
+     * @return the column under the given x, in the coordinates of the layer, or -1 if it is outside
+     */
+    int columnAt(final double x) {
+        final int column = (int) Math.floor(x / cellWidth);
+        return column >= 0 && column < nbColumns ? column : -1;
+    }
+
+    /**
+     * @return the line under the given y, in the coordinates of the layer, or -1 if it is outside
+     */
+    int lineAt(final double y) {
+        final int line = (int) Math.floor(y / cellHeight);
+        return line >= 0 && line < nbLines ? line : -1;
+    }
+
+    boolean isRemaining(final int column, final int line) {
+        return remainingCells.get(index(column, line));
+    }
+
+    /**
+     * @return the number of cells which have been scratched, 0 or 1
+     */
+    int scratch(final int column, final int line) {
+        final int index = index(column, line);
+        if (!remainingCells.get(index)) {
+            return 0;
+        }
+        remainingCells.clear(index);
+        graphics.clearRect(left(column), top(line), left(column + 1) - left(column), top(line + 1) - top(line));
+        return 1;
+    }
+
+    /**
+     * Scratches the cells whose distance to the given cell, counted in cells, is at most the radius
+     *
+     * @return the number of cells which have been scratched
+     */
+    int scratchAround(final int column, final int line, final int radius) {
+        int scratched = 0;
+        for (int i = -radius; i < radius; i++) {
+            for (int j = -radius; j < radius; j++) {
+                if (i * i + j * j <= radius * radius && column + i >= 0 && line + j >= 0
+                    && column + i < nbColumns && line + j < nbLines) {
+                    scratched += scratch(column + i, line + j);
+                }
+            }
+        }
+        return scratched;
+    }
+
+    /**
+     * @return the number of cells which have been scratched
+     */
+    int scratchAll() {
+        final int scratched = remainingCells.cardinality();
+        remainingCells.clear();
+        graphics.clearRect(0, 0, getWidth(), getHeight());
+        return scratched;
+    }
+
+    private int index(final int column, final int line) {
+        return column * nbLines + line;
+    }
+
+    private double left(final int column) {
+        return column == nbColumns ? getWidth() : Math.floor(column * cellWidth);
+    }
+
+    private double top(final int line) {
+        return line == nbLines ? getHeight() : Math.floor(line * cellHeight);
+    }
+
+}
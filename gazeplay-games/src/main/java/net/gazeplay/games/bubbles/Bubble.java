@@ -9,6 +9,7 @@ import net.gazeplay.GameLifeCycle;
 import net.gazeplay.IGameContext;
 import net.gazeplay.commons.configuration.BackgroundStyleVisitor;
 import net.gazeplay.commons.random.ReplayablePseudoRandom;
+import net.gazeplay.commons.utils.games.ImageLibrary;
 import net.gazeplay.commons.utils.stats.Stats;
 import net.gazeplay.components.Portrait;
 import net.gazeplay.components.RandomPositionGenerator;
@@ -93,9 +94,13 @@ public class Bubble implements GameLifeCycle {
         initBackground(true);
         final RandomPositionGenerator randomPositionGenerator = gameContext.getRandomPositionGenerator();
         randomPositionGenerator.setRandomGenerator(randomGenerator);
+        // the bubbles grow up to twice their largest radius, a twelfth of the screen, when they explode
+        final Dimension2D dimension2D = gameContext.getGamePanelDimensionProvider().getDimension2D();
+        final double maximumDiameter = Math.min(dimension2D.getWidth(), dimension2D.getHeight()) / 3;
+        final ImageLibrary imageLibrary = Portrait.createImageLibrary(randomGenerator, maximumDiameter);
         for (int i = 0; i < 10; i++) {
             Target portrait = new Target(gameContext, randomPositionGenerator, stats,
-                Portrait.createImageLibrary(randomGenerator), gameVariant, this, randomGenerator, type);
+                imageLibrary, gameVariant, this, randomGenerator, type);
             gameContext.getChildren().add(portrait);
         }
         gameContext.setLimiterAvailable();
@@ -20,12 +20,19 @@ import net.gazeplay.commons.random.ReplayablePseudoRandom;
 import net.gazeplay.commons.utils.games.ImageUtils;
 import net.gazeplay.commons.utils.games.Utils;
 import net.gazeplay.commons.utils.stats.Stats;
+import net.gazeplay.components.collision.Collider;
+import net.gazeplay.components.collision.CollisionGrid;
+import net.gazeplay.components.collision.ContactListener;
 
 import java.util.ArrayList;
 
 @Slf4j
 public class CasseBrique implements GameLifeCycle {
 
+    private static final int BRICK = 1;
+    private static final int HARD_BRICK = 2;
+    private static final double CONTACT_MARGIN = 1;
+
     final private IGameContext gameContext;
     final private Stats stats;
     final private CasseBriqueGameVariant variant;
@@ -49,6 +56,10 @@ public class CasseBrique implements GameLifeCycle {
     final private ArrayList<Rectangle> wallhardlist;
     final private ArrayList<Rectangle> wallremovelist;
 
+    final private CollisionGrid<Rectangle> walls;
+    final private Collider<Rectangle> ballCollider;
+    final private ContactListener<Rectangle> bounceWallListener = (collider, wall) -> bounceWall(wall);
+
     private boolean touchbar;
     private boolean touchX;
     private boolean touchY;
@@ -63,6 +74,9 @@ public class CasseBrique implements GameLifeCycle {
         walllist = new ArrayList<>();
         wallhardlist = new ArrayList<>();
         wallremovelist = new ArrayList<>();
+
+        walls = new CollisionGrid<>(0, 0, dimension2D.getWidth(), dimension2D.getHeight(), dimension2D.getWidth() / 20);
+        ballCollider = new Collider<>(null, 0);
     }
 
     public void launch() {
@@ -123,6 +137,7 @@ public class CasseBrique implements GameLifeCycle {
         walllist.clear();
         wallhardlist.clear();
         wallremovelist.clear();
+        walls.clear();
         gameContext.getChildren().clear();
     }
 
@@ -175,12 +190,11 @@ public class CasseBrique implements GameLifeCycle {
                 ballfall();
             }
             bounceBarre();
-            for (Rectangle wall : walllist) {
-                bounceWall(wall, true);
-            }
-            for (Rectangle wall : wallhardlist) {
-                bounceWall(wall, false);
-            }
+            // the probe covers the square around the ball, with a margin since the colliders which only touch do not
+            // intersect, so that the corners and edges the ball touches still reach the inclusive tests of bounceWall
+            final double probeSize = sizeball + CONTACT_MARGIN;
+            ballCollider.setBox(ball.getCenterX() - probeSize, ball.getCenterY() - probeSize, 2 * probeSize, 2 * probeSize);
+            walls.forEachContact(ballCollider, BRICK | HARD_BRICK, bounceWallListener);
             if (touchX) {
                 rad = -rad;
             }
@@ -190,9 +204,11 @@ public class CasseBrique implements GameLifeCycle {
             if (touchbar) {
                 radInertiaBarre();
             }
-            walllist.removeAll(wallremovelist);
-            gameContext.getChildren().removeAll(wallremovelist);
-            wallremovelist.clear();
+            if (!wallremovelist.isEmpty()) {
+                walllist.removeAll(wallremovelist);
+                gameContext.getChildren().removeAll(wallremovelist);
+                wallremovelist.clear();
+            }
             testwin();
             ball.setCenterX(ball.getCenterX() + speed * Math.sin(rad));
             ball.setCenterY(ball.getCenterY() + speed * Math.cos(rad));
@@ -218,7 +234,8 @@ public class CasseBrique implements GameLifeCycle {
         }
     }
 
-    private void bounceWall(Rectangle wall, boolean remove) {
+    private void bounceWall(Collider<Rectangle> wallCollider) {
+        final Rectangle wall = wallCollider.getOwner();
         boolean touch = false;
         if (onLeft(wall) || onRight(wall)) {
             touchX = true;
@@ -228,7 +245,8 @@ public class CasseBrique implements GameLifeCycle {
             touchY = true;
             touch = true;
         }
-        if (touch && remove) {
+        if (touch && wallCollider.getGroup() == BRICK) {
+            walls.remove(wallCollider);
             wallremovelist.add(wall);
             stats.incrementNumberOfGoalsReached();
         }
@@ -299,17 +317,25 @@ public class CasseBrique implements GameLifeCycle {
                     wall = new Rectangle(i * widthwall, j * heightwall, widthwall, heightwall);
                     wall.setFill(Color.GRAY);
                     wallhardlist.add(wall);
+                    addWallCollider(wall, HARD_BRICK);
                     gameContext.getChildren().add(wall);
                 } else if (map[j][i] != Color.TRANSPARENT) {
                     wall = new Rectangle(i * widthwall, j * heightwall, widthwall, heightwall);
                     wall.setFill(map[j][i]);
                     walllist.add(wall);
+                    addWallCollider(wall, BRICK);
                     gameContext.getChildren().add(wall);
                 }
             }
         }
     }
 
+    private void addWallCollider(Rectangle wall, int group) {
+        Collider<Rectangle> collider = new Collider<>(wall, group);
+        collider.setBox(wall.getX(), wall.getY(), wall.getWidth(), wall.getHeight());
+        walls.add(collider);
+    }
+
     private void bloc() {
         Color c1 = Color.PURPLE;
         Color c2 = Color.BLUE;
@@ -12,7 +12,6 @@ import javafx.scene.image.PixelWriter;
 import javafx.scene.image.WritableImage;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.Pane;
-import javafx.scene.paint.Color;
 import javafx.scene.paint.ImagePattern;
 import javafx.scene.shape.Rectangle;
 import lombok.Getter;
@@ -28,8 +27,6 @@ import net.gazeplay.components.GazeFollowerIndicator;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
-import java.util.ArrayDeque;
-import java.util.Deque;
 
 /**
  * Game where you select a color in order to colorize a white and black draw.
@@ -40,12 +37,6 @@ import java.util.Deque;
 public class ColorsGame implements GameLifeCycle {
 
 
-    /**
-     * On a [0, 1] scale, used to determine the threshold in the difference between two colors to consider that they are
-     * equals.
-     */
-    private static final double COLOR_EQUALITY_THRESHOLD = 10d / 255d;
-
     /**
      * Distance in pixel between two gaze event to consider that the gaze is moving.
      */
@@ -70,8 +61,6 @@ public class ColorsGame implements GameLifeCycle {
 
     private final ColorsGamesStats stats;
 
-    private final Deque<HorizontalZone> horiZones = new ArrayDeque<>();
-
     /**
      * The tool box object.
      */
@@ -88,12 +77,12 @@ public class ColorsGame implements GameLifeCycle {
     private PixelWriter pixelWriter;
 
     /**
-     * The pixel reader into wich we read pixels
+     * The pixels of the image, which are colorized before being written to the pixelWriter
      */
-    private PixelReader pixelReader;
+    private PixelBuffer pixelBuffer;
 
     /**
-     * The image linked to the pixelReader and pixelWriter
+     * The image linked to the pixelBuffer and pixelWriter
      */
     @Getter
     private WritableImage writableImg;
@@ -131,22 +120,6 @@ public class ColorsGame implements GameLifeCycle {
         });
     }
 
-    /**
-     * Detect if a color is close enough to another one to be considered the same.
-     *
-     * @param color1 The first color to compare
-     * @param color2 The second color to compare
-     * @return true if considered same, false otherwise.
-     */
-    private static boolean isEqualColors(final Color color1, final Color color2) {
-        // Scalar distance calculation
-        final double dist = Math.sqrt(
-            Math.pow(color1.getRed() - color2.getRed(), 2) + Math.pow(color1.getGreen() - color2.getGreen(), 2)
-                + Math.pow(color1.getBlue() - color2.getBlue(), 2));
-
-        return dist <= COLOR_EQUALITY_THRESHOLD;
-    }
-
     @Override
     public void launch() {
 
@@ -320,7 +293,7 @@ public class ColorsGame implements GameLifeCycle {
 
         writableImg = new WritableImage(tmpPixelReader, (int) image.getWidth(), (int) image.getHeight());
         pixelWriter = writableImg.getPixelWriter();
-        pixelReader = writableImg.getPixelReader();
+        pixelBuffer = PixelBuffer.read(writableImg.getPixelReader(), (int) writableImg.getWidth(), (int) writableImg.getHeight());
 
 
         /*
@@ -358,33 +331,10 @@ public class ColorsGame implements GameLifeCycle {
         toBlackAndWhite();
     }
 
-    private double getAvgThresholdValue() {
-        double sum = 0;
-        for (int i = 0; i < writableImg.getWidth(); ++i) {
-            for (int j = 0; j < writableImg.getHeight(); ++j) {
-                final Color pixCol = pixelReader.getColor(i, j);
-                sum = sum + (pixCol.getRed() + pixCol.getGreen() + pixCol.getBlue()) / 3;
-            }
-        }
-        sum = sum / (writableImg.getWidth() * writableImg.getHeight());
-        return 3 * sum / 4;
-    }
-
     private void toBlackAndWhite() {
 
-
-        final double avgThresholdValue = getAvgThresholdValue();
-
-        for (int i = 0; i < writableImg.getWidth(); ++i) {
-            for (int j = 0; j < writableImg.getHeight(); ++j) {
-
-                final Color pixCol = pixelReader.getColor(i, j);
-                final double avg = (pixCol.getRed() + pixCol.getGreen() + pixCol.getBlue()) / 3;
-
-                final Color newCol = avg > avgThresholdValue ? Color.WHITE : Color.BLACK;
-                pixelWriter.setColor(i, j, newCol);
-            }
-        }
+        pixelBuffer.toBlackAndWhite();
+        pixelBuffer.write(pixelWriter);
 
         updateRectangle();
 
@@ -402,17 +352,16 @@ public class ColorsGame implements GameLifeCycle {
         final int pixelY = (int) ((y - rectangle.getY()) * writableImg.getHeight() / rectangle.getHeight());
         // log.info("pixel at x= {}, y = {}", pixelX, pixelY);
 
-        final Color color = pixelReader.getColor(pixelX, pixelY);
-        // log.info("R = {}, G = {}, B = {}, A = {}", color.getRed(), color.getGreen(), color.getBlue(),
-        // color.getOpacity());
+        final int color = pixelBuffer.getArgb(pixelX, pixelY);
+        final int newColor = PixelBuffer.toArgb(colorToolBox.getSelectedColorBox().getColor());
 
         /*
          * Don't fill the zone if the pixel selected is already of the same color. Also don't fill black zones
          */
-        if (!isEqualColors(color, colorToolBox.getSelectedColorBox().getColor()) && !isEqualColors(color, Color.BLACK)
+        if (!PixelBuffer.isEqualColors(color, newColor) && !PixelBuffer.isEqualColors(color, PixelBuffer.BLACK)
             && drawingEnable.getValue()) {
-            javaFXFloodFill(pixelWriter, pixelReader, colorToolBox.getSelectedColorBox().getColor(), pixelX, pixelY,
-                (int) writableImg.getWidth(), (int) writableImg.getHeight());
+            pixelBuffer.fill(pixelX, pixelY, newColor);
+            pixelBuffer.write(pixelWriter);
             rectangle.setFill(this.createImagePattern(writableImg, rectangle));
             rectangle.toBack();
 
@@ -420,115 +369,14 @@ public class ColorsGame implements GameLifeCycle {
         }
     }
 
-    private void javaFXFloodFill(final PixelWriter pixelWriter, final PixelReader pixelReader, final Color newColor, final int x,
-                                 final int y, final int width, final int height) {
-
-        final Color oldColor = pixelReader.getColor(x, y);
-
-        // floodInColumnAndLineRec(pixelWriter, pixelReader, newColor, x, y, width, height, oldColor);
-        floodInColumnAndLine(pixelWriter, pixelReader, newColor, x, y, width, height, oldColor);
-    }
-
     public ImagePattern createImagePattern(final Image img, final Rectangle r) {
         return new ImagePattern(img, 0, 0, 1, 1, true);
     }
 
-    private void floodInColumnAndLine(final PixelWriter pixelWriter, final PixelReader pixelReader,
-                                      final Color newColor, final int x, final int y, final int width, final int height, final Color oldColor) {
-
-        final int leftX = floodInLine(pixelWriter, pixelReader, newColor, x, y, width, true, oldColor);
-        final int rightX = floodInLine(pixelWriter, pixelReader, newColor, x, y, width, false, oldColor);
-
-        final HorizontalZone firstZone = new HorizontalZone(leftX, rightX, y);
-        searchZone(firstZone, oldColor, pixelReader, pixelWriter, newColor, width, height);
-
-        while (horiZones.size() > 0) {
-
-            final HorizontalZone zone = horiZones.pop();
-            // log.info("zone : {}", zone.toString());
-            searchZone(zone, oldColor, pixelReader, pixelWriter, newColor, width, height);
-        }
-    }
-
-    private void searchZone(final HorizontalZone zone, final Color oldColor, final PixelReader pixelReader,
-                            final PixelWriter pixelWriter, final Color newColor, final int width, final int height) {
-
-        // Search for left and right of the zone
-        final int leftX = floodInLine(pixelWriter, pixelReader, newColor, zone.leftX, zone.y, width, true, oldColor);
-        final int rightX = floodInLine(pixelWriter, pixelReader, newColor, zone.rightX, zone.y, width, false, oldColor);
-
-        for (int i = leftX; i <= rightX; ++i) {
-
-            // Search for available zone to colorize upward
-            if (zone.y > 0 && isEqualColors(pixelReader.getColor(i, zone.y - 1), oldColor)) {
-
-                final int newLeftX = floodInLine(pixelWriter, pixelReader, newColor, i, zone.y - 1, width, true, oldColor);
-                final int newRightX = floodInLine(pixelWriter, pixelReader, newColor, i, zone.y - 1, width, false, oldColor);
-
-                horiZones.add(new HorizontalZone(newLeftX, newRightX, zone.y - 1));
-            }
-            // Search for available zone to colorize downward
-            if (zone.y < height - 1 && isEqualColors(pixelReader.getColor(i, zone.y + 1), oldColor)) {
-
-                final int newLeftX = floodInLine(pixelWriter, pixelReader, newColor, i, zone.y + 1, width, true, oldColor);
-                final int newRightX = floodInLine(pixelWriter, pixelReader, newColor, i, zone.y + 1, width, false, oldColor);
-
-                horiZones.add(new HorizontalZone(newLeftX, newRightX, zone.y + 1));
-            }
-        }
-    }
-
-    private int floodInLine(final PixelWriter pixelWriter, final PixelReader pixelReader, final Color newColor,
-                            final int x, final int y, final int width, final boolean isLeftFIll, final Color oldColor) {
-
-        int currentX = x;
-
-        // fill
-        do {
-
-            pixelWriter.setColor(currentX, y, newColor);
-
-            if (isLeftFIll) {
-                currentX--;
-            } else {
-                currentX++;
-            }
-        } while (currentX >= 0 && currentX < width - 1 && isEqualColors(pixelReader.getColor(currentX, y), oldColor));
-
-        if (isLeftFIll) {
-            currentX++;
-        } else {
-
-            currentX--;
-        }
-
-        return currentX;
-    }
-
     void setEnableColorization(final boolean enable) {
         this.drawingEnable.setValue(enable);
     }
 
-    /**
-     * Objects used internally that represents a horizontal line of pixels
-     */
-    private static class HorizontalZone {
-        final int leftX;
-        final int rightX;
-        final int y;
-
-        HorizontalZone(final int lX, final int rX, final int y) {
-            this.leftX = lX;
-            this.rightX = rX;
-            this.y = y;
-        }
-
-        @Override
-        public String toString() {
-            return "HorizontalZone{" + "leftX=" + leftX + ", rightX=" + rightX + ", y=" + y + '}';
-        }
-    }
-
     private class CustomEventHandler {
 
         private Double gazeXOrigin = 0.;
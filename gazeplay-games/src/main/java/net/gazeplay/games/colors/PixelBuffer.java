@@ -0,0 +1,218 @@
+package net.gazeplay.games.colors;
+
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.paint.Color;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Pixels of the drawing to colorize, as ARGB integers.
+ * <p>
+ * The pixels are read once from the image, so that the flood fill and the black and white conversion work on an int
+ * array instead of reading a {@link Color} object per pixel. The pixels modified since the last write are tracked as a
+ * rectangle, which is copied back to the image in a single call.
+ */
+class PixelBuffer {
+
+    static final int WHITE = 0xFFFFFFFF;
+
+    static final int BLACK = 0xFF000000;
+
+    /**
+     * On a [0, 255] scale, the distance between two colors under which they are considered equal.
+     */
+    private static final int COLOR_EQUALITY_THRESHOLD = 10;
+
+    private static final int INITIAL_STACK_CAPACITY = 1024;
+
+    private final int width;
+
+    private final int height;
+
+    private final int[] pixels;
+
+    /**
+     * Pixels still to look at during a fill, as indexes in the pixels array
+     */
+    private int[] stack = new int[INITIAL_STACK_CAPACITY];
+
+    private int dirtyMinX;
+
+    private int dirtyMinY;
+
+    private int dirtyMaxX;
+
+    private int dirtyMaxY;
+
+    PixelBuffer(final int width, final int height, final int[] pixels) {
+        if (pixels.length != width * height) {
+            throw new IllegalArgumentException("Expected " + width * height + " pixels, got " + pixels.length);
+        }
+        this.width = width;
+        this.height = height;
+        this.pixels = pixels;
+        clearDirty();
+    }
+
+    static PixelBuffer read(final PixelReader pixelReader, final int width, final int height) {
+        final int[] pixels = new int[width * height];
+        pixelReader.getPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), pixels, 0, width);
+        return new PixelBuffer(width, height, pixels);
+    }
+
+    static int toArgb(final Color color) {
+        return (int) Math.round(color.getOpacity() * 255) << 24
+            | (int) Math.round(color.getRed() * 255) << 16
+            | (int) Math.round(color.getGreen() * 255) << 8
+            | (int) Math.round(color.getBlue() * 255);
+    }
+
+    /**
+     * Detect if a color is close enough to another one to be considered the same. The opacity is not compared.
+     */
+    static boolean isEqualColors(final int argb1, final int argb2) {
+        final int red = (argb1 >> 16 & 0xFF) - (argb2 >> 16 & 0xFF);
+        final int green = (argb1 >> 8 & 0xFF) - (argb2 >> 8 & 0xFF);
+        final int blue = (argb1 & 0xFF) - (argb2 & 0xFF);
+        return red * red + green * green + blue * blue <= COLOR_EQUALITY_THRESHOLD * COLOR_EQUALITY_THRESHOLD;
+    }
+
+    int getWidth() {
+        return width;
+    }
+
+    int getHeight() {
+        return height;
+    }
+
+    int getArgb(final int x, final int y) {
+        return pixels[y * width + x];
+    }
+
+    boolean isDirty() {
+        return dirtyMinX <= dirtyMaxX;
+    }
+
+    /**
+     * Turns the pixels brighter than 3/4 of the average brightness of the image to white, and the others to black. The
+     * rows are processed in parallel.
+     */
+    void toBlackAndWhite() {
+        if (pixels.length == 0) {
+            return;
+        }
+        final long brightnessSum = IntStream.range(0, height).parallel().mapToLong(this::rowBrightness).sum();
+        // brightness > 3/4 * brightnessSum / pixels, without rounding
+        final long threshold = 3 * brightnessSum;
+        final long scale = 4L * pixels.length;
+        IntStream.range(0, height).parallel().forEach(y -> {
+            final int rowEnd = (y + 1) * width;
+            for (int i = y * width; i < rowEnd; i++) {
+                pixels[i] = brightness(pixels[i]) * scale > threshold ? WHITE : BLACK;
+            }
+        });
+        markDirty(0, 0, width - 1, height - 1);
+    }
+
+    /**
+     * Fills the zone of the color of the given pixel with the new color, with a scanline flood fill.
+     *
+     * @return the number of pixels filled
+     */
+    int fill(final int x, final int y, final int newColor) {
+        final int oldColor = pixels[y * width + x];
+        if (isEqualColors(oldColor, newColor)) {
+            // the filled pixels could not be told apart from the ones to fill
+            return 0;
+        }
+
+        int filled = 0;
+        int stackSize = 0;
+        stack[stackSize++] = y * width + x;
+
+        while (stackSize > 0) {
+            final int seed = stack[--stackSize];
+            if (!isEqualColors(pixels[seed], oldColor)) {
+                continue;
+            }
+            final int rowY = seed / width;
+            final int rowStart = rowY * width;
+
+            int left = seed - rowStart;
+            while (left > 0 && isEqualColors(pixels[rowStart + left - 1], oldColor)) {
+                left--;
+            }
+            int right = seed - rowStart;
+            while (right < width - 1 && isEqualColors(pixels[rowStart + right + 1], oldColor)) {
+                right++;
+            }
+
+            Arrays.fill(pixels, rowStart + left, rowStart + right + 1, newColor);
+            filled += right - left + 1;
+            markDirty(left, rowY, right, rowY);
+
+            // one seed for each run of pixels to fill above and under the line
+            for (int neighbourY = rowY - 1; neighbourY <= rowY + 1; neighbourY += 2) {
+                if (neighbourY < 0 || neighbourY >= height) {
+                    continue;
+                }
+                final int neighbourStart = neighbourY * width;
+                boolean inRun = false;
+                for (int i = left; i <= right; i++) {
+                    final boolean toFill = isEqualColors(pixels[neighbourStart + i], oldColor);
+                    if (toFill && !inRun) {
+                        if (stackSize == stack.length) {
+                            stack = Arrays.copyOf(stack, stackSize * 2);
+                        }
+                        stack[stackSize++] = neighbourStart + i;
+                    }
+                    inRun = toFill;
+                }
+            }
+        }
+        return filled;
+    }
+
+    /**
+     * Copies the pixels modified since the last write to the image.
+     */
+    void write(final PixelWriter pixelWriter) {
+        if (!isDirty()) {
+            return;
+        }
+        pixelWriter.setPixels(dirtyMinX, dirtyMinY, dirtyMaxX - dirtyMinX + 1, dirtyMaxY - dirtyMinY + 1,
+            PixelFormat.getIntArgbInstance(), pixels, dirtyMinY * width + dirtyMinX, width);
+        clearDirty();
+    }
+
+    private long rowBrightness(final int y) {
+        long sum = 0;
+        final int rowEnd = (y + 1) * width;
+        for (int i = y * width; i < rowEnd; i++) {
+            sum += brightness(pixels[i]);
+        }
+        return sum;
+    }
+
+    private static int brightness(final int argb) {
+        return (argb >> 16 & 0xFF) + (argb >> 8 & 0xFF) + (argb & 0xFF);
+    }
+
+    private void markDirty(final int minX, final int minY, final int maxX, final int maxY) {
+        dirtyMinX = Math.min(dirtyMinX, minX);
+        dirtyMinY = Math.min(dirtyMinY, minY);
+        dirtyMaxX = Math.max(dirtyMaxX, maxX);
+        dirtyMaxY = Math.max(dirtyMaxY, maxY);
+    }
+
+    private void clearDirty() {
+        dirtyMinX = Integer.MAX_VALUE;
+        dirtyMinY = Integer.MAX_VALUE;
+        dirtyMaxX = Integer.MIN_VALUE;
+        dirtyMaxY = Integer.MIN_VALUE;
+    }
+
+}
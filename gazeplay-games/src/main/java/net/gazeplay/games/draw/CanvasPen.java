@@ -0,0 +1,125 @@
+package net.gazeplay.games.draw;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.StrokeLineCap;
+import javafx.scene.shape.StrokeLineJoin;
+
+/**
+ * Draws the strokes on a canvas one segment at a time.
+ * <p>
+ * Stroking the whole path at every new point made each point cost more than the previous one, and the canvas kept all
+ * these strokes in its command buffer. Only the segment from the previous point is drawn here, so a point costs the
+ * same however long the drawing is. The strokes are recorded in a bounded {@link StrokeHistory} to draw them again.
+ */
+class CanvasPen implements StrokeHistory.StrokeVisitor {
+
+    /**
+     * About 800 kB of coordinates per canvas
+     */
+    static final int MAXIMUM_HISTORY_POINTS = 50_000;
+
+    private final GraphicsContext graphicsContext;
+
+    private final StrokeHistory history;
+
+    private boolean strokeStarted;
+
+    private boolean hasPreviousPoint;
+
+    private double previousX;
+
+    private double previousY;
+
+    CanvasPen(final GraphicsContext graphicsContext) {
+        this(graphicsContext, new StrokeHistory(MAXIMUM_HISTORY_POINTS));
+    }
+
+    CanvasPen(final GraphicsContext graphicsContext, final StrokeHistory history) {
+        this.graphicsContext = graphicsContext;
+        this.history = history;
+        // the ends of the segments are rounded, so that they join like a single path
+        graphicsContext.setLineCap(StrokeLineCap.ROUND);
+        graphicsContext.setLineJoin(StrokeLineJoin.ROUND);
+    }
+
+    StrokeHistory getHistory() {
+        return history;
+    }
+
+    void setLineWidth(final double lineWidth) {
+        graphicsContext.setLineWidth(lineWidth);
+    }
+
+    @Override
+    public void startStroke(final Color color) {
+        history.startStroke(color);
+        beginStroke(color);
+        strokeStarted = true;
+    }
+
+    @Override
+    public void lineTo(final double x, final double y) {
+        if (!strokeStarted) {
+            startStroke((Color) graphicsContext.getStroke());
+        }
+        history.addPoint(x, y);
+        drawTo(x, y);
+    }
+
+    /**
+     * The next point starts a new stroke
+     */
+    void endStroke() {
+        strokeStarted = false;
+        hasPreviousPoint = false;
+    }
+
+    /**
+     * Removes the last stroke from the canvas
+     */
+    void undo() {
+        if (history.removeLastStroke()) {
+            endStroke();
+            redraw();
+        }
+    }
+
+    /**
+     * Clears the canvas and draws the strokes of the history again
+     */
+    void redraw() {
+        final Color currentColor = (Color) graphicsContext.getStroke();
+        final boolean wasStarted = strokeStarted;
+        graphicsContext.clearRect(0, 0, graphicsContext.getCanvas().getWidth(), graphicsContext.getCanvas().getHeight());
+        history.replay(new StrokeHistory.StrokeVisitor() {
+            @Override
+            public void startStroke(final Color color) {
+                beginStroke(color);
+            }
+
+            @Override
+            public void lineTo(final double x, final double y) {
+                drawTo(x, y);
+            }
+        });
+        if (!wasStarted) {
+            beginStroke(currentColor);
+        }
+    }
+
+    private void beginStroke(final Color color) {
+        graphicsContext.setStroke(color);
+        hasPreviousPoint = false;
+    }
+
+    private void drawTo(final double x, final double y) {
+        if (hasPreviousPoint) {
+            graphicsContext.strokeLine(previousX, previousY, x, y);
+        }
+        previousX = x;
+        previousY = y;
+        hasPreviousPoint = true;
+    }
+
+}
@@ -12,6 +12,8 @@ import net.gazeplay.commons.gaze.devicemanager.GazeEvent;
 import net.gazeplay.commons.random.ReplayablePseudoRandom;
 import net.gazeplay.commons.utils.stats.Stats;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
@@ -25,6 +27,8 @@ public class DrawBuilder {
 
     Stats stats;
 
+    private final Map<Canvas, CanvasPen> pens = new HashMap<>();
+
     public DrawBuilder(ReplayablePseudoRandom randomGenerator) {
         colorPicker = new RandomColorPicker(randomGenerator);
     }
@@ -45,18 +49,18 @@ public class DrawBuilder {
         final Canvas canvas = new Canvas(canvasDimension.getWidth(), canvasDimension.getHeight());
         final GraphicsContext graphicsContext = canvas.getGraphicsContext2D();
         initDraw(graphicsContext);
+        final CanvasPen pen = new CanvasPen(graphicsContext);
+        pens.put(canvas, pen);
 
         canvas.addEventHandler(MouseEvent.MOUSE_MOVED, event -> {
-            graphicsContext.lineTo(event.getX(), event.getY());
-            // graphicsContext.setStroke(colorPicker.pickColor());
-            graphicsContext.stroke();
+            pen.lineTo(event.getX(), event.getY());
         });
 
         canvas.addEventHandler(MouseEvent.MOUSE_ENTERED, event -> {
-            changeColor(graphicsContext);
+            changeColor(pen);
         });
 
-        canvas.addEventHandler(MouseEvent.MOUSE_EXITED, event -> graphicsContext.closePath());
+        canvas.addEventHandler(MouseEvent.MOUSE_EXITED, event -> pen.endStroke());
 
         canvas.addEventFilter(GazeEvent.GAZE_MOVED, new EventHandler<>() {
 
@@ -72,27 +76,24 @@ public class DrawBuilder {
                     rateLimiter.set(0);
 
                     if (((event.getX() - canvas.getWidth() / 2) * (event.getX() - canvas.getWidth() / 2) + (event.getY() - canvas.getHeight() / 2) * (event.getY() - canvas.getHeight() / 2)) > 0.15) {
-                        graphicsContext.lineTo(event.getX(), event.getY());
-                        // graphicsContext.setStroke(colorPicker.pickColor());
-                        graphicsContext.stroke();
+                        pen.lineTo(event.getX(), event.getY());
                     }
                 }
             }
         });
 
         canvas.addEventFilter(GazeEvent.GAZE_ENTERED, event -> {
-            changeColor(graphicsContext);
+            changeColor(pen);
         });
 
-        canvas.addEventFilter(GazeEvent.GAZE_EXITED, event -> graphicsContext.closePath());
+        canvas.addEventFilter(GazeEvent.GAZE_EXITED, event -> pen.endStroke());
 
         return canvas;
     }
 
-    private void changeColor(GraphicsContext graphicsContext) {
+    private void changeColor(CanvasPen pen) {
         stats.incrementNumberOfGoalsReached();
-        graphicsContext.setStroke(colorPicker.pickColor());
-        graphicsContext.beginPath();
+        pen.startStroke(colorPicker.pickColor());
     }
 
     private void initDraw(final GraphicsContext gc) {
@@ -101,6 +102,20 @@ public class DrawBuilder {
 
     public void clear(final Canvas canvas) {
         initDraw(canvas.getGraphicsContext2D());
+        final CanvasPen pen = pens.get(canvas);
+        if (pen != null) {
+            pen.endStroke();
+        }
+    }
+
+    /**
+     * Removes the last stroke drawn on a canvas created by this builder
+     */
+    public void undo(final Canvas canvas) {
+        final CanvasPen pen = pens.get(canvas);
+        if (pen != null) {
+            pen.undo();
+        }
     }
 
 }
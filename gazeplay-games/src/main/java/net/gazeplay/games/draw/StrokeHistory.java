@@ -0,0 +1,141 @@
+package net.gazeplay.games.draw;
+
+import javafx.scene.paint.Color;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+/**
+ * Last strokes drawn on a canvas, kept to draw them again. The number of points kept is bounded, the oldest points
+ * being forgotten first.
+ */
+class StrokeHistory {
+
+    interface StrokeVisitor {
+
+        void startStroke(Color color);
+
+        void lineTo(double x, double y);
+
+    }
+
+    private final int maximumPoints;
+
+    private final Deque<Stroke> strokes = new ArrayDeque<>();
+
+    private int pointCount;
+
+    StrokeHistory(final int maximumPoints) {
+        if (maximumPoints <= 0) {
+            throw new IllegalArgumentException("maximumPoints must be positive : " + maximumPoints);
+        }
+        this.maximumPoints = maximumPoints;
+    }
+
+    void startStroke(final Color color) {
+        strokes.addLast(new Stroke(color));
+    }
+
+    /**
+     * Adds a point to the last stroke started
+     */
+    void addPoint(final double x, final double y) {
+        final Stroke stroke = strokes.peekLast();
+        if (stroke == null) {
+            throw new IllegalStateException("No stroke started");
+        }
+        stroke.add(x, y);
+        pointCount++;
+        if (pointCount > maximumPoints) {
+            forgetOldestPoints();
+        }
+    }
+
+    /**
+     * @return false if there was no stroke to remove
+     */
+    boolean removeLastStroke() {
+        final Stroke stroke = strokes.pollLast();
+        if (stroke == null) {
+            return false;
+        }
+        pointCount -= stroke.size;
+        return true;
+    }
+
+    void clear() {
+        strokes.clear();
+        pointCount = 0;
+    }
+
+    int getStrokeCount() {
+        return strokes.size();
+    }
+
+    int getPointCount() {
+        return pointCount;
+    }
+
+    /**
+     * Visits the strokes from the oldest to the last one
+     */
+    void replay(final StrokeVisitor visitor) {
+        for (final Stroke stroke : strokes) {
+            visitor.startStroke(stroke.color);
+            final double[] coordinates = stroke.coordinates;
+            for (int i = 0; i < stroke.size; i++) {
+                visitor.lineTo(coordinates[2 * i], coordinates[2 * i + 1]);
+            }
+        }
+    }
+
+    /**
+     * Forgets a quarter of the points at once, so that a long drawing does not shift its points at every new one
+     */
+    private void forgetOldestPoints() {
+        int toForget = pointCount - maximumPoints * 3 / 4;
+        while (toForget > 0) {
+            final Stroke oldest = strokes.peekFirst();
+            // the last stroke is kept, as it may still be drawn
+            if (oldest.size <= toForget && strokes.size() > 1) {
+                strokes.removeFirst();
+                pointCount -= oldest.size;
+                toForget -= oldest.size;
+            } else {
+                oldest.removeFirst(toForget);
+                pointCount -= toForget;
+                toForget = 0;
+            }
+        }
+    }
+
+    private static final class Stroke {
+
+        private final Color color;
+
+        private double[] coordinates = new double[32];
+
+        private int size;
+
+        private Stroke(final Color color) {
+            this.color = color;
+        }
+
+        private void add(final double x, final double y) {
+            if (2 * size == coordinates.length) {
+                coordinates = Arrays.copyOf(coordinates, coordinates.length * 2);
+            }
+            coordinates[2 * size] = x;
+            coordinates[2 * size + 1] = y;
+            size++;
+        }
+
+        private void removeFirst(final int count) {
+            System.arraycopy(coordinates, 2 * count, coordinates, 0, 2 * (size - count));
+            size -= count;
+        }
+
+    }
+
+}
@@ -18,12 +18,16 @@ import net.gazeplay.GameLifeCycle;
 import net.gazeplay.IGameContext;
 import net.gazeplay.commons.gaze.devicemanager.GazeEvent;
 import net.gazeplay.commons.utils.stats.Stats;
-
-import java.util.ArrayList;
+import net.gazeplay.components.collision.Collider;
+import net.gazeplay.components.collision.CollisionGrid;
+import net.gazeplay.components.collision.ContactListener;
 
 @Slf4j
 public class Follow implements GameLifeCycle {
 
+    private static final int WALL = 1;
+    private static final int ITEM = 2;
+
     @Getter
     private final IGameContext gameContext;
 
@@ -55,11 +59,48 @@ public class Follow implements GameLifeCycle {
     //If the player can move or not
     private boolean canmove;
 
-    //List of walls
-    private final ArrayList<Rectangle> listWall;
+    //Walls and EventItems
+    private CollisionGrid<Rectangle> colliders;
+
+    //Player square at the position being tested
+    private final Collider<Rectangle> probe;
+
+    //Position the player is moving to, and direction of the move
+    private double targetX;
+    private double targetY;
+    private double moveX;
+    private double moveY;
+    private boolean blocked;
+
+    private final ContactListener<Rectangle> blockHorizontally = (player, wall) -> {
+        targetX = moveX > 0 ? wall.getMinX() - 1.001 * sizeP / 2 : wall.getMaxX() + 1.001 * sizeP / 2;
+        blocked = true;
+    };
 
-    //List of EventItems
-    private final ArrayList<EventItem> listEI;
+    private final ContactListener<Rectangle> blockVertically = (player, wall) -> {
+        targetY = moveY > 0 ? wall.getMinY() - 1.001 * sizeP / 2 : wall.getMaxY() + 1.001 * sizeP / 2;
+        blocked = true;
+    };
+
+    private final ContactListener<Rectangle> blockDiagonally = (player, wall) -> {
+        if (Math.abs(moveX) > Math.abs(moveY)) {
+            blockHorizontally.onContact(player, wall);
+        } else {
+            blockVertically.onContact(player, wall);
+        }
+    };
+
+    private final ContactListener<Rectangle> activateItem = (player, item) -> {
+        final EventItem eI = (EventItem) item.getOwner();
+        if (eI.remove) {
+            colliders.remove(item);
+            gameContext.getChildren().remove(eI);
+        }
+        eI.active();
+    };
+
+    //Moves the player every 5 ms
+    private final PauseTransition next;
 
     //Pointer of the gaze
     private Rectangle gaze;
@@ -84,9 +125,13 @@ public class Follow implements GameLifeCycle {
 
         dimension2D = gameContext.getGamePanelDimensionProvider().getDimension2D();
 
-        listWall = new ArrayList<>();
+        probe = new Collider<>(null, 0);
 
-        listEI = new ArrayList<>();
+        next = new PauseTransition(Duration.millis(5));
+        next.setOnFinished(nextevent -> {
+            next.play();
+            followthegaze();
+        });
     }
 
     @Override
@@ -106,6 +151,8 @@ public class Follow implements GameLifeCycle {
         sizeWw = dimension2D.getWidth() / x;
         sizeWh = dimension2D.getHeight() / y;
 
+        colliders = new CollisionGrid<>(0, 0, dimension2D.getWidth(), dimension2D.getHeight(), sizeWw);
+
         py = dimension2D.getHeight() / 2;
         px = dimension2D.getWidth() / 2;
 
@@ -168,82 +215,45 @@ public class Follow implements GameLifeCycle {
     @Override
     public void dispose() {
         stats.stop();
-        listEI.clear();
-        listWall.clear();
+        next.stop();
+        if (colliders != null) {
+            colliders.clear();
+        }
     }
 
     private void followthegaze() {
-        PauseTransition next = new PauseTransition(Duration.millis(5));
-        next.setOnFinished(nextevent -> {
-            followthegaze();
-            position();
-            double x = rx - px;
-            double y = ry - py;
-            double dist = Math.sqrt(x * x + y * y);
-            if (canmove) {
-                double tx;
-                double ty;
-                if (dist > speed) {
-                    tx = px + speed * x / dist;
-                    ty = py + speed * y / dist;
-                } else {
-                    tx = rx;
-                    ty = ry;
-                }
+        position();
+        moveX = rx - px;
+        moveY = ry - py;
+        double dist = Math.sqrt(moveX * moveX + moveY * moveY);
+        if (canmove) {
+            if (dist > speed) {
+                targetX = px + speed * moveX / dist;
+                targetY = py + speed * moveY / dist;
+            } else {
+                targetX = rx;
+                targetY = ry;
+            }
 
-                boolean test = true;
-
-                for (Rectangle wall : listWall) {
-                    if (isInWall(wall, tx, py, sizeP)) {
-                        if (x > 0) {
-                            tx = wall.getX() - 1.001 * sizeP / 2;
-                        } else {
-                            tx = wall.getX() + wall.getWidth() + 1.001 * sizeP / 2;
-                        }
-                        test = false;
-                    }
-                    if (isInWall(wall, px, ty, sizeP)) {
-                        if (y > 0) {
-                            ty = wall.getY() - 1.001 * sizeP / 2;
-                        } else {
-                            ty = wall.getY() + wall.getHeight() + 1.001 * sizeP / 2;
-                        }
-                        test = false;
-                    }
-                }
-                if (test) {
-                    for (Rectangle wall : listWall) {
-                        if (isInWall(wall, tx, ty, sizeP)) {
-                            if (Math.abs(x) > Math.abs(y)) {
-                                if (x > 0) {
-                                    tx = wall.getX() - 1.001 * sizeP / 2;
-                                } else {
-                                    tx = wall.getX() + wall.getWidth() + 1.001 * sizeP / 2;
-                                }
-                            } else {
-                                if (y > 0) {
-                                    ty = wall.getY() - 1.001 * sizeP / 2;
-                                } else {
-                                    ty = wall.getY() + wall.getHeight() + 1.001 * sizeP / 2;
-                                }
-                            }
-                        }
-                    }
-                }
-                boolean in = false;
-                for (Rectangle wall : listWall) {
-                    in = in || isInWall(wall, tx, ty, sizeP);
-                }
-                if (!in) {
-                    px = tx;
-                    py = ty;
-                }
-                rPlayer.setX(px - sizeP / 2);
-                rPlayer.setY(py - sizeP / 2);
-                checkEI();
+            blocked = false;
+            colliders.forEachContact(placeProbe(targetX, py), WALL, blockHorizontally);
+            colliders.forEachContact(placeProbe(px, targetY), WALL, blockVertically);
+            if (!blocked) {
+                colliders.forEachContact(placeProbe(targetX, targetY), WALL, blockDiagonally);
             }
-        });
-        next.play();
+            if (!colliders.hasContact(placeProbe(targetX, targetY), WALL)) {
+                px = targetX;
+                py = targetY;
+            }
+            rPlayer.setX(px - sizeP / 2);
+            rPlayer.setY(py - sizeP / 2);
+            checkEI();
+        }
+    }
+
+    private Collider<Rectangle> placeProbe(double x, double y) {
+        probe.setBox(x - sizeP / 2, y - sizeP / 2, sizeP, sizeP);
+        return probe;
     }
 
     private void position() {
@@ -253,19 +263,10 @@ public class Follow implements GameLifeCycle {
 
     private void startafterdelay() {
         PauseTransition wait = new PauseTransition(Duration.millis(1000));
-        wait.setOnFinished(waitevent -> followthegaze());
+        wait.setOnFinished(waitevent -> next.play());
         wait.play();
     }
 
-    private boolean isInWall(Rectangle wall, double x, double y, double size) {
-        double wx = wall.getX() + size / 2;
-        double wy = wall.getY() + size / 2;
-        double ww = wall.getWidth();
-        double wh = wall.getHeight();
-
-        return (x + size > wx) && (y + size > wy) && (x < wx + ww) && (y < wy + wh);
-    }
-
     private void win() {
         stats.stop();
 
@@ -286,17 +287,14 @@ public class Follow implements GameLifeCycle {
     }
 
     private void checkEI() {
-        ArrayList<EventItem> remove = new ArrayList<>();
-        for (EventItem eI : listEI) {
-            if (isInWall(eI, px, py, sizeP)) {
-                if (eI.remove) {
-                    remove.add(eI);
-                    gameContext.getChildren().remove(eI);
-                }
-                eI.active();
-            }
-        }
-        listEI.removeAll(remove);
+        colliders.forEachContact(placeProbe(px, py), ITEM, activateItem);
+    }
+
+    private Collider<Rectangle> addCollider(Rectangle rectangle, int group) {
+        final Collider<Rectangle> collider = new Collider<>(rectangle, group);
+        collider.setBox(rectangle.getX(), rectangle.getY(), rectangle.getWidth(), rectangle.getHeight());
+        colliders.add(collider);
+        return collider;
     }
 
     private void multigoals() {
@@ -322,21 +320,21 @@ public class Follow implements GameLifeCycle {
         for (int i = 0; i < x; i++) {
             w = new Rectangle(i * sizeWw, 0, sizeWw, sizeWh);
             w.setFill(new ImagePattern(new Image("data/follow/wall1.png")));
-            listWall.add(w);
+            addCollider(w, WALL);
             gameContext.getChildren().add(w);
             w = new Rectangle(i * sizeWw, dimension2D.getHeight() - sizeWh, sizeWw, sizeWh);
             w.setFill(new ImagePattern(new Image("data/follow/wall1.png")));
-            listWall.add(w);
+            addCollider(w, WALL);
             gameContext.getChildren().add(w);
         }
         for (int i = 1; i < y - 1; i++) {
             w = new Rectangle(0, i * sizeWh, sizeWw, sizeWh);
             w.setFill(new ImagePattern(new Image("data/follow/wall1.png")));
-            listWall.add(w);
+            addCollider(w, WALL);
             gameContext.getChildren().add(w);
             w = new Rectangle(dimension2D.getWidth() - sizeWw, i * sizeWh, sizeWw, sizeWh);
             w.setFill(new ImagePattern(new Image("data/follow/wall1.png")));
-            listWall.add(w);
+            addCollider(w, WALL);
             gameContext.getChildren().add(w);
         }
     }
@@ -362,7 +360,7 @@ public class Follow implements GameLifeCycle {
                 if (map[j][i] == 1) {
                     w = new Rectangle((i + 1) * sizeWw, (j + 1) * sizeWh, sizeWw, sizeWh);
                     w.setFill(new ImagePattern(new Image("data/follow/wall1.png")));
-                    listWall.add(w);
+                    addCollider(w, WALL);
                     gameContext.getChildren().add(w);
                 } else if (map[j][i] == 2) {
                     scoretoreach++;
@@ -371,7 +369,7 @@ public class Follow implements GameLifeCycle {
                         score++;
                         multigoals(); /*Maybe add a song*/
                     }, true);
-                    listEI.add(coin);
+                    addCollider(coin, ITEM);
                     gameContext.getChildren().add(coin);
                 }
             }
@@ -407,24 +405,24 @@ public class Follow implements GameLifeCycle {
                 win();
             };
             EventItem ruby = new EventItem(2 * sizeWw, 11 * sizeWh, 3 * sizeWw, 3 * sizeWh, new ImagePattern(new Image("data/follow/ruby1RS.png")), eventwin, true);
-            listEI.add(ruby);
+            addCollider(ruby, ITEM);
             gameContext.getChildren().add(ruby);
         }
 
         {
             Rectangle grille = new Rectangle(6 * sizeWw, 11 * sizeWh, sizeWw, 3 * sizeWh);
             grille.setFill(new ImagePattern(new Image("data/follow/jailbar1.png")));
-            listWall.add(grille);
+            final Collider<Rectangle> grilleCollider = addCollider(grille, WALL);
             gameContext.getChildren().add(grille);
 
             javafx.event.EventHandler<ActionEvent> eventkey = e -> {
-                listWall.remove(grille);
+                colliders.remove(grilleCollider);
                 gameContext.getChildren().remove(grille);
                 //Maybe add a song
                 stats.incrementNumberOfGoalsReached();
             };
             EventItem key = new EventItem(28 * sizeWw, 3 * sizeWh, sizeWw, sizeWh, new ImagePattern(new Image("data/follow/key.png")), eventkey, true);
-            listEI.add(key);
+            addCollider(key, ITEM);
             gameContext.getChildren().add(key);
         }
     }
@@ -455,41 +453,41 @@ public class Follow implements GameLifeCycle {
         {
             Rectangle doorRED = new Rectangle(9 * sizeWw, 3 * sizeWh, sizeWw, 2 * sizeWh);
             doorRED.setFill(new ImagePattern(new Image("data/follow/door1rouge.png")));
-            listWall.add(doorRED);
+            final Collider<Rectangle> doorREDCollider = addCollider(doorRED, WALL);
             gameContext.getChildren().add(doorRED);
 
             javafx.event.EventHandler<ActionEvent> eventkeyred = e -> {
-                listWall.remove(doorRED);
+                colliders.remove(doorREDCollider);
                 gameContext.getChildren().remove(doorRED);
                 //Maybe add a song
                 stats.incrementNumberOfGoalsReached();
             };
             EventItem keyRED = new EventItem(3 * sizeWw, 7 * sizeWh, sizeWw, sizeWh, new ImagePattern(new Image("data/follow/keyred.png")), eventkeyred, true);
-            listEI.add(keyRED);
+            addCollider(keyRED, ITEM);
             gameContext.getChildren().add(keyRED);
         }
 
         {
             Rectangle doorGREEN = new Rectangle(6 * sizeWw, (y - 3) * sizeWh, sizeWw, 2 * sizeWh);
             doorGREEN.setFill(new ImagePattern(new Image("data/follow/door1verte.png")));
-            listWall.add(doorGREEN);
+            final Collider<Rectangle> doorGREENCollider = addCollider(doorGREEN, WALL);
             gameContext.getChildren().add(doorGREEN);
 
             Rectangle doorGREEN2 = new Rectangle((x - 9) * sizeWw, (y - 7) * sizeWh, sizeWw, 2 * sizeWh);
             doorGREEN2.setFill(new ImagePattern(new Image("data/follow/door1verte.png")));
-            listWall.add(doorGREEN2);
+            final Collider<Rectangle> doorGREEN2Collider = addCollider(doorGREEN2, WALL);
             gameContext.getChildren().add(doorGREEN2);
 
             javafx.event.EventHandler<ActionEvent> eventkeygreen = e -> {
-                listWall.remove(doorGREEN);
+                colliders.remove(doorGREENCollider);
                 gameContext.getChildren().remove(doorGREEN);
-                listWall.remove(doorGREEN2);
+                colliders.remove(doorGREEN2Collider);
                 gameContext.getChildren().remove(doorGREEN2);
                 //Maybe add a sound
                 stats.incrementNumberOfGoalsReached();
             };
             EventItem keyGREEN = new EventItem((x - 3) * sizeWw, 4 * sizeWh, sizeWw, sizeWh, new ImagePattern(new Image("data/follow/keygreen.png")), eventkeygreen, true);
-            listEI.add(keyGREEN);
+            addCollider(keyGREEN, ITEM);
             gameContext.getChildren().add(keyGREEN);
         }
 
@@ -498,18 +496,18 @@ public class Follow implements GameLifeCycle {
             win();
         };
         EventItem ruby = new EventItem(2 * sizeWw, 2 * sizeWh, 2 * sizeWw, 2 * sizeWh, new ImagePattern(new Image("data/follow/ruby1RS.png")), eventwin, true);
-        listEI.add(ruby);
+        addCollider(ruby, ITEM);
         gameContext.getChildren().add(ruby);
 
         javafx.event.EventHandler<ActionEvent> eventtrap = e -> {
             Rectangle wallTrap = new Rectangle((x - 9) * sizeWw, sizeWh, sizeWw, 3 * sizeWh);
             wallTrap.setFill(new ImagePattern(new Image("data/follow/jailbar1.png")));
             gameContext.getChildren().add(wallTrap);
-            listWall.add(wallTrap);
+            addCollider(wallTrap, WALL);
             //Maybe add a sound
         };
         EventItem trap = new EventItem((x - 8) * sizeWw, 5 * sizeWh, 3 * sizeWw, sizeWh, new ImagePattern(new Image("data/follow/nothing.png")), eventtrap, true);
-        listEI.add(trap);
+        addCollider(trap, ITEM);
         gameContext.getChildren().add(trap);
     }
 
@@ -2,9 +2,12 @@ package net.gazeplay.games.pianosight;
 
 import lombok.extern.slf4j.Slf4j;
 
+import javax.sound.midi.InvalidMidiDataException;
 import javax.sound.midi.MidiChannel;
 import javax.sound.midi.MidiSystem;
 import javax.sound.midi.MidiUnavailableException;
+import javax.sound.midi.Receiver;
+import javax.sound.midi.ShortMessage;
 import javax.sound.midi.Synthesizer;
 
 /**
@@ -13,14 +16,18 @@ import javax.sound.midi.Synthesizer;
 @Slf4j
 public class Instru {
 
+    private final Synthesizer synthetiseur;
+
+    private final Receiver receiver;
+
     private final MidiChannel canal;
 
     Instru() {
         // On récupère le synthétiseur, on l'ouvre et on obtient un canal
-        final Synthesizer synthetiseur;
         try {
             synthetiseur = MidiSystem.getSynthesizer();
             synthetiseur.open();
+            receiver = synthetiseur.getReceiver();
         } catch (final MidiUnavailableException e) {
             throw new RuntimeException(e);
         }
@@ -38,6 +45,19 @@ public class Instru {
         canal.noteOn(note, volume);
     }
 
+    /**
+     * Joue la note, et programme son arrêt après sa durée sur le synthétiseur, qui horodate lui-même les messages
+     */
+    void play(final int note, final int velocity, final long durationMicros) {
+        try {
+            receiver.send(new ShortMessage(ShortMessage.NOTE_ON, 0, note, velocity), -1);
+            receiver.send(new ShortMessage(ShortMessage.NOTE_OFF, 0, note, 0),
+                synthetiseur.getMicrosecondPosition() + durationMicros);
+        } catch (final InvalidMidiDataException e) {
+            log.warn("Invalid note {}", note, e);
+        }
+    }
+
     /**
      * Arrête de jouer la note dont le numéro est en paramètre
      */
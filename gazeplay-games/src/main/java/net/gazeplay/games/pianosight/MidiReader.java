@@ -8,25 +8,37 @@ import javax.sound.midi.*;
 import java.io.IOException;
 import java.io.InputStream;
 
+/**
+ * Walks through the notes of a song, compiled once into a {@link MidiTimeline}.
+ */
 @Slf4j
 public class MidiReader {
 
-    private static final int NOTE_ON = 0x90;
-
-    private static final int NOTE_OFF = 0x80;
+    private static final int CHANNEL = 0;
 
     private static final String[] NOTE_NAMES = {"C", "C#", "D", "D#", "E", "F", "F#", "G", "G#", "A", "A#", "B"};
 
-    private Track track;
-
-    private long prevTick;
+    private MidiTimeline timeline;
 
+    /**
+     * Key of the current note, -1 before the first note
+     */
     @Getter
     private int key;
 
-    private int tickIndex;
+    /**
+     * Velocity of the current note
+     */
+    @Getter
+    private int velocity;
+
+    /**
+     * Duration of the current note, in microseconds
+     */
+    @Getter
+    private long durationMicros;
 
-    private final Instru instru = new Instru();
+    private int noteIndex;
 
     private Stats stats;
 
@@ -34,17 +46,9 @@ public class MidiReader {
         this.stats = stats;
         try {
             Sequence sequence = MidiSystem.getSequence(inputStream);
-            int maxIndex = 0;
-            int max = 0;
-            for (int i = 0; i < sequence.getTracks().length; i++) {
-                if (max < sequence.getTracks()[i].size()) {
-                    maxIndex = i;
-                }
-            }
-            // TODO problem here
-            track = sequence.getTracks()[maxIndex];
-            tickIndex = -1;
-            prevTick = -1;
+            timeline = MidiTimeline.compile(sequence, CHANNEL);
+            log.info("Loaded {} notes", timeline.size());
+            noteIndex = -1;
             key = -1;
         } catch (InvalidMidiDataException | IOException e) {
             e.printStackTrace();
@@ -52,52 +56,33 @@ public class MidiReader {
 
     }
 
-    public int getTrackSize(){
-        int nbOfNotes = 0;
-        int index = 0;
-        long previousTick = -1;
-        while (index + 1 < track.size()) {
-            MidiEvent event = track.get(index);
-            MidiMessage message = event.getMessage();
-            if (message instanceof ShortMessage) {
-                ShortMessage sm = (ShortMessage) message;
-                if (sm.getCommand() == NOTE_ON) {
-                    if ((sm.getChannel() == 0) && (previousTick != event.getTick())) {
-                        nbOfNotes++;
-                        previousTick = event.getTick();
-                    }
-                }
-            }
-            index++;
-        }
-        return nbOfNotes;
+    public int getTrackSize() {
+        return timeline.size();
     }
 
+    /**
+     * Moves to the next note.
+     *
+     * @return the note of the next key in the octave, or -1 once the song is over
+     */
     int nextNote() {
-        int note = -1;
-        if (tickIndex + 1 < track.size()) {
-            tickIndex++;
-            MidiEvent event = track.get(tickIndex);
-            MidiMessage message = event.getMessage();
-            if (message instanceof ShortMessage) {
-                ShortMessage sm = (ShortMessage) message;
-                if (sm.getCommand() == NOTE_ON) {
-                    // TODO problem here
-                    if ((sm.getChannel() == 0) && (prevTick != event.getTick())) {
-                        prevTick = event.getTick();
-                        key = sm.getData1();
-                        note = key % 12;
-                        return note;
-                    } else {
-                        return nextNote();
-                    }
-                } else {
-                    return nextNote();
-                }
-            } else {
-                return nextNote();
-            }
+        if (noteIndex + 1 >= timeline.size()) {
+            return -1;
+        }
+        noteIndex++;
+        key = timeline.getKey(noteIndex);
+        velocity = timeline.getVelocity(noteIndex);
+        durationMicros = timeline.getDurationMicros(noteIndex);
+        return key % 12;
+    }
+
+    /**
+     * @return the note after the current one in the octave, without moving to it, or -1 if the song is over then
+     */
+    int peekNote() {
+        if (noteIndex + 1 >= timeline.size()) {
+            return -1;
         }
-        return note;
+        return timeline.getKey(noteIndex + 1) % 12;
     }
 }
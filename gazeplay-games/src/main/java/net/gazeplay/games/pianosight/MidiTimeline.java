@@ -0,0 +1,259 @@
+package net.gazeplay.games.pianosight;
+
+import javax.sound.midi.MetaMessage;
+import javax.sound.midi.MidiEvent;
+import javax.sound.midi.MidiMessage;
+import javax.sound.midi.Sequence;
+import javax.sound.midi.ShortMessage;
+import javax.sound.midi.Track;
+import java.util.Arrays;
+
+/**
+ * Notes of a MIDI sequence to play, compiled once into primitive arrays.
+ * <p>
+ * The notes are read from the track holding the most notes of the chosen channel. The notes of a chord are played as
+ * one, so only the first note starting at each tick is kept. All the tracks are read in a single pass, and the notes
+ * are then accessed by their index, which allows to look ahead in the song.
+ */
+final class MidiTimeline {
+
+    /**
+     * Duration of a note whose end is not found in the track
+     */
+    static final long DEFAULT_DURATION_MICROS = 1_000_000;
+
+    private static final int META_TEMPO = 0x51;
+
+    private static final int DEFAULT_MICROS_PER_QUARTER_NOTE = 500_000;
+
+    private static final int KEYS = 128;
+
+    private final long[] ticks;
+
+    private final int[] keys;
+
+    private final int[] velocities;
+
+    private final long[] startMicros;
+
+    private final long[] durationMicros;
+
+    private MidiTimeline(final long[] ticks, final int[] keys, final int[] velocities, final long[] startMicros, final long[] durationMicros) {
+        this.ticks = ticks;
+        this.keys = keys;
+        this.velocities = velocities;
+        this.startMicros = startMicros;
+        this.durationMicros = durationMicros;
+    }
+
+    static MidiTimeline compile(final Sequence sequence, final int channel) {
+        final Track[] tracks = sequence.getTracks();
+        final TempoMap tempoMap = new TempoMap(sequence);
+        NoteBuffer selected = new NoteBuffer();
+        for (final Track track : tracks) {
+            final NoteBuffer notes = new NoteBuffer();
+            for (int i = 0; i < track.size(); i++) {
+                final MidiEvent event = track.get(i);
+                final MidiMessage message = event.getMessage();
+                if (message instanceof ShortMessage) {
+                    final ShortMessage shortMessage = (ShortMessage) message;
+                    if (shortMessage.getChannel() == channel) {
+                        notes.add(event.getTick(), shortMessage);
+                    }
+                } else if (message instanceof MetaMessage && ((MetaMessage) message).getType() == META_TEMPO) {
+                    tempoMap.add(event.getTick(), ((MetaMessage) message).getData());
+                }
+            }
+            if (notes.size > selected.size) {
+                selected = notes;
+            }
+        }
+        return selected.toTimeline(tempoMap);
+    }
+
+    int size() {
+        return ticks.length;
+    }
+
+    long getTick(final int index) {
+        return ticks[index];
+    }
+
+    int getKey(final int index) {
+        return keys[index];
+    }
+
+    int getVelocity(final int index) {
+        return velocities[index];
+    }
+
+    long getStartMicros(final int index) {
+        return startMicros[index];
+    }
+
+    long getDurationMicros(final int index) {
+        return durationMicros[index];
+    }
+
+    /**
+     * Notes of a track, growing as the track is read
+     */
+    private static final class NoteBuffer {
+
+        private long[] ticks = new long[64];
+
+        private long[] endTicks = new long[64];
+
+        private int[] keys = new int[64];
+
+        private int[] velocities = new int[64];
+
+        private int size;
+
+        /**
+         * Index of the note currently playing each key, -1 if the key is not playing
+         */
+        private final int[] playing = new int[KEYS];
+
+        private NoteBuffer() {
+            Arrays.fill(playing, -1);
+        }
+
+        private void add(final long tick, final ShortMessage message) {
+            final int command = message.getCommand();
+            final int key = message.getData1();
+            if (command == ShortMessage.NOTE_ON && message.getData2() > 0) {
+                if (size > 0 && ticks[size - 1] == tick) {
+                    // another note of a chord
+                    return;
+                }
+                if (size == ticks.length) {
+                    grow();
+                }
+                ticks[size] = tick;
+                endTicks[size] = -1;
+                keys[size] = key;
+                velocities[size] = message.getData2();
+                playing[key] = size;
+                size++;
+            } else if (command == ShortMessage.NOTE_OFF || command == ShortMessage.NOTE_ON) {
+                // a NOTE_ON with a velocity of 0 ends the note
+                final int index = playing[key];
+                if (index >= 0) {
+                    endTicks[index] = tick;
+                    playing[key] = -1;
+                }
+            }
+        }
+
+        private void grow() {
+            final int capacity = ticks.length * 2;
+            ticks = Arrays.copyOf(ticks, capacity);
+            endTicks = Arrays.copyOf(endTicks, capacity);
+            keys = Arrays.copyOf(keys, capacity);
+            velocities = Arrays.copyOf(velocities, capacity);
+        }
+
+        private MidiTimeline toTimeline(final TempoMap tempoMap) {
+            final long[] startMicros = new long[size];
+            final long[] durationMicros = new long[size];
+            for (int i = 0; i < size; i++) {
+                startMicros[i] = tempoMap.toMicros(ticks[i]);
+                durationMicros[i] = endTicks[i] < 0
+                    ? DEFAULT_DURATION_MICROS
+                    : tempoMap.toMicros(endTicks[i]) - startMicros[i];
+            }
+            return new MidiTimeline(Arrays.copyOf(ticks, size), Arrays.copyOf(keys, size),
+                Arrays.copyOf(velocities, size), startMicros, durationMicros);
+        }
+
+    }
+
+    /**
+     * Converts the ticks of the sequence to microseconds, following its tempo changes
+     */
+    private static final class TempoMap {
+
+        private final float divisionType;
+
+        private final int resolution;
+
+        private long[] changeTicks = new long[8];
+
+        private int[] changeTempos = new int[8];
+
+        private int changes;
+
+        /**
+         * Microseconds at each tempo change, computed once all the changes are known
+         */
+        private long[] changeMicros;
+
+        private TempoMap(final Sequence sequence) {
+            this.divisionType = sequence.getDivisionType();
+            this.resolution = sequence.getResolution();
+        }
+
+        private void add(final long tick, final byte[] data) {
+            if (data.length < 3) {
+                return;
+            }
+            if (changes == changeTicks.length) {
+                changeTicks = Arrays.copyOf(changeTicks, changes * 2);
+                changeTempos = Arrays.copyOf(changeTempos, changes * 2);
+            }
+            changeTicks[changes] = tick;
+            changeTempos[changes] = (data[0] & 0xFF) << 16 | (data[1] & 0xFF) << 8 | (data[2] & 0xFF);
+            changes++;
+            changeMicros = null;
+        }
+
+        private long toMicros(final long tick) {
+            if (divisionType != Sequence.PPQ) {
+                // the ticks are fractions of SMPTE frames, the tempo does not apply
+                return (long) (tick * 1_000_000d / (divisionType * resolution));
+            }
+            if (changeMicros == null) {
+                sortChanges();
+            }
+            int change = Arrays.binarySearch(changeTicks, 0, changes, tick);
+            if (change < 0) {
+                change = -change - 2;
+            } else {
+                // the last of the changes at the same tick applies
+                while (change + 1 < changes && changeTicks[change + 1] == tick) {
+                    change++;
+                }
+            }
+            if (change < 0) {
+                return tick * DEFAULT_MICROS_PER_QUARTER_NOTE / resolution;
+            }
+            return changeMicros[change] + (tick - changeTicks[change]) * changeTempos[change] / resolution;
+        }
+
+        /**
+         * The tempo changes usually all are in the first track, but they may come from several tracks
+         */
+        private void sortChanges() {
+            final long[][] sorted = new long[changes][];
+            for (int i = 0; i < changes; i++) {
+                sorted[i] = new long[]{changeTicks[i], changeTempos[i]};
+            }
+            Arrays.sort(sorted, (a, b) -> Long.compare(a[0], b[0]));
+            changeMicros = new long[changes];
+            long previousTick = 0;
+            long previousTempo = DEFAULT_MICROS_PER_QUARTER_NOTE;
+            long micros = 0;
+            for (int i = 0; i < changes; i++) {
+                changeTicks[i] = sorted[i][0];
+                changeTempos[i] = (int) sorted[i][1];
+                micros += (changeTicks[i] - previousTick) * previousTempo / resolution;
+                changeMicros[i] = micros;
+                previousTick = changeTicks[i];
+                previousTempo = changeTempos[i];
+            }
+        }
+
+    }
+
+}
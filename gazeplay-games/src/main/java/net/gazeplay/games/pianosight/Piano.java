@@ -1,7 +1,6 @@
 package net.gazeplay.games.pianosight;
 
 import javafx.animation.*;
-import javafx.event.ActionEvent;
 import javafx.event.Event;
 import javafx.event.EventHandler;
 import javafx.geometry.Dimension2D;
@@ -21,6 +20,7 @@ import net.gazeplay.commons.gaze.devicemanager.GazeEvent;
 import net.gazeplay.commons.random.ReplayablePseudoRandom;
 import net.gazeplay.commons.utils.games.Utils;
 import net.gazeplay.commons.utils.stats.Stats;
+import net.gazeplay.components.dwell.Dwell;
 
 import java.io.File;
 import java.io.FileInputStream;
@@ -58,7 +58,12 @@ public class Piano extends Parent implements GameLifeCycle {
 
     private ProgressIndicator progressIndicator;
 
-    private Timeline timelineProgressBar;
+    /**
+     * Fixation on the note to play, shared by all the tiles and the center circle
+     */
+    private final Dwell noteDwell = new Dwell(progress -> progressIndicator.setProgress(progress), () -> noteDwellAction.run());
+
+    private Runnable noteDwellAction;
 
     public Piano(final IGameContext gameContext, final Stats stats) {
         this.gameContext = gameContext;
@@ -273,7 +278,7 @@ public class Piano extends Parent implements GameLifeCycle {
 
     @Override
     public void dispose() {
-
+        noteDwell.stop();
     }
 
     private void createArc(final int index, final double angle, final Color color1, final Color color2, final double l, final double origin) {
@@ -291,21 +296,18 @@ public class Piano extends Parent implements GameLifeCycle {
 
             if (((Tile) e.getTarget()).note == firstNote) {
 
-                this.progressIndicator = createProgressIndicator(index, size, dimension2D);
+                placeProgressIndicator(index, size, dimension2D);
 
                 progressIndicator.setMouseTransparent(true);
                 progressIndicator.setOpacity(1);
                 progressIndicator.setProgress(0);
 
-                timelineProgressBar = new Timeline();
-
-                timelineProgressBar.getKeyFrames().add(new KeyFrame(new Duration(gameContext.getConfiguration().getFixationLength()),
-                    new KeyValue(progressIndicator.progressProperty(), 1)));
-
-                timelineProgressBar.setOnFinished((ActionEvent actionEvent) -> {
+                noteDwellAction = () -> {
 
                     final int precNote = firstNote;
                     final int precKey = midiReader.getKey();
+                    final int precVelocity = midiReader.getVelocity();
+                    final long precDuration = midiReader.getDurationMicros();
 
                     final int index1 = midiReader.nextNote();
                     if (index1 > -1) {
@@ -315,7 +317,7 @@ public class Piano extends Parent implements GameLifeCycle {
                     }
 
                     if (precNote != -1 && tilesTab.get(precNote).arc.getFill() == Color.YELLOW) {
-                        instru.noteOn(precKey);
+                        instru.play(precKey, precVelocity, precDuration);
                         stats.incrementNumberOfGoalsReached();
                         double x;
                         double y;
@@ -351,8 +353,8 @@ public class Piano extends Parent implements GameLifeCycle {
                             tilesTab.get(precNote).arc.setFill(color2);
                         }
                     }
-                });
-                timelineProgressBar.play();
+                };
+                noteDwell.start(gameContext.getConfiguration().getFixationLength());
 
             } else {
                 tilesTab.get(((Tile) e.getTarget()).note).arc.setFill(color2);
@@ -363,8 +365,8 @@ public class Piano extends Parent implements GameLifeCycle {
         final EventHandler<Event> tileEventExited = e -> {
             log.info("index = {}", index);
 
-            if (timelineProgressBar != null) {
-                timelineProgressBar.stop();
+            if (progressIndicator != null) {
+                noteDwell.stop();
                 progressIndicator.setOpacity(0);
                 progressIndicator.setProgress(0);
             }
@@ -413,21 +415,18 @@ public class Piano extends Parent implements GameLifeCycle {
         final EventHandler<Event> circleEvent = e -> {
             if (circleTemp.getFill() == Color.YELLOW) {
                 if (firstNote != -1) {
-                    this.progressIndicator = createProgressIndicator(12, 2.3, dimension2D);
+                    placeProgressIndicator(12, 2.3, dimension2D);
 
                     progressIndicator.setMouseTransparent(true);
                     progressIndicator.setOpacity(1);
                     progressIndicator.setProgress(0);
 
-                    timelineProgressBar = new Timeline();
-
-                    timelineProgressBar.getKeyFrames().add(new KeyFrame(new Duration(gameContext.getConfiguration().getFixationLength()),
-                        new KeyValue(progressIndicator.progressProperty(), 1)));
-
-                    timelineProgressBar.setOnFinished((ActionEvent actionEvent) -> {
+                    noteDwellAction = () -> {
 
                         final int precNote = firstNote;
                         final int precKey = midiReader.getKey();
+                        final int precVelocity = midiReader.getVelocity();
+                        final long precDuration = midiReader.getDurationMicros();
 
                         final int index = midiReader.nextNote();
                         if (index > -1) {
@@ -436,7 +435,7 @@ public class Piano extends Parent implements GameLifeCycle {
                             firstNote = index;
                         }
 
-                        instru.noteOn(precKey);
+                        instru.play(precKey, precVelocity, precDuration);
                         stats.incrementNumberOfGoalsReached();
 
                         if (firstNote != -1) {
@@ -456,8 +455,8 @@ public class Piano extends Parent implements GameLifeCycle {
                         }
 
                         progressIndicator.setOpacity(0);
-                    });
-                    timelineProgressBar.play();
+                    };
+                    noteDwell.start(gameContext.getConfiguration().getFixationLength());
 
                 }
             }
@@ -471,9 +470,16 @@ public class Piano extends Parent implements GameLifeCycle {
         this.getChildren().get(this.getChildren().indexOf(circleTemp)).toFront();
     }
 
-    private ProgressIndicator createProgressIndicator(int index, double size, Dimension2D dimension2D) {
-        final ProgressIndicator indicator = new ProgressIndicator(0);
-        indicator.setMinSize(dimension2D.getWidth() / 20, dimension2D.getHeight() / 20);
+    /**
+     * Moves the progress indicator next to the tile, the indicator being created once for the game
+     */
+    private void placeProgressIndicator(int index, double size, Dimension2D dimension2D) {
+        if (progressIndicator == null || progressIndicator.getParent() == null) {
+            progressIndicator = new ProgressIndicator(0);
+            progressIndicator.setMinSize(dimension2D.getWidth() / 20, dimension2D.getHeight() / 20);
+            gameContext.getChildren().add(progressIndicator);
+        }
+        final ProgressIndicator indicator = progressIndicator;
 
         switch (index) {
             case 0: // Tile blanche droite
@@ -530,7 +536,6 @@ public class Piano extends Parent implements GameLifeCycle {
         }
 
         indicator.setOpacity(0);
-        gameContext.getChildren().add(indicator);
-        return indicator;
+        indicator.toFront();
     }
 }
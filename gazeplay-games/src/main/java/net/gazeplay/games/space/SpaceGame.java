@@ -1,8 +1,6 @@
 package net.gazeplay.games.space;
 
 import javafx.animation.*;
-import javafx.beans.binding.Bindings;
-import javafx.beans.value.ObservableBooleanValue;
 import javafx.event.Event;
 import javafx.event.EventHandler;
 import javafx.geometry.Dimension2D;
@@ -31,6 +29,9 @@ import net.gazeplay.commons.utils.games.ImageUtils;
 import net.gazeplay.commons.utils.multilinguism.Multilinguism;
 import net.gazeplay.commons.utils.multilinguism.MultilinguismFactory;
 import net.gazeplay.components.ProgressButton;
+import net.gazeplay.components.collision.Collider;
+import net.gazeplay.components.collision.CollisionGrid;
+import net.gazeplay.components.collision.ContactListener;
 
 import java.io.File;
 import java.io.IOException;
@@ -45,6 +46,16 @@ import java.util.Scanner;
 @Slf4j
 public class SpaceGame extends AnimationTimer implements GameLifeCycle {
 
+    private static final int PLAYER_BULLET = 1;
+    private static final int BIBOULE = 2;
+    private static final int BOSS = 4;
+    private static final int ENEMY_BULLET = 8;
+
+    /**
+     * Hit points a boss loses for each bullet of the player
+     */
+    private static final int BULLET_DAMAGE = 25;
+
     private final SpaceGameStats stats;
     private final Dimension2D dimension2D;
     private final ReplayablePseudoRandom random;
@@ -97,12 +108,23 @@ public class SpaceGame extends AnimationTimer implements GameLifeCycle {
     private FadeTransition bossFade2;
 
     private int bibouleValue;
-    private final ArrayList<Rectangle> bulletListRec;
-    private final ArrayList<Rectangle> bulletBibouleListRec;
-    private final ArrayList<Rectangle> bulletBossListRec;
-    private final ArrayList<Rectangle> spaceshipDestroyed;
     private int bossHit;
 
+    private final CollisionGrid<Rectangle> colliders;
+    // bullets and enemies are moved by animations, their colliders are updated from their nodes on every frame
+    private final ArrayList<Collider<Rectangle>> movingColliders = new ArrayList<>();
+    private final Collider<Rectangle> spaceshipContact = new Collider<>(null, 0);
+    private final ContactListener<Rectangle> bulletHit = (bullet, enemy) -> {
+        if (enemy.getGroup() == BIBOULE) {
+            killBiboule(bullet, enemy);
+        } else {
+            hitBoss(bullet, enemy);
+        }
+    };
+
+    private final ImagePattern playerBulletImage = new ImagePattern(new Image("data/space/bullet/laserBlue01.png"));
+    private final ImagePattern enemyBulletImage = new ImagePattern(new Image("data/space/bullet/laserRed01.png"));
+
     public SpaceGame(final IGameContext gameContext, final SpaceGameStats stats) {
         this.stats = stats;
         this.gameContext = gameContext;
@@ -182,14 +204,11 @@ public class SpaceGame extends AnimationTimer implements GameLifeCycle {
 
         this.bibouleValue = 0;
         this.bossHit = 0;
-        this.bulletListRec = new ArrayList<>();
         this.biboulesKilled = new ArrayList<>();
         this.biboulesPos = new ArrayList<>();
-        this.bulletBibouleListRec = new ArrayList<>();
-        this.spaceshipDestroyed = new ArrayList<>();
         this.bosses = new ArrayList<>();
         this.bossKilled = new ArrayList<>();
-        this.bulletBossListRec = new ArrayList<>();
+        this.colliders = new CollisionGrid<>(0, 0, dimension2D.getWidth(), dimension2D.getHeight(), bibouleWidth * 2);
     }
 
     public SpaceGame(final IGameContext gameContext, final SpaceGameStats stats, double gameSeed) {
@@ -270,14 +289,11 @@ public class SpaceGame extends AnimationTimer implements GameLifeCycle {
 
         this.bibouleValue = 0;
         this.bossHit = 0;
-        this.bulletListRec = new ArrayList<>();
         this.biboulesKilled = new ArrayList<>();
         this.biboulesPos = new ArrayList<>();
-        this.bulletBibouleListRec = new ArrayList<>();
-        this.spaceshipDestroyed = new ArrayList<>();
         this.bosses = new ArrayList<>();
         this.bossKilled = new ArrayList<>();
-        this.bulletBossListRec = new ArrayList<>();
+        this.colliders = new CollisionGrid<>(0, 0, dimension2D.getWidth(), dimension2D.getHeight(), bibouleWidth * 2);
     }
 
     @Override
@@ -293,14 +309,12 @@ public class SpaceGame extends AnimationTimer implements GameLifeCycle {
         this.backgroundLayer.getChildren().clear();
         this.middleLayer.getChildren().clear();
         gameContext.getChildren().clear();
-        bulletListRec.clear();
         biboulesKilled.clear();
         biboulesPos.clear();
-        bulletBibouleListRec.clear();
-        spaceshipDestroyed.clear();
-        bulletBossListRec.clear();
         bosses.clear();
         bossKilled.clear();
+        colliders.clear();
+        movingColliders.clear();
 
         gameContext.getChildren().addAll(backgroundLayer, middleLayer, foregroundLayer);
 
@@ -420,6 +434,8 @@ public class SpaceGame extends AnimationTimer implements GameLifeCycle {
 
         verticalBibouleMovement();
 
+        updateColliders();
+
         computeBulletPlayer();
         computeBulletBiboule();
 
@@ -431,17 +447,47 @@ public class SpaceGame extends AnimationTimer implements GameLifeCycle {
         }
         computeBulletBoss();
 
+        spaceshipContact.setBox(spaceshipCollider.getX(), spaceshipCollider.getY(),
+            spaceshipCollider.getWidth(), spaceshipCollider.getHeight());
+        if (colliders.hasContact(spaceshipContact, ENEMY_BULLET)) {
+            removeAll();
+            death();
+        }
     }
 
     private void removeAll() {
 
-        bulletListRec.clear();
-        bulletBibouleListRec.clear();
+        colliders.clear();
+        movingColliders.clear();
         biboules.clear();
-        bulletBossListRec.clear();
         middleLayer.getChildren().remove(spaceship);
     }
 
+    private Collider<Rectangle> track(final Rectangle node, final int group) {
+        final Collider<Rectangle> collider = new Collider<>(node, group);
+        updateCollider(collider);
+        movingColliders.add(collider);
+        colliders.add(collider);
+        return collider;
+    }
+
+    private void untrack(final Collider<Rectangle> collider) {
+        movingColliders.remove(collider);
+        colliders.remove(collider);
+    }
+
+    private void updateColliders() {
+        for (int i = 0; i < movingColliders.size(); i++) {
+            updateCollider(movingColliders.get(i));
+        }
+    }
+
+    private static void updateCollider(final Collider<Rectangle> collider) {
+        final Rectangle node = collider.getOwner();
+        collider.setBox(node.getX() + node.getTranslateX(), node.getY() + node.getTranslateY(),
+            node.getWidth(), node.getHeight());
+    }
+
     private void updateShipPosition() {
         final Dimension2D dimension2D = gameContext.getGamePanelDimensionProvider().getDimension2D();
         spaceship.setY(6 * dimension2D.getHeight() / 7);
@@ -563,6 +609,7 @@ public class SpaceGame extends AnimationTimer implements GameLifeCycle {
         biboules.add(b);
         b.setFill(new ImagePattern(bibouleImage.pickRandomImage()));
         backgroundLayer.getChildren().add(b);
+        track(b, BIBOULE);
         //code for transition when biboule appear, bug sometimes when the game restart
         /*
         final FadeTransition bibouleAppear = new FadeTransition(Duration.seconds(1), b);
@@ -580,6 +627,7 @@ public class SpaceGame extends AnimationTimer implements GameLifeCycle {
         boss.setFill(new ImagePattern(new Image("data/space/enemy/boss.gif")));
         bosses.add(boss);
         backgroundLayer.getChildren().add(boss);
+        track(boss, BOSS);
         final FadeTransition bossAppear = new FadeTransition(Duration.seconds(1), boss);
         bossAppear.setInterpolator(Interpolator.LINEAR);
         bossAppear.setCycleCount(1);
@@ -617,16 +665,16 @@ public class SpaceGame extends AnimationTimer implements GameLifeCycle {
 
             final Rectangle bulletRec = new Rectangle(spaceship.getX() + spaceship.getWidth() / 2,
                 spaceship.getY() - spaceship.getHeight() / 3, spaceship.getHeight() / 12, spaceship.getHeight() / 6);
-            bulletRec.setFill(new ImagePattern(new Image("data/space/bullet/laserBlue01.png")));
+            bulletRec.setFill(playerBulletImage);
             middleLayer.getChildren().add(bulletRec);
-            bulletListRec.add(bulletRec);
+            final Collider<Rectangle> bulletCollider = track(bulletRec, PLAYER_BULLET);
 
             bulletTransition = new TranslateTransition(Duration.seconds(1), bulletRec);
             bulletTransition.setToY(-1 * dimension2D.getHeight());
             bulletTransition.setCycleCount(1);
             bulletTransition.setInterpolator(Interpolator.LINEAR);
             bulletTransition.setOnFinished(event -> {
-                bulletListRec.remove(bulletRec);
+                untrack(bulletCollider);
                 middleLayer.getChildren().remove(bulletRec);
                 //this fonction is usefull to remove freezes from bullets. He is commented because of gradle dislike this fonction so we can't merge with this.
                 //System.gc();
@@ -636,165 +684,86 @@ public class SpaceGame extends AnimationTimer implements GameLifeCycle {
             startTime = CurrentTime;
         }
 
-        for (final Rectangle r : bulletListRec) {
-            for (final Biboule b : biboules) {
-                final ObservableBooleanValue colliding = Bindings.createBooleanBinding(() -> r.getBoundsInParent().intersects(b.getBoundsInParent()), r.boundsInParentProperty(), b.boundsInParentProperty());
-
-                colliding.addListener((obs, oldValue, newValue) -> {
-                    if (newValue) {
-
-                        boolean bibouleBoolean = false;
-
-                        if (!biboulesKilled.contains(b)) {
-                            biboulesKilled.add(b);
-                            bibouleBoolean = true;
-                        }
-                        if (bibouleBoolean) {
-
-                            bulletListRec.remove(r);
-                            biboules.remove(b);
-                            backgroundLayer.getChildren().remove(b);
-                            middleLayer.getChildren().remove(r);
-                            updateScore();
-                        }
-
-                    }
+        colliders.forEachContact(PLAYER_BULLET, BIBOULE | BOSS, bulletHit);
+        updateShipPosition();
+    }
 
-                });
-            }
-            for (final Boss b : bosses) {
-                final ObservableBooleanValue colliding2 = Bindings.createBooleanBinding(() -> r.getBoundsInParent().intersects(b.getBoundsInParent()), r.boundsInParentProperty(), b.boundsInParentProperty());
-
-                colliding2.addListener((obs, oldValue, newValue) -> {
-                    if (newValue) {
-                        bulletListRec.remove(r);
-
-                        boolean bossHitBoolean = false;
-                        boolean bossKilledBoolean = false;
-
-                        if (bossHit < b.getHealthPoint()) {
-
-                            if (!bossKilled.contains(b)) {
-                                bossHitBoolean = true;
-                            }
-
-                            if (bossHitBoolean) {
-                                bossHit += 1;
-                                bossFade = new FadeTransition(Duration.millis(250), b);
-                                bossFade.setFromValue(1);
-                                bossFade.setToValue(0.5);
-                                bossFade.setCycleCount(1);
-                                bossFade.setInterpolator(Interpolator.LINEAR);
-
-                                bossFade2 = new FadeTransition(Duration.millis(250), b);
-                                bossFade2.setFromValue(0.5);
-                                bossFade2.setToValue(1);
-                                bossFade2.setCycleCount(1);
-                                bossFade.setInterpolator(Interpolator.LINEAR);
-
-                                sequentialTransition2 = new SequentialTransition(bossFade, bossFade2);
-
-                                bulletDisappear = new FadeTransition(Duration.millis(100), r);
-                                bulletDisappear.setFromValue(1);
-                                bulletDisappear.setToValue(0);
-                                bulletDisappear.setCycleCount(1);
-                                bulletDisappear.setInterpolator(Interpolator.LINEAR);
-
-                                parallelTransition4 = new ParallelTransition(sequentialTransition2,
-                                    bulletDisappear);
-                                parallelTransition4.play();
-                            }
-                        } else {
-                            if (!bossKilled.contains(b)) {
-                                bossKilled.add(b);
-                                bossKilledBoolean = true;
-                            }
-
-                            if (bossKilledBoolean) {
-                                bossDisappear = new FadeTransition(Duration.millis(1000), b);
-                                bossDisappear.setFromValue(1);
-                                bossDisappear.setToValue(0);
-                                bossDisappear.setCycleCount(1);
-                                bossDisappear.setInterpolator(Interpolator.LINEAR);
-
-                                bulletDisappear = new FadeTransition(Duration.millis(100), r);
-                                bulletDisappear.setFromValue(1);
-                                bulletDisappear.setToValue(0);
-                                bulletDisappear.setCycleCount(1);
-                                bulletDisappear.setInterpolator(Interpolator.LINEAR);
-
-                                parallelTransition4 = new ParallelTransition(bossDisappear,
-                                    bulletDisappear);
-                                parallelTransition4.play();
-
-                                bosses.remove(b);
-                                middleLayer.getChildren().remove(r);
-                                backgroundLayer.getChildren().remove(b);
-                                bossHit = 0;
-                                updateScore();
-                            }
-                        }
+    private void killBiboule(final Collider<Rectangle> bullet, final Collider<Rectangle> biboule) {
+        final Biboule b = (Biboule) biboule.getOwner();
+        biboulesKilled.add(b);
 
-                    }
-
-                });
+        untrack(bullet);
+        untrack(biboule);
+        biboules.remove(b);
+        backgroundLayer.getChildren().remove(b);
+        middleLayer.getChildren().remove(bullet.getOwner());
+        updateScore();
+    }
 
-                if (r.getY() < 0) {
-                    bulletListRec.remove(r);
-                    backgroundLayer.getChildren().remove(r);
-                }
-            }
+    private void hitBoss(final Collider<Rectangle> bullet, final Collider<Rectangle> boss) {
+        final Rectangle r = bullet.getOwner();
+        final Boss b = (Boss) boss.getOwner();
+        untrack(bullet);
+
+        if (bossHit < b.getHealthPoint()) {
+            bossHit += BULLET_DAMAGE;
+            bossFade = new FadeTransition(Duration.millis(250), b);
+            bossFade.setFromValue(1);
+            bossFade.setToValue(0.5);
+            bossFade.setCycleCount(1);
+            bossFade.setInterpolator(Interpolator.LINEAR);
+
+            bossFade2 = new FadeTransition(Duration.millis(250), b);
+            bossFade2.setFromValue(0.5);
+            bossFade2.setToValue(1);
+            bossFade2.setCycleCount(1);
+            bossFade.setInterpolator(Interpolator.LINEAR);
+
+            sequentialTransition2 = new SequentialTransition(bossFade, bossFade2);
+
+            bulletDisappear = new FadeTransition(Duration.millis(100), r);
+            bulletDisappear.setFromValue(1);
+            bulletDisappear.setToValue(0);
+            bulletDisappear.setCycleCount(1);
+            bulletDisappear.setInterpolator(Interpolator.LINEAR);
+
+            parallelTransition4 = new ParallelTransition(sequentialTransition2,
+                bulletDisappear);
+            parallelTransition4.play();
+        } else {
+            bossKilled.add(b);
+            untrack(boss);
+
+            bossDisappear = new FadeTransition(Duration.millis(1000), b);
+            bossDisappear.setFromValue(1);
+            bossDisappear.setToValue(0);
+            bossDisappear.setCycleCount(1);
+            bossDisappear.setInterpolator(Interpolator.LINEAR);
+
+            bulletDisappear = new FadeTransition(Duration.millis(100), r);
+            bulletDisappear.setFromValue(1);
+            bulletDisappear.setToValue(0);
+            bulletDisappear.setCycleCount(1);
+            bulletDisappear.setInterpolator(Interpolator.LINEAR);
+
+            parallelTransition4 = new ParallelTransition(bossDisappear,
+                bulletDisappear);
+            parallelTransition4.play();
+
+            bosses.remove(b);
+            middleLayer.getChildren().remove(r);
+            backgroundLayer.getChildren().remove(b);
+            bossHit = 0;
+            updateScore();
         }
-        updateShipPosition();
     }
 
     private void computeBulletBiboule() {
         for (final Rectangle b : biboules) {
             final int bibouleShoot = random.nextInt(1500);
 
-            final Rectangle bulletBibouleRec = new Rectangle(b.getX() + b.getWidth() / 2, b.getY(), spaceship.getHeight() / 12, spaceship.getHeight() / 6);
-            bulletBibouleRec.setFill(new ImagePattern(new Image("data/space/bullet/laserRed01.png")));
-
             if (bibouleShoot == 1) {
-                backgroundLayer.getChildren().add(bulletBibouleRec);
-                bulletBibouleListRec.add(bulletBibouleRec);
-
-                final Timeline timeline = new Timeline();
-                timeline.setCycleCount(1);
-                timeline.getKeyFrames()
-                    .add(new KeyFrame(Duration.seconds(15), new KeyValue(bulletBibouleRec.translateYProperty(),
-                        dimension2D.getHeight(), Interpolator.LINEAR)));
-                timeline.setOnFinished(event -> {
-                    bulletBibouleListRec.remove(bulletBibouleRec);
-                    backgroundLayer.getChildren().remove(bulletBibouleRec);
-                    //System.gc();
-                });
-                timeline.play();
-
-            }
-
-            for (final Rectangle rb : bulletBibouleListRec) {
-                final ObservableBooleanValue collidingBulletBibSpaceship = Bindings
-                    .createBooleanBinding(() -> rb.getBoundsInParent().intersects(spaceshipCollider.getBoundsInParent()), rb.boundsInParentProperty(), spaceshipCollider.boundsInParentProperty());
-
-                collidingBulletBibSpaceship.addListener((obs, oldValue, newValue) -> {
-                    if (newValue) {
-
-                        boolean deathBoolean = false;
-
-                        if (!spaceshipDestroyed.contains(spaceship)) {
-                            spaceshipDestroyed.add(spaceship);
-                            deathBoolean = true;
-                        }
-
-                        if (deathBoolean) {
-                            removeAll();
-                            death();
-                            spaceshipDestroyed.remove(spaceship);
-                        }
-
-                    }
-                });
+                shoot(b, spaceship.getHeight() / 12, spaceship.getHeight() / 6);
             }
         }
     }
@@ -803,51 +772,28 @@ public class SpaceGame extends AnimationTimer implements GameLifeCycle {
         for (final Rectangle b : bosses) {
             final int bossShoot = random.nextInt(240);
 
-            final Rectangle bulletBossRec = new Rectangle(b.getX() + b.getWidth() / 2, b.getY(), spaceship.getHeight() / 8, spaceship.getHeight() / 4);
-            bulletBossRec.setFill(new ImagePattern(new Image("data/space/bullet/laserRed01.png")));
-
             if (bossShoot == 1) {
-                backgroundLayer.getChildren().add(bulletBossRec);
-                bulletBossListRec.add(bulletBossRec);
-
-                final Timeline timeline = new Timeline();
-                timeline.setCycleCount(1);
-                timeline.getKeyFrames()
-                    .add(new KeyFrame(Duration.seconds(15), new KeyValue(bulletBossRec.translateYProperty(),
-                        dimension2D.getHeight(), Interpolator.LINEAR)));
-                timeline.setOnFinished(event -> {
-                    bulletBossListRec.remove(bulletBossRec);
-                    backgroundLayer.getChildren().remove(bulletBossRec);
-                    //System.gc();
-                });
-                timeline.play();
-
-            }
-
-            for (final Rectangle rboss : bulletBossListRec) {
-                final ObservableBooleanValue collidingBulletBossSpaceship = Bindings
-                    .createBooleanBinding(() -> rboss.getBoundsInParent().intersects(spaceshipCollider.getBoundsInParent()), rboss.boundsInParentProperty(), spaceshipCollider.boundsInParentProperty());
-
-                collidingBulletBossSpaceship.addListener((obs, oldValue, newValue) -> {
-                    if (newValue) {
-                        log.info("die");
-
-                        boolean deathBoolean = false;
-
-                        if (!spaceshipDestroyed.contains(spaceship)) {
-                            spaceshipDestroyed.add(spaceship);
-                            deathBoolean = true;
-                        }
-
-                        if (deathBoolean) {
-                            backgroundLayer.getChildren().remove(rboss);
-                            removeAll();
-                            death();
-                            spaceshipDestroyed.remove(spaceship);
-                        }
-                    }
-                });
+                shoot(b, spaceship.getHeight() / 8, spaceship.getHeight() / 4);
             }
         }
     }
+
+    private void shoot(final Rectangle enemy, final double bulletWidth, final double bulletHeight) {
+        final Rectangle bulletRec = new Rectangle(enemy.getX() + enemy.getWidth() / 2, enemy.getY(), bulletWidth, bulletHeight);
+        bulletRec.setFill(enemyBulletImage);
+        backgroundLayer.getChildren().add(bulletRec);
+        final Collider<Rectangle> bulletCollider = track(bulletRec, ENEMY_BULLET);
+
+        final Timeline timeline = new Timeline();
+        timeline.setCycleCount(1);
+        timeline.getKeyFrames()
+            .add(new KeyFrame(Duration.seconds(15), new KeyValue(bulletRec.translateYProperty(),
+                dimension2D.getHeight(), Interpolator.LINEAR)));
+        timeline.setOnFinished(event -> {
+            untrack(bulletCollider);
+            backgroundLayer.getChildren().remove(bulletRec);
+            //System.gc();
+        });
+        timeline.play();
+    }
 }
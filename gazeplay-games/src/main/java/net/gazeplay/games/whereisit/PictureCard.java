@@ -20,6 +20,7 @@ import lombok.extern.slf4j.Slf4j;
 import net.gazeplay.IGameContext;
 import net.gazeplay.commons.configuration.Configuration;
 import net.gazeplay.commons.gaze.devicemanager.GazeEvent;
+import net.gazeplay.commons.utils.games.ImageCache;
 import net.gazeplay.commons.utils.stats.Stats;
 
 import static net.gazeplay.games.whereisit.WhereIsItGameType.*;
@@ -217,7 +218,7 @@ class PictureCard extends Group {
 
     private ImageView createImageView(double posX, double posY, double width, double height,
                                       @NonNull String imagePath) {
-        final Image image = new Image(imagePath);
+        final Image image = ImageCache.getSharedInstance().get(imagePath, width, height, false);
 
         ImageView result = new ImageView(image);
 
@@ -243,7 +244,7 @@ class PictureCard extends Group {
 
     private ImageView createStretchedImageView(double posX, double posY, double width, double height,
                                                @NonNull String imagePath) {
-        final Image image = new Image(imagePath);
+        final Image image = ImageCache.getSharedInstance().get(imagePath, width, height, false);
 
         ImageView result = new ImageView(image);
 
@@ -0,0 +1,81 @@
+package net.gazeplay.games.blocs;
+
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(ApplicationExtension.class)
+class ScratchLayerTest {
+
+    private ScratchLayer layer;
+
+    @BeforeEach
+    void setup() {
+        layer = new ScratchLayer(1000, 500, 100, 50);
+        layer.fill(Color.BLACK);
+    }
+
+    @Test
+    void shouldMapPositionsToCells() {
+        assertEquals(0, layer.columnAt(0));
+        assertEquals(9, layer.columnAt(99.9));
+        assertEquals(99, layer.columnAt(999.9));
+        assertEquals(-1, layer.columnAt(1000));
+        assertEquals(-1, layer.columnAt(-0.1));
+        assertEquals(4, layer.lineAt(45));
+        assertEquals(-1, layer.lineAt(500));
+    }
+
+    @Test
+    void shouldScratchACellOnlyOnce() {
+        assertTrue(layer.isRemaining(3, 4));
+
+        assertEquals(1, layer.scratch(3, 4));
+        assertEquals(0, layer.scratch(3, 4));
+
+        assertFalse(layer.isRemaining(3, 4));
+        assertTrue(layer.isRemaining(4, 3));
+    }
+
+    @Test
+    void shouldScratchAroundACell() {
+        int scratched = layer.scratchAround(50, 25, 10);
+
+        int expected = 0;
+        for (int i = -10; i < 10; i++) {
+            for (int j = -10; j < 10; j++) {
+                if (Math.sqrt(i * i + j * j) <= 10) {
+                    expected++;
+                }
+            }
+        }
+        assertEquals(expected, scratched);
+        assertFalse(layer.isRemaining(50, 25));
+        assertTrue(layer.isRemaining(61, 25));
+        assertEquals(0, layer.scratchAround(50, 25, 10));
+    }
+
+    @Test
+    void shouldClipTheScratchedAreaToTheGrid() {
+        int scratched = layer.scratchAround(0, 0, 2);
+
+        // (0,0), (1,0), (0,1), (1,1) are the only cells of the circle inside the grid
+        assertEquals(4, scratched);
+    }
+
+    @Test
+    void shouldScratchTheRemainingCells() {
+        layer.scratch(0, 0);
+        layer.scratch(1, 0);
+
+        assertEquals(100 * 50 - 2, layer.scratchAll());
+        assertEquals(0, layer.scratchAll());
+    }
+
+}
@@ -0,0 +1,153 @@
+package net.gazeplay.games.colors;
+
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class PixelBufferTest {
+
+    private static final int W = PixelBuffer.WHITE;
+
+    private static final int B = PixelBuffer.BLACK;
+
+    private static final int RED = 0xFFFF0000;
+
+    private static PixelBuffer createBuffer(int width, int... pixels) {
+        return new PixelBuffer(width, pixels.length / width, pixels);
+    }
+
+    private static String dump(PixelBuffer buffer) {
+        StringBuilder result = new StringBuilder();
+        for (int y = 0; y < buffer.getHeight(); y++) {
+            for (int x = 0; x < buffer.getWidth(); x++) {
+                int argb = buffer.getArgb(x, y);
+                result.append(argb == W ? '.' : argb == B ? '#' : argb == RED ? 'r' : '?');
+            }
+            result.append('\n');
+        }
+        return result.toString();
+    }
+
+    @Test
+    void shouldConvertColorsToArgb() {
+        assertEquals(RED, PixelBuffer.toArgb(Color.RED));
+        assertEquals(B, PixelBuffer.toArgb(Color.BLACK));
+        assertEquals(0x80336699, PixelBuffer.toArgb(Color.rgb(0x33, 0x66, 0x99, 128 / 255d)));
+    }
+
+    @Test
+    void shouldCompareColorsWithAThreshold() {
+        assertTrue(PixelBuffer.isEqualColors(0xFF808080, 0xFF858585));
+        assertFalse(PixelBuffer.isEqualColors(0xFF808080, 0xFF868686));
+        assertTrue(PixelBuffer.isEqualColors(0xFF000000, 0x000A0000));
+    }
+
+    @Test
+    void shouldRejectPixelsNotMatchingTheSize() {
+        assertThrows(IllegalArgumentException.class, () -> new PixelBuffer(3, 2, new int[5]));
+    }
+
+    @Test
+    void shouldFillTheZoneUpToTheBlackLines() {
+        PixelBuffer buffer = createBuffer(6,
+            W, W, B, W, W, W,
+            W, B, B, B, B, W,
+            W, W, W, W, B, W,
+            B, B, B, B, B, W);
+
+        int filled = buffer.fill(0, 0, RED);
+
+        assertEquals(
+            "rr#...\n" +
+            "r####.\n" +
+            "rrrr#.\n" +
+            "#####.\n", dump(buffer));
+        assertEquals(7, filled);
+    }
+
+    @Test
+    void shouldFillAroundObstaclesAndUpToTheBorders() {
+        PixelBuffer buffer = createBuffer(5,
+            W, W, W, W, W,
+            W, B, B, B, W,
+            W, B, W, B, W,
+            W, W, W, B, W);
+
+        int filled = buffer.fill(4, 3, RED);
+
+        assertEquals(
+            "rrrrr\n" +
+            "r###r\n" +
+            "r#r#r\n" +
+            "rrr#r\n", dump(buffer));
+        assertEquals(14, filled);
+    }
+
+    @Test
+    void shouldNotFillThroughDiagonals() {
+        PixelBuffer buffer = createBuffer(3,
+            W, B, W,
+            B, W, W);
+
+        buffer.fill(0, 0, RED);
+
+        assertEquals("r#.\n#..\n", dump(buffer));
+    }
+
+    @Test
+    void shouldNotFillWithAnEqualColor() {
+        PixelBuffer buffer = createBuffer(2, W, W, W, W);
+
+        assertEquals(0, buffer.fill(0, 0, 0xFFFAFAFA));
+        assertFalse(buffer.isDirty());
+    }
+
+    @Test
+    void shouldTurnTheImageToBlackAndWhite() {
+        // the threshold is 3/4 of the average brightness, 0x60
+        PixelBuffer buffer = createBuffer(4, 0xFF000000, 0xFF5F5F5F, 0xFFA0A0A0, 0xFFFFFFFF);
+
+        buffer.toBlackAndWhite();
+
+        assertEquals("##..\n", dump(buffer));
+        assertTrue(buffer.isDirty());
+    }
+
+    @Test
+    void shouldWriteOnlyTheModifiedPixels() {
+        PixelBuffer buffer = createBuffer(4,
+            B, B, B, B,
+            B, W, W, B,
+            B, W, B, B,
+            B, B, B, B);
+        PixelWriter pixelWriter = mock(PixelWriter.class);
+
+        buffer.fill(1, 1, RED);
+        buffer.write(pixelWriter);
+
+        verify(pixelWriter).setPixels(eq(1), eq(1), eq(2), eq(2), eq(PixelFormat.getIntArgbInstance()), any(int[].class), eq(5), eq(4));
+        assertFalse(buffer.isDirty());
+    }
+
+    @Test
+    void shouldNotWriteWhenNothingChanged() {
+        PixelBuffer buffer = createBuffer(2, W, W, W, W);
+        PixelWriter pixelWriter = mock(PixelWriter.class);
+
+        buffer.write(pixelWriter);
+
+        verifyNoInteractions(pixelWriter);
+    }
+
+}
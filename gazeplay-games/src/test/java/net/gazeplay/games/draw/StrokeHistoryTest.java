@@ -0,0 +1,118 @@
+package net.gazeplay.games.draw;
+
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StrokeHistoryTest {
+
+    private StrokeHistory history;
+
+    @BeforeEach
+    void setup() {
+        history = new StrokeHistory(8);
+    }
+
+    private List<String> replay() {
+        List<String> visited = new ArrayList<>();
+        history.replay(new StrokeHistory.StrokeVisitor() {
+            @Override
+            public void startStroke(Color color) {
+                visited.add(color == Color.RED ? "red" : "blue");
+            }
+
+            @Override
+            public void lineTo(double x, double y) {
+                visited.add((int) x + "," + (int) y);
+            }
+        });
+        return visited;
+    }
+
+    private void addPoints(int count) {
+        for (int i = 0; i < count; i++) {
+            history.addPoint(i, i);
+        }
+    }
+
+    @Test
+    void shouldReplayTheStrokesInOrder() {
+        history.startStroke(Color.RED);
+        history.addPoint(1, 2);
+        history.addPoint(3, 4);
+        history.startStroke(Color.BLUE);
+        history.addPoint(5, 6);
+
+        assertEquals(List.of("red", "1,2", "3,4", "blue", "5,6"), replay());
+        assertEquals(2, history.getStrokeCount());
+        assertEquals(3, history.getPointCount());
+    }
+
+    @Test
+    void shouldRequireAStroke() {
+        assertThrows(IllegalStateException.class, () -> history.addPoint(1, 1));
+    }
+
+    @Test
+    void shouldForgetTheOldestStrokesFirst() {
+        history.startStroke(Color.RED);
+        addPoints(3);
+        history.startStroke(Color.BLUE);
+        addPoints(6);
+
+        // a quarter of the budget is freed, the whole first stroke
+        assertEquals(List.of("blue", "0,0", "1,1", "2,2", "3,3", "4,4", "5,5"), replay());
+        assertEquals(6, history.getPointCount());
+    }
+
+    @Test
+    void shouldForgetTheOldestPointsOfALongStroke() {
+        history.startStroke(Color.RED);
+        addPoints(9);
+
+        assertEquals(List.of("red", "3,3", "4,4", "5,5", "6,6", "7,7", "8,8"), replay());
+        assertEquals(1, history.getStrokeCount());
+        assertEquals(6, history.getPointCount());
+
+        history.addPoint(9, 9);
+        assertEquals(7, history.getPointCount());
+    }
+
+    @Test
+    void shouldRemoveTheLastStroke() {
+        history.startStroke(Color.RED);
+        addPoints(2);
+        history.startStroke(Color.BLUE);
+        addPoints(3);
+
+        assertTrue(history.removeLastStroke());
+
+        assertEquals(List.of("red", "0,0", "1,1"), replay());
+        assertEquals(2, history.getPointCount());
+
+        assertTrue(history.removeLastStroke());
+        assertFalse(history.removeLastStroke());
+        assertEquals(0, history.getPointCount());
+    }
+
+    @Test
+    void shouldBeBoundedHoweverLongTheDrawing() {
+        history = new StrokeHistory(1000);
+        for (int stroke = 0; stroke < 100; stroke++) {
+            history.startStroke(Color.RED);
+            addPoints(1000);
+        }
+
+        assertTrue(history.getPointCount() <= 1000);
+        assertEquals(1, history.getStrokeCount());
+    }
+
+}
@@ -0,0 +1,153 @@
+package net.gazeplay.games.pianosight;
+
+import net.gazeplay.commons.utils.stats.Stats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sound.midi.InvalidMidiDataException;
+import javax.sound.midi.MetaMessage;
+import javax.sound.midi.MidiEvent;
+import javax.sound.midi.MidiSystem;
+import javax.sound.midi.Sequence;
+import javax.sound.midi.ShortMessage;
+import javax.sound.midi.Track;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class MidiTimelineTest {
+
+    private static final int RESOLUTION = 480;
+
+    private Sequence sequence;
+
+    @BeforeEach
+    void setup() throws InvalidMidiDataException {
+        sequence = new Sequence(Sequence.PPQ, RESOLUTION);
+    }
+
+    private static void note(Track track, int channel, int key, long tick, long endTick) throws InvalidMidiDataException {
+        track.add(new MidiEvent(new ShortMessage(ShortMessage.NOTE_ON, channel, key, 90), tick));
+        track.add(new MidiEvent(new ShortMessage(ShortMessage.NOTE_OFF, channel, key, 0), endTick));
+    }
+
+    private static void tempo(Track track, long tick, int microsPerQuarterNote) throws InvalidMidiDataException {
+        byte[] data = {(byte) (microsPerQuarterNote >> 16), (byte) (microsPerQuarterNote >> 8), (byte) microsPerQuarterNote};
+        track.add(new MidiEvent(new MetaMessage(0x51, data, 3), tick));
+    }
+
+    @Test
+    void shouldCompileTheNotesOfTheChannel() throws InvalidMidiDataException {
+        Track track = sequence.createTrack();
+        note(track, 0, 60, 0, 480);
+        note(track, 1, 70, 240, 480);
+        note(track, 0, 62, 480, 960);
+        track.add(new MidiEvent(new ShortMessage(ShortMessage.CONTROL_CHANGE, 0, 7, 100), 500));
+
+        MidiTimeline timeline = MidiTimeline.compile(sequence, 0);
+
+        assertEquals(2, timeline.size());
+        assertEquals(60, timeline.getKey(0));
+        assertEquals(90, timeline.getVelocity(0));
+        assertEquals(62, timeline.getKey(1));
+        assertEquals(480, timeline.getTick(1));
+    }
+
+    @Test
+    void shouldKeepTheFirstNoteOfAChord() throws InvalidMidiDataException {
+        Track track = sequence.createTrack();
+        note(track, 0, 60, 0, 480);
+        note(track, 0, 64, 0, 480);
+        note(track, 0, 67, 0, 480);
+        note(track, 0, 65, 480, 960);
+
+        MidiTimeline timeline = MidiTimeline.compile(sequence, 0);
+
+        assertEquals(2, timeline.size());
+        assertEquals(60, timeline.getKey(0));
+        assertEquals(65, timeline.getKey(1));
+    }
+
+    @Test
+    void shouldEndTheNotesOnANoteOnWithoutVelocity() throws InvalidMidiDataException {
+        Track track = sequence.createTrack();
+        track.add(new MidiEvent(new ShortMessage(ShortMessage.NOTE_ON, 0, 60, 90), 0));
+        track.add(new MidiEvent(new ShortMessage(ShortMessage.NOTE_ON, 0, 60, 0), 240));
+        track.add(new MidiEvent(new ShortMessage(ShortMessage.NOTE_ON, 0, 62, 90), 480));
+
+        MidiTimeline timeline = MidiTimeline.compile(sequence, 0);
+
+        assertEquals(2, timeline.size());
+        assertEquals(250_000, timeline.getDurationMicros(0));
+        assertEquals(MidiTimeline.DEFAULT_DURATION_MICROS, timeline.getDurationMicros(1));
+    }
+
+    @Test
+    void shouldSelectTheTrackWithTheMostNotes() throws InvalidMidiDataException {
+        Track small = sequence.createTrack();
+        note(small, 0, 50, 0, 480);
+        Track large = sequence.createTrack();
+        note(large, 0, 60, 0, 480);
+        note(large, 0, 62, 480, 960);
+        Track otherChannel = sequence.createTrack();
+        for (int i = 0; i < 5; i++) {
+            note(otherChannel, 1, 70, i * 480, i * 480 + 240);
+        }
+
+        MidiTimeline timeline = MidiTimeline.compile(sequence, 0);
+
+        assertEquals(2, timeline.size());
+        assertEquals(60, timeline.getKey(0));
+    }
+
+    @Test
+    void shouldFollowTheTempoChangesOfAllTheTracks() throws InvalidMidiDataException {
+        Track conductor = sequence.createTrack();
+        tempo(conductor, 960, 250_000);
+        Track melody = sequence.createTrack();
+        note(melody, 0, 60, 480, 960);
+        note(melody, 0, 62, 1440, 1920);
+
+        MidiTimeline timeline = MidiTimeline.compile(sequence, 0);
+
+        // 120 bpm by default, then 240 bpm from the third beat
+        assertEquals(500_000, timeline.getStartMicros(0));
+        assertEquals(500_000, timeline.getDurationMicros(0));
+        assertEquals(1_250_000, timeline.getStartMicros(1));
+        assertEquals(250_000, timeline.getDurationMicros(1));
+    }
+
+    @Test
+    void shouldCompileAnEmptySequence() {
+        MidiTimeline timeline = MidiTimeline.compile(sequence, 0);
+
+        assertEquals(0, timeline.size());
+    }
+
+    @Test
+    void shouldReadTheNotesOfAMidiFile() throws InvalidMidiDataException, IOException {
+        Track track = sequence.createTrack();
+        note(track, 0, 60, 0, 480);
+        note(track, 0, 74, 480, 960);
+        ByteArrayOutputStream file = new ByteArrayOutputStream();
+        MidiSystem.write(sequence, 1, file);
+
+        MidiReader midiReader = new MidiReader(new ByteArrayInputStream(file.toByteArray()), mock(Stats.class));
+
+        assertEquals(2, midiReader.getTrackSize());
+        assertEquals(-1, midiReader.getKey());
+        assertEquals(0, midiReader.peekNote());
+        assertEquals(0, midiReader.nextNote());
+        assertEquals(60, midiReader.getKey());
+        assertEquals(500_000, midiReader.getDurationMicros());
+        assertEquals(2, midiReader.peekNote());
+        assertEquals(2, midiReader.nextNote());
+        assertEquals(74, midiReader.getKey());
+        assertEquals(-1, midiReader.peekNote());
+        assertEquals(-1, midiReader.nextNote());
+    }
+
+}